@@ -0,0 +1,104 @@
+package com.yourcompany.jsontosql.benchmark;
+
+import com.yourcompany.jsontosql.generator.InsertStatementGenerator;
+import com.yourcompany.jsontosql.model.TableDefinition;
+import com.yourcompany.jsontosql.util.JsonPathExtractor;
+import com.yourcompany.jsontosql.util.SqlEscapeUtil;
+import com.yourcompany.jsontosql.validation.RowValidatorCache;
+import com.yourcompany.jsontosql.workload.WorkloadGenerator;
+import com.yourcompany.jsontosql.workload.WorkloadSpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InsertStatementGeneratorBenchmark {
+    
+    private static InsertStatementGenerator newGenerator() {
+        return new InsertStatementGenerator(new JsonPathExtractor(), new SqlEscapeUtil(), new RowValidatorCache());
+    }
+    
+    private static WorkloadGenerator workload(int columnCount, int nestingDepth, int stringLength) {
+        return new WorkloadGenerator(WorkloadSpec.builder()
+                .columnCount(columnCount)
+                .nestingDepth(nestingDepth)
+                .stringLength(stringLength)
+                .build());
+    }
+    
+    @State(Scope.Benchmark)
+    public static class RowState {
+        
+        @Param({"5", "50"})
+        public int columnCount;
+        
+        @Param({"1", "4"})
+        public int nestingDepth;
+        
+        @Param({"16", "256"})
+        public int stringLength;
+        
+        final InsertStatementGenerator generator = newGenerator();
+        TableDefinition tableDefinition;
+        String json;
+        
+        @Setup
+        public void setUp() {
+            WorkloadGenerator workload = workload(columnCount, nestingDepth, stringLength);
+            tableDefinition = workload.tableDefinition();
+            json = workload.row(0);
+        }
+    }
+    
+    @State(Scope.Benchmark)
+    public static class BatchState {
+        
+        @Param({"5", "50"})
+        public int columnCount;
+        
+        @Param({"1", "4"})
+        public int nestingDepth;
+        
+        @Param({"16", "256"})
+        public int stringLength;
+        
+        @Param({"10", "1000"})
+        public int batchSize;
+        
+        final InsertStatementGenerator generator = newGenerator();
+        TableDefinition tableDefinition;
+        String json;
+        
+        @Setup
+        public void setUp() {
+            WorkloadGenerator workload = workload(columnCount, nestingDepth, stringLength);
+            tableDefinition = workload.tableDefinition();
+            json = workload.batch(0, batchSize);
+        }
+    }
+    
+    @Benchmark
+    public String generateInsert(RowState state) {
+        return state.generator.generateInsert(state.tableDefinition, state.json);
+    }
+    
+    @Benchmark
+    public List<String> generateBatchInserts(BatchState state) {
+        return state.generator.generateBatchInserts(state.tableDefinition, state.json);
+    }
+}
@@ -0,0 +1,58 @@
+package com.yourcompany.jsontosql.benchmark;
+
+import com.yourcompany.jsontosql.util.JsonPathExtractor;
+import com.yourcompany.jsontosql.workload.WorkloadGenerator;
+import com.yourcompany.jsontosql.workload.WorkloadSpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonPathExtractorBenchmark {
+    
+    @Param({"10", "100"})
+    public int columnCount;
+    
+    @Param({"1", "4", "8"})
+    public int nestingDepth;
+    
+    @Param({"16", "1024"})
+    public int stringLength;
+    
+    private final JsonPathExtractor jsonPathExtractor = new JsonPathExtractor();
+    private String json;
+    private String path;
+    
+    @Setup
+    public void setUp() {
+        WorkloadGenerator generator = new WorkloadGenerator(WorkloadSpec.builder()
+                .columnCount(columnCount)
+                .nestingDepth(nestingDepth)
+                .stringLength(stringLength)
+                .sparsity(0)
+                .build());
+        json = generator.row(0);
+        path = generator.deepestColumn().getJsonPath();
+    }
+    
+    @Benchmark
+    public Optional<Object> extractValue() {
+        return jsonPathExtractor.extractValue(json, path);
+    }
+}
@@ -0,0 +1,66 @@
+package com.yourcompany.jsontosql.benchmark;
+
+import com.yourcompany.jsontosql.util.SqlEscapeUtil;
+import com.yourcompany.jsontosql.workload.WorkloadGenerator;
+import com.yourcompany.jsontosql.workload.WorkloadSpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SqlEscapeUtilBenchmark {
+    
+    @Param({"16", "256", "4096"})
+    public int stringLength;
+    
+    @Param({"0", "0.05"})
+    public double quoteDensity;
+    
+    private final SqlEscapeUtil sqlEscapeUtil = new SqlEscapeUtil();
+    private String text;
+    
+    @Setup
+    public void setUp() {
+        text = new WorkloadGenerator(WorkloadSpec.builder().quoteDensity(quoteDensity).build()).text(stringLength, 0);
+    }
+    
+    @Benchmark
+    public String escapeString() {
+        return sqlEscapeUtil.escapeString(text);
+    }
+    
+    @Benchmark
+    public String formatVarchar() {
+        return sqlEscapeUtil.formatValueForType(text, "VARCHAR(" + stringLength + ")");
+    }
+    
+    @Benchmark
+    public String formatInteger() {
+        return sqlEscapeUtil.formatValueForType(123456789, "BIGINT");
+    }
+    
+    @Benchmark
+    public String formatDecimal() {
+        return sqlEscapeUtil.formatValueForType(12345.67, "DECIMAL(12,2)");
+    }
+    
+    @Benchmark
+    public String formatTimestamp() {
+        return sqlEscapeUtil.formatValueForType("2024-01-01T12:30:00", "TIMESTAMP");
+    }
+}
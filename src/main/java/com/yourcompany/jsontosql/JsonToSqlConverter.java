@@ -0,0 +1,291 @@
+package com.yourcompany.jsontosql;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourcompany.jsontosql.delta.DeltaResult;
+import com.yourcompany.jsontosql.delta.FingerprintStore;
+import com.yourcompany.jsontosql.generator.DdlGenerator;
+import com.yourcompany.jsontosql.generator.InsertStatementGenerator;
+import com.yourcompany.jsontosql.generator.RecordSorter;
+import com.yourcompany.jsontosql.generator.RowSink;
+import com.yourcompany.jsontosql.model.RowErrorMode;
+import com.yourcompany.jsontosql.model.RowOperation;
+import com.yourcompany.jsontosql.model.SqlDialect;
+import com.yourcompany.jsontosql.model.TableDefinition;
+import com.yourcompany.jsontosql.transform.TransformCache;
+import com.yourcompany.jsontosql.util.JsonPathExtractor;
+import com.yourcompany.jsontosql.util.JsonRecordReader;
+import com.yourcompany.jsontosql.util.SqlEscapeUtil;
+import com.yourcompany.jsontosql.validation.RowValidatorCache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Offline converter: streams a JSON array or NDJSON file through the INSERT generator into a SQL file
+ * without starting the web application. Only one record is held in memory at a time, so input size is
+ * limited by disk, not heap.
+ *
+ * <pre>
+ * java -cp ... com.yourcompany.jsontosql.JsonToSqlConverter --definition users --input export.ndjson.gz \
+ *     --output users.sql --include-ddl --dialect postgresql --on-row-error skip
+ * </pre>
+ */
+public class JsonToSqlConverter {
+    
+    private static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: JsonToSqlConverter --definition <name|file> --input <file> --output <file> [options]",
+            "  --definition <name|file>  table definition JSON file, or a table name looked up in --storage-dir",
+            "  --input <file>            JSON array or NDJSON file (.gz is decompressed)",
+            "  --output <file>           SQL file to write",
+            "  --storage-dir <dir>       definition directory (default ~/.json-to-sql/table-definitions)",
+            "  --include-ddl             write CREATE TABLE (and child tables) before the inserts, CREATE INDEX after",
+            "  --dialect <name>          DDL dialect: standard, mysql, postgresql, oracle (default standard)",
+            "  --on-row-error <mode>     fail, skip or reject (default fail)",
+            "  --rejected <file>         rejected rows in reject mode (default <output>.rejected.ndjson)",
+            "  --fingerprints <file>     delta mode: write only INSERT/UPDATE/DELETE for rows that changed since the",
+            "                            run that last saved this primary-key fingerprint file (created if missing)",
+            "  --sort-by-key             write rows in primary key order; runs beyond the memory budget spill to disk",
+            "  --sort-memory-mb <n>      memory budget for --sort-by-key before spilling (default 64)",
+            "  --sort-temp-dir <dir>     directory for spilled sort runs (default java.io.tmpdir)",
+            "  --operation <name>        insert, upsert, update or delete; all but insert use the primary key",
+            "  --rows-per-statement <n>  combine up to n rows into one multi-row statement (default 1)");
+    
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final int MAX_REPORTED_ERRORS = 20;
+    
+    public static void main(String[] args) {
+        try {
+            Map<String, String> options = parseOptions(args);
+            if (options.containsKey("help")) {
+                System.out.println(USAGE);
+                return;
+            }
+            for (String required : List.of("definition", "input", "output")) {
+                if (!options.containsKey(required)) {
+                    throw new IllegalArgumentException("Missing --" + required);
+                }
+            }
+            Result result = new JsonToSqlConverter().convert(options);
+            System.out.println(result.summary());
+            if (result.failedRows > 0) {
+                System.exit(2);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(64);
+        } catch (Exception e) {
+            System.err.println("Conversion failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SqlEscapeUtil sqlEscapeUtil = new SqlEscapeUtil();
+    private final JsonPathExtractor jsonPathExtractor = new JsonPathExtractor();
+    private final TransformCache transformCache = new TransformCache();
+    private final InsertStatementGenerator insertStatementGenerator =
+            new InsertStatementGenerator(jsonPathExtractor, sqlEscapeUtil, new RowValidatorCache(), transformCache);
+    private final DdlGenerator ddlGenerator = new DdlGenerator(sqlEscapeUtil);
+    
+    Result convert(Map<String, String> options) throws IOException {
+        TableDefinition tableDefinition = loadDefinition(options.get("definition"), options.getOrDefault("storage-dir",
+                Paths.get(System.getProperty("user.home"), ".json-to-sql", "table-definitions").toString()));
+        Path input = Paths.get(options.get("input"));
+        Path output = Paths.get(options.get("output"));
+        RowErrorMode mode = RowErrorMode.fromString(options.get("on-row-error"));
+        SqlDialect dialect = SqlDialect.fromString(options.get("dialect"));
+        Path rejectedPath = mode == RowErrorMode.REJECT
+                ? Paths.get(options.getOrDefault("rejected", output + ".rejected.ndjson"))
+                : null;
+        
+        RowOperation operation = RowOperation.fromString(options.get("operation"));
+        int rowsPerStatement = Integer.parseInt(options.getOrDefault("rows-per-statement", "1"));
+        InsertStatementGenerator.checkOperation(tableDefinition, operation, rowsPerStatement);
+        
+        Path fingerprints = options.containsKey("fingerprints") ? Paths.get(options.get("fingerprints")) : null;
+        if (fingerprints != null && (operation != RowOperation.INSERT || rowsPerStatement > 1)) {
+            throw new IllegalArgumentException(
+                    "--fingerprints cannot be combined with --operation or --rows-per-statement");
+        }
+        FingerprintStore store = fingerprints != null ? FingerprintStore.load(fingerprints) : null;
+        RecordSorter sorter = null;
+        if (options.containsKey("sort-by-key")) {
+            RecordSorter.keyIndexes(tableDefinition);
+            sorter = new RecordSorter(jsonPathExtractor, transformCache,
+                    Long.parseLong(options.getOrDefault("sort-memory-mb", "64")) * 1024 * 1024,
+                    options.getOrDefault("sort-temp-dir", System.getProperty("java.io.tmpdir")));
+        }
+        
+        // Built up front so an unsupported index fails before any output
+        List<String> postLoad = options.containsKey("include-ddl")
+                ? ddlGenerator.generateCreateIndexes(tableDefinition, dialect)
+                : List.of();
+        
+        Result result = new Result();
+        long start = System.nanoTime();
+        try (InputStream in = open(input);
+             JsonRecordReader records = new JsonRecordReader(objectMapper, in);
+             Writer out = writer(output);
+             Writer rejected = rejectedPath != null ? writer(rejectedPath) : null;
+             RecordSorter.SortedRecords sorted = sorter != null ? sorter.sort(tableDefinition, records) : null) {
+            
+            if (options.containsKey("include-ddl")) {
+                for (String ddl : ddlGenerator.generateCreateTables(tableDefinition, dialect)) {
+                    out.write(ddl);
+                    out.write("\n\n");
+                }
+            }
+            
+            RowSink sink = new RowSink() {
+                @Override
+                public void statement(int rowIndex, String sql) {
+                    try {
+                        out.write(sql);
+                        out.write("\n\n");
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                
+                @Override
+                public void childStatement(int rowIndex, String sql) {
+                    statement(rowIndex, sql);
+                }
+                
+                @Override
+                public void trailingStatement(String sql) {
+                    statement(-1, sql);
+                }
+                
+                @Override
+                public void rejected(int rowIndex, String rowJson, List<String> errors) {
+                    if (result.failedRows++ < MAX_REPORTED_ERRORS) {
+                        errors.forEach(System.err::println);
+                    }
+                    if (rejected != null && rowJson != null) {
+                        try {
+                            rejected.write(rowJson);
+                            rejected.write('\n');
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+                }
+            };
+            
+            Iterator<JsonNode> rows = sorted != null ? sorted : records;
+            if (store != null) {
+                result.delta = insertStatementGenerator.generateDelta(tableDefinition, rows, mode, dialect, store, sink);
+                result.rows = result.delta.getInserted() + result.delta.getUpdated() + result.delta.getUnchanged()
+                        + result.failedRows;
+            } else {
+                result.rows = insertStatementGenerator.generateStatements(tableDefinition, rows, mode, dialect,
+                        operation, rowsPerStatement, sink);
+            }
+            for (String ddl : postLoad) {
+                out.write(ddl);
+                out.write("\n\n");
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (store != null) {
+            // Only a complete script moves the baseline forward
+            store.save(fingerprints);
+        }
+        
+        result.elapsedNanos = System.nanoTime() - start;
+        result.bytesIn = Files.size(input);
+        result.bytesOut = Files.size(output);
+        result.output = output;
+        return result;
+    }
+    
+    private TableDefinition loadDefinition(String definition, String storageDir) throws IOException {
+        Path file = Paths.get(definition);
+        if (!Files.isRegularFile(file)) {
+            file = Paths.get(storageDir, definition + ".json");
+        }
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("Table definition not found: " + definition);
+        }
+        return objectMapper.readValue(file.toFile(), TableDefinition.class);
+    }
+    
+    private static InputStream open(Path input) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(input), BUFFER_SIZE);
+        return input.getFileName().toString().endsWith(".gz") ? new GZIPInputStream(in, BUFFER_SIZE) : in;
+    }
+    
+    private static Writer writer(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        return new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(path), StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+    
+    static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+            }
+            String name = args[i].substring(2);
+            if (name.equals("help") || name.equals("include-ddl") || name.equals("sort-by-key")) {
+                options.put(name, "true");
+            } else if (i + 1 < args.length) {
+                options.put(name, args[++i]);
+            } else {
+                throw new IllegalArgumentException("Missing value for --" + name);
+            }
+        }
+        return options;
+    }
+    
+    static final class Result {
+        private int rows;
+        private int failedRows;
+        private long bytesIn;
+        private long bytesOut;
+        private long elapsedNanos;
+        private Path output;
+        private DeltaResult delta;
+        
+        int getRows() {
+            return rows;
+        }
+        
+        int getFailedRows() {
+            return failedRows;
+        }
+        
+        DeltaResult getDelta() {
+            return delta;
+        }
+        
+        String summary() {
+            double seconds = Math.max(elapsedNanos / 1e9, 1e-9);
+            return String.format(java.util.Locale.ROOT,
+                    "Converted %d rows (%d failed) in %.2fs: %.0f rows/s, %.1f MB/s in; wrote %d bytes to %s",
+                    rows, failedRows, seconds, rows / seconds, bytesIn / seconds / (1024 * 1024), bytesOut, output)
+                    + (delta != null ? System.lineSeparator() + delta : "");
+        }
+    }
+}
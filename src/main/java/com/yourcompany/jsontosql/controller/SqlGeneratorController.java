@@ -1,15 +1,41 @@
 package com.yourcompany.jsontosql.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourcompany.jsontosql.exception.JsonMappingException;
+import com.yourcompany.jsontosql.generator.ScriptWriter;
+import com.yourcompany.jsontosql.model.GenerationProfile;
+import com.yourcompany.jsontosql.model.ScriptOptions;
 import com.yourcompany.jsontosql.model.SqlGenerationRequest;
 import com.yourcompany.jsontosql.model.SqlGenerationResponse;
 import com.yourcompany.jsontosql.service.SqlGeneratorService;
+import com.yourcompany.jsontosql.service.SqlScriptStream;
+import com.yourcompany.jsontosql.validation.RowViolation;
+import com.yourcompany.jsontosql.validation.ValidationSummary;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 @RestController
 @RequestMapping("/api/v1/sql")
@@ -17,17 +43,173 @@ public class SqlGeneratorController {
     
     private static final Logger log = LoggerFactory.getLogger(SqlGeneratorController.class);
     
+    static final String NDJSON = "application/x-ndjson";
+    static final String PROFILE_HEADER = "X-Generation-Profile";
+    static final String SQL = "application/sql";
+    static final String ZIP = "application/zip";
+    
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+    
     private final SqlGeneratorService sqlGeneratorService;
+    private final ObjectMapper objectMapper;
     
-    public SqlGeneratorController(SqlGeneratorService sqlGeneratorService) {
+    public SqlGeneratorController(SqlGeneratorService sqlGeneratorService, ObjectMapper objectMapper) {
         this.sqlGeneratorService = sqlGeneratorService;
+        this.objectMapper = objectMapper;
     }
     
     @PostMapping("/generate")
-    public ResponseEntity<SqlGenerationResponse> generateSql(@Valid @RequestBody SqlGenerationRequest request) {
+    public ResponseEntity<SqlGenerationResponse> generateSql(
+            @Valid @RequestBody SqlGenerationRequest request,
+            @RequestHeader(value = PROFILE_HEADER, defaultValue = "false") boolean profile) {
         log.info("Generating SQL for table: {}", request.getTableName());
-        SqlGenerationResponse response = sqlGeneratorService.generateSql(request);
-        return ResponseEntity.ok(response);
+        if (!profile) {
+            return ResponseEntity.ok(sqlGeneratorService.generateSql(request));
+        }
+        
+        SqlGenerationResponse response = sqlGeneratorService.generateSql(request, true);
+        return ResponseEntity.ok()
+                .header("Server-Timing", serverTiming(response.getProfile()))
+                .body(response);
+    }
+    
+    /**
+     * Generates INSERTs for an uploaded JSON array or NDJSON file (optionally gzip-compressed) and streams the
+     * script back as a download. The upload is parsed one record at a time from the multipart temp file.
+     * Errors found before any output has been sent return the usual JSON error; a failure after that ends
+     * the script with an "-- ERROR:" comment. With {@code delta=true} only rows that changed since the
+     * table's previous delta upload are written, as INSERT, UPDATE and DELETE statements. With
+     * {@code sortByPrimaryKey=true} rows are written in primary key order, spilling to temp files for large uploads;
+     * {@code groupByPartition=true} groups them by the range or list partition of the table they belong to.
+     * With {@code partitions=N} the rows are split by a hash of the primary key (or {@code partitionBy} column)
+     * into N scripts, each in its own transaction, returned as a zip archive for parallel loading.
+     * {@code transactionSize} commits every N statements and {@code loadSettings} adds the dialect's bulk-load
+     * session settings around the rows. {@code rebuildIndexes} drops the table's secondary indexes before the rows
+     * and recreates them after. {@code operation=UPSERT|UPDATE|DELETE} writes statements keyed on the primary key
+     * instead of INSERTs, and {@code rowsPerStatement} combines rows into multi-row statements.
+     */
+    @PostMapping(value = "/generate/file", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public void generateSqlFromFile(
+            @RequestParam String tableName,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "false") boolean includeDdl,
+            @RequestParam(required = false) String dialect,
+            @RequestParam(required = false) String onRowError,
+            @RequestParam(defaultValue = "false") boolean delta,
+            @RequestParam(defaultValue = "false") boolean sortByPrimaryKey,
+            @RequestParam(defaultValue = "false") boolean groupByPartition,
+            @RequestParam(defaultValue = "0") int partitions,
+            @RequestParam(required = false) String partitionBy,
+            @RequestParam(defaultValue = "0") int transactionSize,
+            @RequestParam(defaultValue = "false") boolean loadSettings,
+            @RequestParam(defaultValue = "false") boolean rebuildIndexes,
+            @RequestParam(required = false) String operation,
+            @RequestParam(defaultValue = "1") int rowsPerStatement,
+            HttpServletResponse response) throws IOException {
+        log.info("Generating SQL for table: {} from file {} ({} bytes)",
+                tableName, file.getOriginalFilename(), file.getSize());
+        ScriptOptions options = ScriptOptions.builder()
+                .includeDdl(includeDdl)
+                .dialect(dialect)
+                .rowErrorMode(onRowError)
+                .delta(delta)
+                .sortByPrimaryKey(sortByPrimaryKey)
+                .groupByPartition(groupByPartition)
+                .partitions(partitions)
+                .partitionBy(partitionBy)
+                .transactionSize(transactionSize)
+                .loadSettings(loadSettings)
+                .rebuildIndexes(rebuildIndexes)
+                .operation(operation)
+                .rowsPerStatement(rowsPerStatement)
+                .build();
+        try (InputStream input = decompress(file.getInputStream());
+             SqlScriptStream script = sqlGeneratorService.openScript(tableName, input, options)) {
+            if (script.isPartitioned()) {
+                response.setContentType(ZIP);
+            } else {
+                response.setContentType(SQL);
+                response.setCharacterEncoding("UTF-8");
+            }
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                    .filename(script.getTableName() + (script.isPartitioned() ? ".zip" : ".sql"))
+                    .build()
+                    .toString());
+            
+            ZipOutputStream zip = script.isPartitioned() ? new ZipOutputStream(response.getOutputStream()) : null;
+            Writer out = new BufferedWriter(new OutputStreamWriter(zip != null ? zip : response.getOutputStream(),
+                    StandardCharsets.UTF_8), STREAM_BUFFER_SIZE);
+            try {
+                if (zip != null) {
+                    script.writeTo(name -> {
+                        out.flush();
+                        zip.putNextEntry(new ZipEntry(name));
+                        return out;
+                    });
+                } else {
+                    script.writeTo(out);
+                }
+            } catch (JsonMappingException e) {
+                if (!response.isCommitted()) {
+                    // Nothing has reached the client yet, so report it like any other bad request
+                    response.reset();
+                    throw e;
+                }
+                log.warn("File generation stopped: {}", e.getMessage());
+                out.write(ScriptWriter.comment("ERROR: " + e.getMessage()));
+            }
+            out.flush();
+            if (zip != null) {
+                zip.finish();
+            }
+        }
+    }
+    
+    /**
+     * Drops the table's delta baseline; the next delta upload is treated as a full load
+     */
+    @DeleteMapping("/delta/{tableName}")
+    public ResponseEntity<Void> resetDelta(@PathVariable String tableName) throws IOException {
+        log.info("Resetting delta baseline for table: {}", tableName);
+        sqlGeneratorService.resetDelta(tableName);
+        return ResponseEntity.noContent().build();
+    }
+    
+    /**
+     * Wraps the input in a GZIP decoder if it starts with the gzip magic number
+     */
+    private static InputStream decompress(InputStream input) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(input, STREAM_BUFFER_SIZE);
+        buffered.mark(2);
+        int first = buffered.read();
+        int second = buffered.read();
+        buffered.reset();
+        return first == 0x1f && second == 0x8b ? new GZIPInputStream(buffered, STREAM_BUFFER_SIZE) : buffered;
+    }
+    
+    /**
+     * Formats the profile as a Server-Timing header value (durations in milliseconds)
+     */
+    static String serverTiming(GenerationProfile profile) {
+        if (profile == null) {
+            return "";
+        }
+        StringBuilder header = new StringBuilder();
+        for (Map.Entry<String, Long> stage : profile.getStageNanos().entrySet()) {
+            appendTiming(header, stage.getKey(), stage.getValue());
+        }
+        appendTiming(header, "total", profile.getTotalNanos());
+        if (profile.isCached()) {
+            header.append(", cache;desc=\"hit\"");
+        }
+        return header.toString();
+    }
+    
+    private static void appendTiming(StringBuilder header, String name, long nanos) {
+        if (header.length() > 0) {
+            header.append(", ");
+        }
+        header.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0));
     }
     
     @PostMapping("/validate")
@@ -38,4 +220,71 @@ public class SqlGeneratorController {
         Map<String, Object> result = sqlGeneratorService.validateJson(tableName, jsonData);
         return ResponseEntity.ok(result);
     }
+    
+    /**
+     * Validates a batch (JSON array or NDJSON) and returns only counts and the first errors per column
+     */
+    @PostMapping(value = "/validate", params = "mode=summary")
+    public ResponseEntity<ValidationSummary> validateJsonSummary(
+            @RequestParam String tableName,
+            @RequestParam(defaultValue = "5") int maxErrorsPerColumn,
+            InputStream body) {
+        log.info("Validating batch against table: {} (summary)", tableName);
+        ValidationSummary summary = new ValidationSummary(maxErrorsPerColumn);
+        sqlGeneratorService.validateRows(tableName, body, summary);
+        return ResponseEntity.ok(summary);
+    }
+    
+    /**
+     * Validates a batch (JSON array or NDJSON) and streams one NDJSON result line per row as it is validated.
+     * Malformed input is a 400 like any other bad request while nothing has reached the client yet; after that it
+     * is reported as a final line with an "error" field.
+     */
+    @PostMapping(value = "/validate", params = "mode=rows")
+    public void validateJsonRows(
+            @RequestParam String tableName,
+            InputStream body,
+            HttpServletResponse response) throws IOException {
+        log.info("Validating batch against table: {} (per row)", tableName);
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding("UTF-8");
+        
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream());
+        generator.setRootValueSeparator(null);
+        try {
+            sqlGeneratorService.validateRows(tableName, body, result -> {
+                try {
+                    generator.writeStartObject();
+                    generator.writeNumberField("row", result.getRow());
+                    generator.writeBooleanField("valid", result.isValid());
+                    if (!result.isValid()) {
+                        generator.writeArrayFieldStart("errors");
+                        for (RowViolation violation : result.getViolations()) {
+                            generator.writeStartObject();
+                            generator.writeStringField("column", violation.getColumn());
+                            generator.writeStringField("message", violation.getMessage());
+                            generator.writeEndObject();
+                        }
+                        generator.writeEndArray();
+                    }
+                    generator.writeEndObject();
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (JsonMappingException e) {
+            if (!response.isCommitted()) {
+                // Nothing has reached the client yet, so report it like any other bad request
+                response.reset();
+                throw e;
+            }
+            log.warn("Batch validation stopped: {}", e.getMessage());
+            generator.writeStartObject();
+            generator.writeStringField("error", e.getMessage());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+    }
 }
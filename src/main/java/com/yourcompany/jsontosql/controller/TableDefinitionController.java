@@ -1,15 +1,29 @@
 package com.yourcompany.jsontosql.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourcompany.jsontosql.generator.DdlCache;
+import com.yourcompany.jsontosql.model.SqlDialect;
 import com.yourcompany.jsontosql.model.TableDefinition;
 import com.yourcompany.jsontosql.service.TableDefinitionService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v1/tables")
@@ -17,24 +31,123 @@ public class TableDefinitionController {
     
     private static final Logger log = LoggerFactory.getLogger(TableDefinitionController.class);
     
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    
     private final TableDefinitionService tableDefinitionService;
+    private final DdlCache ddlCache;
+    private final ObjectMapper objectMapper;
     
-    public TableDefinitionController(TableDefinitionService tableDefinitionService) {
+    public TableDefinitionController(TableDefinitionService tableDefinitionService, DdlCache ddlCache,
+                                     ObjectMapper objectMapper) {
         this.tableDefinitionService = tableDefinitionService;
+        this.ddlCache = ddlCache;
+        this.objectMapper = objectMapper;
     }
     
+    /**
+     * Lists table definitions. Supports If-None-Match against the catalog version (qualified by the
+     * cursor, limit and fields parameters), cursor pagination
+     * (limit + cursor, next cursor returned in the X-Next-Cursor header) and a fields filter.
+     */
     @GetMapping
-    public ResponseEntity<List<TableDefinition>> getAllTableDefinitions() {
+    public ResponseEntity<List<?>> getAllTableDefinitions(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) List<String> fields,
+            WebRequest webRequest) {
         log.info("Retrieving all table definitions");
-        List<TableDefinition> definitions = tableDefinitionService.getAllTableDefinitions();
-        return ResponseEntity.ok(definitions);
+        
+        TableDefinitionService.Catalog catalog = tableDefinitionService.getCatalog();
+        String etag = listEtag(catalog.getVersion(), cursor, limit, fields);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        
+        List<TableDefinition> definitions = catalog.getDefinitions();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(etag);
+        
+        if (cursor != null || limit != null) {
+            if (limit != null && limit <= 0) {
+                throw new IllegalArgumentException("limit must be greater than 0");
+            }
+            String after = cursor != null ? decodeCursor(cursor) : null;
+            List<TableDefinition> sorted = new ArrayList<>(definitions);
+            sorted.sort(Comparator.comparing(definition -> definition.getTableName().toLowerCase()));
+            
+            List<TableDefinition> page = new ArrayList<>();
+            for (TableDefinition definition : sorted) {
+                if (after != null && definition.getTableName().toLowerCase().compareTo(after) <= 0) {
+                    continue;
+                }
+                if (limit != null && page.size() == limit) {
+                    response.header(NEXT_CURSOR_HEADER, encodeCursor(page.get(page.size() - 1).getTableName()));
+                    break;
+                }
+                page.add(definition);
+            }
+            definitions = page;
+        }
+        
+        if (fields != null && !fields.isEmpty()) {
+            return response.body(filterFields(definitions, fields));
+        }
+        return response.body(definitions);
     }
     
     @GetMapping("/{name}")
-    public ResponseEntity<TableDefinition> getTableDefinition(@PathVariable String name) {
+    public ResponseEntity<TableDefinition> getTableDefinition(@PathVariable String name, WebRequest webRequest) {
         log.info("Retrieving table definition: {}", name);
         TableDefinition definition = tableDefinitionService.getTableDefinition(name);
-        return ResponseEntity.ok(definition);
+        
+        String etag = "\"" + definition.getVersion() + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(definition);
+    }
+    
+    @GetMapping(value = "/{name}/ddl", produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<String> getTableDdl(
+            @PathVariable String name,
+            @RequestParam(required = false) String dialect,
+            WebRequest webRequest) {
+        log.info("Retrieving DDL for table definition: {}", name);
+        SqlDialect sqlDialect = SqlDialect.fromString(dialect);
+        TableDefinition definition = tableDefinitionService.getTableDefinition(name);
+        
+        String etag = "\"" + definition.getVersion() + "-" + sqlDialect.name().toLowerCase() + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(ddlCache.getCreateTable(definition, sqlDialect));
+    }
+    
+    /**
+     * Returns CREATE TABLE statements for several tables keyed by table name (all tables if no names are given)
+     */
+    @GetMapping("/ddl")
+    public ResponseEntity<Map<String, String>> getTableDdls(
+            @RequestParam(required = false) List<String> names,
+            @RequestParam(required = false) String dialect) {
+        log.info("Retrieving DDL for table definitions: {}", names != null ? names : "all");
+        SqlDialect sqlDialect = SqlDialect.fromString(dialect);
+        
+        List<TableDefinition> definitions;
+        if (names == null || names.isEmpty()) {
+            definitions = new ArrayList<>(tableDefinitionService.getAllTableDefinitions());
+            definitions.sort(Comparator.comparing(definition -> definition.getTableName().toLowerCase()));
+        } else {
+            definitions = new ArrayList<>(names.size());
+            for (String name : names) {
+                definitions.add(tableDefinitionService.getTableDefinition(name));
+            }
+        }
+        
+        Map<String, String> ddl = new LinkedHashMap<>();
+        for (TableDefinition definition : definitions) {
+            ddl.put(definition.getTableName(), ddlCache.getCreateTable(definition, sqlDialect));
+        }
+        return ResponseEntity.ok(ddl);
     }
     
     @PostMapping
@@ -65,4 +178,46 @@ public class TableDefinitionController {
         tableDefinitionService.deleteTableDefinition(name);
         return ResponseEntity.noContent().build();
     }
+    
+    private List<Map<String, Object>> filterFields(List<TableDefinition> definitions, List<String> fields) {
+        List<Map<String, Object>> filtered = new ArrayList<>(definitions.size());
+        for (TableDefinition definition : definitions) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> all = objectMapper.convertValue(definition, Map.class);
+            Map<String, Object> selected = new LinkedHashMap<>();
+            for (String field : fields) {
+                if (all.containsKey(field)) {
+                    selected.put(field, all.get(field));
+                }
+            }
+            filtered.add(selected);
+        }
+        return filtered;
+    }
+    
+    private static String listEtag(long version, String cursor, Integer limit, List<String> fields) {
+        if (cursor == null && limit == null && (fields == null || fields.isEmpty())) {
+            return "\"" + version + "\"";
+        }
+        String parameters = "cursor=" + cursor + "&limit=" + limit + "&fields=" + fields;
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(parameters.getBytes(StandardCharsets.UTF_8));
+            return "\"" + version + "-" + HexFormat.of().formatHex(digest, 0, 8) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+    
+    private static String encodeCursor(String tableName) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(tableName.toLowerCase().getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private static String decodeCursor(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
 }
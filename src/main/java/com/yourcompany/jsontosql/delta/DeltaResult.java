@@ -0,0 +1,54 @@
+package com.yourcompany.jsontosql.delta;
+
+/**
+ * Counts of what a delta run emitted for a table
+ */
+public class DeltaResult {
+    
+    private int inserted;
+    
+    private int updated;
+    
+    private int deleted;
+    
+    private int unchanged;
+    
+    public void count(FingerprintStore.Change change) {
+        switch (change) {
+            case INSERT:
+                inserted++;
+                break;
+            case UPDATE:
+                updated++;
+                break;
+            default:
+                unchanged++;
+        }
+    }
+    
+    public void setDeleted(int deleted) {
+        this.deleted = deleted;
+    }
+    
+    public int getInserted() {
+        return inserted;
+    }
+    
+    public int getUpdated() {
+        return updated;
+    }
+    
+    public int getDeleted() {
+        return deleted;
+    }
+    
+    public int getUnchanged() {
+        return unchanged;
+    }
+    
+    @Override
+    public String toString() {
+        return "Delta: " + inserted + " inserted, " + updated + " updated, " + deleted + " deleted, "
+                + unchanged + " unchanged";
+    }
+}
@@ -0,0 +1,351 @@
+package com.yourcompany.jsontosql.delta;
+
+import com.yourcompany.jsontosql.model.ColumnDefinition;
+import com.yourcompany.jsontosql.model.SqlDialect;
+import com.yourcompany.jsontosql.model.TableDefinition;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Primary key to content hash map for one table, used to turn a full extract into INSERT, UPDATE and DELETE
+ * statements for the rows that changed since the previous run.
+ *
+ * Entries live in primitive arrays: an open-addressing slot table, 64-bit key and content hashes, and the
+ * UTF-8 key text packed into one byte array, so a few million rows cost tens of bytes each and no per-row
+ * objects. Keys are compared by their full text, never by hash alone. Keys and hashes are built from
+ * dialect-formatted values, so the store records the dialect it was built with and refuses another one. The
+ * store is loaded from and saved to a binary file; it is not thread-safe.
+ */
+public class FingerprintStore {
+    
+    private static final int MAGIC = 0x4A534650; // "JSFP"
+    private static final int FORMAT_VERSION = 2;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    
+    /**
+     * What a row's fingerprint says about it compared with the previous run
+     */
+    public enum Change {
+        INSERT,
+        UPDATE,
+        UNCHANGED
+    }
+    
+    private int[] slots; // Entry index + 1 per slot, 0 when empty
+    private long[] keyHashes;
+    private long[] contentHashes;
+    private int[] keyOffsets;
+    private int[] keyLengths;
+    private long[] seen; // Bit per entry: matched by the current run
+    private byte[] keyBytes;
+    private int keyBytesUsed;
+    private int size;
+    private SqlDialect dialect; // Null until the first run
+    
+    public FingerprintStore() {
+        this(16);
+    }
+    
+    private FingerprintStore(int capacity) {
+        keyHashes = new long[capacity];
+        contentHashes = new long[capacity];
+        keyOffsets = new int[capacity];
+        keyLengths = new int[capacity];
+        seen = new long[(capacity + 63) >>> 6];
+        keyBytes = new byte[capacity * 16];
+        slots = new int[tableSize(capacity)];
+    }
+    
+    /**
+     * Loads a store saved by {@link #save}, or returns an empty store if the file does not exist
+     */
+    public static FingerprintStore load(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a fingerprint store: " + file);
+            }
+            if (in.readInt() != FORMAT_VERSION) {
+                throw new IOException("Unsupported fingerprint store format, reset the delta baseline: " + file);
+            }
+            String dialect = in.readUTF();
+            int count = in.readInt();
+            FingerprintStore store = new FingerprintStore(Math.max(count, 16));
+            store.dialect = dialect.isEmpty() ? null : SqlDialect.valueOf(dialect);
+            for (int i = 0; i < count; i++) {
+                long contentHash = in.readLong();
+                byte[] key = new byte[in.readUnsignedShort()];
+                in.readFully(key);
+                store.add(hash(key), key, contentHash);
+            }
+            return store;
+        } catch (NoSuchFileException e) {
+            return new FingerprintStore();
+        } catch (EOFException e) {
+            throw new IOException("Truncated fingerprint store: " + file, e);
+        }
+    }
+    
+    /**
+     * Writes the store to a temp file next to {@code file} and renames it into place
+     */
+    public void save(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path tempFile = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(tempFile);
+                 DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, 1 << 16))) {
+                data.writeInt(MAGIC);
+                data.writeInt(FORMAT_VERSION);
+                data.writeUTF(dialect != null ? dialect.name() : "");
+                data.writeInt(size);
+                for (int i = 0; i < size; i++) {
+                    data.writeLong(contentHashes[i]);
+                    data.writeShort(keyLengths[i]);
+                    data.write(keyBytes, keyOffsets[i], keyLengths[i]);
+                }
+            }
+            try {
+                Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+    
+    /**
+     * Binds the store to the dialect of this run. An empty store takes any dialect.
+     *
+     * @throws IllegalArgumentException if the store holds rows fingerprinted with another dialect
+     */
+    public void useDialect(SqlDialect dialect) {
+        if (size > 0 && this.dialect != null && this.dialect != dialect) {
+            throw new IllegalArgumentException("Delta baseline was generated with dialect "
+                    + this.dialect.name().toLowerCase() + ", not " + dialect.name().toLowerCase()
+                    + "; use the same dialect or reset the baseline");
+        }
+        this.dialect = dialect;
+    }
+    
+    public SqlDialect getDialect() {
+        return dialect;
+    }
+    
+    /**
+     * Records the content hash of a row and marks its key as seen by this run
+     */
+    public Change put(String key, long contentHash) {
+        byte[] bytes = encode(key);
+        long keyHash = hash(bytes);
+        int entry = find(keyHash, bytes);
+        if (entry < 0) {
+            markSeen(add(keyHash, bytes, contentHash));
+            return Change.INSERT;
+        }
+        markSeen(entry);
+        if (contentHashes[entry] == contentHash) {
+            return Change.UNCHANGED;
+        }
+        contentHashes[entry] = contentHash;
+        return Change.UPDATE;
+    }
+    
+    /**
+     * Marks a key as seen without changing its hash, so a row that could not be converted this run is
+     * neither updated nor deleted
+     */
+    public void touch(String key) {
+        byte[] bytes = encode(key);
+        int entry = find(hash(bytes), bytes);
+        if (entry >= 0) {
+            markSeen(entry);
+        }
+    }
+    
+    /**
+     * Removes every entry not seen since the last call, passing each removed key to {@code removed}, and
+     * starts a new run
+     *
+     * @return the number of entries removed
+     */
+    public int removeUnseen(Consumer<String> removed) {
+        int kept = 0;
+        int keptBytes = 0;
+        for (int i = 0; i < size; i++) {
+            if ((seen[i >>> 6] & (1L << i)) == 0) {
+                removed.accept(new String(keyBytes, keyOffsets[i], keyLengths[i], StandardCharsets.UTF_8));
+                continue;
+            }
+            // Compact in place; kept entries only ever move towards the front
+            System.arraycopy(keyBytes, keyOffsets[i], keyBytes, keptBytes, keyLengths[i]);
+            keyHashes[kept] = keyHashes[i];
+            contentHashes[kept] = contentHashes[i];
+            keyOffsets[kept] = keptBytes;
+            keyLengths[kept] = keyLengths[i];
+            keptBytes += keyLengths[i];
+            kept++;
+        }
+        int removedCount = size - kept;
+        size = kept;
+        keyBytesUsed = keptBytes;
+        Arrays.fill(seen, 0L);
+        rehash(slots.length);
+        return removedCount;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Indexes of the primary key columns that identify a row across delta runs
+     *
+     * @throws IllegalArgumentException if the table cannot be diffed by primary key
+     */
+    public static int[] keyIndexes(TableDefinition tableDefinition) {
+        if (tableDefinition.hasChildTables()) {
+            throw new IllegalArgumentException("Delta generation does not support child tables");
+        }
+        List<ColumnDefinition> columns = tableDefinition.getColumns();
+        int[] indexes = new int[columns.size()];
+        int count = 0;
+        for (int i = 0; i < columns.size(); i++) {
+            ColumnDefinition column = columns.get(i);
+            if (Boolean.TRUE.equals(column.getPrimaryKey())) {
+                if (Boolean.TRUE.equals(column.getAutoIncrement())) {
+                    throw new IllegalArgumentException("Delta generation cannot use auto-increment primary key column '"
+                            + column.getName() + "'; its value is not in the input");
+                }
+                indexes[count++] = i;
+            }
+        }
+        if (count == 0) {
+            throw new IllegalArgumentException("Delta generation needs a primary key on table '"
+                    + tableDefinition.getTableName() + "'");
+        }
+        return Arrays.copyOf(indexes, count);
+    }
+    
+    /**
+     * 64-bit FNV-1a hash of a row's column values, separated so that ("ab", "c") and ("a", "bc") differ
+     */
+    public static long contentHash(String[] values) {
+        long hash = FNV_OFFSET;
+        for (String value : values) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                hash = (hash ^ (c & 0xff)) * FNV_PRIME;
+                hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+            }
+            hash = (hash ^ 0x1f) * FNV_PRIME;
+        }
+        return hash;
+    }
+    
+    private int add(long keyHash, byte[] key, long contentHash) {
+        if (size == keyHashes.length) {
+            int capacity = keyHashes.length * 2;
+            keyHashes = Arrays.copyOf(keyHashes, capacity);
+            contentHashes = Arrays.copyOf(contentHashes, capacity);
+            keyOffsets = Arrays.copyOf(keyOffsets, capacity);
+            keyLengths = Arrays.copyOf(keyLengths, capacity);
+            seen = Arrays.copyOf(seen, (capacity + 63) >>> 6);
+        }
+        if (keyBytesUsed + key.length > keyBytes.length) {
+            keyBytes = Arrays.copyOf(keyBytes, Math.max(keyBytes.length * 2, keyBytesUsed + key.length));
+        }
+        int entry = size++;
+        System.arraycopy(key, 0, keyBytes, keyBytesUsed, key.length);
+        keyHashes[entry] = keyHash;
+        contentHashes[entry] = contentHash;
+        keyOffsets[entry] = keyBytesUsed;
+        keyLengths[entry] = key.length;
+        keyBytesUsed += key.length;
+        
+        if (size * 2 > slots.length) {
+            rehash(slots.length * 2);
+        } else {
+            insertSlot(entry);
+        }
+        return entry;
+    }
+    
+    private int find(long keyHash, byte[] key) {
+        int mask = slots.length - 1;
+        for (int slot = spread(keyHash) & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+            int entry = slots[slot] - 1;
+            if (keyHashes[entry] == keyHash && Arrays.equals(keyBytes, keyOffsets[entry],
+                    keyOffsets[entry] + keyLengths[entry], key, 0, key.length)) {
+                return entry;
+            }
+        }
+        return -1;
+    }
+    
+    private void rehash(int tableSize) {
+        slots = new int[Math.max(tableSize, tableSize(size))];
+        for (int i = 0; i < size; i++) {
+            insertSlot(i);
+        }
+    }
+    
+    private void insertSlot(int entry) {
+        int mask = slots.length - 1;
+        int slot = spread(keyHashes[entry]) & mask;
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = entry + 1;
+    }
+    
+    private void markSeen(int entry) {
+        seen[entry >>> 6] |= 1L << entry;
+    }
+    
+    private static byte[] encode(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xffff) {
+            throw new IllegalArgumentException("Primary key is too long for delta generation (" + bytes.length
+                    + " bytes)");
+        }
+        return bytes;
+    }
+    
+    private static long hash(byte[] bytes) {
+        long hash = FNV_OFFSET;
+        for (byte b : bytes) {
+            hash = (hash ^ (b & 0xff)) * FNV_PRIME;
+        }
+        return hash;
+    }
+    
+    private static int spread(long hash) {
+        return (int) (hash ^ (hash >>> 32));
+    }
+    
+    private static int tableSize(int entries) {
+        int size = 16;
+        while (size < entries * 2) {
+            size <<= 1;
+        }
+        return size;
+    }
+}
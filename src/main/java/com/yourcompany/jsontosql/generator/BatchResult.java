@@ -0,0 +1,126 @@
+package com.yourcompany.jsontosql.generator;
+
+import com.yourcompany.jsontosql.validation.RowViolation;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a batch generation that tolerates bad rows. In FAIL mode the validation problems of the
+ * generated rows are kept as warnings, the first few per column like ValidationSummary.
+ */
+public class BatchResult implements RowSink {
+    
+    static final int MAX_WARNINGS_PER_COLUMN = 5;
+    
+    private final List<String> statements = new ArrayList<>();
+    
+    private final BitSet childStatements = new BitSet(); // Indexes of statements that continue the previous row
+    
+    private final List<String> errors = new ArrayList<>(); // One entry per problem, prefixed with the row index
+    
+    private final List<String> warnings = new ArrayList<>();
+    
+    private final Map<String, Long> warningCounts = new LinkedHashMap<>(); // Violations per column
+    
+    private final List<String> rejectedRows = new ArrayList<>(); // Raw JSON of dropped rows (REJECT mode)
+    
+    private int rowCount;
+    
+    private int failedRowCount;
+    
+    public List<String> getStatements() {
+        return statements;
+    }
+    
+    /**
+     * Whether the statement at the index is a child-table INSERT of the same row as the statement before it
+     */
+    public boolean continuesRow(int index) {
+        return childStatements.get(index);
+    }
+    
+    public List<String> getErrors() {
+        return errors;
+    }
+    
+    public List<String> getRejectedRows() {
+        return rejectedRows;
+    }
+    
+    /**
+     * The first violations of each column, followed by a count of those left out
+     */
+    public List<String> getWarnings() {
+        List<String> all = new ArrayList<>(warnings);
+        warningCounts.forEach((column, count) -> {
+            if (count > MAX_WARNINGS_PER_COLUMN) {
+                all.add((count - MAX_WARNINGS_PER_COLUMN) + " more violations of column '" + column + "'");
+            }
+        });
+        return all;
+    }
+    
+    public int getRowCount() {
+        return rowCount;
+    }
+    
+    public int getFailedRowCount() {
+        return failedRowCount;
+    }
+    
+    @Override
+    public void statement(int rowIndex, String sql) {
+        rowCount++;
+        statements.add(sql);
+    }
+    
+    @Override
+    public void multiRowStatement(int firstRowIndex, int rowCount, String sql) {
+        this.rowCount += rowCount;
+        statements.add(sql);
+    }
+    
+    @Override
+    public void childStatement(int rowIndex, String sql) {
+        childStatements.set(statements.size());
+        statements.add(sql);
+    }
+    
+    @Override
+    public boolean reportsViolations() {
+        return true;
+    }
+    
+    @Override
+    public void violations(int rowIndex, List<RowViolation> violations) {
+        for (RowViolation violation : violations) {
+            if (warningCounts.merge(violation.getColumn(), 1L, Long::sum) <= MAX_WARNINGS_PER_COLUMN) {
+                warnings.add(violation.toString());
+            }
+        }
+    }
+    
+    @Override
+    public void unchanged(int rowIndex) {
+        rowCount++;
+    }
+    
+    @Override
+    public void trailingStatement(String sql) {
+        statements.add(sql);
+    }
+    
+    @Override
+    public void rejected(int rowIndex, String rowJson, List<String> rowErrors) {
+        rowCount++;
+        failedRowCount++;
+        errors.addAll(rowErrors);
+        if (rowJson != null) {
+            rejectedRows.add(rowJson);
+        }
+    }
+}
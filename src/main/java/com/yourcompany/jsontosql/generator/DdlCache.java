@@ -0,0 +1,142 @@
+package com.yourcompany.jsontosql.generator;
+
+import com.yourcompany.jsontosql.model.SqlDialect;
+import com.yourcompany.jsontosql.model.TableDefinition;
+import com.yourcompany.jsontosql.service.TableDefinitionChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches CREATE TABLE statements per table and dialect.
+ *
+ * The DDL only depends on the table definition, so it is generated once per definition
+ * version and dialect. A newer version of the definition replaces the cached entry, and a
+ * changed or deleted definition drops its entries. Child tables are keyed under their parent
+ * table. Definitions without a version (not managed by TableDefinitionService) are never cached.
+ */
+@Component
+public class DdlCache {
+    
+    private final DdlGenerator ddlGenerator;
+    private final Map<Key, CachedDdl> cache = new ConcurrentHashMap<>();
+    
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    
+    public DdlCache(DdlGenerator ddlGenerator) {
+        this.ddlGenerator = ddlGenerator;
+    }
+    
+    /**
+     * Returns the CREATE TABLE script for the definition, generating it on first use. See
+     * {@link DdlGenerator#generateCreateTable(TableDefinition, SqlDialect)}.
+     */
+    public String getCreateTable(TableDefinition tableDefinition, SqlDialect dialect) {
+        String tableName = tableDefinition.getTableName().toLowerCase();
+        return getCreateTable(tableName, tableName, tableDefinition, dialect).script;
+    }
+    
+    /**
+     * Returns the CREATE TABLE statements for the definition followed by those of its child tables, one entry
+     * per statement, see {@link DdlGenerator#generateCreateTables}
+     */
+    public List<String> getCreateTables(TableDefinition tableDefinition, SqlDialect dialect) {
+        String owner = tableDefinition.getTableName().toLowerCase();
+        List<String> ddl = new ArrayList<>();
+        for (TableDefinition table : DdlGenerator.tablesToCreate(tableDefinition)) {
+            ddl.addAll(getCreateTable(owner, table.getTableName().toLowerCase(), table, dialect).statements);
+        }
+        return ddl;
+    }
+    
+    /**
+     * Drops the cached DDL of a changed or deleted definition, including its child tables
+     */
+    @EventListener
+    public void onTableDefinitionChanged(TableDefinitionChangedEvent event) {
+        String owner = event.getTableName().toLowerCase();
+        cache.keySet().removeIf(key -> key.owner.equals(owner));
+    }
+    
+    private CachedDdl getCreateTable(String owner, String tableName, TableDefinition tableDefinition,
+                                     SqlDialect dialect) {
+        long version = tableDefinition.getVersion();
+        if (version == 0) {
+            return new CachedDdl(version, ddlGenerator.generateCreateTableStatements(tableDefinition, dialect));
+        }
+        
+        Key key = new Key(owner, tableName, dialect);
+        CachedDdl cached = cache.get(key);
+        if (cached != null && cached.version == version) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        
+        misses.incrementAndGet();
+        CachedDdl ddl = new CachedDdl(version, ddlGenerator.generateCreateTableStatements(tableDefinition, dialect));
+        // Never let a slower, older generation overwrite a newer one
+        cache.merge(key, ddl, (existing, created) -> existing.version > created.version ? existing : created);
+        return ddl;
+    }
+    
+    public int size() {
+        return cache.size();
+    }
+    
+    public long getHitCount() {
+        return hits.get();
+    }
+    
+    public long getMissCount() {
+        return misses.get();
+    }
+    
+    public double getHitRatio() {
+        long total = hits.get() + misses.get();
+        return total == 0 ? 0.0 : (double) hits.get() / total;
+    }
+    
+    private static final class CachedDdl {
+        private final long version;
+        private final List<String> statements; // More than one for a table with PostgreSQL partitions
+        private final String script;
+        
+        CachedDdl(long version, List<String> statements) {
+            this.version = version;
+            this.statements = List.copyOf(statements);
+            this.script = String.join("\n\n", statements);
+        }
+    }
+    
+    private static final class Key {
+        private final String owner; // Top-level table the entry belongs to; the table itself unless a child table
+        private final String tableName;
+        private final SqlDialect dialect;
+        
+        Key(String owner, String tableName, SqlDialect dialect) {
+            this.owner = owner;
+            this.tableName = tableName;
+            this.dialect = dialect;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return owner.equals(key.owner) && tableName.equals(key.tableName) && dialect == key.dialect;
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(owner, tableName, dialect);
+        }
+    }
+}
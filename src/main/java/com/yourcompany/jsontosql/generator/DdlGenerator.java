@@ -1,6 +1,10 @@
 package com.yourcompany.jsontosql.generator;
 
+import com.yourcompany.jsontosql.model.ChildTableDefinition;
 import com.yourcompany.jsontosql.model.ColumnDefinition;
+import com.yourcompany.jsontosql.model.IndexDefinition;
+import com.yourcompany.jsontosql.model.PartitionType;
+import com.yourcompany.jsontosql.model.SqlDialect;
 import com.yourcompany.jsontosql.model.TableDefinition;
 import com.yourcompany.jsontosql.util.SqlEscapeUtil;
 import org.springframework.stereotype.Component;
@@ -21,6 +25,54 @@ public class DdlGenerator {
      * Generates a CREATE TABLE statement from table definition
      */
     public String generateCreateTable(TableDefinition tableDefinition) {
+        return generateCreateTable(tableDefinition, SqlDialect.STANDARD);
+    }
+    
+    /**
+     * Generates the CREATE TABLE statements of the table followed by those of each of its child tables
+     */
+    public List<String> generateCreateTables(TableDefinition tableDefinition, SqlDialect dialect) {
+        List<String> statements = new ArrayList<>();
+        for (TableDefinition table : tablesToCreate(tableDefinition)) {
+            statements.addAll(generateCreateTableStatements(table, dialect));
+        }
+        return statements;
+    }
+    
+    /**
+     * The table followed by the definitions of its child tables, in the order they must be created
+     */
+    public static List<TableDefinition> tablesToCreate(TableDefinition tableDefinition) {
+        if (!tableDefinition.hasChildTables()) {
+            return List.of(tableDefinition);
+        }
+        List<TableDefinition> tables = new ArrayList<>();
+        tables.add(tableDefinition);
+        for (ChildTableDefinition child : tableDefinition.getChildTables()) {
+            tables.add(child.toTableDefinition(tableDefinition));
+        }
+        return tables;
+    }
+    
+    /**
+     * Generates a CREATE TABLE statement from table definition for the given dialect, as a script: the
+     * statements of {@link #generateCreateTableStatements} separated by blank lines
+     *
+     * @throws IllegalArgumentException if the partitioning cannot be expressed in the dialect
+     */
+    public String generateCreateTable(TableDefinition tableDefinition, SqlDialect dialect) {
+        return String.join("\n\n", generateCreateTableStatements(tableDefinition, dialect));
+    }
+    
+    /**
+     * Generates the statements that create the table in the given dialect. A partitioned table gets the dialect's
+     * RANGE or LIST partitioning clause; on PostgreSQL the partitions are separate
+     * {@code CREATE TABLE ... PARTITION OF} statements following the parent's. STANDARD SQL has no
+     * partitioning, so the table is created unpartitioned.
+     *
+     * @throws IllegalArgumentException if the partitioning cannot be expressed in the dialect
+     */
+    public List<String> generateCreateTableStatements(TableDefinition tableDefinition, SqlDialect dialect) {
         StringBuilder sql = new StringBuilder();
         
         String tableName = tableDefinition.getTableName();
@@ -41,13 +93,19 @@ public class DdlGenerator {
             columnDef.append(sqlEscapeUtil.escapeIdentifier(column.getName()));
             columnDef.append(" ").append(column.getType());
             
+            // Identity columns: the clause must precede constraints on Oracle
+            boolean identity = column.getAutoIncrement() && usesIdentityColumns(dialect);
+            if (identity) {
+                columnDef.append(" GENERATED BY DEFAULT AS IDENTITY");
+            }
+            
             // Add NOT NULL constraint
             if (!column.getNullable()) {
                 columnDef.append(" NOT NULL");
             }
             
             // Add AUTO_INCREMENT if applicable
-            if (column.getAutoIncrement()) {
+            if (column.getAutoIncrement() && !identity) {
                 columnDef.append(" AUTO_INCREMENT");
             }
             
@@ -68,9 +126,186 @@ public class DdlGenerator {
             sql.append(")");
         }
         
-        sql.append("\n);");
+        sql.append("\n)");
         
-        return sql.toString();
+        if (!tableDefinition.hasPartitioning() || dialect == SqlDialect.STANDARD) {
+            return List.of(sql.append(";").toString());
+        }
+        TablePartitions partitions = TablePartitions.of(tableDefinition);
+        String partitionColumn = tableDefinition.getColumns().get(partitions.getColumnIndex()).getName();
+        if (!primaryKeys.isEmpty() && dialect != SqlDialect.ORACLE
+                && !primaryKeys.contains(sqlEscapeUtil.escapeIdentifier(partitionColumn))) {
+            throw new IllegalArgumentException("The primary key of partitioned table '" + tableName
+                    + "' must include partition column '" + partitionColumn + "' for " + dialect);
+        }
+        if (dialect == SqlDialect.POSTGRESQL) {
+            sql.append(" PARTITION BY ").append(partitions.getType()).append(" (")
+                    .append(sqlEscapeUtil.escapeIdentifier(partitionColumn)).append(");");
+            List<String> statements = new ArrayList<>();
+            statements.add(sql.toString());
+            statements.addAll(createPostgresPartitions(partitions, schema, fullTableName));
+            return statements;
+        }
+        appendPartitionClause(sql, partitions, sqlEscapeUtil.escapeIdentifier(partitionColumn), dialect);
+        return List.of(sql.append(";").toString());
+    }
+    
+    /**
+     * MySQL {@code PARTITION BY RANGE COLUMNS} / {@code LIST COLUMNS}, which take dates and text as well as
+     * integers, or Oracle {@code PARTITION BY RANGE} / {@code LIST} with an optional {@code INTERVAL}
+     */
+    private void appendPartitionClause(StringBuilder sql, TablePartitions partitions, String column,
+                                       SqlDialect dialect) {
+        boolean range = partitions.getType() == PartitionType.RANGE;
+        sql.append("\nPARTITION BY ").append(partitions.getType())
+                .append(dialect == SqlDialect.MYSQL ? " COLUMNS" : "").append(" (").append(column).append(")");
+        if (dialect == SqlDialect.ORACLE && partitions.getInterval() != null) {
+            sql.append("\nINTERVAL (").append(partitions.getInterval()).append(")");
+        }
+        List<String> definitions = new ArrayList<>();
+        for (int i = 0; i < partitions.getCount(); i++) {
+            StringBuilder partition = new StringBuilder("  PARTITION ")
+                    .append(sqlEscapeUtil.escapeIdentifier(partitions.getName(i)));
+            if (range) {
+                partition.append(" VALUES LESS THAN (").append(partitions.isMaxValue(i)
+                        ? "MAXVALUE" : partitions.literals(i, dialect).get(0)).append(")");
+            } else if (partitions.isDefault(i)) {
+                if (dialect == SqlDialect.MYSQL) {
+                    throw new IllegalArgumentException("MySQL has no default LIST partition; partition '"
+                            + partitions.getName(i) + "' needs values");
+                }
+                partition.append(" VALUES (DEFAULT)");
+            } else {
+                partition.append(dialect == SqlDialect.MYSQL ? " VALUES IN (" : " VALUES (")
+                        .append(String.join(", ", partitions.literals(i, dialect))).append(")");
+            }
+            definitions.add(partition.toString());
+        }
+        sql.append(" (\n").append(String.join(",\n", definitions)).append("\n)");
+    }
+    
+    /**
+     * PostgreSQL partitions as tables of their own; each RANGE partition starts at the previous bound
+     */
+    private List<String> createPostgresPartitions(TablePartitions partitions, String schema, String parentTable) {
+        List<String> statements = new ArrayList<>();
+        String lowerBound = "MINVALUE";
+        for (int i = 0; i < partitions.getCount(); i++) {
+            StringBuilder sql = new StringBuilder("CREATE TABLE ")
+                    .append(qualifiedName(schema, partitions.getName(i)))
+                    .append(" PARTITION OF ").append(parentTable);
+            if (partitions.getType() == PartitionType.RANGE) {
+                String upperBound = partitions.isMaxValue(i)
+                        ? "MAXVALUE"
+                        : partitions.literals(i, SqlDialect.POSTGRESQL).get(0);
+                sql.append(" FOR VALUES FROM (").append(lowerBound).append(") TO (").append(upperBound).append(")");
+                lowerBound = upperBound;
+            } else if (partitions.isDefault(i)) {
+                sql.append(" DEFAULT");
+            } else {
+                sql.append(" FOR VALUES IN (")
+                        .append(String.join(", ", partitions.literals(i, SqlDialect.POSTGRESQL))).append(")");
+            }
+            statements.add(sql.append(";").toString());
+        }
+        return statements;
+    }
+    
+    /**
+     * Generates a CREATE INDEX statement for each secondary index of the table, to run after the rows are
+     * loaded. Building an index once over loaded rows is much cheaper than maintaining it row by row.
+     * The {@code where} condition of a partial index is only written for PostgreSQL; other dialects index
+     * every row, which a unique index cannot do without changing its meaning.
+     *
+     * @throws IllegalArgumentException for a partial unique index on a dialect without partial indexes
+     */
+    public List<String> generateCreateIndexes(TableDefinition tableDefinition, SqlDialect dialect) {
+        List<String> statements = new ArrayList<>();
+        if (!tableDefinition.hasIndexes()) {
+            return statements;
+        }
+        String fullTableName = qualifiedName(tableDefinition.getSchema(), tableDefinition.getTableName());
+        for (IndexDefinition index : tableDefinition.getIndexes()) {
+            boolean unique = Boolean.TRUE.equals(index.getUnique());
+            if (index.isPartial() && unique && dialect != SqlDialect.POSTGRESQL) {
+                throw new IllegalArgumentException("Partial unique index '" + indexName(tableDefinition, index)
+                        + "' is only supported for PostgreSQL");
+            }
+            
+            StringBuilder sql = new StringBuilder("CREATE ");
+            if (unique) {
+                sql.append("UNIQUE ");
+            }
+            // PostgreSQL and MySQL create the index in the table's schema and reject a qualified name
+            String name = dialect == SqlDialect.POSTGRESQL || dialect == SqlDialect.MYSQL
+                    ? sqlEscapeUtil.escapeIdentifier(indexName(tableDefinition, index))
+                    : qualifiedName(tableDefinition.getSchema(), indexName(tableDefinition, index));
+            sql.append("INDEX ").append(name).append(" ON ").append(fullTableName).append(" (");
+            List<String> columns = new ArrayList<>();
+            for (String column : index.getColumns()) {
+                columns.add(sqlEscapeUtil.escapeIdentifier(column));
+            }
+            sql.append(String.join(", ", columns)).append(")");
+            if (index.isPartial() && dialect == SqlDialect.POSTGRESQL) {
+                sql.append(" WHERE ").append(index.getWhere().trim());
+            }
+            sql.append(";");
+            statements.add(sql.toString());
+        }
+        return statements;
+    }
+    
+    /**
+     * Generates a DROP INDEX statement for each secondary index of the table, to run before reloading
+     * rows into an existing table
+     */
+    public List<String> generateDropIndexes(TableDefinition tableDefinition, SqlDialect dialect) {
+        List<String> statements = new ArrayList<>();
+        if (!tableDefinition.hasIndexes()) {
+            return statements;
+        }
+        String schema = tableDefinition.getSchema();
+        for (IndexDefinition index : tableDefinition.getIndexes()) {
+            String name = indexName(tableDefinition, index);
+            switch (dialect) {
+                case MYSQL:
+                    // MySQL indexes belong to their table
+                    statements.add("DROP INDEX " + sqlEscapeUtil.escapeIdentifier(name) + " ON "
+                            + qualifiedName(schema, tableDefinition.getTableName()) + ";");
+                    break;
+                case POSTGRESQL:
+                    statements.add("DROP INDEX IF EXISTS " + qualifiedName(schema, name) + ";");
+                    break;
+                default:
+                    statements.add("DROP INDEX " + qualifiedName(schema, name) + ";");
+                    break;
+            }
+        }
+        return statements;
+    }
+    
+    /**
+     * The index's name, or {@code <table>_<columns>_idx} ({@code _key} for a unique index) if it has none
+     */
+    public static String indexName(TableDefinition tableDefinition, IndexDefinition index) {
+        if (index.getName() != null && !index.getName().trim().isEmpty()) {
+            return index.getName().trim();
+        }
+        StringBuilder name = new StringBuilder(tableDefinition.getTableName());
+        for (String column : index.getColumns()) {
+            name.append('_').append(column);
+        }
+        return name.append(Boolean.TRUE.equals(index.getUnique()) ? "_key" : "_idx").toString();
+    }
+    
+    private String qualifiedName(String schema, String name) {
+        return schema != null && !schema.isEmpty()
+            ? sqlEscapeUtil.escapeIdentifier(schema) + "." + sqlEscapeUtil.escapeIdentifier(name)
+            : sqlEscapeUtil.escapeIdentifier(name);
+    }
+    
+    private boolean usesIdentityColumns(SqlDialect dialect) {
+        return dialect == SqlDialect.POSTGRESQL || dialect == SqlDialect.ORACLE;
     }
     
     /**
@@ -2,121 +2,1265 @@ package com.yourcompany.jsontosql.generator;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourcompany.jsontosql.delta.DeltaResult;
+import com.yourcompany.jsontosql.delta.FingerprintStore;
+import com.yourcompany.jsontosql.exception.JsonMappingException;
+import com.yourcompany.jsontosql.jfr.RowGenerationEvent;
+import com.yourcompany.jsontosql.metrics.GenerationMetrics;
+import com.yourcompany.jsontosql.metrics.GenerationStage;
+import com.yourcompany.jsontosql.metrics.StageTimings;
+import com.yourcompany.jsontosql.model.ChildTableDefinition;
 import com.yourcompany.jsontosql.model.ColumnDefinition;
+import com.yourcompany.jsontosql.model.RowErrorMode;
+import com.yourcompany.jsontosql.model.RowOperation;
+import com.yourcompany.jsontosql.model.SqlDialect;
 import com.yourcompany.jsontosql.model.TableDefinition;
+import com.yourcompany.jsontosql.transform.ColumnTransform;
+import com.yourcompany.jsontosql.transform.TransformCache;
 import com.yourcompany.jsontosql.util.JsonPathExtractor;
 import com.yourcompany.jsontosql.util.SqlEscapeUtil;
+import com.yourcompany.jsontosql.util.TemporalFormat;
+import com.yourcompany.jsontosql.validation.RowValidator;
+import com.yourcompany.jsontosql.validation.RowValidatorCache;
+import com.yourcompany.jsontosql.validation.RowViolation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.time.temporal.Temporal;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 @Component
 public class InsertStatementGenerator {
     
     private static final Logger log = LoggerFactory.getLogger(InsertStatementGenerator.class);
     
+    public static final int MAX_ROWS_PER_STATEMENT = 1000;
+    
     private final JsonPathExtractor jsonPathExtractor;
     private final SqlEscapeUtil sqlEscapeUtil;
+    private final RowValidatorCache rowValidatorCache;
+    private final TransformCache transformCache;
     private final ObjectMapper objectMapper = new ObjectMapper();
     
-    public InsertStatementGenerator(JsonPathExtractor jsonPathExtractor, SqlEscapeUtil sqlEscapeUtil) {
+    public InsertStatementGenerator(JsonPathExtractor jsonPathExtractor, SqlEscapeUtil sqlEscapeUtil,
+                                    RowValidatorCache rowValidatorCache) {
+        this(jsonPathExtractor, sqlEscapeUtil, rowValidatorCache, new TransformCache());
+    }
+    
+    @Autowired
+    public InsertStatementGenerator(JsonPathExtractor jsonPathExtractor, SqlEscapeUtil sqlEscapeUtil,
+                                    RowValidatorCache rowValidatorCache, TransformCache transformCache) {
         this.jsonPathExtractor = jsonPathExtractor;
         this.sqlEscapeUtil = sqlEscapeUtil;
+        this.rowValidatorCache = rowValidatorCache;
+        this.transformCache = transformCache;
     }
     
     /**
-     * Generates an INSERT statement from JSON data and table definition
+     * Generates an INSERT statement from JSON data and table definition. If the definition has child
+     * tables, their INSERTs follow the parent's, separated by blank lines.
      */
     public String generateInsert(TableDefinition tableDefinition, String jsonData) {
-        StringBuilder sql = new StringBuilder();
-        
-        String tableName = tableDefinition.getTableName();
-        String schema = tableDefinition.getSchema();
-        
-        // Build table name with optional schema
-        String fullTableName = schema != null && !schema.isEmpty() 
-            ? sqlEscapeUtil.escapeIdentifier(schema) + "." + sqlEscapeUtil.escapeIdentifier(tableName)
-            : sqlEscapeUtil.escapeIdentifier(tableName);
+        return generateInsert(tableDefinition, jsonData, SqlDialect.STANDARD);
+    }
+    
+    /**
+     * Generates an INSERT statement, writing date and timestamp literals in the form the dialect expects
+     */
+    public String generateInsert(TableDefinition tableDefinition, String jsonData, SqlDialect dialect) {
+        return String.join("\n\n", generateInsertStatements(tableDefinition, jsonData, dialect));
+    }
+    
+    /**
+     * Generates the INSERTs of one JSON object into the sink, as {@link #generateInsertStatements} does; a sink
+     * that reports violations also gets the row's validation problems, see {@link RowSink#reportsViolations}
+     */
+    public void generateInsert(TableDefinition tableDefinition, String jsonData, SqlDialect dialect, RowSink sink) {
+        StageTimings timings = StageTimings.current();
+        RowGenerationEvent event = new RowGenerationEvent();
+        event.begin();
+        long start = timings != null ? System.nanoTime() : 0L;
+        JsonNode jsonNode;
+        try {
+            jsonNode = objectMapper.readTree(jsonData);
+        } catch (Exception e) {
+            throw new JsonMappingException("Invalid JSON: " + e.getMessage(), e);
+        }
+        if (timings != null) {
+            timings.record(GenerationStage.PARSE, start);
+        }
+        generateInserts(tableDefinition, List.of(jsonNode).iterator(), RowErrorMode.FAIL, dialect, sink);
+        commit(event, tableDefinition, jsonData, 1, 0);
+    }
+    
+    /**
+     * Generates the INSERT statement of one JSON object, followed by one INSERT per element of each child
+     * table's array, as separate statements
+     */
+    public List<String> generateInsertStatements(TableDefinition tableDefinition, String jsonData, SqlDialect dialect) {
+        RowGenerationEvent event = new RowGenerationEvent();
+        event.begin();
+        ColumnTransform[] transforms = transformCache.getTransforms(tableDefinition);
+        TemporalFormat[] temporals = TemporalFormat.forColumns(tableDefinition.getColumns());
+        List<String> statements = new ArrayList<>();
+        generateDocument(tableDefinition, transforms, temporals, ChildTable.resolve(tableDefinition, null, transformCache),
+                dialect, jsonData, StageTimings.current(), statements);
+        commit(event, tableDefinition, jsonData, 1, 0);
+        return statements;
+    }
+    
+    private String generateRow(TableDefinition tableDefinition, ColumnTransform[] transforms, TemporalFormat[] temporals,
+                               SqlDialect dialect, String jsonData, StageTimings timings) {
+        if (timings == null) {
+            return buildInsert(tableDefinition, temporals, dialect,
+                    extractRawValues(tableDefinition, transforms, jsonPathExtractor.parse(jsonData)));
+        }
         
-        sql.append("INSERT INTO ").append(fullTableName).append(" (");
+        long start = System.nanoTime();
+        Object[] row = extractRawValues(tableDefinition, transforms, jsonPathExtractor.parse(jsonData));
+        start = timings.record(GenerationStage.EXTRACT, start);
+        String sql = buildInsert(tableDefinition, temporals, dialect, row);
+        timings.record(GenerationStage.FORMAT, start);
+        timings.addRows(1);
+        return sql;
+    }
+    
+    /**
+     * Generates the parent INSERT for one document followed by one INSERT per element of each child array.
+     * The document is parsed once for the parent and all child tables. Rows are not validated.
+     */
+    private void generateDocument(TableDefinition tableDefinition, ColumnTransform[] transforms,
+                                  TemporalFormat[] temporals, List<ChildTable> children, SqlDialect dialect,
+                                  String jsonData, StageTimings timings, List<String> statements) {
+        if (children.isEmpty()) {
+            statements.add(generateRow(tableDefinition, transforms, temporals, dialect, jsonData, timings));
+            return;
+        }
         
-        // Build column list (excluding auto-increment columns)
-        List<ColumnDefinition> insertableColumns = new ArrayList<>();
-        List<String> columnNames = new ArrayList<>();
+        long start = timings != null ? System.nanoTime() : 0L;
+        Object document = jsonPathExtractor.parse(jsonData);
+        Object[] row = extractRawValues(tableDefinition, transforms, document);
+        List<List<Object[]>> childRows = new ArrayList<>(children.size());
+        for (ChildTable child : children) {
+            childRows.add(extractChildRows(child, row, document));
+        }
+        if (timings != null) {
+            start = timings.record(GenerationStage.EXTRACT, start);
+        }
         
-        for (ColumnDefinition column : tableDefinition.getColumns()) {
-            if (!column.getAutoIncrement()) {
-                insertableColumns.add(column);
-                columnNames.add(sqlEscapeUtil.escapeIdentifier(column.getName()));
+        statements.add(buildInsert(tableDefinition, temporals, dialect, row));
+        for (int c = 0; c < children.size(); c++) {
+            ChildTable child = children.get(c);
+            for (Object[] childRow : childRows.get(c)) {
+                statements.add(buildInsert(child.definition, child.temporals, dialect, childRow));
             }
         }
-        
-        sql.append(String.join(", ", columnNames));
-        sql.append(") VALUES (");
-        
-        // Build values list
-        List<String> values = new ArrayList<>();
-        for (ColumnDefinition column : insertableColumns) {
-            Object value = extractColumnValue(column, jsonData);
-            String formattedValue = sqlEscapeUtil.formatValueForType(value, column.getType());
-            values.add(formattedValue);
+        if (timings != null) {
+            timings.record(GenerationStage.FORMAT, start);
+            timings.addRows(1);
         }
+    }
+    
+    /**
+     * Builds one row per element of the child's array: the copied parent keys, then the child's columns
+     * read from the element
+     */
+    private List<Object[]> extractChildRows(ChildTable child, Object[] parentRow, Object document) {
+        Object array = jsonPathExtractor.extractFromDocument(document, child.arrayPath).orElse(null);
+        if (array == null) {
+            return Collections.emptyList();
+        }
+        // A single object where an array was expected is treated as a one-element array
+        List<?> elements = array instanceof List ? (List<?>) array : List.of(array);
         
-        sql.append(String.join(", ", values));
-        sql.append(");");
-        
-        return sql.toString();
+        List<ColumnDefinition> columns = child.definition.getColumns();
+        int keyCount = child.parentKeyIndexes.length;
+        List<Object[]> rows = new ArrayList<>(elements.size());
+        ColumnTransform[] transforms = child.transforms;
+        for (Object element : elements) {
+            Object[] row = new Object[columns.size()];
+            ColumnTransform.PathReader elementReader = transforms == null ? null
+                    : path -> jsonPathExtractor.extractFromDocument(element, path).orElse(null);
+            for (int k = 0; k < keyCount; k++) {
+                int parentIndex = child.parentKeyIndexes[k];
+                row[k] = parentRow[parentIndex] != null
+                        ? parentRow[parentIndex] : child.parentKeyDefaults[k];
+            }
+            for (int i = keyCount; i < row.length; i++) {
+                ColumnDefinition column = columns.get(i);
+                if (!column.getAutoIncrement()) {
+                    row[i] = jsonPathExtractor.extractFromDocument(element, columnPath(column)).orElse(null);
+                    if (transforms != null && transforms[i] != null) {
+                        row[i] = TransformCache.apply(transforms[i], column, row[i], elementReader);
+                    }
+                }
+            }
+            rows.add(row);
+        }
+        return rows;
     }
     
     /**
      * Generates batch INSERT statements from an array of JSON objects
      */
     public List<String> generateBatchInserts(TableDefinition tableDefinition, String jsonData) {
+        return generateBatchInserts(tableDefinition, jsonData, SqlDialect.STANDARD);
+    }
+    
+    /**
+     * Generates batch INSERT statements for the dialect from an array of JSON objects
+     */
+    public List<String> generateBatchInserts(TableDefinition tableDefinition, String jsonData, SqlDialect dialect) {
         List<String> statements = new ArrayList<>();
+        StageTimings timings = StageTimings.current();
+        RowGenerationEvent event = new RowGenerationEvent();
+        event.begin();
+        ColumnTransform[] transforms = transformCache.getTransforms(tableDefinition);
+        TemporalFormat[] temporals = TemporalFormat.forColumns(tableDefinition.getColumns());
+        List<ChildTable> children = ChildTable.resolve(tableDefinition, null, transformCache);
+        int rowCount = 0;
         
         try {
+            long start = timings != null ? System.nanoTime() : 0L;
             JsonNode rootNode = objectMapper.readTree(jsonData);
+            if (timings != null) {
+                timings.record(GenerationStage.PARSE, start);
+            }
             
             if (rootNode.isArray()) {
                 for (JsonNode jsonNode : rootNode) {
+                    start = timings != null ? System.nanoTime() : 0L;
                     String singleJson = objectMapper.writeValueAsString(jsonNode);
-                    statements.add(generateInsert(tableDefinition, singleJson));
+                    if (timings != null) {
+                        timings.record(GenerationStage.PARSE, start);
+                    }
+                    generateDocument(tableDefinition, transforms, temporals, children, dialect, singleJson, timings,
+                            statements);
+                    rowCount++;
                 }
             } else {
                 // Single object
-                statements.add(generateInsert(tableDefinition, jsonData));
+                generateDocument(tableDefinition, transforms, temporals, children, dialect, jsonData, timings,
+                        statements);
+                rowCount++;
             }
         } catch (Exception e) {
             log.error("Error generating batch inserts: {}", e.getMessage());
             throw new RuntimeException("Failed to generate batch inserts", e);
         }
+        commit(event, tableDefinition, jsonData, rowCount, 0);
         
         return statements;
     }
     
     /**
-     * Extracts a value for a column from JSON data
+     * Generates batch INSERT statements, dropping rows that fail validation or conversion instead of
+     * failing the whole batch. Each dropped row is reported with its index and reason; in REJECT mode
+     * its JSON is also returned. In FAIL mode the first conversion error fails the batch, and validation
+     * problems of the rows that are generated are returned as warnings.
+     */
+    public BatchResult generateBatchInserts(TableDefinition tableDefinition, String jsonData, RowErrorMode mode) {
+        return generateBatchInserts(tableDefinition, jsonData, mode, SqlDialect.STANDARD);
+    }
+    
+    /**
+     * Generates batch INSERT statements for the dialect, dropping rows that fail validation or conversion
      */
-    private Object extractColumnValue(ColumnDefinition column, String jsonData) {
-        // If jsonPath is specified, use it
-        if (column.getJsonPath() != null && !column.getJsonPath().trim().isEmpty()) {
-            return jsonPathExtractor.extractValue(jsonData, column.getJsonPath())
-                    .orElse(column.getDefaultValue());
+    public BatchResult generateBatchInserts(TableDefinition tableDefinition, String jsonData, RowErrorMode mode,
+                                            SqlDialect dialect) {
+        BatchResult result = new BatchResult();
+        StageTimings timings = StageTimings.current();
+        RowGenerationEvent event = new RowGenerationEvent();
+        event.begin();
+        long start = timings != null ? System.nanoTime() : 0L;
+        JsonNode rootNode;
+        try {
+            rootNode = objectMapper.readTree(jsonData);
+        } catch (Exception e) {
+            throw new JsonMappingException("Invalid JSON batch: " + e.getMessage(), e);
+        }
+        if (timings != null) {
+            timings.record(GenerationStage.PARSE, start);
         }
         
-        // Otherwise, try to extract by column name directly
-        String columnName = column.getName();
-        Object value = jsonPathExtractor.extractValue(jsonData, columnName)
-                .orElse(null);
+        Iterator<JsonNode> records = rootNode.isArray() ? rootNode.elements() : List.of(rootNode).iterator();
+        generateInserts(tableDefinition, records, mode, dialect, result);
+        commit(event, tableDefinition, jsonData, result.getRowCount(), result.getFailedRowCount());
         
-        // If still not found and default value is set, use it
-        if (value == null && column.getDefaultValue() != null) {
-            return column.getDefaultValue();
+        return result;
+    }
+    
+    /**
+     * Generates one INSERT per record and hands each statement or dropped row to the sink as soon as it is
+     * produced, so inputs of any size can be converted without holding them in memory. In FAIL mode the first
+     * conversion error is thrown, and rows are only validated for a sink that reports violations (see
+     * {@link RowSink#reportsViolations}), which gets them while the row is still generated; otherwise bad rows go to
+     * {@link RowSink#rejected} and generation continues. Child-table INSERTs for a record go to
+     * {@link RowSink#childStatement} after its parent statement; a record is rejected as a whole if
+     * any of its child rows is invalid.
+     *
+     * @return the number of records read
+     */
+    public int generateInserts(TableDefinition tableDefinition, Iterator<JsonNode> records, RowErrorMode mode,
+                               RowSink sink) {
+        return generateInserts(tableDefinition, records, mode, SqlDialect.STANDARD, sink);
+    }
+    
+    /**
+     * Streams one INSERT per record to the sink, writing date and timestamp literals for the dialect
+     *
+     * @return the number of records read
+     */
+    public int generateInserts(TableDefinition tableDefinition, Iterator<JsonNode> records, RowErrorMode mode,
+                               SqlDialect dialect, RowSink sink) {
+        StageTimings timings = StageTimings.current();
+        RowValidator validator = mode != RowErrorMode.FAIL || sink.reportsViolations()
+                ? rowValidatorCache.getValidator(tableDefinition) : null;
+        ColumnTransform[] transforms = transformCache.getTransforms(tableDefinition);
+        TemporalFormat[] temporals = TemporalFormat.forColumns(tableDefinition.getColumns());
+        List<ChildTable> children = ChildTable.resolve(tableDefinition, validator == null ? null : rowValidatorCache,
+                transformCache);
+        List<RowViolation> violations = new ArrayList<>();
+        List<String> statements = new ArrayList<>();
+        int rowIndex = 0;
+        
+        while (records.hasNext()) {
+            JsonNode jsonNode = records.next();
+            String singleJson = null;
+            List<String> errors = null;
+            statements.clear();
+            try {
+                long start = timings != null ? System.nanoTime() : 0L;
+                singleJson = objectMapper.writeValueAsString(jsonNode);
+                if (timings != null) {
+                    timings.record(GenerationStage.PARSE, start);
+                }
+                if (validator == null) {
+                    generateDocument(tableDefinition, transforms, temporals, children, dialect, singleJson, timings,
+                            statements);
+                } else {
+                    start = timings != null ? System.nanoTime() : 0L;
+                    Object document = jsonPathExtractor.parse(singleJson);
+                    Object[] row = extractRawValues(tableDefinition, transforms, document);
+                    if (timings != null) {
+                        start = timings.record(GenerationStage.EXTRACT, start);
+                    }
+                    
+                    List<List<Object[]>> childRows = null;
+                    if (!children.isEmpty()) {
+                        childRows = new ArrayList<>(children.size());
+                        for (ChildTable child : children) {
+                            childRows.add(extractChildRows(child, row, document));
+                        }
+                        if (timings != null) {
+                            start = timings.record(GenerationStage.EXTRACT, start);
+                        }
+                    }
+                    
+                    violations.clear();
+                    boolean valid = validator.validate(rowIndex, row, violations);
+                    if (childRows != null) {
+                        valid &= validateChildRows(rowIndex, children, childRows, violations);
+                    }
+                    if (timings != null) {
+                        start = timings.record(GenerationStage.VALIDATE, start);
+                    }
+                    if (valid || mode == RowErrorMode.FAIL) {
+                        if (!valid) {
+                            sink.violations(rowIndex, violations);
+                        }
+                        statements.add(buildInsert(tableDefinition, temporals, dialect, row));
+                        if (childRows != null) {
+                            for (int c = 0; c < children.size(); c++) {
+                                ChildTable child = children.get(c);
+                                for (Object[] childRow : childRows.get(c)) {
+                                    statements.add(buildInsert(child.definition, child.temporals, dialect, childRow));
+                                }
+                            }
+                        }
+                        if (timings != null) {
+                            timings.record(GenerationStage.FORMAT, start);
+                        }
+                    } else {
+                        errors = new ArrayList<>(violations.size());
+                        for (RowViolation violation : violations) {
+                            errors.add(violation.toString());
+                        }
+                    }
+                    if (timings != null) {
+                        timings.addRows(1);
+                    }
+                }
+            } catch (Exception e) {
+                if (mode == RowErrorMode.FAIL) {
+                    throw new JsonMappingException("Row " + rowIndex + ": " + e.getMessage(), e);
+                }
+                log.debug("Row {} could not be converted: {}", rowIndex, e.getMessage());
+                errors = List.of("Row " + rowIndex + ": " + e.getMessage());
+            }
+            
+            if (errors == null) {
+                sink.statement(rowIndex, statements.get(0));
+                for (int i = 1; i < statements.size(); i++) {
+                    sink.childStatement(rowIndex, statements.get(i));
+                }
+            } else {
+                sink.rejected(rowIndex, mode == RowErrorMode.REJECT
+                        ? (singleJson != null ? singleJson : jsonNode.toString()) : null, errors);
+            }
+            rowIndex++;
+        }
+        return rowIndex;
+    }
+    
+    /**
+     * Streams the statements of a row operation to the sink, like {@link #generateInserts}. UPSERT, UPDATE and
+     * DELETE select rows by their primary key: UPDATE only sets the columns that have a value in the record and
+     * DELETE only reads the key. With more than one row per statement, consecutive rows are combined into
+     * multi-row statements for {@link RowSink#multiRowStatement}, except for UPDATE, which is always one row per
+     * statement; an UPSERT statement never repeats a key. Rows are only validated against the columns the
+     * operation writes.
+     *
+     * @return the number of records read
+     * @throws IllegalArgumentException if the table does not support the operation, see {@link #checkOperation}
+     */
+    public int generateStatements(TableDefinition tableDefinition, Iterator<JsonNode> records, RowErrorMode mode,
+                                  SqlDialect dialect, RowOperation operation, int rowsPerStatement, RowSink sink) {
+        checkOperation(tableDefinition, operation, rowsPerStatement);
+        if (operation == RowOperation.INSERT && rowsPerStatement == 1) {
+            return generateInserts(tableDefinition, records, mode, dialect, sink);
+        }
+        
+        int[] keyIndexes = operation == RowOperation.INSERT ? null : keyIndexes(tableDefinition, operation);
+        boolean presentOnly = operation == RowOperation.UPDATE || operation == RowOperation.DELETE;
+        StageTimings timings = StageTimings.current();
+        RowValidator validator = mode != RowErrorMode.FAIL || sink.reportsViolations()
+                ? rowValidatorCache.getValidator(tableDefinition) : null;
+        ColumnTransform[] transforms = transformCache.getTransforms(tableDefinition);
+        TemporalFormat[] temporals = TemporalFormat.forColumns(tableDefinition.getColumns());
+        List<RowViolation> violations = new ArrayList<>();
+        PendingRows pending = new PendingRows(operation == RowOperation.UPDATE ? 1 : rowsPerStatement);
+        // Columns whose path is in the record, so an UPDATE can set an explicit JSON null
+        boolean[] present = operation == RowOperation.UPDATE ? new boolean[tableDefinition.getColumns().size()] : null;
+        int rowIndex = 0;
+        
+        while (records.hasNext()) {
+            JsonNode jsonNode = records.next();
+            String singleJson = null;
+            String[] values = null;
+            String key = null;
+            List<String> errors = null;
+            try {
+                long start = timings != null ? System.nanoTime() : 0L;
+                singleJson = objectMapper.writeValueAsString(jsonNode);
+                if (timings != null) {
+                    start = timings.record(GenerationStage.PARSE, start);
+                }
+                Object[] row = extractRawValues(tableDefinition, transforms, jsonPathExtractor.parse(singleJson),
+                        present);
+                if (timings != null) {
+                    start = timings.record(GenerationStage.EXTRACT, start);
+                }
+                if (validator != null) {
+                    violations.clear();
+                    boolean valid = presentOnly
+                            ? validator.validatePresent(rowIndex, row, violations)
+                            : validator.validate(rowIndex, row, violations);
+                    if (!valid && mode == RowErrorMode.FAIL) {
+                        sink.violations(rowIndex, violations);
+                    } else if (!valid) {
+                        errors = new ArrayList<>(violations.size());
+                        for (RowViolation violation : violations) {
+                            errors.add(violation.toString());
+                        }
+                    }
+                    if (timings != null) {
+                        start = timings.record(GenerationStage.VALIDATE, start);
+                    }
+                }
+                if (errors == null) {
+                    values = presentOnly
+                            ? formatKeyedValues(tableDefinition, keyIndexes, temporals, dialect, row, present)
+                            : formatValues(tableDefinition, temporals, dialect, row);
+                    if (keyIndexes != null) {
+                        key = keyPredicate(tableDefinition, keyIndexes, values);
+                        if (operation == RowOperation.UPDATE && !hasNonKeyValue(values, keyIndexes)) {
+                            throw new IllegalArgumentException("no column to update besides the primary key");
+                        }
+                    }
+                    if (timings != null) {
+                        timings.record(GenerationStage.FORMAT, start);
+                    }
+                }
+                if (timings != null) {
+                    timings.addRows(1);
+                }
+            } catch (Exception e) {
+                if (mode == RowErrorMode.FAIL) {
+                    throw new JsonMappingException("Row " + rowIndex + ": " + e.getMessage(), e);
+                }
+                log.debug("Row {} could not be converted: {}", rowIndex, e.getMessage());
+                errors = List.of("Row " + rowIndex + ": " + e.getMessage());
+            }
+            
+            if (errors != null) {
+                sink.rejected(rowIndex, mode == RowErrorMode.REJECT
+                        ? (singleJson != null ? singleJson : jsonNode.toString()) : null, errors);
+            } else {
+                // A key may only be written once per statement, or the database rejects the UPSERT
+                if (operation == RowOperation.UPSERT && pending.hasKey(key)) {
+                    flush(tableDefinition, operation, dialect, keyIndexes, pending, timings, sink);
+                }
+                pending.add(rowIndex, values, key);
+                if (pending.isFull()) {
+                    flush(tableDefinition, operation, dialect, keyIndexes, pending, timings, sink);
+                }
+            }
+            rowIndex++;
+        }
+        flush(tableDefinition, operation, dialect, keyIndexes, pending, timings, sink);
+        return rowIndex;
+    }
+    
+    /**
+     * Checks that the table supports the operation and rows per statement before any row is generated
+     *
+     * @throws IllegalArgumentException if the count is out of range, the operation needs a primary key the table
+     *                                  lacks, or the table has child tables and the statements are not one INSERT
+     *                                  per row
+     */
+    public static void checkOperation(TableDefinition tableDefinition, RowOperation operation, int rowsPerStatement) {
+        if (rowsPerStatement < 1 || rowsPerStatement > MAX_ROWS_PER_STATEMENT) {
+            throw new IllegalArgumentException("Rows per statement must be between 1 and " + MAX_ROWS_PER_STATEMENT
+                    + ", got " + rowsPerStatement);
+        }
+        if (operation == RowOperation.INSERT && rowsPerStatement == 1) {
+            return;
+        }
+        if (tableDefinition.hasChildTables()) {
+            throw new IllegalArgumentException(operation == RowOperation.INSERT
+                    ? "Multi-row statements do not support child tables"
+                    : operation + " does not support child tables");
+        }
+        if (operation != RowOperation.INSERT) {
+            keyIndexes(tableDefinition, operation);
+        }
+    }
+    
+    /**
+     * Indexes of the primary key columns an UPSERT, UPDATE or DELETE selects rows by
+     *
+     * @throws IllegalArgumentException if the table has no primary key that is present in the input
+     */
+    public static int[] keyIndexes(TableDefinition tableDefinition, RowOperation operation) {
+        List<ColumnDefinition> columns = tableDefinition.getColumns();
+        int[] indexes = new int[columns.size()];
+        int count = 0;
+        for (int i = 0; i < columns.size(); i++) {
+            ColumnDefinition column = columns.get(i);
+            if (Boolean.TRUE.equals(column.getPrimaryKey())) {
+                if (Boolean.TRUE.equals(column.getAutoIncrement())) {
+                    throw new IllegalArgumentException(operation + " cannot use auto-increment primary key column '"
+                            + column.getName() + "'; its value is not in the input");
+                }
+                indexes[count++] = i;
+            }
+        }
+        if (count == 0) {
+            throw new IllegalArgumentException(operation + " needs a primary key on table '"
+                    + tableDefinition.getTableName() + "'");
+        }
+        return Arrays.copyOf(indexes, count);
+    }
+    
+    /**
+     * Writes the pending rows as one statement, if there are any
+     */
+    private void flush(TableDefinition tableDefinition, RowOperation operation, SqlDialect dialect, int[] keyIndexes,
+                       PendingRows pending, StageTimings timings, RowSink sink) {
+        if (pending.rows.isEmpty()) {
+            return;
         }
+        long start = timings != null ? System.nanoTime() : 0L;
+        String sql;
+        switch (operation) {
+            case UPSERT:
+                sql = buildUpsert(tableDefinition, dialect, keyIndexes, pending.rows);
+                break;
+            case UPDATE:
+                sql = buildUpdate(tableDefinition, keyIndexes, pending.rows.get(0), pending.keys.get(0));
+                break;
+            case DELETE:
+                sql = buildDelete(tableDefinition, keyIndexes, pending.rows, pending.keys);
+                break;
+            default:
+                sql = pending.rows.size() == 1
+                        ? buildInsert(tableDefinition, pending.rows.get(0))
+                        : buildMultiRowInsert(tableDefinition, dialect, pending.rows);
+        }
+        if (timings != null) {
+            timings.record(GenerationStage.FORMAT, start);
+        }
+        if (pending.rows.size() == 1) {
+            sink.statement(pending.firstRowIndex, sql);
+        } else {
+            sink.multiRowStatement(pending.firstRowIndex, pending.rows.size(), sql);
+        }
+        pending.clear();
+    }
+    
+    /**
+     * Validates every child row of a record, reporting violations against "child[element].column"
+     */
+    private static boolean validateChildRows(int rowIndex, List<ChildTable> children, List<List<Object[]>> childRows,
+                                             List<RowViolation> violations) {
+        boolean valid = true;
+        List<RowViolation> childViolations = new ArrayList<>();
+        for (int c = 0; c < children.size(); c++) {
+            ChildTable child = children.get(c);
+            List<Object[]> rows = childRows.get(c);
+            for (int e = 0; e < rows.size(); e++) {
+                childViolations.clear();
+                if (!child.validator.validate(rowIndex, rows.get(e), childViolations)) {
+                    valid = false;
+                    for (RowViolation violation : childViolations) {
+                        violations.add(new RowViolation(rowIndex,
+                                child.definition.getTableName() + "[" + e + "]." + violation.getColumn(),
+                                violation.getMessage()));
+                    }
+                }
+            }
+        }
+        return valid;
+    }
+    
+    private static void commit(RowGenerationEvent event, TableDefinition tableDefinition, String jsonData,
+                               int rowCount, int failedRowCount) {
+        if (event.shouldCommit()) {
+            event.tableName = tableDefinition.getTableName();
+            event.rowCount = rowCount;
+            event.failedRowCount = failedRowCount;
+            event.bytesIn = GenerationMetrics.utf8Length(jsonData);
+            event.commit();
+        }
+    }
+    
+    /**
+     * Extracts the raw (pre-default) value of every column from the parsed record, in definition order, and
+     * applies column transforms. Auto-increment columns are never inserted, so they are left null.
+     */
+    private Object[] extractRawValues(TableDefinition tableDefinition, ColumnTransform[] transforms, Object document) {
+        return extractRawValues(tableDefinition, transforms, document, null);
+    }
+    
+    /**
+     * As {@link #extractRawValues(TableDefinition, ColumnTransform[], Object)}; if {@code present} is given, also
+     * records which columns' paths are in the record, including those holding an explicit JSON null
+     */
+    private Object[] extractRawValues(TableDefinition tableDefinition, ColumnTransform[] transforms, Object document,
+                                      boolean[] present) {
+        List<ColumnDefinition> columns = tableDefinition.getColumns();
+        Object[] row = new Object[columns.size()];
+        ColumnTransform.PathReader reader = transforms == null ? null
+                : path -> jsonPathExtractor.extractFromDocument(document, path).orElse(null);
+        for (int i = 0; i < row.length; i++) {
+            ColumnDefinition column = columns.get(i);
+            if (present != null) {
+                present[i] = false;
+            }
+            if (!column.getAutoIncrement()) {
+                if (present != null) {
+                    Object value = jsonPathExtractor.extractPresentValue(document, columnPath(column));
+                    present[i] = value != JsonPathExtractor.ABSENT;
+                    row[i] = present[i] ? value : null;
+                } else {
+                    row[i] = jsonPathExtractor.extractFromDocument(document, columnPath(column)).orElse(null);
+                }
+                if (transforms != null && transforms[i] != null) {
+                    row[i] = TransformCache.apply(transforms[i], column, row[i], reader);
+                }
+            }
+        }
+        return row;
+    }
+    
+    /**
+     * Generates the statements that bring a table loaded from the previous run's records up to date with
+     * these records: an INSERT for each new primary key, an UPDATE for each row whose content changed and,
+     * after the last record, a DELETE for each key that no longer appears. Unchanged rows only reach
+     * {@link RowSink#unchanged}. The store is updated in place; a row that is rejected keeps its previous
+     * fingerprint, so it is neither updated nor deleted. If generation fails part way, the store must be
+     * discarded rather than saved. A store built with another dialect is rejected, since its keys and hashes
+     * are dialect-formatted.
+     */
+    public DeltaResult generateDelta(TableDefinition tableDefinition, Iterator<JsonNode> records, RowErrorMode mode,
+                                     SqlDialect dialect, FingerprintStore store, RowSink sink) {
+        int[] keyIndexes = FingerprintStore.keyIndexes(tableDefinition);
+        store.useDialect(dialect);
+        StageTimings timings = StageTimings.current();
+        RowValidator validator = mode == RowErrorMode.FAIL ? null : rowValidatorCache.getValidator(tableDefinition);
+        ColumnTransform[] transforms = transformCache.getTransforms(tableDefinition);
+        TemporalFormat[] temporals = TemporalFormat.forColumns(tableDefinition.getColumns());
+        List<RowViolation> violations = new ArrayList<>();
+        DeltaResult result = new DeltaResult();
+        int rowIndex = 0;
         
-        return value;
+        while (records.hasNext()) {
+            JsonNode jsonNode = records.next();
+            String singleJson = null;
+            Object[] row = null;
+            List<String> errors = null;
+            String sql = null;
+            try {
+                long start = timings != null ? System.nanoTime() : 0L;
+                singleJson = objectMapper.writeValueAsString(jsonNode);
+                if (timings != null) {
+                    start = timings.record(GenerationStage.PARSE, start);
+                }
+                row = extractRawValues(tableDefinition, transforms, jsonPathExtractor.parse(singleJson));
+                if (timings != null) {
+                    start = timings.record(GenerationStage.EXTRACT, start);
+                }
+                if (validator != null) {
+                    violations.clear();
+                    if (!validator.validate(rowIndex, row, violations)) {
+                        errors = new ArrayList<>(violations.size());
+                        for (RowViolation violation : violations) {
+                            errors.add(violation.toString());
+                        }
+                    }
+                    if (timings != null) {
+                        start = timings.record(GenerationStage.VALIDATE, start);
+                    }
+                }
+                if (errors == null) {
+                    String[] values = formatValues(tableDefinition, temporals, dialect, row);
+                    String key = keyPredicate(tableDefinition, keyIndexes, values);
+                    FingerprintStore.Change change = store.put(key, contentHash(values, keyIndexes));
+                    result.count(change);
+                    if (change == FingerprintStore.Change.INSERT) {
+                        sql = buildInsert(tableDefinition, values);
+                    } else if (change == FingerprintStore.Change.UPDATE) {
+                        sql = buildUpdate(tableDefinition, keyIndexes, values, key);
+                    }
+                    if (timings != null) {
+                        timings.record(GenerationStage.FORMAT, start);
+                    }
+                }
+                if (timings != null) {
+                    timings.addRows(1);
+                }
+            } catch (Exception e) {
+                if (validator == null) {
+                    throw new JsonMappingException("Row " + rowIndex + ": " + e.getMessage(), e);
+                }
+                log.debug("Row {} could not be converted: {}", rowIndex, e.getMessage());
+                errors = List.of("Row " + rowIndex + ": " + e.getMessage());
+            }
+            
+            if (errors != null) {
+                String key = row != null ? rejectedRowKey(tableDefinition, keyIndexes, temporals, dialect, row) : null;
+                if (key != null) {
+                    store.touch(key);
+                }
+                sink.rejected(rowIndex, mode == RowErrorMode.REJECT
+                        ? (singleJson != null ? singleJson : jsonNode.toString()) : null, errors);
+            } else if (sql != null) {
+                sink.statement(rowIndex, sql);
+            } else {
+                sink.unchanged(rowIndex);
+            }
+            rowIndex++;
+        }
+        
+        String tableName = qualifiedTableName(tableDefinition);
+        result.setDeleted(store.removeUnseen(key -> sink.trailingStatement("DELETE FROM " + tableName + " WHERE "
+                + key + ";")));
+        return result;
+    }
+    
+    /**
+     * The WHERE condition that selects a row by its primary key, e.g. {@code "id" = 42 AND "region" = 'EU'}
+     */
+    private String keyPredicate(TableDefinition tableDefinition, int[] keyIndexes, String[] values) {
+        StringBuilder predicate = new StringBuilder();
+        for (int index : keyIndexes) {
+            String name = tableDefinition.getColumns().get(index).getName();
+            if ("NULL".equals(values[index])) {
+                throw new IllegalArgumentException("primary key column '" + name + "' has no value");
+            }
+            if (predicate.length() > 0) {
+                predicate.append(" AND ");
+            }
+            predicate.append(sqlEscapeUtil.escapeIdentifier(name)).append(" = ").append(values[index]);
+        }
+        return predicate.toString();
+    }
+    
+    /**
+     * The key of a row that failed validation, or null if the key itself is missing or cannot be formatted
+     */
+    private String rejectedRowKey(TableDefinition tableDefinition, int[] keyIndexes, TemporalFormat[] temporals,
+                                  SqlDialect dialect, Object[] row) {
+        String[] values = new String[row.length];
+        try {
+            for (int index : keyIndexes) {
+                ColumnDefinition column = tableDefinition.getColumns().get(index);
+                values[index] = formatValue(column, temporals != null ? temporals[index] : null, dialect, row[index]);
+            }
+            return keyPredicate(tableDefinition, keyIndexes, values);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+    
+    private static long contentHash(String[] values, int[] keyIndexes) {
+        String[] content = values.clone();
+        for (int index : keyIndexes) {
+            content[index] = "";
+        }
+        for (int i = 0; i < content.length; i++) {
+            if (content[i] == null) {
+                // Auto-increment column
+                content[i] = "";
+            }
+        }
+        return FingerprintStore.contentHash(content);
+    }
+    
+    /**
+     * Builds an UPDATE of every non-key column of a row that has a value, selected by its key predicate
+     */
+    private String buildUpdate(TableDefinition tableDefinition, int[] keyIndexes, String[] values, String key) {
+        StringBuilder sql = new StringBuilder("UPDATE ").append(qualifiedTableName(tableDefinition)).append(" SET ");
+        List<ColumnDefinition> columns = tableDefinition.getColumns();
+        boolean first = true;
+        for (int i = 0; i < columns.size(); i++) {
+            if (values[i] == null || isKey(keyIndexes, i)) {
+                continue;
+            }
+            if (!first) {
+                sql.append(", ");
+            }
+            sql.append(sqlEscapeUtil.escapeIdentifier(columns.get(i).getName())).append(" = ").append(values[i]);
+            first = false;
+        }
+        return sql.append(" WHERE ").append(key).append(';').toString();
+    }
+    
+    private static boolean hasNonKeyValue(String[] values, int[] keyIndexes) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null && !isKey(keyIndexes, i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static boolean isKey(int[] keyIndexes, int index) {
+        for (int keyIndex : keyIndexes) {
+            if (keyIndex == index) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Builds an INSERT statement from raw values extracted by {@link #extractRawValues},
+     * applying column defaults for missing values
+     */
+    private String buildInsert(TableDefinition tableDefinition, TemporalFormat[] temporals, SqlDialect dialect,
+                               Object[] row) {
+        return buildInsert(tableDefinition, formatValues(tableDefinition, temporals, dialect, row));
+    }
+    
+    /**
+     * Formats each column's value as a SQL literal, applying column defaults for missing values.
+     * Auto-increment columns are left null.
+     */
+    private String[] formatValues(TableDefinition tableDefinition, TemporalFormat[] temporals, SqlDialect dialect,
+                                  Object[] row) {
+        List<ColumnDefinition> columns = tableDefinition.getColumns();
+        String[] values = new String[columns.size()];
+        for (int i = 0; i < values.length; i++) {
+            ColumnDefinition column = columns.get(i);
+            if (!column.getAutoIncrement()) {
+                values[i] = formatValue(column, temporals != null ? temporals[i] : null, dialect, row[i]);
+            }
+        }
+        return values;
+    }
+    
+    /**
+     * Formats the key columns and, for an UPDATE ({@code present} given), the other columns that are in the record;
+     * the rest are left null. Missing values get no default, so an UPDATE leaves those columns as they are, while an
+     * explicit JSON null sets the column to NULL.
+     *
+     * @throws IllegalArgumentException if an UPDATE sets a NOT NULL column to null
+     */
+    private String[] formatKeyedValues(TableDefinition tableDefinition, int[] keyIndexes, TemporalFormat[] temporals,
+                                       SqlDialect dialect, Object[] row, boolean[] present) {
+        List<ColumnDefinition> columns = tableDefinition.getColumns();
+        String[] values = new String[columns.size()];
+        for (int i = 0; i < values.length; i++) {
+            ColumnDefinition column = columns.get(i);
+            if (isKey(keyIndexes, i) || (present != null && row[i] != null)) {
+                values[i] = formatValue(column, temporals != null ? temporals[i] : null, dialect, row[i]);
+            } else if (present != null && present[i]) {
+                if (Boolean.FALSE.equals(column.getNullable())) {
+                    throw new IllegalArgumentException("column '" + column.getName() + "' is NOT NULL and cannot be"
+                            + " set to null");
+                }
+                values[i] = "NULL";
+            }
+        }
+        return values;
+    }
+    
+    private String formatValue(ColumnDefinition column, TemporalFormat temporal, SqlDialect dialect, Object rawValue) {
+        Object value = rawValue != null ? rawValue : column.getDefaultValue();
+        if (temporal != null && value != null) {
+            return formatTemporal(column, temporal, dialect, value, rawValue == null);
+        }
+        return sqlEscapeUtil.formatValueForType(value, column.getType());
+    }
+    
+    private String qualifiedTableName(TableDefinition tableDefinition) {
+        String schema = tableDefinition.getSchema();
+        return schema != null && !schema.isEmpty()
+                ? sqlEscapeUtil.escapeIdentifier(schema) + "." + sqlEscapeUtil.escapeIdentifier(tableDefinition.getTableName())
+                : sqlEscapeUtil.escapeIdentifier(tableDefinition.getTableName());
+    }
+    
+    /**
+     * Builds an INSERT statement from formatted values (excluding auto-increment columns)
+     */
+    private String buildInsert(TableDefinition tableDefinition, String[] formattedValues) {
+        StringBuilder sql = new StringBuilder();
+        String fullTableName = qualifiedTableName(tableDefinition);
+        
+        List<String> columnNames = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        List<ColumnDefinition> columns = tableDefinition.getColumns();
+        for (int i = 0; i < columns.size(); i++) {
+            if (formattedValues[i] != null) {
+                columnNames.add(sqlEscapeUtil.escapeIdentifier(columns.get(i).getName()));
+                values.add(formattedValues[i]);
+            }
+        }
+        
+        sql.append("INSERT INTO ").append(fullTableName).append(" (");
+        sql.append(String.join(", ", columnNames));
+        sql.append(") VALUES (");
+        sql.append(String.join(", ", values));
+        sql.append(");");
+        
+        return sql.toString();
+    }
+    
+    /**
+     * Builds one INSERT of several rows: a multi-row VALUES list, or on Oracle an INSERT ... SELECT of one
+     * SELECT FROM DUAL per row
+     */
+    private String buildMultiRowInsert(TableDefinition tableDefinition, SqlDialect dialect, List<String[]> rows) {
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(qualifiedTableName(tableDefinition))
+                .append(" (").append(String.join(", ", columnNames(tableDefinition, rows.get(0)))).append(")");
+        if (dialect == SqlDialect.ORACLE) {
+            appendSelectFromDual(sql.append(' '), null, rows);
+        } else {
+            appendValues(sql.append(" VALUES "), rows);
+        }
+        return sql.append(';').toString();
+    }
+    
+    /**
+     * Builds an insert-or-update of one or more rows keyed on the primary key: INSERT ... ON CONFLICT DO UPDATE
+     * on PostgreSQL, INSERT ... ON DUPLICATE KEY UPDATE on MySQL and MERGE elsewhere. Every non-key column
+     * that is inserted is also updated.
+     */
+    private String buildUpsert(TableDefinition tableDefinition, SqlDialect dialect, int[] keyIndexes,
+                               List<String[]> rows) {
+        List<ColumnDefinition> columns = tableDefinition.getColumns();
+        String[] first = rows.get(0);
+        List<String> names = columnNames(tableDefinition, first);
+        List<String> keyNames = new ArrayList<>(keyIndexes.length);
+        for (int index : keyIndexes) {
+            keyNames.add(sqlEscapeUtil.escapeIdentifier(columns.get(index).getName()));
+        }
+        List<String> updated = new ArrayList<>();
+        for (int i = 0; i < columns.size(); i++) {
+            if (first[i] != null && !isKey(keyIndexes, i)) {
+                updated.add(sqlEscapeUtil.escapeIdentifier(columns.get(i).getName()));
+            }
+        }
+        
+        String tableName = qualifiedTableName(tableDefinition);
+        StringBuilder sql = new StringBuilder();
+        switch (dialect) {
+            case POSTGRESQL:
+                appendValues(sql.append("INSERT INTO ").append(tableName).append(" (").append(String.join(", ", names))
+                        .append(") VALUES "), rows);
+                sql.append(" ON CONFLICT (").append(String.join(", ", keyNames)).append(')');
+                if (updated.isEmpty()) {
+                    sql.append(" DO NOTHING");
+                } else {
+                    sql.append(" DO UPDATE SET ").append(assignments(updated, "EXCLUDED.", ""));
+                }
+                break;
+            case MYSQL:
+                appendValues(sql.append("INSERT INTO ").append(tableName).append(" (").append(String.join(", ", names))
+                        .append(") VALUES "), rows);
+                // Row alias rather than VALUES(col), which MySQL 8.0.20 deprecates; needs MySQL 8.0.19 or later.
+                // A key-only row still needs an assignment; setting the key to itself changes nothing.
+                sql.append(" AS new ON DUPLICATE KEY UPDATE ").append(updated.isEmpty()
+                        ? keyNames.get(0) + " = " + keyNames.get(0)
+                        : assignments(updated, "new.", ""));
+                break;
+            default:
+                sql.append("MERGE INTO ").append(tableName);
+                if (dialect == SqlDialect.ORACLE) {
+                    // Oracle takes no AS before a table alias and has no VALUES table constructor
+                    appendSelectFromDual(sql.append(" t USING ("), names, rows);
+                    sql.append(") s ON (");
+                } else {
+                    appendValues(sql.append(" AS t USING (VALUES "), rows);
+                    sql.append(") AS s (").append(String.join(", ", names)).append(") ON (");
+                }
+                for (int k = 0; k < keyNames.size(); k++) {
+                    if (k > 0) {
+                        sql.append(" AND ");
+                    }
+                    sql.append("t.").append(keyNames.get(k)).append(" = s.").append(keyNames.get(k));
+                }
+                sql.append(')');
+                if (!updated.isEmpty()) {
+                    sql.append(" WHEN MATCHED THEN UPDATE SET ").append(assignments(updated, "s.", ""));
+                }
+                sql.append(" WHEN NOT MATCHED THEN INSERT (").append(String.join(", ", names)).append(") VALUES (");
+                for (int i = 0; i < names.size(); i++) {
+                    sql.append(i > 0 ? ", s." : "s.").append(names.get(i));
+                }
+                sql.append(')');
+        }
+        return sql.append(';').toString();
+    }
+    
+    /**
+     * Builds a DELETE of one or more rows by key: a single-column key is matched with IN, a composite key
+     * with one condition per row
+     */
+    private String buildDelete(TableDefinition tableDefinition, int[] keyIndexes, List<String[]> rows,
+                               List<String> keys) {
+        StringBuilder sql = new StringBuilder("DELETE FROM ").append(qualifiedTableName(tableDefinition))
+                .append(" WHERE ");
+        if (rows.size() == 1) {
+            sql.append(keys.get(0));
+        } else if (keyIndexes.length == 1) {
+            int index = keyIndexes[0];
+            sql.append(sqlEscapeUtil.escapeIdentifier(tableDefinition.getColumns().get(index).getName()))
+                    .append(" IN (");
+            for (int r = 0; r < rows.size(); r++) {
+                sql.append(r > 0 ? ", " : "").append(rows.get(r)[index]);
+            }
+            sql.append(')');
+        } else {
+            for (int r = 0; r < keys.size(); r++) {
+                sql.append(r > 0 ? "\nOR (" : "(").append(keys.get(r)).append(')');
+            }
+        }
+        return sql.append(';').toString();
+    }
+    
+    /**
+     * Escaped names of the columns that have a value; auto-increment columns have none
+     */
+    private List<String> columnNames(TableDefinition tableDefinition, String[] values) {
+        List<ColumnDefinition> columns = tableDefinition.getColumns();
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < columns.size(); i++) {
+            if (values[i] != null) {
+                names.add(sqlEscapeUtil.escapeIdentifier(columns.get(i).getName()));
+            }
+        }
+        return names;
+    }
+    
+    /**
+     * Appends each row's values as a parenthesized list, one row per line
+     */
+    private static void appendValues(StringBuilder sql, List<String[]> rows) {
+        for (int r = 0; r < rows.size(); r++) {
+            sql.append(r > 0 ? ",\n(" : "(");
+            appendRowValues(sql, rows.get(r));
+            sql.append(')');
+        }
+    }
+    
+    /**
+     * Appends one SELECT ... FROM DUAL per row joined by UNION ALL, naming the columns in the first if given
+     */
+    private static void appendSelectFromDual(StringBuilder sql, List<String> names, List<String[]> rows) {
+        for (int r = 0; r < rows.size(); r++) {
+            sql.append(r > 0 ? "\nUNION ALL SELECT " : "SELECT ");
+            String[] values = rows.get(r);
+            int column = 0;
+            for (String value : values) {
+                if (value != null) {
+                    sql.append(column > 0 ? ", " : "").append(value);
+                    if (r == 0 && names != null) {
+                        sql.append(" AS ").append(names.get(column));
+                    }
+                    column++;
+                }
+            }
+            sql.append(" FROM DUAL");
+        }
+    }
+    
+    private static void appendRowValues(StringBuilder sql, String[] values) {
+        boolean first = true;
+        for (String value : values) {
+            if (value != null) {
+                sql.append(first ? "" : ", ").append(value);
+                first = false;
+            }
+        }
+    }
+    
+    /**
+     * {@code "c" = <prefix>"c"<suffix>} for each column, comma-separated
+     */
+    private static String assignments(List<String> names, String prefix, String suffix) {
+        StringBuilder assignments = new StringBuilder();
+        for (String name : names) {
+            if (assignments.length() > 0) {
+                assignments.append(", ");
+            }
+            assignments.append(name).append(" = ").append(prefix).append(name).append(suffix);
+        }
+        return assignments.toString();
+    }
+    
+    /**
+     * Formats a DATE or TIMESTAMP value for the dialect. A value that does not parse is an error if the
+     * column names a format; otherwise, and for defaults such as CURRENT_TIMESTAMP, it is written as before.
+     */
+    private String formatTemporal(ColumnDefinition column, TemporalFormat format, SqlDialect dialect, Object value,
+                                  boolean isDefault) {
+        Temporal temporal = format.parse(value);
+        if (temporal != null) {
+            return format.toSql(temporal, dialect);
+        }
+        if (format.isExplicit() && !isDefault) {
+            throw new IllegalArgumentException("Value '" + value + "' of column '" + column.getName()
+                    + "' does not match format '" + format.getFormat() + "'");
+        }
+        return sqlEscapeUtil.formatValueForType(value, column.getType());
+    }
+    
+    private static String columnPath(ColumnDefinition column) {
+        // If jsonPath is specified, use it; otherwise, try to extract by column name directly
+        return column.getJsonPath() != null && !column.getJsonPath().trim().isEmpty()
+                ? column.getJsonPath()
+                : column.getName();
+    }
+    
+    /**
+     * Formatted rows waiting to be combined into one statement, with their key predicates
+     */
+    private static final class PendingRows {
+        private final int capacity;
+        private final List<String[]> rows = new ArrayList<>();
+        private final List<String> keys = new ArrayList<>(); // Null entries for INSERT
+        private final Set<String> keySet = new HashSet<>();
+        private int firstRowIndex;
+        
+        private PendingRows(int capacity) {
+            this.capacity = capacity;
+        }
+        
+        void add(int rowIndex, String[] values, String key) {
+            if (rows.isEmpty()) {
+                firstRowIndex = rowIndex;
+            }
+            rows.add(values);
+            keys.add(key);
+            if (key != null) {
+                keySet.add(key);
+            }
+        }
+        
+        boolean hasKey(String key) {
+            return keySet.contains(key);
+        }
+        
+        boolean isFull() {
+            return rows.size() >= capacity;
+        }
+        
+        void clear() {
+            rows.clear();
+            keys.clear();
+            keySet.clear();
+        }
+    }
+    
+    /**
+     * A child table resolved against its parent once per generation call
+     */
+    private static final class ChildTable {
+        private final TableDefinition definition;
+        private final String arrayPath;
+        private final int[] parentKeyIndexes; // Parent column index of each copied key
+        private final String[] parentKeyDefaults; // Parent column default, applied before copying
+        private final RowValidator validator; // Null when rows are not validated
+        private final ColumnTransform[] transforms; // Null when no child column has a transform
+        private final TemporalFormat[] temporals; // Null when the child has no DATE or TIMESTAMP column
+        
+        private ChildTable(TableDefinition definition, String arrayPath, int[] parentKeyIndexes,
+                           String[] parentKeyDefaults, RowValidator validator, ColumnTransform[] transforms) {
+            this.definition = definition;
+            this.arrayPath = arrayPath;
+            this.parentKeyIndexes = parentKeyIndexes;
+            this.parentKeyDefaults = parentKeyDefaults;
+            this.validator = validator;
+            this.transforms = transforms;
+            this.temporals = TemporalFormat.forColumns(definition.getColumns());
+        }
+        
+        /**
+         * Resolves the definition's child tables; validators are only compiled when a cache is passed
+         */
+        static List<ChildTable> resolve(TableDefinition parent, RowValidatorCache validators,
+                                        TransformCache transformCache) {
+            if (!parent.hasChildTables()) {
+                return Collections.emptyList();
+            }
+            List<ColumnDefinition> parentColumns = parent.getColumns();
+            List<ChildTable> children = new ArrayList<>(parent.getChildTables().size());
+            for (ChildTableDefinition child : parent.getChildTables()) {
+                TableDefinition definition = child.toTableDefinition(parent);
+                int[] indexes = new int[child.getParentKeys().size()];
+                String[] defaults = new String[indexes.length];
+                for (int k = 0; k < indexes.length; k++) {
+                    ColumnDefinition key = parent.getColumn(child.getParentKeys().get(k));
+                    indexes[k] = parentColumns.indexOf(key);
+                    defaults[k] = key.getDefaultValue();
+                }
+                children.add(new ChildTable(definition, child.getArrayPath(), indexes, defaults,
+                        validators != null ? validators.getValidator(parent.getTableName(), definition) : null,
+                        transformCache.getTransforms(parent.getTableName(), definition)));
+            }
+            return children;
+        }
     }
 }
@@ -0,0 +1,83 @@
+package com.yourcompany.jsontosql.generator;
+
+import com.yourcompany.jsontosql.model.ColumnDefinition;
+import com.yourcompany.jsontosql.model.TableDefinition;
+import com.yourcompany.jsontosql.transform.ColumnTransform;
+import com.yourcompany.jsontosql.util.JsonPathExtractor;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Reads the values of a few key columns from a record, after column transforms, for ordering and routing
+ * records before generation. Values of numeric columns (and JSON numbers) become BigDecimal, others their
+ * text; missing values are null.
+ */
+class RecordKeyReader {
+    
+    private static final Set<String> NUMERIC_TYPES = Set.of("TINYINT", "SMALLINT", "INT", "INTEGER", "MEDIUMINT",
+            "BIGINT", "DECIMAL", "NUMERIC", "NUMBER", "FLOAT", "DOUBLE", "DOUBLE PRECISION", "REAL");
+    
+    private final JsonPathExtractor jsonPathExtractor;
+    private final ColumnDefinition[] columns;
+    private final ColumnTransform[] transforms;
+    private final boolean[] numeric;
+    
+    RecordKeyReader(JsonPathExtractor jsonPathExtractor, TableDefinition tableDefinition, int[] keyIndexes,
+                    ColumnTransform[] allTransforms) {
+        this.jsonPathExtractor = jsonPathExtractor;
+        columns = new ColumnDefinition[keyIndexes.length];
+        transforms = new ColumnTransform[keyIndexes.length];
+        numeric = new boolean[keyIndexes.length];
+        for (int i = 0; i < keyIndexes.length; i++) {
+            columns[i] = tableDefinition.getColumns().get(keyIndexes[i]);
+            transforms[i] = allTransforms != null ? allTransforms[keyIndexes[i]] : null;
+            numeric[i] = isNumeric(columns[i]);
+        }
+    }
+    
+    Comparable<?>[] read(String json) {
+        Object document = jsonPathExtractor.parse(json);
+        Comparable<?>[] key = new Comparable<?>[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            ColumnDefinition column = columns[i];
+            String path = column.getJsonPath() != null && !column.getJsonPath().trim().isEmpty()
+                    ? column.getJsonPath()
+                    : column.getName();
+            Object value = jsonPathExtractor.extractFromDocument(document, path).orElse(null);
+            if (transforms[i] != null) {
+                try {
+                    value = transforms[i].apply(value,
+                            p -> jsonPathExtractor.extractFromDocument(document, p).orElse(null));
+                } catch (RuntimeException e) {
+                    // Generation reports the failure against the row; treat it like a missing key
+                    value = null;
+                }
+            }
+            key[i] = keyPart(value, numeric[i]);
+        }
+        return key;
+    }
+    
+    private static Comparable<?> keyPart(Object value, boolean numericColumn) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Number || numericColumn) {
+            try {
+                return new BigDecimal(value.toString().trim());
+            } catch (NumberFormatException e) {
+                // Not a number after all; use the text
+            }
+        }
+        return value.toString();
+    }
+    
+    static boolean isNumeric(ColumnDefinition column) {
+        String type = column.getType() == null ? "" : column.getType().trim().toUpperCase(Locale.ROOT);
+        int paren = type.indexOf('(');
+        String baseType = (paren >= 0 ? type.substring(0, paren) : type).trim();
+        return NUMERIC_TYPES.contains(baseType.replace(" UNSIGNED", ""));
+    }
+}
@@ -0,0 +1,209 @@
+package com.yourcompany.jsontosql.generator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourcompany.jsontosql.model.ColumnDefinition;
+import com.yourcompany.jsontosql.model.TableDefinition;
+import com.yourcompany.jsontosql.transform.TransformCache;
+import com.yourcompany.jsontosql.util.JsonPathExtractor;
+import com.yourcompany.jsontosql.util.JsonRecordReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Splits batch records into N partitions by a hash of the primary key columns (or one chosen column), so the
+ * scripts generated from the partitions can be loaded by parallel sessions without touching the same keys.
+ *
+ * Records are routed in one pass to an NDJSON temp file per partition; each partition is then read back on
+ * its own. A key always lands in the same partition for the same N, whatever the input order.
+ */
+@Component
+public class RecordPartitioner {
+    
+    public static final int MAX_PARTITIONS = 64;
+    
+    private static final int IO_BUFFER_SIZE = 1 << 16;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    
+    private final JsonPathExtractor jsonPathExtractor;
+    private final TransformCache transformCache;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Path tempDirectory;
+    
+    public RecordPartitioner(JsonPathExtractor jsonPathExtractor, TransformCache transformCache,
+                             @Value("${app.partition.temp-dir:${java.io.tmpdir}}") String tempDirectory) {
+        this.jsonPathExtractor = jsonPathExtractor;
+        this.transformCache = transformCache;
+        this.tempDirectory = Paths.get(tempDirectory);
+    }
+    
+    /**
+     * Indexes of the columns records are routed by: {@code partitionBy} if given, otherwise the primary key
+     *
+     * @throws IllegalArgumentException if the column is unknown or the table has no usable key
+     */
+    public static int[] keyIndexes(TableDefinition tableDefinition, String partitionBy) {
+        List<ColumnDefinition> columns = tableDefinition.getColumns();
+        int[] indexes = new int[columns.size()];
+        int count = 0;
+        for (int i = 0; i < columns.size(); i++) {
+            ColumnDefinition column = columns.get(i);
+            boolean selected = partitionBy != null && !partitionBy.trim().isEmpty()
+                    ? column.getName().equalsIgnoreCase(partitionBy.trim())
+                    : Boolean.TRUE.equals(column.getPrimaryKey());
+            if (selected) {
+                if (Boolean.TRUE.equals(column.getAutoIncrement())) {
+                    throw new IllegalArgumentException("Cannot partition by auto-increment column '"
+                            + column.getName() + "'; its value is not in the input");
+                }
+                indexes[count++] = i;
+            }
+        }
+        if (count == 0) {
+            throw new IllegalArgumentException(partitionBy != null && !partitionBy.trim().isEmpty()
+                    ? "Unknown partition column '" + partitionBy + "' in table '" + tableDefinition.getTableName() + "'"
+                    : "Partitioning needs a primary key on table '" + tableDefinition.getTableName()
+                            + "' or a partitionBy column");
+        }
+        return Arrays.copyOf(indexes, count);
+    }
+    
+    /**
+     * @throws IllegalArgumentException if the partition count is out of range
+     */
+    public static void checkPartitionCount(int partitions) {
+        if (partitions < 1 || partitions > MAX_PARTITIONS) {
+            throw new IllegalArgumentException("Partition count must be between 1 and " + MAX_PARTITIONS
+                    + ", got " + partitions);
+        }
+    }
+    
+    /**
+     * Routes every record to its partition. The caller must close the result to remove the temp files.
+     */
+    public Partitions split(TableDefinition tableDefinition, String partitionBy, int partitions,
+                            Iterator<JsonNode> records) throws IOException {
+        checkPartitionCount(partitions);
+        RecordKeyReader keyReader = new RecordKeyReader(jsonPathExtractor, tableDefinition,
+                keyIndexes(tableDefinition, partitionBy), transformCache.getTransforms(tableDefinition));
+        Partitions result = new Partitions(partitions);
+        Writer[] writers = new Writer[partitions];
+        try {
+            for (int i = 0; i < partitions; i++) {
+                result.files[i] = Files.createTempFile(tempDirectory, "json-to-sql-partition", ".ndjson");
+                writers[i] = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(result.files[i]),
+                        StandardCharsets.UTF_8), IO_BUFFER_SIZE);
+            }
+            while (records.hasNext()) {
+                String json = objectMapper.writeValueAsString(records.next());
+                int partition = partitionOf(keyReader.read(json), partitions);
+                writers[partition].write(json);
+                writers[partition].write('\n');
+                result.rowCounts[partition]++;
+            }
+            closeAll(writers);
+            return result;
+        } catch (IOException | RuntimeException e) {
+            closeQuietly(writers);
+            result.close();
+            throw e;
+        }
+    }
+    
+    /**
+     * Partition of a key: a 64-bit FNV-1a hash of its values, so equal numbers (1 and 1.0) and equal text
+     * always map to the same partition
+     */
+    static int partitionOf(Comparable<?>[] key, int partitions) {
+        long hash = FNV_OFFSET;
+        for (Comparable<?> part : key) {
+            String text = part == null ? "" : part instanceof BigDecimal
+                    ? ((BigDecimal) part).stripTrailingZeros().toPlainString()
+                    : part.toString();
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                hash = (hash ^ (c & 0xff)) * FNV_PRIME;
+                hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+            }
+            hash = (hash ^ (part == null ? 0x1e : 0x1f)) * FNV_PRIME;
+        }
+        return (int) Math.floorMod(hash ^ (hash >>> 32), (long) partitions);
+    }
+    
+    private static void closeAll(Writer[] writers) throws IOException {
+        for (int i = 0; i < writers.length; i++) {
+            writers[i].close();
+            writers[i] = null;
+        }
+    }
+    
+    private static void closeQuietly(Writer[] writers) {
+        for (Writer writer : writers) {
+            if (writer != null) {
+                try {
+                    writer.close();
+                } catch (IOException e) {
+                    // The temp files are deleted next
+                }
+            }
+        }
+    }
+    
+    /**
+     * Records split into partitions; closing removes the temp files
+     */
+    public final class Partitions implements Closeable {
+        private final Path[] files;
+        private final int[] rowCounts;
+        
+        private Partitions(int partitions) {
+            this.files = new Path[partitions];
+            this.rowCounts = new int[partitions];
+        }
+        
+        public int getCount() {
+            return files.length;
+        }
+        
+        public int getRowCount(int partition) {
+            return rowCounts[partition];
+        }
+        
+        /**
+         * Reads the records of one partition back in input order
+         */
+        public JsonRecordReader open(int partition) throws IOException {
+            return new JsonRecordReader(objectMapper,
+                    new BufferedInputStream(Files.newInputStream(files[partition]), IO_BUFFER_SIZE));
+        }
+        
+        @Override
+        public void close() {
+            for (Path file : files) {
+                if (file != null) {
+                    try {
+                        Files.deleteIfExists(file);
+                    } catch (IOException e) {
+                        // Temp files; nothing more to do
+                    }
+                }
+            }
+        }
+    }
+}
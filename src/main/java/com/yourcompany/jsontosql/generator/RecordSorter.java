@@ -0,0 +1,417 @@
+package com.yourcompany.jsontosql.generator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourcompany.jsontosql.exception.JsonMappingException;
+import com.yourcompany.jsontosql.model.ColumnDefinition;
+import com.yourcompany.jsontosql.model.TableDefinition;
+import com.yourcompany.jsontosql.transform.TransformCache;
+import com.yourcompany.jsontosql.util.JsonPathExtractor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+/**
+ * Reorders batch records by the table's primary key, so rows reach the database in clustered-index order, or
+ * groups them by the table partition they belong to.
+ *
+ * Records are buffered until their estimated size passes the memory budget; each full buffer is sorted and
+ * spilled to a temp file as a run, and the runs are read back through a k-way merge. Input that fits in the
+ * budget never touches disk. Records with equal keys keep their input order. Keys of numeric columns compare
+ * as numbers, other keys as text; missing keys sort first.
+ */
+@Component
+public class RecordSorter {
+    
+    private static final int MAX_MERGE_WIDTH = 64; // Runs open at once; more runs are merged in passes
+    private static final int ENTRY_OVERHEAD_BYTES = 96; // Rough heap cost of a buffered record beyond its JSON
+    private static final int IO_BUFFER_SIZE = 1 << 16;
+    
+    private static final byte KEY_NULL = 0;
+    private static final byte KEY_NUMBER = 1;
+    private static final byte KEY_TEXT = 2;
+    
+    private final JsonPathExtractor jsonPathExtractor;
+    private final TransformCache transformCache;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final long memoryBudgetBytes;
+    private final Path tempDirectory;
+    
+    public RecordSorter(JsonPathExtractor jsonPathExtractor, TransformCache transformCache,
+                        @Value("${app.sort.memory-budget-bytes:67108864}") long memoryBudgetBytes,
+                        @Value("${app.sort.temp-dir:${java.io.tmpdir}}") String tempDirectory) {
+        this.jsonPathExtractor = jsonPathExtractor;
+        this.transformCache = transformCache;
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        this.tempDirectory = Paths.get(tempDirectory);
+    }
+    
+    /**
+     * Indexes of the primary key columns records are sorted by
+     *
+     * @throws IllegalArgumentException if the table has no primary key that is present in the input
+     */
+    public static int[] keyIndexes(TableDefinition tableDefinition) {
+        List<ColumnDefinition> columns = tableDefinition.getColumns();
+        int[] indexes = new int[columns.size()];
+        int count = 0;
+        for (int i = 0; i < columns.size(); i++) {
+            ColumnDefinition column = columns.get(i);
+            if (Boolean.TRUE.equals(column.getPrimaryKey())) {
+                if (Boolean.TRUE.equals(column.getAutoIncrement())) {
+                    throw new IllegalArgumentException("Cannot sort by auto-increment primary key column '"
+                            + column.getName() + "'; its value is not in the input");
+                }
+                indexes[count++] = i;
+            }
+        }
+        if (count == 0) {
+            throw new IllegalArgumentException("Sorting by primary key needs a primary key on table '"
+                    + tableDefinition.getTableName() + "'");
+        }
+        return Arrays.copyOf(indexes, count);
+    }
+    
+    /**
+     * Reads every record and returns them in primary key order. The caller must close the result to remove
+     * any spilled runs.
+     */
+    public SortedRecords sort(TableDefinition tableDefinition, Iterator<JsonNode> records) throws IOException {
+        int[] keyIndexes = keyIndexes(tableDefinition);
+        RecordKeyReader keyReader = new RecordKeyReader(jsonPathExtractor, tableDefinition, keyIndexes,
+                transformCache.getTransforms(tableDefinition));
+        return sort(records, keyReader::read, keyIndexes.length);
+    }
+    
+    /**
+     * Reads every record and returns them grouped by the table partition ({@link TablePartitions}) they belong
+     * to, in partition order, so a load hits one partition at a time. Rows no partition takes come last.
+     * Within a partition rows are in primary key order if {@code byPrimaryKey} is set, otherwise in input order.
+     */
+    public SortedRecords sortByPartition(TableDefinition tableDefinition, Iterator<JsonNode> records,
+                                         boolean byPrimaryKey) throws IOException {
+        TablePartitions partitions = TablePartitions.of(tableDefinition);
+        int[] primaryKey = byPrimaryKey ? keyIndexes(tableDefinition) : new int[0];
+        int[] keyIndexes = new int[primaryKey.length + 1];
+        keyIndexes[0] = partitions.getColumnIndex();
+        System.arraycopy(primaryKey, 0, keyIndexes, 1, primaryKey.length);
+        RecordKeyReader keyReader = new RecordKeyReader(jsonPathExtractor, tableDefinition, keyIndexes,
+                transformCache.getTransforms(tableDefinition));
+        return sort(records, json -> {
+            Comparable<?>[] key = keyReader.read(json);
+            key[0] = BigDecimal.valueOf(partitions.partitionOf(key[0]));
+            return key;
+        }, keyIndexes.length);
+    }
+    
+    private SortedRecords sort(Iterator<JsonNode> records, Function<String, Comparable<?>[]> keyOf, int keyLength)
+            throws IOException {
+        List<Entry> buffer = new ArrayList<>();
+        List<Path> runs = new ArrayList<>();
+        try {
+            long bufferedBytes = 0;
+            while (records.hasNext()) {
+                String json = objectMapper.writeValueAsString(records.next());
+                buffer.add(new Entry(keyOf.apply(json), json));
+                bufferedBytes += json.length() * 2L + ENTRY_OVERHEAD_BYTES;
+                if (bufferedBytes > memoryBudgetBytes) {
+                    runs.add(spill(buffer));
+                    buffer.clear();
+                    bufferedBytes = 0;
+                }
+            }
+            if (runs.isEmpty()) {
+                buffer.sort(ENTRY_ORDER);
+                return new SortedRecords(buffer.iterator(), null, List.of());
+            }
+            if (!buffer.isEmpty()) {
+                runs.add(spill(buffer));
+                buffer.clear();
+            }
+            while (runs.size() > MAX_MERGE_WIDTH) {
+                runs = mergePass(runs, keyLength);
+            }
+            return new SortedRecords(null, new RunMerger(runs, keyLength), runs);
+        } catch (IOException | RuntimeException e) {
+            deleteAll(runs);
+            throw e;
+        }
+    }
+    
+    /**
+     * Sorts the buffer and writes it to a new run file
+     */
+    private Path spill(List<Entry> buffer) throws IOException {
+        buffer.sort(ENTRY_ORDER);
+        Path run = Files.createTempFile(tempDirectory, "json-to-sql-sort", ".run");
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(run), IO_BUFFER_SIZE))) {
+            for (Entry entry : buffer) {
+                writeEntry(out, entry);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(run);
+            throw e;
+        }
+        return run;
+    }
+    
+    /**
+     * Merges consecutive groups of runs into single runs, keeping input order between groups so equal keys
+     * stay stable
+     */
+    private List<Path> mergePass(List<Path> runs, int keyLength) throws IOException {
+        List<Path> merged = new ArrayList<>();
+        try {
+            for (int from = 0; from < runs.size(); from += MAX_MERGE_WIDTH) {
+                List<Path> group = runs.subList(from, Math.min(from + MAX_MERGE_WIDTH, runs.size()));
+                Path run = Files.createTempFile(tempDirectory, "json-to-sql-sort", ".run");
+                merged.add(run);
+                try (RunMerger merger = new RunMerger(group, keyLength);
+                     DataOutputStream out = new DataOutputStream(
+                             new BufferedOutputStream(Files.newOutputStream(run), IO_BUFFER_SIZE))) {
+                    while (merger.hasNext()) {
+                        writeEntry(out, merger.next());
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            deleteAll(merged);
+            throw e;
+        }
+        deleteAll(runs);
+        return merged;
+    }
+    
+    private static void writeEntry(DataOutputStream out, Entry entry) throws IOException {
+        for (Comparable<?> part : entry.key) {
+            if (part == null) {
+                out.writeByte(KEY_NULL);
+            } else {
+                out.writeByte(part instanceof BigDecimal ? KEY_NUMBER : KEY_TEXT);
+                writeString(out, part.toString());
+            }
+        }
+        writeString(out, entry.json);
+    }
+    
+    private static Entry readEntry(DataInputStream in, int keyLength) throws IOException {
+        Comparable<?>[] key = new Comparable<?>[keyLength];
+        for (int i = 0; i < keyLength; i++) {
+            byte tag;
+            try {
+                tag = in.readByte();
+            } catch (EOFException e) {
+                if (i == 0) {
+                    return null;
+                }
+                throw e;
+            }
+            if (tag == KEY_NUMBER) {
+                key[i] = new BigDecimal(readString(in));
+            } else if (tag == KEY_TEXT) {
+                key[i] = readString(in);
+            }
+        }
+        return new Entry(key, readString(in));
+    }
+    
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+    
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    private static void deleteAll(List<Path> runs) {
+        for (Path run : runs) {
+            try {
+                Files.deleteIfExists(run);
+            } catch (IOException e) {
+                // Temp files; nothing more to do
+            }
+        }
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareKeys(Comparable[] a, Comparable[] b) {
+        for (int i = 0; i < a.length; i++) {
+            int rankA = rank(a[i]);
+            int rankB = rank(b[i]);
+            int result = rankA != rankB ? Integer.compare(rankA, rankB)
+                    : (rankA == KEY_NULL ? 0 : a[i].compareTo(b[i]));
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+    
+    private static int rank(Object part) {
+        return part == null ? KEY_NULL : (part instanceof BigDecimal ? KEY_NUMBER : KEY_TEXT);
+    }
+    
+    private static final Comparator<Entry> ENTRY_ORDER = (a, b) -> compareKeys(a.key, b.key);
+    
+    private static final class Entry {
+        private final Comparable<?>[] key;
+        private final String json;
+        
+        Entry(Comparable<?>[] key, String json) {
+            this.key = key;
+            this.json = json;
+        }
+    }
+    
+    /**
+     * Reads one run file entry at a time
+     */
+    private static final class RunReader {
+        private final DataInputStream in;
+        private final int keyLength;
+        private final int order; // Position of the run in input order; breaks ties between equal keys
+        private Entry current;
+        
+        RunReader(Path run, int keyLength, int order) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run), IO_BUFFER_SIZE));
+            this.keyLength = keyLength;
+            this.order = order;
+        }
+        
+        boolean advance() throws IOException {
+            current = readEntry(in, keyLength);
+            return current != null;
+        }
+    }
+    
+    /**
+     * K-way merge of sorted runs
+     */
+    private final class RunMerger implements Iterator<Entry>, Closeable {
+        private final List<RunReader> readers = new ArrayList<>();
+        private final PriorityQueue<RunReader> heads;
+        
+        RunMerger(List<Path> runs, int keyLength) throws IOException {
+            heads = new PriorityQueue<>(Math.max(runs.size(), 1), (a, b) -> {
+                int result = compareKeys(a.current.key, b.current.key);
+                return result != 0 ? result : Integer.compare(a.order, b.order);
+            });
+            try {
+                for (int i = 0; i < runs.size(); i++) {
+                    RunReader reader = new RunReader(runs.get(i), keyLength, i);
+                    readers.add(reader);
+                    if (reader.advance()) {
+                        heads.add(reader);
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return !heads.isEmpty();
+        }
+        
+        @Override
+        public Entry next() {
+            RunReader head = heads.poll();
+            if (head == null) {
+                throw new NoSuchElementException();
+            }
+            Entry entry = head.current;
+            try {
+                if (head.advance()) {
+                    heads.add(head);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return entry;
+        }
+        
+        @Override
+        public void close() {
+            for (RunReader reader : readers) {
+                try {
+                    reader.in.close();
+                } catch (IOException e) {
+                    // Read-only temp file
+                }
+            }
+        }
+    }
+    
+    /**
+     * Sorted records; closing removes the spilled runs
+     */
+    public final class SortedRecords implements Iterator<JsonNode>, Closeable {
+        private final Iterator<Entry> entries;
+        private final RunMerger merger;
+        private final List<Path> runs;
+        
+        private SortedRecords(Iterator<Entry> inMemory, RunMerger merger, List<Path> runs) {
+            this.entries = inMemory != null ? inMemory : merger;
+            this.merger = merger;
+            this.runs = runs;
+        }
+        
+        /**
+         * Number of runs spilled to disk and merged; 0 when the input fitted in the memory budget
+         */
+        public int getRunCount() {
+            return runs.size();
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return entries.hasNext();
+        }
+        
+        @Override
+        public JsonNode next() {
+            String json = entries.next().json;
+            try {
+                return objectMapper.readTree(json);
+            } catch (IOException e) {
+                throw new JsonMappingException("Invalid JSON in sorted run: " + e.getMessage(), e);
+            }
+        }
+        
+        @Override
+        public void close() {
+            if (merger != null) {
+                merger.close();
+            }
+            deleteAll(runs);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.yourcompany.jsontosql.generator;
+
+import com.yourcompany.jsontosql.validation.RowViolation;
+
+import java.util.List;
+
+/**
+ * Receives the result of each row as statements are generated one record at a time
+ */
+public interface RowSink {
+    
+    /**
+     * Called with the INSERT (or other row operation) statement generated for a row
+     */
+    void statement(int rowIndex, String sql);
+    
+    /**
+     * Called instead of {@link #statement} with a statement that covers {@code rowCount} rows, the first of them
+     * {@code firstRowIndex}. Rows rejected in between are reported on their own. Sinks that count rows override
+     * this; by default it is handled like a single statement.
+     */
+    default void multiRowStatement(int firstRowIndex, int rowCount, String sql) {
+        statement(firstRowIndex, sql);
+    }
+    
+    /**
+     * Called after {@link #statement} for each child-table INSERT generated from the same row
+     */
+    void childStatement(int rowIndex, String sql);
+    
+    /**
+     * Called for a row that failed validation or conversion. {@code rowJson} is only passed in REJECT mode.
+     */
+    void rejected(int rowIndex, String rowJson, List<String> errors);
+    
+    /**
+     * Whether rows are validated in FAIL mode too, so that their problems reach {@link #violations} while the
+     * rows are still generated. Other modes always validate; by default FAIL mode does not.
+     */
+    default boolean reportsViolations() {
+        return false;
+    }
+    
+    /**
+     * Called in FAIL mode, before its statements, with the validation problems of a row that is still generated
+     */
+    default void violations(int rowIndex, List<RowViolation> violations) {
+    }
+    
+    /**
+     * Called for a row that needs no statement, such as an unchanged row in a delta run
+     */
+    default void unchanged(int rowIndex) {
+    }
+    
+    /**
+     * Called after the last row for statements that do not come from any row, such as the DELETEs of a delta run
+     */
+    void trailingStatement(String sql);
+}
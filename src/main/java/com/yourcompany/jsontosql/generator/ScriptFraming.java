@@ -0,0 +1,166 @@
+package com.yourcompany.jsontosql.generator;
+
+import com.yourcompany.jsontosql.model.SqlDialect;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * Transaction and session statements wrapped around the generated rows of a script.
+ *
+ * With a transaction size the rows are committed at the first row boundary after N statements; a transactional
+ * framing without a size puts all rows in one transaction. Load settings add a dialect-specific preamble and
+ * postamble that speed up bulk loading, such as deferring constraint checks; dialects without such settings get none.
+ */
+public final class ScriptFraming {
+    
+    private static final ScriptFraming NONE = new ScriptFraming(SqlDialect.STANDARD, false, 0, false);
+    
+    private final SqlDialect dialect;
+    
+    private final boolean transactional;
+    
+    private final int transactionSize; // Statements per transaction; 0 for a single transaction
+    
+    private final boolean loadSettings;
+    
+    private ScriptFraming(SqlDialect dialect, boolean transactional, int transactionSize, boolean loadSettings) {
+        this.dialect = dialect;
+        this.transactional = transactional;
+        this.transactionSize = transactionSize;
+        this.loadSettings = loadSettings;
+    }
+    
+    /**
+     * Bare statements, left to the client's commit behaviour
+     */
+    public static ScriptFraming none() {
+        return NONE;
+    }
+    
+    /**
+     * @param transactionSize statements per transaction, or 0 to leave the rows unframed
+     * @param loadSettings    whether to add the dialect's bulk-load preamble and postamble
+     */
+    public static ScriptFraming of(SqlDialect dialect, int transactionSize, boolean loadSettings) {
+        checkTransactionSize(transactionSize);
+        return new ScriptFraming(dialect, transactionSize > 0, transactionSize, loadSettings);
+    }
+    
+    /**
+     * @throws IllegalArgumentException if the size is negative
+     */
+    public static void checkTransactionSize(int transactionSize) {
+        if (transactionSize < 0) {
+            throw new IllegalArgumentException("Transaction size must not be negative, got " + transactionSize);
+        }
+    }
+    
+    /**
+     * The same framing, with the rows in at least one transaction
+     */
+    public ScriptFraming transactional() {
+        return transactional ? this : new ScriptFraming(dialect, true, transactionSize, loadSettings);
+    }
+    
+    public boolean isTransactional() {
+        return transactional;
+    }
+    
+    public int getTransactionSize() {
+        return transactionSize;
+    }
+    
+    /**
+     * Session settings written before the first row
+     */
+    public List<String> preamble() {
+        if (!loadSettings) {
+            return List.of();
+        }
+        switch (dialect) {
+            case MYSQL:
+                return List.of("SET autocommit = 0;", "SET unique_checks = 0;", "SET foreign_key_checks = 0;");
+            case POSTGRESQL:
+                return List.of("SET synchronous_commit = off;");
+            case ORACLE:
+                return List.of("ALTER SESSION SET CONSTRAINTS = DEFERRED;");
+            default:
+                return List.of();
+        }
+    }
+    
+    /**
+     * Session settings written after the last commit, restoring the defaults
+     */
+    public List<String> postamble() {
+        if (!loadSettings) {
+            return List.of();
+        }
+        switch (dialect) {
+            case MYSQL:
+                // Turning autocommit back on also commits anything still open
+                return List.of("SET foreign_key_checks = 1;", "SET unique_checks = 1;", "SET autocommit = 1;");
+            case POSTGRESQL:
+                return List.of("RESET synchronous_commit;");
+            case ORACLE:
+                return List.of("ALTER SESSION SET CONSTRAINTS = IMMEDIATE;");
+            default:
+                return List.of();
+        }
+    }
+    
+    /**
+     * Statements that open a transaction. Oracle opens one implicitly; PostgreSQL defers deferrable
+     * constraints per transaction when load settings are on.
+     */
+    public List<String> begin() {
+        switch (dialect) {
+            case POSTGRESQL:
+                return loadSettings ? List.of("BEGIN;", "SET CONSTRAINTS ALL DEFERRED;") : List.of("BEGIN;");
+            case ORACLE:
+                return List.of();
+            default:
+                return List.of("START TRANSACTION;");
+        }
+    }
+    
+    public String commit() {
+        return "COMMIT;";
+    }
+    
+    /**
+     * Wraps already generated row statements into a new list: preamble, the rows in transactions of the
+     * configured size, then postamble. Like {@link ScriptWriter}, a full transaction is only committed before
+     * a statement that starts a new row, so a row's child-table inserts stay in its transaction.
+     *
+     * @param continuesRow whether the statement at an index belongs to the same row as the one before it
+     */
+    public List<String> apply(List<String> statements, IntPredicate continuesRow) {
+        List<String> framed = new ArrayList<>(preamble());
+        boolean inTransaction = false;
+        int transactionStatements = 0;
+        for (int i = 0; i < statements.size(); i++) {
+            if (transactional) {
+                if (inTransaction && transactionSize > 0 && transactionStatements >= transactionSize
+                        && !continuesRow.test(i)) {
+                    framed.add(commit());
+                    inTransaction = false;
+                }
+                if (!inTransaction) {
+                    framed.addAll(begin());
+                    inTransaction = true;
+                    transactionStatements = 0;
+                }
+                transactionStatements++;
+            }
+            framed.add(statements.get(i));
+        }
+        if (inTransaction) {
+            framed.add(commit());
+        }
+        framed.addAll(postamble());
+        return framed;
+    }
+}
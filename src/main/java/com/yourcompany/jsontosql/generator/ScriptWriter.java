@@ -0,0 +1,206 @@
+package com.yourcompany.jsontosql.generator;
+
+import com.yourcompany.jsontosql.metrics.GenerationMetrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes a SQL script statement by statement as rows are generated, instead of collecting it in memory.
+ *
+ * Rows dropped in SKIP and REJECT mode are reported in place as SQL comments, so the script stays runnable.
+ * Row statements are wrapped in the transactions of the {@link ScriptFraming}, opened with the first row and
+ * committed at row boundaries, so a row's child-table inserts stay in its transaction. Write failures are
+ * rethrown as UncheckedIOException.
+ */
+public class ScriptWriter implements RowSink {
+    
+    private static final String SEPARATOR = "\n\n";
+    
+    private final Writer out;
+    
+    private final ScriptFraming framing;
+    
+    private boolean inTransaction;
+    
+    private int transactionStatements; // Statements written in the open transaction
+    
+    private int rowCount;
+    
+    private int failedRowCount;
+    
+    private int statementCount;
+    
+    private long bytesWritten;
+    
+    public ScriptWriter(Writer out) {
+        this(out, ScriptFraming.none());
+    }
+    
+    public ScriptWriter(Writer out, ScriptFraming framing) {
+        this.out = out;
+        this.framing = framing;
+    }
+    
+    /**
+     * Writes the framing's session preamble; call after any DDL and before the first row
+     */
+    public void begin() {
+        for (String sql : framing.preamble()) {
+            writeControl(sql);
+        }
+    }
+    
+    /**
+     * Writes a statement that does not correspond to an input row, such as the CREATE TABLE
+     */
+    public void write(String sql) {
+        statementCount++;
+        append(sql);
+        append(SEPARATOR);
+    }
+    
+    @Override
+    public void statement(int rowIndex, String sql) {
+        rowCount++;
+        frame(true);
+        write(sql);
+    }
+    
+    @Override
+    public void multiRowStatement(int firstRowIndex, int rowCount, String sql) {
+        this.rowCount += rowCount;
+        frame(true);
+        write(sql);
+    }
+    
+    @Override
+    public void childStatement(int rowIndex, String sql) {
+        frame(false);
+        write(sql);
+    }
+    
+    @Override
+    public void unchanged(int rowIndex) {
+        rowCount++;
+    }
+    
+    @Override
+    public void trailingStatement(String sql) {
+        frame(true);
+        write(sql);
+    }
+    
+    @Override
+    public void rejected(int rowIndex, String rowJson, List<String> errors) {
+        rowCount++;
+        failedRowCount++;
+        for (String error : errors) {
+            append(comment(error));
+        }
+        if (rowJson != null) {
+            append(comment("Rejected: " + rowJson));
+        }
+        append("\n");
+    }
+    
+    /**
+     * Writes a single-line comment into the script
+     */
+    public void writeComment(String text) {
+        append(comment(text));
+    }
+    
+    /**
+     * Commits the open transaction, writes the framing's postamble and a closing summary line when rows were
+     * dropped
+     */
+    public void finish() {
+        finish(List.of());
+    }
+    
+    /**
+     * Like {@link #finish()}, writing the given post-load statements, such as CREATE INDEX, after the postamble
+     */
+    public void finish(List<String> postLoad) {
+        if (inTransaction) {
+            writeControl(framing.commit());
+            inTransaction = false;
+        }
+        for (String sql : framing.postamble()) {
+            writeControl(sql);
+        }
+        for (String sql : postLoad) {
+            write(sql);
+        }
+        if (failedRowCount > 0) {
+            append(comment("Skipped " + failedRowCount + " of " + rowCount + " rows"));
+        }
+    }
+    
+    /**
+     * Formats text as a single-line SQL comment, including the trailing newline
+     */
+    public static String comment(String text) {
+        // Messages can quote input values; a line break would end the comment and leak them into the script
+        return "-- " + (text == null ? "" : text.replace('\r', ' ').replace('\n', ' ')) + "\n";
+    }
+    
+    /**
+     * Opens a transaction before a statement, committing first if the open one is full and the statement
+     * starts a new row
+     */
+    private void frame(boolean rowBoundary) {
+        if (!framing.isTransactional()) {
+            return;
+        }
+        if (inTransaction && rowBoundary && framing.getTransactionSize() > 0
+                && transactionStatements >= framing.getTransactionSize()) {
+            writeControl(framing.commit());
+            inTransaction = false;
+        }
+        if (!inTransaction) {
+            for (String sql : framing.begin()) {
+                writeControl(sql);
+            }
+            inTransaction = true;
+            transactionStatements = 0;
+        }
+        transactionStatements++;
+    }
+    
+    /**
+     * Writes a transaction or session statement; these are not counted as script statements
+     */
+    private void writeControl(String sql) {
+        append(sql);
+        append(SEPARATOR);
+    }
+    
+    private void append(String text) {
+        try {
+            out.write(text);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        bytesWritten += GenerationMetrics.utf8Length(text);
+    }
+    
+    public int getRowCount() {
+        return rowCount;
+    }
+    
+    public int getFailedRowCount() {
+        return failedRowCount;
+    }
+    
+    public int getStatementCount() {
+        return statementCount;
+    }
+    
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+}
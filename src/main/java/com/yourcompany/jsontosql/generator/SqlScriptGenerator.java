@@ -1,22 +1,58 @@
 package com.yourcompany.jsontosql.generator;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourcompany.jsontosql.delta.DeltaResult;
+import com.yourcompany.jsontosql.delta.FingerprintStore;
+import com.yourcompany.jsontosql.exception.JsonMappingException;
+import com.yourcompany.jsontosql.metrics.GenerationStage;
+import com.yourcompany.jsontosql.metrics.StageTimings;
+import com.yourcompany.jsontosql.model.RowErrorMode;
+import com.yourcompany.jsontosql.model.RowOperation;
+import com.yourcompany.jsontosql.model.ScriptOptions;
+import com.yourcompany.jsontosql.model.SqlDialect;
 import com.yourcompany.jsontosql.model.SqlGenerationRequest;
 import com.yourcompany.jsontosql.model.SqlGenerationResponse;
 import com.yourcompany.jsontosql.model.TableDefinition;
+import com.yourcompany.jsontosql.util.JsonRecordReader;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 @Component
 public class SqlScriptGenerator {
     
     private final InsertStatementGenerator insertStatementGenerator;
+    private final DdlCache ddlCache;
     private final DdlGenerator ddlGenerator;
+    private final RecordSorter recordSorter;
+    private final RecordPartitioner recordPartitioner;
+    private final ObjectMapper objectMapper = new ObjectMapper();
     
-    public SqlScriptGenerator(InsertStatementGenerator insertStatementGenerator, DdlGenerator ddlGenerator) {
+    public SqlScriptGenerator(InsertStatementGenerator insertStatementGenerator, DdlCache ddlCache,
+                              DdlGenerator ddlGenerator, RecordSorter recordSorter,
+                              RecordPartitioner recordPartitioner) {
         this.insertStatementGenerator = insertStatementGenerator;
+        this.ddlCache = ddlCache;
         this.ddlGenerator = ddlGenerator;
+        this.recordSorter = recordSorter;
+        this.recordPartitioner = recordPartitioner;
+    }
+    
+    /**
+     * Output made of several named scripts, such as the entries of a zip archive
+     */
+    @FunctionalInterface
+    public interface ScriptEntries {
+        /**
+         * Starts the named script and returns the writer for it; the previous script is complete
+         */
+        Writer next(String name) throws IOException;
     }
     
     /**
@@ -25,22 +61,82 @@ public class SqlScriptGenerator {
     public SqlGenerationResponse generateScript(SqlGenerationRequest request, TableDefinition tableDefinition) {
         List<String> statements = new ArrayList<>();
         List<String> warnings = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        List<String> rejectedRows = null;
+        
+        StageTimings timings = StageTimings.current();
+        SqlDialect dialect = SqlDialect.fromString(request.getDialect());
         
         // Generate DDL if requested
-        if (request.getIncludeDdl() != null && request.getIncludeDdl()) {
-            statements.add(ddlGenerator.generateCreateTable(tableDefinition));
+        boolean includeDdl = request.getIncludeDdl() != null && request.getIncludeDdl();
+        boolean rebuildIndexes = Boolean.TRUE.equals(request.getRebuildIndexes());
+        if (includeDdl || rebuildIndexes) {
+            long start = timings != null ? System.nanoTime() : 0L;
+            statements.addAll(preLoadDdl(tableDefinition, dialect, includeDdl, rebuildIndexes));
+            if (timings != null) {
+                timings.record(GenerationStage.ASSEMBLE, start);
+            }
         }
         
-        // Generate INSERT statements
+        // Generate INSERT statements, or the statements of another row operation. Rows are validated as they
+        // are generated: bad rows are dropped and reported in the lenient modes, and in FAIL mode type, length
+        // and precision violations surface as warnings so they are not first found by the database.
+        int ddlCount = statements.size();
+        RowOperation operation = RowOperation.fromString(request.getOperation());
+        int rowsPerStatement = request.getRowsPerStatement() != null ? request.getRowsPerStatement() : 1;
+        InsertStatementGenerator.checkOperation(tableDefinition, operation, rowsPerStatement);
+        boolean oneInsertPerRow = operation == RowOperation.INSERT && rowsPerStatement == 1;
+        BatchResult batch;
         if (request.getBatchMode() != null && request.getBatchMode()) {
-            List<String> inserts = insertStatementGenerator.generateBatchInserts(tableDefinition, request.getJsonData());
-            statements.addAll(inserts);
+            RowErrorMode rowErrorMode = RowErrorMode.fromString(request.getOnRowError());
+            boolean groupByPartition = Boolean.TRUE.equals(request.getGroupByPartition());
+            boolean sortByPrimaryKey = Boolean.TRUE.equals(request.getSortByPrimaryKey());
+            if (groupByPartition || sortByPrimaryKey || !oneInsertPerRow) {
+                batch = generateRows(tableDefinition, request.getJsonData(), rowErrorMode, dialect,
+                        operation, rowsPerStatement, groupByPartition, sortByPrimaryKey);
+            } else {
+                batch = insertStatementGenerator.generateBatchInserts(
+                        tableDefinition, request.getJsonData(), rowErrorMode, dialect);
+            }
+            if (batch.getFailedRowCount() > 0) {
+                warnings.add("Skipped " + batch.getFailedRowCount() + " of " + batch.getRowCount() + " rows");
+            }
+            if (rowErrorMode == RowErrorMode.REJECT) {
+                rejectedRows = batch.getRejectedRows();
+            }
+        } else if (oneInsertPerRow) {
+            batch = new BatchResult();
+            insertStatementGenerator.generateInsert(tableDefinition, request.getJsonData(), dialect, batch);
         } else {
-            statements.add(insertStatementGenerator.generateInsert(tableDefinition, request.getJsonData()));
+            batch = generateRows(tableDefinition, request.getJsonData(), RowErrorMode.FAIL, dialect,
+                    operation, 1, false, false);
         }
+        statements.addAll(batch.getStatements());
+        errors.addAll(batch.getErrors());
+        warnings.addAll(batch.getWarnings());
         
         // Combine into single script
-        String sqlScript = String.join("\n\n", statements);
+        long start = timings != null ? System.nanoTime() : 0L;
+        ScriptFraming framing = ScriptFraming.of(dialect,
+                request.getTransactionSize() != null ? request.getTransactionSize() : 0,
+                Boolean.TRUE.equals(request.getLoadSettings()));
+        // Transaction and session statements frame the script only; like ScriptWriter, they are not counted
+        List<String> script = statements;
+        if (framing.isTransactional() || Boolean.TRUE.equals(request.getLoadSettings())) {
+            script = new ArrayList<>(statements.subList(0, ddlCount));
+            script.addAll(framing.apply(batch.getStatements(), batch::continuesRow));
+        }
+        if (includeDdl || rebuildIndexes) {
+            List<String> indexes = ddlGenerator.generateCreateIndexes(tableDefinition, dialect);
+            statements.addAll(indexes);
+            if (script != statements) {
+                script.addAll(indexes);
+            }
+        }
+        String sqlScript = String.join("\n\n", script);
+        if (timings != null) {
+            timings.record(GenerationStage.ASSEMBLE, start);
+        }
         
         return SqlGenerationResponse.builder()
                 .sqlScript(sqlScript)
@@ -48,7 +144,212 @@ public class SqlScriptGenerator {
                 .tableName(tableDefinition.getTableName())
                 .statementCount(statements.size())
                 .warnings(warnings)
-                .errors(new ArrayList<>())
+                .errors(errors)
+                .rejectedRows(rejectedRows)
                 .build();
     }
+    
+    /**
+     * Streams a SQL script for the given rows to {@code out} as each statement is generated.
+     * Statements are written in the same layout as {@link #generateScript}; dropped rows become comments.
+     */
+    public ScriptWriter writeScript(TableDefinition tableDefinition, Iterator<JsonNode> rows, ScriptOptions options,
+                                    Writer out) throws IOException {
+        // Built up front so an unsupported index fails before any output
+        List<String> postLoad = postLoadDdl(tableDefinition, options);
+        ScriptWriter script = new ScriptWriter(out, framing(options));
+        try {
+            for (String ddl : preLoadDdl(tableDefinition, options)) {
+                script.write(ddl);
+            }
+            script.begin();
+            try (RecordSorter.SortedRecords sorted = sortIfRequested(tableDefinition, rows, options)) {
+                insertStatementGenerator.generateStatements(tableDefinition, sorted != null ? sorted : rows,
+                        options.getRowErrorMode(), options.getDialect(), options.getOperation(),
+                        options.getRowsPerStatement(), script);
+            }
+            script.finish(postLoad);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return script;
+    }
+    
+    /**
+     * Streams a delta script for the given rows: INSERT, UPDATE and DELETE statements for the rows that
+     * changed since the store was last saved, followed by a summary comment. See
+     * {@link InsertStatementGenerator#generateDelta}.
+     */
+    public ScriptWriter writeDelta(TableDefinition tableDefinition, Iterator<JsonNode> rows, ScriptOptions options,
+                                   FingerprintStore store, Writer out) throws IOException {
+        // Built up front so an unsupported index or a baseline from another dialect fails before any output
+        List<String> postLoad = postLoadDdl(tableDefinition, options);
+        store.useDialect(options.getDialect());
+        ScriptWriter script = new ScriptWriter(out, framing(options));
+        try {
+            for (String ddl : preLoadDdl(tableDefinition, options)) {
+                script.write(ddl);
+            }
+            script.begin();
+            DeltaResult delta;
+            try (RecordSorter.SortedRecords sorted = sortIfRequested(tableDefinition, rows, options)) {
+                delta = insertStatementGenerator.generateDelta(tableDefinition, sorted != null ? sorted : rows,
+                        options.getRowErrorMode(), options.getDialect(), store, script);
+            }
+            script.writeComment(delta.toString());
+            script.finish(postLoad);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return script;
+    }
+    
+    /**
+     * Splits the rows into {@code options.getPartitions()} scripts by a hash of the partition key and writes
+     * each as its own entry, in one transaction unless a transaction size is set, so the partitions can be loaded
+     * by parallel sessions. With DDL the CREATE TABLE statements come first, in a separate {@code <table>-ddl.sql}
+     * entry to run before the partitions; the CREATE INDEX statements come last, in {@code <table>-indexes.sql}
+     * to run once every partition is loaded. Row numbers in comments count rows within the partition.
+     *
+     * @return the DDL script, if any, one script per partition and the index script, if any
+     */
+    public List<ScriptWriter> writePartitions(TableDefinition tableDefinition, Iterator<JsonNode> rows,
+                                              ScriptOptions options, ScriptEntries entries) throws IOException {
+        String tableName = tableDefinition.getTableName();
+        SqlDialect dialect = options.getDialect();
+        ScriptFraming framing = framing(options).transactional();
+        List<String> postLoad = postLoadDdl(tableDefinition, options);
+        List<ScriptWriter> scripts = new ArrayList<>();
+        try (RecordPartitioner.Partitions partitions = split(tableDefinition, rows, options)) {
+            List<String> preLoad = preLoadDdl(tableDefinition, options);
+            if (!preLoad.isEmpty()) {
+                ScriptWriter ddl = new ScriptWriter(entries.next(tableName + "-ddl.sql"));
+                for (String statement : preLoad) {
+                    ddl.write(statement);
+                }
+                scripts.add(ddl);
+            }
+            for (int i = 0; i < partitions.getCount(); i++) {
+                ScriptWriter script = new ScriptWriter(entries.next(partitionName(tableName, i, partitions.getCount())),
+                        framing);
+                script.writeComment("Partition " + (i + 1) + " of " + partitions.getCount() + ": "
+                        + partitions.getRowCount(i) + " rows");
+                script.begin();
+                try (JsonRecordReader records = partitions.open(i);
+                     RecordSorter.SortedRecords sorted = sortIfRequested(tableDefinition, records, options)) {
+                    insertStatementGenerator.generateStatements(tableDefinition, sorted != null ? sorted : records,
+                            options.getRowErrorMode(), dialect, options.getOperation(), options.getRowsPerStatement(),
+                            script);
+                }
+                script.finish();
+                scripts.add(script);
+            }
+            if (!postLoad.isEmpty()) {
+                ScriptWriter indexes = new ScriptWriter(entries.next(tableName + "-indexes.sql"));
+                for (String statement : postLoad) {
+                    indexes.write(statement);
+                }
+                scripts.add(indexes);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return scripts;
+    }
+    
+    /**
+     * Entry name of a partition script, numbered from 1 and padded so the names sort in order
+     */
+    static String partitionName(String tableName, int partition, int partitions) {
+        return String.format("%s-part-%0" + String.valueOf(partitions).length() + "d.sql", tableName, partition + 1);
+    }
+    
+    /**
+     * Batch statements of the row operation for the rows of a JSON array (or single object), optionally grouped
+     * by table partition and/or in primary key order
+     */
+    private BatchResult generateRows(TableDefinition tableDefinition, String jsonData, RowErrorMode mode,
+                                     SqlDialect dialect, RowOperation operation, int rowsPerStatement,
+                                     boolean byPartition, boolean byPrimaryKey) {
+        JsonNode rootNode;
+        try {
+            rootNode = objectMapper.readTree(jsonData);
+        } catch (IOException e) {
+            throw new JsonMappingException("Invalid JSON batch: " + e.getMessage(), e);
+        }
+        Iterator<JsonNode> records = rootNode.isArray() ? rootNode.elements() : List.of(rootNode).iterator();
+        BatchResult batch = new BatchResult();
+        try (RecordSorter.SortedRecords sorted = byPartition || byPrimaryKey
+                ? sort(tableDefinition, records, byPartition, byPrimaryKey) : null) {
+            insertStatementGenerator.generateStatements(tableDefinition, sorted != null ? sorted : records, mode,
+                    dialect, operation, rowsPerStatement, batch);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to sort batch rows", e);
+        }
+        return batch;
+    }
+    
+    /**
+     * The rows grouped by table partition and/or in primary key order when the options ask for it, otherwise null
+     */
+    private RecordSorter.SortedRecords sortIfRequested(TableDefinition tableDefinition, Iterator<JsonNode> rows,
+                                                       ScriptOptions options) throws IOException {
+        return options.isGroupByPartition() || options.isSortByPrimaryKey()
+                ? sort(tableDefinition, rows, options.isGroupByPartition(), options.isSortByPrimaryKey())
+                : null;
+    }
+    
+    private RecordSorter.SortedRecords sort(TableDefinition tableDefinition, Iterator<JsonNode> rows,
+                                            boolean byPartition, boolean byPrimaryKey) throws IOException {
+        StageTimings timings = StageTimings.current();
+        long start = timings != null ? System.nanoTime() : 0L;
+        RecordSorter.SortedRecords sorted = byPartition
+                ? recordSorter.sortByPartition(tableDefinition, rows, byPrimaryKey)
+                : recordSorter.sort(tableDefinition, rows);
+        if (timings != null) {
+            timings.record(GenerationStage.SORT, start);
+        }
+        return sorted;
+    }
+    
+    private RecordPartitioner.Partitions split(TableDefinition tableDefinition, Iterator<JsonNode> rows,
+                                               ScriptOptions options) throws IOException {
+        StageTimings timings = StageTimings.current();
+        long start = timings != null ? System.nanoTime() : 0L;
+        RecordPartitioner.Partitions partitions = recordPartitioner.split(tableDefinition, options.getPartitionBy(),
+                options.getPartitions(), rows);
+        if (timings != null) {
+            timings.record(GenerationStage.SORT, start);
+        }
+        return partitions;
+    }
+    
+    private static ScriptFraming framing(ScriptOptions options) {
+        return ScriptFraming.of(options.getDialect(), options.getTransactionSize(), options.isLoadSettings());
+    }
+    
+    /**
+     * Statements before the rows: the CREATE TABLEs with DDL, otherwise DROP INDEX when rebuilding indexes of
+     * the existing table. A new table has no indexes to drop.
+     */
+    private List<String> preLoadDdl(TableDefinition tableDefinition, SqlDialect dialect, boolean includeDdl,
+                                    boolean rebuildIndexes) {
+        if (includeDdl) {
+            return ddlCache.getCreateTables(tableDefinition, dialect);
+        }
+        return rebuildIndexes ? ddlGenerator.generateDropIndexes(tableDefinition, dialect) : List.of();
+    }
+    
+    private List<String> preLoadDdl(TableDefinition tableDefinition, ScriptOptions options) {
+        return preLoadDdl(tableDefinition, options.getDialect(), options.isIncludeDdl(), options.isRebuildIndexes());
+    }
+    
+    /**
+     * Statements after the rows: the CREATE INDEXes, when the table was created or its indexes dropped
+     */
+    private List<String> postLoadDdl(TableDefinition tableDefinition, ScriptOptions options) {
+        return options.isIncludeDdl() || options.isRebuildIndexes()
+                ? ddlGenerator.generateCreateIndexes(tableDefinition, options.getDialect())
+                : List.of();
+    }
 }
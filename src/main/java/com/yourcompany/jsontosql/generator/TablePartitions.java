@@ -0,0 +1,262 @@
+package com.yourcompany.jsontosql.generator;
+
+import com.yourcompany.jsontosql.model.ColumnDefinition;
+import com.yourcompany.jsontosql.model.PartitionDefinition;
+import com.yourcompany.jsontosql.model.PartitionType;
+import com.yourcompany.jsontosql.model.PartitioningDefinition;
+import com.yourcompany.jsontosql.model.SqlDialect;
+import com.yourcompany.jsontosql.model.TableDefinition;
+import com.yourcompany.jsontosql.util.TemporalFormat;
+
+import java.math.BigDecimal;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The range or list partitions of a table, with their bounds and values parsed for the partition column's type:
+ * numbers for numeric columns, dates and timestamps in the column's format, text otherwise.
+ *
+ * Used to write the partition literals of the DDL and to find the partition a row belongs to, so a load can be
+ * grouped to hit one partition at a time. Temporal values are compared by their SQL text, which orders them
+ * correctly unless they carry different offsets.
+ */
+public final class TablePartitions {
+    
+    private final PartitioningDefinition partitioning;
+    private final String tableName;
+    private final int columnIndex;
+    private final boolean numeric;
+    private final TemporalFormat temporalFormat; // Null unless the column is a DATE, DATETIME or TIMESTAMP
+    private final List<List<Object>> values; // Per partition: the upper bound or the list values, parsed
+    private final List<List<Comparable<Object>>> keys; // The same values in comparable form
+    private final int defaultPartition; // LIST partition without values, or -1
+    
+    private TablePartitions(TableDefinition tableDefinition, int columnIndex) {
+        this.partitioning = tableDefinition.getPartitioning();
+        this.tableName = tableDefinition.getTableName();
+        this.columnIndex = columnIndex;
+        ColumnDefinition column = tableDefinition.getColumns().get(columnIndex);
+        this.numeric = RecordKeyReader.isNumeric(column);
+        this.temporalFormat = TemporalFormat.forColumn(column);
+        this.values = new ArrayList<>();
+        this.keys = new ArrayList<>();
+        int defaultIndex = -1;
+        Set<String> names = new HashSet<>();
+        List<PartitionDefinition> partitions = partitioning.getPartitions();
+        for (int i = 0; i < partitions.size(); i++) {
+            PartitionDefinition partition = partitions.get(i);
+            if (!names.add(getName(i).toLowerCase())) {
+                throw new IllegalArgumentException("Duplicate partition name '" + getName(i) + "'");
+            }
+            List<String> raw = partitioning.getType() == PartitionType.RANGE
+                    ? rangeBound(partition, i, partitions.size())
+                    : listValues(partition, i);
+            if (raw.isEmpty() && partitioning.getType() == PartitionType.LIST) {
+                if (defaultIndex >= 0) {
+                    throw new IllegalArgumentException("Only one default partition is allowed on table '"
+                            + tableName + "'");
+                }
+                defaultIndex = i;
+            }
+            List<Object> parsed = new ArrayList<>(raw.size());
+            List<Comparable<Object>> comparable = new ArrayList<>(raw.size());
+            for (String value : raw) {
+                Object literal = parse(value);
+                if (literal == null) {
+                    throw new IllegalArgumentException("Partition '" + getName(i) + "' value '" + value
+                            + "' does not match the type of column '" + column.getName() + "'");
+                }
+                parsed.add(literal);
+                comparable.add(key(literal));
+            }
+            values.add(parsed);
+            keys.add(comparable);
+        }
+        this.defaultPartition = defaultIndex;
+        checkAscending();
+    }
+    
+    /**
+     * Resolves the partitions of a partitioned table
+     *
+     * @throws IllegalArgumentException if the partitioning is incomplete or inconsistent with the table
+     */
+    public static TablePartitions of(TableDefinition tableDefinition) {
+        PartitioningDefinition partitioning = tableDefinition.getPartitioning();
+        if (partitioning == null) {
+            throw new IllegalArgumentException("Table '" + tableDefinition.getTableName() + "' is not partitioned");
+        }
+        if (partitioning.getType() == null) {
+            throw new IllegalArgumentException("Partition type is required on table '"
+                    + tableDefinition.getTableName() + "'");
+        }
+        if (partitioning.getPartitions() == null || partitioning.getPartitions().isEmpty()) {
+            throw new IllegalArgumentException("At least one partition is required on table '"
+                    + tableDefinition.getTableName() + "'");
+        }
+        if (partitioning.getInterval() != null && partitioning.getType() != PartitionType.RANGE) {
+            throw new IllegalArgumentException("An interval only applies to RANGE partitioning");
+        }
+        String columnName = partitioning.getColumn() == null ? "" : partitioning.getColumn().trim();
+        List<ColumnDefinition> columns = tableDefinition.getColumns();
+        for (int i = 0; i < columns.size(); i++) {
+            ColumnDefinition column = columns.get(i);
+            if (column.getName().equalsIgnoreCase(columnName)) {
+                if (Boolean.TRUE.equals(column.getAutoIncrement())) {
+                    throw new IllegalArgumentException("Cannot partition by auto-increment column '"
+                            + column.getName() + "'");
+                }
+                return new TablePartitions(tableDefinition, i);
+            }
+        }
+        throw new IllegalArgumentException("Unknown partition column '" + partitioning.getColumn() + "' in table '"
+                + tableDefinition.getTableName() + "'");
+    }
+    
+    public PartitionType getType() {
+        return partitioning.getType();
+    }
+    
+    public String getInterval() {
+        String interval = partitioning.getInterval();
+        return interval != null && !interval.trim().isEmpty() ? interval.trim() : null;
+    }
+    
+    public int getColumnIndex() {
+        return columnIndex;
+    }
+    
+    public int getCount() {
+        return values.size();
+    }
+    
+    public String getName(int partition) {
+        return partitioning.partitionName(tableName, partition);
+    }
+    
+    /**
+     * Returns true if the RANGE partition has no upper bound
+     */
+    public boolean isMaxValue(int partition) {
+        return partitioning.getType() == PartitionType.RANGE && values.get(partition).isEmpty();
+    }
+    
+    /**
+     * Returns true if the LIST partition takes the values no other partition lists
+     */
+    public boolean isDefault(int partition) {
+        return partition == defaultPartition;
+    }
+    
+    /**
+     * SQL literals of the partition's upper bound (RANGE) or values (LIST); empty for MAXVALUE and the default
+     * partition
+     */
+    public List<String> literals(int partition, SqlDialect dialect) {
+        List<String> literals = new ArrayList<>();
+        for (Object value : values.get(partition)) {
+            if (value instanceof BigDecimal) {
+                literals.add(((BigDecimal) value).toPlainString());
+            } else if (value instanceof Temporal) {
+                literals.add(temporalFormat.toSql((Temporal) value, dialect));
+            } else {
+                literals.add("'" + value.toString().replace("'", "''") + "'");
+            }
+        }
+        return literals;
+    }
+    
+    /**
+     * Position of the partition holding the value, as read by {@link RecordKeyReader}; {@link #getCount()} for
+     * a value no partition takes, including null
+     */
+    public int partitionOf(Object value) {
+        Object parsed = value == null ? null : parse(value);
+        if (parsed == null) {
+            return getCount();
+        }
+        Comparable<Object> key = key(parsed);
+        for (int i = 0; i < keys.size(); i++) {
+            List<Comparable<Object>> partitionKeys = keys.get(i);
+            if (partitioning.getType() == PartitionType.RANGE) {
+                if (partitionKeys.isEmpty() || key.compareTo(partitionKeys.get(0)) < 0) {
+                    return i;
+                }
+            } else {
+                for (Comparable<Object> listed : partitionKeys) {
+                    if (key.compareTo(listed) == 0) {
+                        return i;
+                    }
+                }
+            }
+        }
+        return defaultPartition >= 0 ? defaultPartition : getCount();
+    }
+    
+    private List<String> rangeBound(PartitionDefinition partition, int index, int count) {
+        if (partition.getValues() != null && !partition.getValues().isEmpty()) {
+            throw new IllegalArgumentException("RANGE partition '" + getName(index) + "' takes lessThan, not values");
+        }
+        if (partition.getLessThan() == null || partition.getLessThan().trim().isEmpty()) {
+            throw new IllegalArgumentException("RANGE partition '" + getName(index) + "' needs a lessThan bound");
+        }
+        if (partition.isMaxValue()) {
+            if (index != count - 1) {
+                throw new IllegalArgumentException("Only the last partition can be bounded by MAXVALUE");
+            }
+            if (getInterval() != null) {
+                throw new IllegalArgumentException("An interval cannot be combined with a MAXVALUE partition");
+            }
+            return List.of();
+        }
+        return List.of(partition.getLessThan().trim());
+    }
+    
+    private List<String> listValues(PartitionDefinition partition, int index) {
+        if (partition.getLessThan() != null) {
+            throw new IllegalArgumentException("LIST partition '" + getName(index) + "' takes values, not lessThan");
+        }
+        return partition.isDefault() ? List.of() : partition.getValues();
+    }
+    
+    private void checkAscending() {
+        if (partitioning.getType() != PartitionType.RANGE) {
+            return;
+        }
+        for (int i = 1; i < keys.size(); i++) {
+            if (!keys.get(i).isEmpty() && keys.get(i).get(0).compareTo(keys.get(i - 1).get(0)) <= 0) {
+                throw new IllegalArgumentException("RANGE partition '" + getName(i)
+                        + "' must have a higher bound than '" + getName(i - 1) + "'");
+            }
+        }
+    }
+    
+    /**
+     * The value as a number, date or timestamp, or text, depending on the column; null if it does not parse
+     */
+    private Object parse(Object value) {
+        if (temporalFormat != null) {
+            return temporalFormat.parse(value);
+        }
+        if (numeric) {
+            try {
+                return new BigDecimal(value.toString().trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        // JSON numbers in a text column compare by their plain text
+        return value instanceof BigDecimal ? ((BigDecimal) value).toPlainString() : value.toString();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Comparable<Object> key(Object parsed) {
+        if (parsed instanceof Temporal) {
+            return (Comparable<Object>) (Comparable<?>) temporalFormat.toSql((Temporal) parsed, SqlDialect.STANDARD);
+        }
+        return (Comparable<Object>) parsed;
+    }
+}
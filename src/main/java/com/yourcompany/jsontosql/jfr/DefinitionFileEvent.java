@@ -0,0 +1,38 @@
+package com.yourcompany.jsontosql.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Reading, writing or deleting a table definition file
+ */
+@Name("com.yourcompany.jsontosql.DefinitionFile")
+@Label("Definition File I/O")
+@Description("Table definition file read, write or delete")
+@Category({"JSON to SQL", "Storage"})
+@Enabled(false)
+@StackTrace(false)
+public class DefinitionFileEvent extends jdk.jfr.Event {
+    
+    public static final String READ = "read";
+    public static final String WRITE = "write";
+    public static final String DELETE = "delete";
+    
+    @Label("Operation")
+    public String operation;
+    
+    @Label("Table")
+    public String tableName;
+    
+    @Label("Path")
+    public String path;
+    
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+}
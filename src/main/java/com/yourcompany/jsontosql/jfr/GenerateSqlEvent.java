@@ -0,0 +1,43 @@
+package com.yourcompany.jsontosql.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One call to SqlGeneratorService.generateSql, from definition lookup to the finished response
+ */
+@Name("com.yourcompany.jsontosql.GenerateSql")
+@Label("Generate SQL")
+@Description("SQL script generation for one request")
+@Category({"JSON to SQL", "Generation"})
+@Enabled(false)
+@StackTrace(false)
+public class GenerateSqlEvent extends jdk.jfr.Event {
+    
+    @Label("Table")
+    public String tableName;
+    
+    @Label("Mode")
+    @Description("single, batch or file")
+    public String mode;
+    
+    @Label("Rows")
+    public int rowCount;
+    
+    @Label("Bytes In")
+    @DataAmount
+    public long bytesIn;
+    
+    @Label("Bytes Out")
+    @DataAmount
+    public long bytesOut;
+    
+    @Label("Cached")
+    @Description("Served from the generated-SQL cache")
+    public boolean cached;
+}
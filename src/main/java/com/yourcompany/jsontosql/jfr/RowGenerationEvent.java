@@ -0,0 +1,34 @@
+package com.yourcompany.jsontosql.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * INSERT generation in InsertStatementGenerator: one event per single-row call or per batch
+ */
+@Name("com.yourcompany.jsontosql.RowGeneration")
+@Label("Row Generation")
+@Description("INSERT statement generation for a row or a batch of rows")
+@Category({"JSON to SQL", "Generation"})
+@Enabled(false)
+@StackTrace(false)
+public class RowGenerationEvent extends jdk.jfr.Event {
+    
+    @Label("Table")
+    public String tableName;
+    
+    @Label("Rows")
+    public int rowCount;
+    
+    @Label("Failed Rows")
+    public int failedRowCount;
+    
+    @Label("Bytes In")
+    @DataAmount
+    public long bytesIn;
+}
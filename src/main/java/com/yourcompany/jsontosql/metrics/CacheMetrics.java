@@ -0,0 +1,74 @@
+package com.yourcompany.jsontosql.metrics;
+
+import com.yourcompany.jsontosql.generator.DdlCache;
+import com.yourcompany.jsontosql.service.SqlScriptCache;
+import com.yourcompany.jsontosql.service.TableDefinitionWriter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exposes the statistics the caches and the definition writer already keep as meters
+ */
+@Component
+public class CacheMetrics implements MeterBinder {
+    
+    private final SqlScriptCache sqlScriptCache;
+    private final DdlCache ddlCache;
+    private final TableDefinitionWriter tableDefinitionWriter;
+    
+    public CacheMetrics(SqlScriptCache sqlScriptCache, DdlCache ddlCache, TableDefinitionWriter tableDefinitionWriter) {
+        this.sqlScriptCache = sqlScriptCache;
+        this.ddlCache = ddlCache;
+        this.tableDefinitionWriter = tableDefinitionWriter;
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("sqlgen.cache.requests", sqlScriptCache, SqlScriptCache::getHitCount)
+                .description("Generated-SQL cache lookups")
+                .tags("cache", "sql", "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("sqlgen.cache.requests", sqlScriptCache, SqlScriptCache::getMissCount)
+                .description("Generated-SQL cache lookups")
+                .tags("cache", "sql", "result", "miss")
+                .register(registry);
+        FunctionCounter.builder("sqlgen.cache.evictions", sqlScriptCache, SqlScriptCache::getEvictionCount)
+                .description("Generated-SQL cache evictions")
+                .tags("cache", "sql")
+                .register(registry);
+        Gauge.builder("sqlgen.cache.hit.ratio", sqlScriptCache, SqlScriptCache::getHitRatio)
+                .description("Generated-SQL cache hit ratio")
+                .tags("cache", "sql")
+                .register(registry);
+        Gauge.builder("sqlgen.cache.size", sqlScriptCache, SqlScriptCache::getSizeBytes)
+                .description("Approximate size of the generated-SQL cache")
+                .baseUnit(BaseUnits.BYTES)
+                .tags("cache", "sql")
+                .register(registry);
+        
+        FunctionCounter.builder("sqlgen.cache.requests", ddlCache, DdlCache::getHitCount)
+                .description("DDL cache lookups")
+                .tags("cache", "ddl", "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("sqlgen.cache.requests", ddlCache, DdlCache::getMissCount)
+                .description("DDL cache lookups")
+                .tags("cache", "ddl", "result", "miss")
+                .register(registry);
+        Gauge.builder("sqlgen.cache.hit.ratio", ddlCache, DdlCache::getHitRatio)
+                .description("DDL cache hit ratio")
+                .tags("cache", "ddl")
+                .register(registry);
+        
+        Gauge.builder("sqlgen.definitions.write.queue", tableDefinitionWriter, TableDefinitionWriter::getQueueDepth)
+                .description("Table definition changes waiting to be written")
+                .register(registry);
+        FunctionCounter.builder("sqlgen.definitions.write.failures", tableDefinitionWriter,
+                        TableDefinitionWriter::getFailureCount)
+                .description("Table definition writes that failed")
+                .register(registry);
+    }
+}
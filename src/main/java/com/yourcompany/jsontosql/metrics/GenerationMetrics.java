@@ -0,0 +1,152 @@
+package com.yourcompany.jsontosql.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records per-request generation metrics, tagged by table and mode (single, batch or file).
+ * Only the names of resolved table definitions are used as tags, so the number of meters is bounded by the
+ * stored definitions rather than by what callers send; requests that fail before the table is found are
+ * tagged {@value #TABLE_UNKNOWN}.
+ *
+ * <ul>
+ *   <li>{@code sqlgen.requests} - end-to-end generation time, also tagged with outcome and cache result</li>
+ *   <li>{@code sqlgen.stage} - time per {@link GenerationStage}, for requests that were generated</li>
+ *   <li>{@code sqlgen.rows} - rows per request</li>
+ *   <li>{@code sqlgen.payload.in} / {@code sqlgen.payload.out} - JSON payload and SQL script size in bytes</li>
+ * </ul>
+ */
+@Component
+public class GenerationMetrics {
+    
+    public static final String MODE_SINGLE = "single";
+    public static final String MODE_BATCH = "batch";
+    public static final String MODE_FILE = "file";
+    
+    public static final String CACHE_HIT = "hit";
+    public static final String CACHE_MISS = "miss";
+    
+    public static final String TABLE_UNKNOWN = "unknown";
+    
+    private final MeterRegistry registry;
+    private final boolean stageTimingEnabled;
+    
+    public GenerationMetrics(MeterRegistry registry,
+                             @Value("${app.metrics.stage-timing.enabled:true}") boolean stageTimingEnabled) {
+        this.registry = registry;
+        this.stageTimingEnabled = stageTimingEnabled;
+    }
+    
+    /**
+     * Returns true if generators should record per-stage timings for each request
+     */
+    public boolean isStageTimingEnabled() {
+        return stageTimingEnabled;
+    }
+    
+    /**
+     * Records a completed generation. {@code timings} is null for cache hits and when stage timing is off.
+     */
+    public void recordSuccess(String tableName, String mode, String cacheResult, long durationNanos,
+                              StageTimings timings, String jsonData, String sqlScript) {
+        recordSuccess(tableName, mode, cacheResult, durationNanos, timings, utf8Length(jsonData), utf8Length(sqlScript));
+    }
+    
+    /**
+     * Records a completed generation whose input and output were streamed rather than held as strings
+     */
+    public void recordSuccess(String tableName, String mode, String cacheResult, long durationNanos,
+                              StageTimings timings, long bytesIn, long bytesOut) {
+        Tags tags = Tags.of("table", tableTag(tableName), "mode", mode);
+        
+        Timer.builder("sqlgen.requests")
+                .description("SQL generation requests")
+                .tags(tags)
+                .tag("outcome", "success")
+                .tag("cache", cacheResult)
+                .tag("exception", "none")
+                .register(registry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        
+        if (timings != null) {
+            for (GenerationStage stage : GenerationStage.values()) {
+                Timer.builder("sqlgen.stage")
+                        .description("Time spent in each SQL generation stage")
+                        .tags(tags)
+                        .tag("stage", stage.getTagValue())
+                        .register(registry)
+                        .record(timings.getNanos(stage), TimeUnit.NANOSECONDS);
+            }
+            DistributionSummary.builder("sqlgen.rows")
+                    .description("Rows per generation request")
+                    .baseUnit("rows")
+                    .tags(tags)
+                    .register(registry)
+                    .record(timings.getRowCount());
+        }
+        
+        DistributionSummary.builder("sqlgen.payload.in")
+                .description("JSON payload size")
+                .baseUnit(BaseUnits.BYTES)
+                .tags(tags)
+                .register(registry)
+                .record(bytesIn);
+        DistributionSummary.builder("sqlgen.payload.out")
+                .description("Generated SQL script size")
+                .baseUnit(BaseUnits.BYTES)
+                .tags(tags)
+                .register(registry)
+                .record(bytesOut);
+    }
+    
+    /**
+     * Records a generation that failed with an exception. {@code tableName} is null if the table definition
+     * was not found.
+     */
+    public void recordFailure(String tableName, String mode, long durationNanos, Throwable error) {
+        Timer.builder("sqlgen.requests")
+                .description("SQL generation requests")
+                .tags("table", tableTag(tableName), "mode", mode)
+                .tag("outcome", "error")
+                .tag("cache", CACHE_MISS)
+                .tag("exception", error.getClass().getSimpleName())
+                .register(registry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+    
+    private static String tableTag(String tableName) {
+        return tableName != null ? tableName.toLowerCase() : TABLE_UNKNOWN;
+    }
+    
+    /**
+     * Counts UTF-8 bytes without encoding the string
+     */
+    public static long utf8Length(CharSequence text) {
+        if (text == null) {
+            return 0;
+        }
+        long bytes = 0;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,24 @@
+package com.yourcompany.jsontosql.metrics;
+
+/**
+ * Stages of SQL generation that are timed separately
+ */
+public enum GenerationStage {
+    
+    PARSE("parse"),       // Parsing the JSON payload and splitting batches into rows
+    SORT("sort"),         // Ordering rows by primary key or splitting them into partitions, through temp files
+    EXTRACT("extract"),   // Evaluating column JSONPaths against a row
+    VALIDATE("validate"), // Checking values against the column definitions
+    FORMAT("format"),     // Escaping values and building INSERT statements
+    ASSEMBLE("assemble"); // DDL lookup and joining statements into the script
+    
+    private final String tagValue;
+    
+    GenerationStage(String tagValue) {
+        this.tagValue = tagValue;
+    }
+    
+    public String getTagValue() {
+        return tagValue;
+    }
+}
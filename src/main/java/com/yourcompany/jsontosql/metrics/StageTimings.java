@@ -0,0 +1,69 @@
+package com.yourcompany.jsontosql.metrics;
+
+/**
+ * Accumulates time spent in each generation stage for one request.
+ *
+ * The instance for the current request is bound to the calling thread by {@link #begin()}, so
+ * generators can record stages without it being passed through every method. When nothing is
+ * bound, {@link #current()} returns null and callers skip timing entirely.
+ */
+public final class StageTimings {
+    
+    private static final ThreadLocal<StageTimings> CURRENT = new ThreadLocal<>();
+    
+    private final long[] nanos = new long[GenerationStage.values().length];
+    private int rowCount;
+    
+    /**
+     * Binds a new, empty set of timings to the current thread
+     */
+    public static StageTimings begin() {
+        StageTimings timings = new StageTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+    
+    /**
+     * Returns the timings bound to the current thread, or null if timing is off
+     */
+    public static StageTimings current() {
+        return CURRENT.get();
+    }
+    
+    /**
+     * Unbinds the timings from the current thread
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+    
+    /**
+     * Adds the time since {@code startNanos} to the stage and returns the current time,
+     * so consecutive stages can be chained from a single start
+     */
+    public long record(GenerationStage stage, long startNanos) {
+        long now = System.nanoTime();
+        nanos[stage.ordinal()] += now - startNanos;
+        return now;
+    }
+    
+    public void addRows(int rows) {
+        rowCount += rows;
+    }
+    
+    public long getNanos(GenerationStage stage) {
+        return nanos[stage.ordinal()];
+    }
+    
+    public long getTotalNanos() {
+        long total = 0;
+        for (long stageNanos : nanos) {
+            total += stageNanos;
+        }
+        return total;
+    }
+    
+    public int getRowCount() {
+        return rowCount;
+    }
+}
@@ -0,0 +1,145 @@
+package com.yourcompany.jsontosql.model;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A child table filled from an array inside the parent document (order lines, user addresses).
+ *
+ * Each element of the array at {@code arrayPath} becomes one child row. The child's columns are
+ * read relative to the element, and the parent columns named in {@code parentKeys} are copied
+ * from the parent row into leading columns of the same name and type.
+ */
+public class ChildTableDefinition {
+    
+    @NotBlank(message = "Child table name is required")
+    private String tableName;
+    
+    @NotBlank(message = "Child table arrayPath is required")
+    private String arrayPath; // JSONPath of the array in the parent document
+    
+    private List<String> parentKeys = new ArrayList<>(); // Parent column names copied into each child row
+    
+    @NotEmpty(message = "At least one child column definition is required")
+    @Valid
+    private List<ColumnDefinition> columns; // jsonPaths are relative to the array element
+    
+    // Constructors
+    public ChildTableDefinition() {
+    }
+    
+    public ChildTableDefinition(String tableName, String arrayPath, List<String> parentKeys,
+                                List<ColumnDefinition> columns) {
+        this.tableName = tableName;
+        this.arrayPath = arrayPath;
+        this.parentKeys = parentKeys != null ? parentKeys : new ArrayList<>();
+        this.columns = columns;
+    }
+    
+    /**
+     * Builds the flat definition of the child table: the copied parent key columns followed by the
+     * child's own columns, in the parent's schema. The version follows the parent so caches keyed by
+     * version stay valid.
+     */
+    public TableDefinition toTableDefinition(TableDefinition parent) {
+        List<ColumnDefinition> flat = new ArrayList<>(parentKeys.size() + columns.size());
+        for (String key : parentKeys) {
+            ColumnDefinition parentColumn = parent.getColumn(key);
+            if (parentColumn == null) {
+                throw new IllegalArgumentException("Child table '" + tableName + "' references unknown parent column '"
+                        + key + "'");
+            }
+            if (Boolean.TRUE.equals(parentColumn.getAutoIncrement())) {
+                throw new IllegalArgumentException("Child table '" + tableName + "' cannot copy auto-increment parent column '"
+                        + key + "'; its value is assigned by the database");
+            }
+            flat.add(ColumnDefinition.builder()
+                    .name(parentColumn.getName())
+                    .type(parentColumn.getType())
+                    .nullable(parentColumn.getNullable())
+                    .maxLength(parentColumn.getMaxLength())
+                    .precision(parentColumn.getPrecision())
+                    .scale(parentColumn.getScale())
+                    .format(parentColumn.getFormat())
+                    .build());
+        }
+        flat.addAll(columns);
+        
+        TableDefinition child = new TableDefinition(tableName, flat, parent.getSchema(), null);
+        child.setVersion(parent.getVersion());
+        return child;
+    }
+    
+    // Getters and Setters
+    public String getTableName() {
+        return tableName;
+    }
+    
+    public void setTableName(String tableName) {
+        this.tableName = tableName;
+    }
+    
+    public String getArrayPath() {
+        return arrayPath;
+    }
+    
+    public void setArrayPath(String arrayPath) {
+        this.arrayPath = arrayPath;
+    }
+    
+    public List<String> getParentKeys() {
+        return parentKeys;
+    }
+    
+    public void setParentKeys(List<String> parentKeys) {
+        this.parentKeys = parentKeys;
+    }
+    
+    public List<ColumnDefinition> getColumns() {
+        return columns;
+    }
+    
+    public void setColumns(List<ColumnDefinition> columns) {
+        this.columns = columns;
+    }
+    
+    // Builder pattern
+    public static Builder builder() {
+        return new Builder();
+    }
+    
+    public static class Builder {
+        private String tableName;
+        private String arrayPath;
+        private List<String> parentKeys;
+        private List<ColumnDefinition> columns;
+        
+        public Builder tableName(String tableName) {
+            this.tableName = tableName;
+            return this;
+        }
+        
+        public Builder arrayPath(String arrayPath) {
+            this.arrayPath = arrayPath;
+            return this;
+        }
+        
+        public Builder parentKeys(List<String> parentKeys) {
+            this.parentKeys = parentKeys;
+            return this;
+        }
+        
+        public Builder columns(List<ColumnDefinition> columns) {
+            this.columns = columns;
+            return this;
+        }
+        
+        public ChildTableDefinition build() {
+            return new ChildTableDefinition(tableName, arrayPath, parentKeys, columns);
+        }
+    }
+}
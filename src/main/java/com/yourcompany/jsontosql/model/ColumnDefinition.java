@@ -30,6 +30,10 @@ public class ColumnDefinition {
     
     private Integer scale; // For DECIMAL types
     
+    private String transform; // Optional expression applied to the extracted value, e.g. lower(value)
+    
+    private String format; // For DATE/TIMESTAMP types: iso, epoch_seconds, epoch_millis or a pattern like dd/MM/yyyy
+    
     // Constructors
     public ColumnDefinition() {
     }
@@ -130,6 +134,22 @@ public class ColumnDefinition {
         this.scale = scale;
     }
     
+    public String getTransform() {
+        return transform;
+    }
+    
+    public void setTransform(String transform) {
+        this.transform = transform;
+    }
+    
+    public String getFormat() {
+        return format;
+    }
+    
+    public void setFormat(String format) {
+        this.format = format;
+    }
+    
     // Builder pattern
     public static Builder builder() {
         return new Builder();
@@ -146,6 +166,8 @@ public class ColumnDefinition {
         private Integer maxLength;
         private Integer precision;
         private Integer scale;
+        private String transform;
+        private String format;
         
         public Builder name(String name) {
             this.name = name;
@@ -197,9 +219,22 @@ public class ColumnDefinition {
             return this;
         }
         
+        public Builder transform(String transform) {
+            this.transform = transform;
+            return this;
+        }
+        
+        public Builder format(String format) {
+            this.format = format;
+            return this;
+        }
+        
         public ColumnDefinition build() {
-            return new ColumnDefinition(name, type, nullable, primaryKey, autoIncrement, 
+            ColumnDefinition column = new ColumnDefinition(name, type, nullable, primaryKey, autoIncrement, 
                                       jsonPath, defaultValue, maxLength, precision, scale);
+            column.setTransform(transform);
+            column.setFormat(format);
+            return column;
         }
     }
 }
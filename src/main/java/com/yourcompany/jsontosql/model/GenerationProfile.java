@@ -0,0 +1,63 @@
+package com.yourcompany.jsontosql.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-request timing breakdown, returned when the caller sends {@code X-Generation-Profile: true}
+ */
+public class GenerationProfile {
+    
+    private Map<String, Long> stageNanos = new LinkedHashMap<>(); // Time per generation stage, in pipeline order
+    
+    private long totalNanos; // Wall time of the whole generation, including untimed work
+    
+    private int rowCount;
+    
+    private int columnCount;
+    
+    private boolean cached; // True if the script came from the result cache (no stages ran)
+    
+    public GenerationProfile() {
+    }
+    
+    public Map<String, Long> getStageNanos() {
+        return stageNanos;
+    }
+    
+    public void setStageNanos(Map<String, Long> stageNanos) {
+        this.stageNanos = stageNanos;
+    }
+    
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+    
+    public void setTotalNanos(long totalNanos) {
+        this.totalNanos = totalNanos;
+    }
+    
+    public int getRowCount() {
+        return rowCount;
+    }
+    
+    public void setRowCount(int rowCount) {
+        this.rowCount = rowCount;
+    }
+    
+    public int getColumnCount() {
+        return columnCount;
+    }
+    
+    public void setColumnCount(int columnCount) {
+        this.columnCount = columnCount;
+    }
+    
+    public boolean isCached() {
+        return cached;
+    }
+    
+    public void setCached(boolean cached) {
+        this.cached = cached;
+    }
+}
@@ -0,0 +1,114 @@
+package com.yourcompany.jsontosql.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * A secondary index on a table, created after the rows are loaded.
+ *
+ * A {@code where} condition makes the index partial on PostgreSQL; other dialects have no partial
+ * indexes and index every row instead.
+ */
+public class IndexDefinition {
+    
+    private String name; // Optional; defaults to <table>_<columns>_idx, or _key for a unique index
+    
+    @NotEmpty(message = "At least one index column is required")
+    private List<String> columns;
+    
+    private Boolean unique = false;
+    
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String where; // Optional SQL condition for a partial index
+    
+    // Constructors
+    public IndexDefinition() {
+    }
+    
+    public IndexDefinition(String name, List<String> columns, Boolean unique, String where) {
+        this.name = name;
+        this.columns = columns;
+        this.unique = unique != null ? unique : false;
+        this.where = where;
+    }
+    
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public List<String> getColumns() {
+        return columns;
+    }
+    
+    public void setColumns(List<String> columns) {
+        this.columns = columns;
+    }
+    
+    public Boolean getUnique() {
+        return unique;
+    }
+    
+    public void setUnique(Boolean unique) {
+        this.unique = unique;
+    }
+    
+    public String getWhere() {
+        return where;
+    }
+    
+    public void setWhere(String where) {
+        this.where = where;
+    }
+    
+    /**
+     * Returns true if the index only covers rows matching its condition
+     */
+    @JsonIgnore
+    public boolean isPartial() {
+        return where != null && !where.trim().isEmpty();
+    }
+    
+    // Builder pattern
+    public static Builder builder() {
+        return new Builder();
+    }
+    
+    public static class Builder {
+        private String name;
+        private List<String> columns;
+        private Boolean unique = false;
+        private String where;
+        
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+        
+        public Builder columns(List<String> columns) {
+            this.columns = columns;
+            return this;
+        }
+        
+        public Builder unique(Boolean unique) {
+            this.unique = unique;
+            return this;
+        }
+        
+        public Builder where(String where) {
+            this.where = where;
+            return this;
+        }
+        
+        public IndexDefinition build() {
+            return new IndexDefinition(name, columns, unique, where);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.yourcompany.jsontosql.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * One partition of a partitioned table: an exclusive upper bound for RANGE partitioning, or the list of
+ * values for LIST partitioning. A LIST partition without values is the default partition.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PartitionDefinition {
+    
+    public static final String MAXVALUE = "MAXVALUE";
+    
+    private String name; // Optional; defaults to <table>_p<N>
+    
+    private String lessThan; // RANGE only: exclusive upper bound, or MAXVALUE
+    
+    private List<String> values; // LIST only: values held by the partition; none for the default partition
+    
+    // Constructors
+    public PartitionDefinition() {
+    }
+    
+    public PartitionDefinition(String name, String lessThan, List<String> values) {
+        this.name = name;
+        this.lessThan = lessThan;
+        this.values = values;
+    }
+    
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public String getLessThan() {
+        return lessThan;
+    }
+    
+    public void setLessThan(String lessThan) {
+        this.lessThan = lessThan;
+    }
+    
+    public List<String> getValues() {
+        return values;
+    }
+    
+    public void setValues(List<String> values) {
+        this.values = values;
+    }
+    
+    /**
+     * Returns true if the RANGE partition has no upper bound
+     */
+    @JsonIgnore
+    public boolean isMaxValue() {
+        return lessThan != null && MAXVALUE.equalsIgnoreCase(lessThan.trim());
+    }
+    
+    /**
+     * Returns true if the LIST partition takes the values no other partition lists
+     */
+    @JsonIgnore
+    public boolean isDefault() {
+        return values == null || values.isEmpty();
+    }
+    
+    // Builder pattern
+    public static Builder builder() {
+        return new Builder();
+    }
+    
+    public static class Builder {
+        private String name;
+        private String lessThan;
+        private List<String> values;
+        
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+        
+        public Builder lessThan(String lessThan) {
+            this.lessThan = lessThan;
+            return this;
+        }
+        
+        public Builder values(List<String> values) {
+            this.values = values;
+            return this;
+        }
+        
+        public PartitionDefinition build() {
+            return new PartitionDefinition(name, lessThan, values);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.yourcompany.jsontosql.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+/**
+ * How a partitioned table assigns rows to its partitions
+ */
+public enum PartitionType {
+    
+    RANGE, // Each partition holds the values below its upper bound
+    LIST;  // Each partition holds an explicit list of values
+    
+    /**
+     * Parses a type name case-insensitively
+     */
+    @JsonCreator
+    public static PartitionType fromString(String type) {
+        if (type == null || type.trim().isEmpty()) {
+            throw new IllegalArgumentException("Partition type is required");
+        }
+        try {
+            return PartitionType.valueOf(type.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported partition type: " + type);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.yourcompany.jsontosql.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * Range or list partitioning of a table by one column.
+ *
+ * The partitions are listed in order; RANGE bounds must ascend. An {@code interval} lets Oracle create further
+ * RANGE partitions on demand past the last bound; other dialects only get the listed partitions.
+ */
+public class PartitioningDefinition {
+    
+    @NotNull(message = "Partition type is required")
+    private PartitionType type;
+    
+    @NotBlank(message = "Partition column is required")
+    private String column;
+    
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String interval; // Oracle RANGE only, e.g. NUMTOYMINTERVAL(1, 'MONTH')
+    
+    @NotEmpty(message = "At least one partition is required")
+    @Valid
+    private List<PartitionDefinition> partitions;
+    
+    // Constructors
+    public PartitioningDefinition() {
+    }
+    
+    public PartitioningDefinition(PartitionType type, String column, String interval,
+                                  List<PartitionDefinition> partitions) {
+        this.type = type;
+        this.column = column;
+        this.interval = interval;
+        this.partitions = partitions;
+    }
+    
+    // Getters and Setters
+    public PartitionType getType() {
+        return type;
+    }
+    
+    public void setType(PartitionType type) {
+        this.type = type;
+    }
+    
+    public String getColumn() {
+        return column;
+    }
+    
+    public void setColumn(String column) {
+        this.column = column;
+    }
+    
+    public String getInterval() {
+        return interval;
+    }
+    
+    public void setInterval(String interval) {
+        this.interval = interval;
+    }
+    
+    public List<PartitionDefinition> getPartitions() {
+        return partitions;
+    }
+    
+    public void setPartitions(List<PartitionDefinition> partitions) {
+        this.partitions = partitions;
+    }
+    
+    /**
+     * Name of the partition at the given position, or {@code <table>_p<N>} (numbered from 1) if it has none
+     */
+    public String partitionName(String tableName, int index) {
+        String name = partitions.get(index).getName();
+        return name != null && !name.trim().isEmpty() ? name.trim() : tableName + "_p" + (index + 1);
+    }
+    
+    // Builder pattern
+    public static Builder builder() {
+        return new Builder();
+    }
+    
+    public static class Builder {
+        private PartitionType type;
+        private String column;
+        private String interval;
+        private List<PartitionDefinition> partitions;
+        
+        public Builder type(PartitionType type) {
+            this.type = type;
+            return this;
+        }
+        
+        public Builder column(String column) {
+            this.column = column;
+            return this;
+        }
+        
+        public Builder interval(String interval) {
+            this.interval = interval;
+            return this;
+        }
+        
+        public Builder partitions(List<PartitionDefinition> partitions) {
+            this.partitions = partitions;
+            return this;
+        }
+        
+        public PartitioningDefinition build() {
+            return new PartitioningDefinition(type, column, interval, partitions);
+        }
+    }
+}
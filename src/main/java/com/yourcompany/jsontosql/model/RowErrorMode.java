@@ -0,0 +1,25 @@
+package com.yourcompany.jsontosql.model;
+
+/**
+ * What batch generation does with a row that fails validation or cannot be converted
+ */
+public enum RowErrorMode {
+    
+    FAIL,   // Abort the whole request (default)
+    SKIP,   // Drop the row and report it in the response errors
+    REJECT; // Drop the row, report it and return its JSON in the rejected rows list
+    
+    /**
+     * Parses a mode name case-insensitively; null or blank means FAIL
+     */
+    public static RowErrorMode fromString(String mode) {
+        if (mode == null || mode.trim().isEmpty()) {
+            return FAIL;
+        }
+        try {
+            return RowErrorMode.valueOf(mode.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported row error mode: " + mode);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.yourcompany.jsontosql.model;
+
+/**
+ * The statement generated for each row. Every operation except INSERT selects rows by the table's primary key.
+ */
+public enum RowOperation {
+    
+    INSERT, // Insert every row (default)
+    UPSERT, // Insert the row, or update it if its key already exists
+    UPDATE, // Update the columns present in the row, selected by its key
+    DELETE; // Delete the row with the same key
+    
+    /**
+     * Parses an operation name case-insensitively; null or blank means INSERT
+     */
+    public static RowOperation fromString(String operation) {
+        if (operation == null || operation.trim().isEmpty()) {
+            return INSERT;
+        }
+        try {
+            return RowOperation.valueOf(operation.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported operation: " + operation);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.yourcompany.jsontosql.model;
+
+/**
+ * Resolved options for a streamed script generation
+ */
+public class ScriptOptions {
+    
+    private final boolean includeDdl;
+    
+    private final SqlDialect dialect;
+    
+    private final RowErrorMode rowErrorMode;
+    
+    private final boolean delta; // Only write rows that changed since the table's last delta run
+    
+    private final boolean sortByPrimaryKey; // Emit rows in primary key order instead of input order
+    
+    private final boolean groupByPartition; // Emit rows grouped by the table partition they belong to
+    
+    private final int partitions; // Split rows into this many scripts by key hash; 0 for a single script
+    
+    private final String partitionBy; // Column to hash for partitioning; null for the primary key
+    
+    private final int transactionSize; // Commit every N statements; 0 to leave rows unframed
+    
+    private final boolean loadSettings; // Wrap the rows in the dialect's bulk-load session settings
+    
+    private final boolean rebuildIndexes; // Drop secondary indexes before the rows and recreate them after
+    
+    private final RowOperation operation; // Statement generated for each row
+    
+    private final int rowsPerStatement; // Rows combined into one statement where the operation allows
+    
+    private ScriptOptions(Builder builder) {
+        this.includeDdl = builder.includeDdl;
+        this.dialect = builder.dialect;
+        this.rowErrorMode = builder.rowErrorMode;
+        this.delta = builder.delta;
+        this.sortByPrimaryKey = builder.sortByPrimaryKey;
+        this.groupByPartition = builder.groupByPartition;
+        this.partitions = builder.partitions;
+        this.partitionBy = builder.partitionBy;
+        this.transactionSize = builder.transactionSize;
+        this.loadSettings = builder.loadSettings;
+        this.rebuildIndexes = builder.rebuildIndexes;
+        this.operation = builder.operation;
+        this.rowsPerStatement = builder.rowsPerStatement;
+    }
+    
+    public boolean isIncludeDdl() {
+        return includeDdl;
+    }
+    
+    public SqlDialect getDialect() {
+        return dialect;
+    }
+    
+    public RowErrorMode getRowErrorMode() {
+        return rowErrorMode;
+    }
+    
+    public boolean isDelta() {
+        return delta;
+    }
+    
+    public boolean isSortByPrimaryKey() {
+        return sortByPrimaryKey;
+    }
+    
+    public boolean isGroupByPartition() {
+        return groupByPartition;
+    }
+    
+    public int getPartitions() {
+        return partitions;
+    }
+    
+    public boolean isPartitioned() {
+        return partitions > 0;
+    }
+    
+    public String getPartitionBy() {
+        return partitionBy;
+    }
+    
+    public int getTransactionSize() {
+        return transactionSize;
+    }
+    
+    public boolean isLoadSettings() {
+        return loadSettings;
+    }
+    
+    public boolean isRebuildIndexes() {
+        return rebuildIndexes;
+    }
+    
+    public RowOperation getOperation() {
+        return operation;
+    }
+    
+    public int getRowsPerStatement() {
+        return rowsPerStatement;
+    }
+    
+    // Builder pattern
+    public static Builder builder() {
+        return new Builder();
+    }
+    
+    public static class Builder {
+        private boolean includeDdl;
+        private SqlDialect dialect = SqlDialect.STANDARD;
+        private RowErrorMode rowErrorMode = RowErrorMode.FAIL;
+        private boolean delta;
+        private boolean sortByPrimaryKey;
+        private boolean groupByPartition;
+        private int partitions;
+        private String partitionBy;
+        private int transactionSize;
+        private boolean loadSettings;
+        private boolean rebuildIndexes;
+        private RowOperation operation = RowOperation.INSERT;
+        private int rowsPerStatement = 1;
+        
+        public Builder includeDdl(boolean includeDdl) {
+            this.includeDdl = includeDdl;
+            return this;
+        }
+        
+        public Builder dialect(SqlDialect dialect) {
+            this.dialect = dialect;
+            return this;
+        }
+        
+        /**
+         * Parses the dialect name; null or blank means STANDARD
+         */
+        public Builder dialect(String dialect) {
+            return dialect(SqlDialect.fromString(dialect));
+        }
+        
+        public Builder rowErrorMode(RowErrorMode rowErrorMode) {
+            this.rowErrorMode = rowErrorMode;
+            return this;
+        }
+        
+        /**
+         * Parses the row error mode; null or blank means FAIL
+         */
+        public Builder rowErrorMode(String rowErrorMode) {
+            return rowErrorMode(RowErrorMode.fromString(rowErrorMode));
+        }
+        
+        public Builder delta(boolean delta) {
+            this.delta = delta;
+            return this;
+        }
+        
+        public Builder sortByPrimaryKey(boolean sortByPrimaryKey) {
+            this.sortByPrimaryKey = sortByPrimaryKey;
+            return this;
+        }
+        
+        public Builder groupByPartition(boolean groupByPartition) {
+            this.groupByPartition = groupByPartition;
+            return this;
+        }
+        
+        public Builder partitions(int partitions) {
+            this.partitions = partitions;
+            return this;
+        }
+        
+        public Builder partitionBy(String partitionBy) {
+            this.partitionBy = partitionBy;
+            return this;
+        }
+        
+        public Builder transactionSize(int transactionSize) {
+            this.transactionSize = transactionSize;
+            return this;
+        }
+        
+        public Builder loadSettings(boolean loadSettings) {
+            this.loadSettings = loadSettings;
+            return this;
+        }
+        
+        public Builder rebuildIndexes(boolean rebuildIndexes) {
+            this.rebuildIndexes = rebuildIndexes;
+            return this;
+        }
+        
+        public Builder operation(RowOperation operation) {
+            this.operation = operation;
+            return this;
+        }
+        
+        /**
+         * Parses the operation; null or blank means INSERT
+         */
+        public Builder operation(String operation) {
+            return operation(RowOperation.fromString(operation));
+        }
+        
+        public Builder rowsPerStatement(int rowsPerStatement) {
+            this.rowsPerStatement = rowsPerStatement;
+            return this;
+        }
+        
+        public ScriptOptions build() {
+            return new ScriptOptions(this);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.yourcompany.jsontosql.model;
+
+/**
+ * SQL dialects supported by the generators
+ */
+public enum SqlDialect {
+    
+    STANDARD,
+    MYSQL,
+    POSTGRESQL,
+    ORACLE;
+    
+    /**
+     * Parses a dialect name case-insensitively; null or blank means STANDARD
+     */
+    public static SqlDialect fromString(String dialect) {
+        if (dialect == null || dialect.trim().isEmpty()) {
+            return STANDARD;
+        }
+        try {
+            return SqlDialect.valueOf(dialect.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported SQL dialect: " + dialect);
+        }
+    }
+}
@@ -52,6 +52,22 @@ public class SqlGenerationRequest {
     
     private String dialect = "STANDARD"; // SQL dialect: STANDARD, MYSQL, POSTGRESQL, ORACLE
     
+    private String onRowError = "FAIL"; // Batch mode only: FAIL, SKIP or REJECT bad rows
+    
+    private Boolean sortByPrimaryKey = false; // Batch mode only: emit rows in primary key order
+    
+    private Boolean groupByPartition = false; // Batch mode only: emit rows grouped by table partition
+    
+    private Integer transactionSize; // Wrap every N statements in BEGIN/COMMIT; null or 0 for bare statements
+    
+    private Boolean loadSettings = false; // Add the dialect's bulk-load session preamble and postamble
+    
+    private Boolean rebuildIndexes = false; // Drop the table's secondary indexes before the rows, recreate them after
+    
+    private String operation = "INSERT"; // INSERT, UPSERT, UPDATE or DELETE; all but INSERT use the primary key
+    
+    private Integer rowsPerStatement; // Combine up to N rows into one multi-row statement; null or 1 for one per row
+    
     // Constructors
     public SqlGenerationRequest() {
     }
@@ -106,6 +122,70 @@ public class SqlGenerationRequest {
         this.dialect = dialect;
     }
     
+    public String getOnRowError() {
+        return onRowError;
+    }
+    
+    public void setOnRowError(String onRowError) {
+        this.onRowError = onRowError;
+    }
+    
+    public Boolean getSortByPrimaryKey() {
+        return sortByPrimaryKey;
+    }
+    
+    public void setSortByPrimaryKey(Boolean sortByPrimaryKey) {
+        this.sortByPrimaryKey = sortByPrimaryKey;
+    }
+    
+    public Boolean getGroupByPartition() {
+        return groupByPartition;
+    }
+    
+    public void setGroupByPartition(Boolean groupByPartition) {
+        this.groupByPartition = groupByPartition;
+    }
+    
+    public Integer getTransactionSize() {
+        return transactionSize;
+    }
+    
+    public void setTransactionSize(Integer transactionSize) {
+        this.transactionSize = transactionSize;
+    }
+    
+    public Boolean getLoadSettings() {
+        return loadSettings;
+    }
+    
+    public void setLoadSettings(Boolean loadSettings) {
+        this.loadSettings = loadSettings;
+    }
+    
+    public Boolean getRebuildIndexes() {
+        return rebuildIndexes;
+    }
+    
+    public void setRebuildIndexes(Boolean rebuildIndexes) {
+        this.rebuildIndexes = rebuildIndexes;
+    }
+    
+    public String getOperation() {
+        return operation;
+    }
+    
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+    
+    public Integer getRowsPerStatement() {
+        return rowsPerStatement;
+    }
+    
+    public void setRowsPerStatement(Integer rowsPerStatement) {
+        this.rowsPerStatement = rowsPerStatement;
+    }
+    
     // Builder pattern
     public static Builder builder() {
         return new Builder();
@@ -117,6 +197,14 @@ public class SqlGenerationRequest {
         private Boolean includeDdl = false;
         private Boolean batchMode = false;
         private String dialect = "STANDARD";
+        private String onRowError = "FAIL";
+        private Boolean sortByPrimaryKey = false;
+        private Boolean groupByPartition = false;
+        private Integer transactionSize;
+        private Boolean loadSettings = false;
+        private Boolean rebuildIndexes = false;
+        private String operation = "INSERT";
+        private Integer rowsPerStatement;
         
         public Builder tableName(String tableName) {
             this.tableName = tableName;
@@ -143,8 +231,57 @@ public class SqlGenerationRequest {
             return this;
         }
         
+        public Builder onRowError(String onRowError) {
+            this.onRowError = onRowError;
+            return this;
+        }
+        
+        public Builder sortByPrimaryKey(Boolean sortByPrimaryKey) {
+            this.sortByPrimaryKey = sortByPrimaryKey;
+            return this;
+        }
+        
+        public Builder groupByPartition(Boolean groupByPartition) {
+            this.groupByPartition = groupByPartition;
+            return this;
+        }
+        
+        public Builder transactionSize(Integer transactionSize) {
+            this.transactionSize = transactionSize;
+            return this;
+        }
+        
+        public Builder loadSettings(Boolean loadSettings) {
+            this.loadSettings = loadSettings;
+            return this;
+        }
+        
+        public Builder rebuildIndexes(Boolean rebuildIndexes) {
+            this.rebuildIndexes = rebuildIndexes;
+            return this;
+        }
+        
+        public Builder operation(String operation) {
+            this.operation = operation;
+            return this;
+        }
+        
+        public Builder rowsPerStatement(Integer rowsPerStatement) {
+            this.rowsPerStatement = rowsPerStatement;
+            return this;
+        }
+        
         public SqlGenerationRequest build() {
-            return new SqlGenerationRequest(tableName, jsonData, includeDdl, batchMode, dialect);
+            SqlGenerationRequest request = new SqlGenerationRequest(tableName, jsonData, includeDdl, batchMode, dialect);
+            request.setOnRowError(onRowError);
+            request.setSortByPrimaryKey(sortByPrimaryKey);
+            request.setGroupByPartition(groupByPartition);
+            request.setTransactionSize(transactionSize);
+            request.setLoadSettings(loadSettings);
+            request.setRebuildIndexes(rebuildIndexes);
+            request.setOperation(operation);
+            request.setRowsPerStatement(rowsPerStatement);
+            return request;
         }
     }
 }
@@ -1,5 +1,7 @@
 package com.yourcompany.jsontosql.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
 public class SqlGenerationResponse {
@@ -16,6 +18,12 @@ public class SqlGenerationResponse {
     
     private List<String> errors; // Any errors during generation
     
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<String> rejectedRows; // Raw JSON of rows dropped in REJECT mode
+    
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private GenerationProfile profile; // Timing breakdown, only when requested
+    
     // Constructors
     public SqlGenerationResponse() {
     }
@@ -79,6 +87,22 @@ public class SqlGenerationResponse {
         this.errors = errors;
     }
     
+    public List<String> getRejectedRows() {
+        return rejectedRows;
+    }
+    
+    public void setRejectedRows(List<String> rejectedRows) {
+        this.rejectedRows = rejectedRows;
+    }
+    
+    public GenerationProfile getProfile() {
+        return profile;
+    }
+    
+    public void setProfile(GenerationProfile profile) {
+        this.profile = profile;
+    }
+    
     // Builder pattern
     public static Builder builder() {
         return new Builder();
@@ -91,6 +115,7 @@ public class SqlGenerationResponse {
         private Integer statementCount;
         private List<String> warnings;
         private List<String> errors;
+        private List<String> rejectedRows;
         
         public Builder sqlScript(String sqlScript) {
             this.sqlScript = sqlScript;
@@ -122,8 +147,16 @@ public class SqlGenerationResponse {
             return this;
         }
         
+        public Builder rejectedRows(List<String> rejectedRows) {
+            this.rejectedRows = rejectedRows;
+            return this;
+        }
+        
         public SqlGenerationResponse build() {
-            return new SqlGenerationResponse(sqlScript, statements, tableName, statementCount, warnings, errors);
+            SqlGenerationResponse response =
+                    new SqlGenerationResponse(sqlScript, statements, tableName, statementCount, warnings, errors);
+            response.setRejectedRows(rejectedRows);
+            return response;
         }
     }
 }
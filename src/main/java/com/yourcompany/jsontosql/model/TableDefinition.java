@@ -1,5 +1,7 @@
 package com.yourcompany.jsontosql.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
@@ -21,6 +23,21 @@ public class TableDefinition {
     
     private String description; // Optional description of the table
     
+    @Valid
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<ChildTableDefinition> childTables; // Optional tables filled from arrays in the same document
+    
+    @Valid
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<IndexDefinition> indexes; // Optional secondary indexes, created after the rows are loaded
+    
+    @Valid
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private PartitioningDefinition partitioning; // Optional range or list partitioning of the table
+    
+    @JsonIgnore
+    private long version; // Assigned by TableDefinitionService when cached; 0 means unmanaged
+    
     // Constructors
     public TableDefinition() {
     }
@@ -65,6 +82,73 @@ public class TableDefinition {
         this.description = description;
     }
     
+    public List<ChildTableDefinition> getChildTables() {
+        return childTables;
+    }
+    
+    public void setChildTables(List<ChildTableDefinition> childTables) {
+        this.childTables = childTables;
+    }
+    
+    /**
+     * Returns true if any child tables are filled from arrays in the document
+     */
+    public boolean hasChildTables() {
+        return childTables != null && !childTables.isEmpty();
+    }
+    
+    public List<IndexDefinition> getIndexes() {
+        return indexes;
+    }
+    
+    public void setIndexes(List<IndexDefinition> indexes) {
+        this.indexes = indexes;
+    }
+    
+    /**
+     * Returns true if any secondary indexes are defined
+     */
+    public boolean hasIndexes() {
+        return indexes != null && !indexes.isEmpty();
+    }
+    
+    public PartitioningDefinition getPartitioning() {
+        return partitioning;
+    }
+    
+    public void setPartitioning(PartitioningDefinition partitioning) {
+        this.partitioning = partitioning;
+    }
+    
+    /**
+     * Returns true if the table is range or list partitioned
+     */
+    public boolean hasPartitioning() {
+        return partitioning != null;
+    }
+    
+    /**
+     * Finds a column by name, ignoring case; null if there is none
+     */
+    public ColumnDefinition getColumn(String name) {
+        if (columns != null) {
+            for (ColumnDefinition column : columns) {
+                if (column.getName() != null && column.getName().equalsIgnoreCase(name)) {
+                    return column;
+                }
+            }
+        }
+        return null;
+    }
+    
+    public long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(long version) {
+        this.version = version;
+    }
+    
     // Builder pattern
     public static Builder builder() {
         return new Builder();
@@ -75,6 +159,9 @@ public class TableDefinition {
         private List<ColumnDefinition> columns;
         private String schema;
         private String description;
+        private List<ChildTableDefinition> childTables;
+        private List<IndexDefinition> indexes;
+        private PartitioningDefinition partitioning;
         
         public Builder tableName(String tableName) {
             this.tableName = tableName;
@@ -96,8 +183,27 @@ public class TableDefinition {
             return this;
         }
         
+        public Builder childTables(List<ChildTableDefinition> childTables) {
+            this.childTables = childTables;
+            return this;
+        }
+        
+        public Builder indexes(List<IndexDefinition> indexes) {
+            this.indexes = indexes;
+            return this;
+        }
+        
+        public Builder partitioning(PartitioningDefinition partitioning) {
+            this.partitioning = partitioning;
+            return this;
+        }
+        
         public TableDefinition build() {
-            return new TableDefinition(tableName, columns, schema, description);
+            TableDefinition tableDefinition = new TableDefinition(tableName, columns, schema, description);
+            tableDefinition.setChildTables(childTables);
+            tableDefinition.setIndexes(indexes);
+            tableDefinition.setPartitioning(partitioning);
+            return tableDefinition;
         }
     }
 }
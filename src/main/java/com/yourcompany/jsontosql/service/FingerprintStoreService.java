@@ -0,0 +1,64 @@
+package com.yourcompany.jsontosql.service;
+
+import com.yourcompany.jsontosql.delta.FingerprintStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps one fingerprint store per table on local disk for delta generation.
+ *
+ * Runs against the same table are serialized, and a store is only saved when the run completes, so a failed
+ * or interrupted run leaves the previous baseline in place.
+ */
+@Service
+public class FingerprintStoreService {
+    
+    private final Path storageDir;
+    
+    // Keyed by lower-cased table name
+    private final Map<String, Object> locks = new ConcurrentHashMap<>();
+    
+    public FingerprintStoreService(
+            @Value("${app.delta.storage-path:${user.home}/.json-to-sql/fingerprints}") String storagePath) {
+        this.storageDir = Paths.get(storagePath);
+    }
+    
+    /**
+     * Loads the table's store, runs {@code work} against it and saves the result
+     */
+    public <T> T update(String tableName, StoreWork<T> work) throws IOException {
+        String key = tableName.toLowerCase(Locale.ROOT);
+        synchronized (locks.computeIfAbsent(key, k -> new Object())) {
+            Path file = storageDir.resolve(key + ".fingerprints");
+            FingerprintStore store = FingerprintStore.load(file);
+            T result = work.apply(store);
+            store.save(file);
+            return result;
+        }
+    }
+    
+    /**
+     * Deletes the table's store, so the next delta run treats every row as new
+     *
+     * @return true if a store existed
+     */
+    public boolean reset(String tableName) throws IOException {
+        String key = tableName.toLowerCase(Locale.ROOT);
+        synchronized (locks.computeIfAbsent(key, k -> new Object())) {
+            return Files.deleteIfExists(storageDir.resolve(key + ".fingerprints"));
+        }
+    }
+    
+    @FunctionalInterface
+    public interface StoreWork<T> {
+        T apply(FingerprintStore store) throws IOException;
+    }
+}
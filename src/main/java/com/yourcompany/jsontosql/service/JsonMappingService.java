@@ -5,65 +5,88 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.yourcompany.jsontosql.exception.JsonMappingException;
 import com.yourcompany.jsontosql.model.ColumnDefinition;
 import com.yourcompany.jsontosql.model.TableDefinition;
+import com.yourcompany.jsontosql.transform.ColumnTransform;
+import com.yourcompany.jsontosql.transform.TransformCache;
+import com.yourcompany.jsontosql.transform.TransformException;
 import com.yourcompany.jsontosql.util.JsonPathExtractor;
+import com.yourcompany.jsontosql.util.JsonRecordReader;
+import com.yourcompany.jsontosql.validation.RowValidationResult;
+import com.yourcompany.jsontosql.validation.RowValidator;
+import com.yourcompany.jsontosql.validation.RowValidatorCache;
+import com.yourcompany.jsontosql.validation.RowViolation;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 @Service
 public class JsonMappingService {
     
     private final JsonPathExtractor jsonPathExtractor;
     private final ObjectMapper objectMapper;
+    private final RowValidatorCache rowValidatorCache;
+    private final TransformCache transformCache;
     
     public JsonMappingService(JsonPathExtractor jsonPathExtractor, ObjectMapper objectMapper) {
+        this(jsonPathExtractor, objectMapper, new RowValidatorCache(), new TransformCache());
+    }
+    
+    @Autowired
+    public JsonMappingService(JsonPathExtractor jsonPathExtractor, ObjectMapper objectMapper,
+                              RowValidatorCache rowValidatorCache, TransformCache transformCache) {
         this.jsonPathExtractor = jsonPathExtractor;
         this.objectMapper = objectMapper;
+        this.rowValidatorCache = rowValidatorCache;
+        this.transformCache = transformCache;
     }
     
     /**
-     * Validates JSON data against table definition
+     * Validates JSON data against table definition. Accepts a single object or an array of objects;
+     * for arrays every element is validated and violations are reported by row index and column.
      */
     public Map<String, Object> validateJsonAgainstSchema(TableDefinition tableDefinition, String jsonData) {
         Map<String, Object> result = new HashMap<>();
         List<String> errors = new ArrayList<>();
         List<String> warnings = new ArrayList<>();
-        Map<String, Object> extractedValues = new HashMap<>();
+        List<RowViolation> violations = new ArrayList<>();
         
         try {
             // Validate JSON is valid
             JsonNode jsonNode = objectMapper.readTree(jsonData);
+            RowValidator validator = rowValidatorCache.getValidator(tableDefinition);
             
-            // Check each column
-            for (ColumnDefinition column : tableDefinition.getColumns()) {
-                String columnName = column.getName();
-                Object value = null;
-                
-                // Try to extract value using jsonPath if specified
-                if (column.getJsonPath() != null && !column.getJsonPath().trim().isEmpty()) {
-                    value = jsonPathExtractor.extractValue(jsonData, column.getJsonPath()).orElse(null);
-                } else {
-                    // Try direct column name
-                    value = jsonPathExtractor.extractValue(jsonData, columnName).orElse(null);
+            if (jsonNode.isArray()) {
+                int rowIndex = 0;
+                for (JsonNode element : jsonNode) {
+                    validateRow(tableDefinition, validator, objectMapper.writeValueAsString(element), rowIndex++,
+                            violations);
                 }
+                violations.forEach(violation -> errors.add(violation.toString()));
+                result.put("rowCount", rowIndex);
+            } else {
+                Object[] row = validateRow(tableDefinition, validator, jsonData, 0, violations);
+                violations.forEach(violation ->
+                        errors.add("Column '" + violation.getColumn() + "' " + violation.getMessage()));
                 
-                extractedValues.put(columnName, value);
-                
-                // Validate required fields
-                if (!column.getNullable() && value == null && column.getDefaultValue() == null) {
-                    errors.add("Column '" + columnName + "' is required but value is missing");
+                Map<String, Object> extractedValues = new HashMap<>();
+                for (int i = 0; row != null && i < row.length; i++) {
+                    extractedValues.put(validator.getColumnName(i), row[i]);
                 }
-                
-                // Type validation could be added here
+                result.put("extractedValues", extractedValues);
             }
             
             result.put("valid", errors.isEmpty());
             result.put("errors", errors);
             result.put("warnings", warnings);
-            result.put("extractedValues", extractedValues);
+            result.put("violations", toMaps(violations));
             
         } catch (Exception e) {
             throw new JsonMappingException("Failed to validate JSON: " + e.getMessage(), e);
@@ -72,6 +95,95 @@ public class JsonMappingService {
         return result;
     }
     
+    /**
+     * Validates a stream of rows (a JSON array or NDJSON) one record at a time, passing each row's
+     * result to the consumer as soon as it is known. Extracted values are not retained.
+     *
+     * @return the number of rows validated
+     */
+    public int validateRows(TableDefinition tableDefinition, InputStream input, Consumer<RowValidationResult> consumer) {
+        RowValidator validator = rowValidatorCache.getValidator(tableDefinition);
+        List<RowViolation> violations = new ArrayList<>();
+        int rowIndex = 0;
+        
+        try (JsonRecordReader reader = new JsonRecordReader(objectMapper, input)) {
+            while (reader.hasNext()) {
+                violations.clear();
+                validateRow(tableDefinition, validator, objectMapper.writeValueAsString(reader.next()), rowIndex,
+                        violations);
+                consumer.accept(new RowValidationResult(rowIndex,
+                        violations.isEmpty() ? Collections.emptyList() : new ArrayList<>(violations)));
+                rowIndex++;
+            }
+        } catch (IOException e) {
+            throw new JsonMappingException("Failed to validate JSON: " + e.getMessage(), e);
+        }
+        return rowIndex;
+    }
+    
+    /**
+     * Extracts and validates one row. A failing column transform is reported as that column's violation
+     * and the rest of the row is not checked.
+     *
+     * @return the extracted row, or null if a transform failed
+     */
+    private Object[] validateRow(TableDefinition tableDefinition, RowValidator validator, String jsonData,
+                                 int rowIndex, List<RowViolation> violations) {
+        Object[] row;
+        try {
+            row = extractRow(tableDefinition, jsonData);
+        } catch (TransformException e) {
+            violations.add(new RowViolation(rowIndex, e.getColumn(), "transform failed: " + e.getCause().getMessage()));
+            return null;
+        }
+        validator.validate(rowIndex, row, violations);
+        return row;
+    }
+    
+    /**
+     * Opens a record-at-a-time reader over a JSON array or NDJSON stream. Fails fast if the input is not JSON.
+     */
+    public JsonRecordReader openRecords(InputStream input) {
+        return new JsonRecordReader(objectMapper, input);
+    }
+    
+    /**
+     * Extracts the raw value of every column (in definition order) from a single JSON object,
+     * with column transforms applied
+     */
+    public Object[] extractRow(TableDefinition tableDefinition, String jsonData) {
+        List<ColumnDefinition> columns = tableDefinition.getColumns();
+        ColumnTransform[] transforms = transformCache.getTransforms(tableDefinition);
+        Object parsed = transforms == null ? null : jsonPathExtractor.parse(jsonData);
+        ColumnTransform.PathReader document = transforms == null ? null
+                : path -> jsonPathExtractor.extractFromDocument(parsed, path).orElse(null);
+        Object[] row = new Object[columns.size()];
+        for (int i = 0; i < row.length; i++) {
+            ColumnDefinition column = columns.get(i);
+            // Try to extract value using jsonPath if specified, otherwise the column name
+            String path = column.getJsonPath() != null && !column.getJsonPath().trim().isEmpty()
+                    ? column.getJsonPath()
+                    : column.getName();
+            row[i] = jsonPathExtractor.extractValue(jsonData, path).orElse(null);
+            if (transforms != null && transforms[i] != null) {
+                row[i] = TransformCache.apply(transforms[i], column, row[i], document);
+            }
+        }
+        return row;
+    }
+    
+    private static List<Map<String, Object>> toMaps(List<RowViolation> violations) {
+        List<Map<String, Object>> maps = new ArrayList<>(violations.size());
+        for (RowViolation violation : violations) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("row", violation.getRowIndex());
+            map.put("column", violation.getColumn());
+            map.put("message", violation.getMessage());
+            maps.add(map);
+        }
+        return maps;
+    }
+    
     /**
      * Maps JSON data to column values
      */
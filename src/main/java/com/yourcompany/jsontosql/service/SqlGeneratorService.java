@@ -1,12 +1,29 @@
 package com.yourcompany.jsontosql.service;
 
+import com.yourcompany.jsontosql.delta.FingerprintStore;
+import com.yourcompany.jsontosql.generator.InsertStatementGenerator;
+import com.yourcompany.jsontosql.generator.RecordPartitioner;
+import com.yourcompany.jsontosql.generator.RecordSorter;
+import com.yourcompany.jsontosql.generator.ScriptFraming;
+import com.yourcompany.jsontosql.generator.TablePartitions;
 import com.yourcompany.jsontosql.generator.SqlScriptGenerator;
+import com.yourcompany.jsontosql.jfr.GenerateSqlEvent;
+import com.yourcompany.jsontosql.metrics.GenerationMetrics;
+import com.yourcompany.jsontosql.metrics.GenerationStage;
+import com.yourcompany.jsontosql.metrics.StageTimings;
+import com.yourcompany.jsontosql.model.GenerationProfile;
+import com.yourcompany.jsontosql.model.RowOperation;
+import com.yourcompany.jsontosql.model.ScriptOptions;
 import com.yourcompany.jsontosql.model.SqlGenerationRequest;
 import com.yourcompany.jsontosql.model.SqlGenerationResponse;
 import com.yourcompany.jsontosql.model.TableDefinition;
+import com.yourcompany.jsontosql.validation.RowValidationResult;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Map;
+import java.util.function.Consumer;
 
 @Service
 public class SqlGeneratorService {
@@ -14,27 +31,97 @@ public class SqlGeneratorService {
     private final TableDefinitionService tableDefinitionService;
     private final JsonMappingService jsonMappingService;
     private final SqlScriptGenerator sqlScriptGenerator;
+    private final SqlScriptCache sqlScriptCache;
+    private final GenerationMetrics generationMetrics;
+    private final FingerprintStoreService fingerprintStoreService;
     
     public SqlGeneratorService(TableDefinitionService tableDefinitionService, 
                               JsonMappingService jsonMappingService,
-                              SqlScriptGenerator sqlScriptGenerator) {
+                              SqlScriptGenerator sqlScriptGenerator,
+                              SqlScriptCache sqlScriptCache,
+                              GenerationMetrics generationMetrics,
+                              FingerprintStoreService fingerprintStoreService) {
         this.tableDefinitionService = tableDefinitionService;
         this.jsonMappingService = jsonMappingService;
         this.sqlScriptGenerator = sqlScriptGenerator;
+        this.sqlScriptCache = sqlScriptCache;
+        this.generationMetrics = generationMetrics;
+        this.fingerprintStoreService = fingerprintStoreService;
     }
     
     /**
      * Generates SQL script from request
      */
     public SqlGenerationResponse generateSql(SqlGenerationRequest request) {
-        // Get table definition
-        TableDefinition tableDefinition = tableDefinitionService.getTableDefinition(request.getTableName());
-        
-        // Validate JSON against schema (optional, but good practice)
-        jsonMappingService.validateJsonAgainstSchema(tableDefinition, request.getJsonData());
-        
-        // Generate SQL script
-        return sqlScriptGenerator.generateScript(request, tableDefinition);
+        return generateSql(request, false);
+    }
+    
+    /**
+     * Generates SQL script from request, optionally attaching a per-stage timing breakdown to the response
+     */
+    public SqlGenerationResponse generateSql(SqlGenerationRequest request, boolean profile) {
+        String mode = Boolean.TRUE.equals(request.getBatchMode())
+                ? GenerationMetrics.MODE_BATCH : GenerationMetrics.MODE_SINGLE;
+        GenerateSqlEvent event = new GenerateSqlEvent();
+        event.begin();
+        long start = System.nanoTime();
+        StageTimings timings = profile || generationMetrics.isStageTimingEnabled() ? StageTimings.begin() : null;
+        // Metrics are tagged with the resolved definition's name only, never the name the caller sent
+        String tableName = null;
+        try {
+            // Get table definition
+            TableDefinition tableDefinition = tableDefinitionService.getTableDefinition(request.getTableName());
+            tableName = tableDefinition.getTableName();
+            
+            // Replays of identical payloads are served from the result cache when it is enabled
+            boolean[] generated = new boolean[1];
+            SqlGenerationResponse response = sqlScriptCache.get(request, tableDefinition, () -> {
+                generated[0] = true;
+                return sqlScriptGenerator.generateScript(request, tableDefinition);
+            });
+            
+            long elapsed = System.nanoTime() - start;
+            generationMetrics.recordSuccess(tableName, mode,
+                    generated[0] ? GenerationMetrics.CACHE_MISS : GenerationMetrics.CACHE_HIT, elapsed,
+                    generated[0] && generationMetrics.isStageTimingEnabled() ? timings : null,
+                    request.getJsonData(), response.getSqlScript());
+            if (event.shouldCommit()) {
+                event.tableName = tableName;
+                event.mode = mode;
+                event.rowCount = generated[0] && timings != null ? timings.getRowCount()
+                        : response.getStatementCount() != null ? response.getStatementCount() : 0;
+                event.bytesIn = GenerationMetrics.utf8Length(request.getJsonData());
+                event.bytesOut = GenerationMetrics.utf8Length(response.getSqlScript());
+                event.cached = !generated[0];
+                event.commit();
+            }
+            if (profile) {
+                // The cache hands out copies, so this never leaks into a cached entry
+                response.setProfile(buildProfile(timings, tableDefinition, !generated[0], elapsed));
+            }
+            return response;
+        } catch (RuntimeException e) {
+            generationMetrics.recordFailure(tableName, mode, System.nanoTime() - start, e);
+            throw e;
+        } finally {
+            if (timings != null) {
+                StageTimings.end();
+            }
+        }
+    }
+    
+    
+    private static GenerationProfile buildProfile(StageTimings timings, TableDefinition tableDefinition,
+                                                  boolean cached, long elapsedNanos) {
+        GenerationProfile profile = new GenerationProfile();
+        for (GenerationStage stage : GenerationStage.values()) {
+            profile.getStageNanos().put(stage.getTagValue(), cached ? 0L : timings.getNanos(stage));
+        }
+        profile.setTotalNanos(elapsedNanos);
+        profile.setRowCount(cached ? 0 : timings.getRowCount());
+        profile.setColumnCount(tableDefinition.getColumns() != null ? tableDefinition.getColumns().size() : 0);
+        profile.setCached(cached);
+        return profile;
     }
     
     /**
@@ -44,4 +131,72 @@ public class SqlGeneratorService {
         TableDefinition tableDefinition = tableDefinitionService.getTableDefinition(tableName);
         return jsonMappingService.validateJsonAgainstSchema(tableDefinition, jsonData);
     }
+    
+    /**
+     * Validates a batch of rows (JSON array or NDJSON) read from the stream, reporting each row to the consumer
+     *
+     * @return the number of rows validated
+     */
+    public int validateRows(String tableName, InputStream input, Consumer<RowValidationResult> consumer) {
+        TableDefinition tableDefinition = tableDefinitionService.getTableDefinition(tableName);
+        return jsonMappingService.validateRows(tableDefinition, input, consumer);
+    }
+    
+    /**
+     * Prepares a streamed generation of INSERTs for a batch (JSON array or NDJSON) read from the stream.
+     * The table, dialect and row error mode are resolved here so that bad requests fail before any output.
+     */
+    public SqlScriptStream openScript(String tableName, InputStream input, boolean includeDdl,
+                                      String dialect, String onRowError) {
+        return openScript(tableName, input, ScriptOptions.builder()
+                .includeDdl(includeDdl)
+                .dialect(dialect)
+                .rowErrorMode(onRowError)
+                .build());
+    }
+    
+    /**
+     * Prepares a streamed generation with the given options. With {@code delta} set, the script only contains
+     * INSERT, UPDATE and DELETE statements for rows that changed since the table's last delta run; with
+     * {@code sortByPrimaryKey} set, rows are written in primary key order; with {@code groupByPartition} set, they
+     * are grouped by the table partition they belong to; with {@code partitions} set, the rows
+     * are split into that many scripts by key hash (see {@link SqlScriptStream#writeTo(SqlScriptGenerator.ScriptEntries)}).
+     * The operation writes UPSERT, UPDATE or DELETE statements keyed on the primary key instead of INSERTs.
+     */
+    public SqlScriptStream openScript(String tableName, InputStream input, ScriptOptions options) {
+        TableDefinition tableDefinition = tableDefinitionService.getTableDefinition(tableName);
+        // Fail on tables without a usable primary key before any output
+        if (options.isDelta()) {
+            FingerprintStore.keyIndexes(tableDefinition);
+        }
+        if (options.isSortByPrimaryKey()) {
+            RecordSorter.keyIndexes(tableDefinition);
+        }
+        if (options.isGroupByPartition()) {
+            TablePartitions.of(tableDefinition);
+        }
+        InsertStatementGenerator.checkOperation(tableDefinition, options.getOperation(), options.getRowsPerStatement());
+        if (options.isDelta() && (options.getOperation() != RowOperation.INSERT || options.getRowsPerStatement() > 1)) {
+            throw new IllegalArgumentException("Delta runs cannot be combined with an operation or rows per statement");
+        }
+        ScriptFraming.checkTransactionSize(options.getTransactionSize());
+        if (options.isPartitioned()) {
+            if (options.isDelta()) {
+                throw new IllegalArgumentException("Delta runs cannot be partitioned");
+            }
+            RecordPartitioner.checkPartitionCount(options.getPartitions());
+            RecordPartitioner.keyIndexes(tableDefinition, options.getPartitionBy());
+        }
+        return new SqlScriptStream(sqlScriptGenerator, generationMetrics, tableDefinition,
+                jsonMappingService.openRecords(input), options, options.isDelta() ? fingerprintStoreService : null);
+    }
+    
+    /**
+     * Forgets the table's delta baseline, so the next delta run inserts every row
+     *
+     * @return true if there was a baseline
+     */
+    public boolean resetDelta(String tableName) throws IOException {
+        return fingerprintStoreService.reset(tableDefinitionService.getTableDefinition(tableName).getTableName());
+    }
 }
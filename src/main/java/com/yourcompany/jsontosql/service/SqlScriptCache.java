@@ -0,0 +1,275 @@
+package com.yourcompany.jsontosql.service;
+
+import com.yourcompany.jsontosql.model.SqlDialect;
+import com.yourcompany.jsontosql.model.SqlGenerationRequest;
+import com.yourcompany.jsontosql.model.SqlGenerationResponse;
+import com.yourcompany.jsontosql.model.TableDefinition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Optional LRU cache of generated scripts.
+ *
+ * Entries are keyed by table name, definition version, request options and a SHA-256 digest
+ * of the JSON payload, so a changed definition never hits an old entry. Eviction is by approximate
+ * size in bytes plus a time-to-live. Definitions without a version (not managed by
+ * TableDefinitionService) are never cached.
+ */
+@Component
+public class SqlScriptCache {
+    
+    private final boolean enabled;
+    private final long maxSizeBytes;
+    private final long ttlNanos;
+    
+    // Access-ordered, so iteration starts at the least recently used entry
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long currentSizeBytes;
+    
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    
+    public SqlScriptCache(@Value("${app.sql-cache.enabled:false}") boolean enabled,
+                          @Value("${app.sql-cache.max-size-bytes:67108864}") long maxSizeBytes,
+                          @Value("${app.sql-cache.ttl:10m}") Duration ttl) {
+        this.enabled = enabled;
+        this.maxSizeBytes = maxSizeBytes;
+        this.ttlNanos = ttl.toNanos();
+    }
+    
+    /**
+     * Returns the cached response for the request, or generates, caches and returns it
+     */
+    public SqlGenerationResponse get(SqlGenerationRequest request, TableDefinition tableDefinition,
+                                     Supplier<SqlGenerationResponse> generator) {
+        if (!enabled || tableDefinition.getVersion() == 0 || request.getJsonData() == null) {
+            return generator.get();
+        }
+        
+        Key key = new Key(request, tableDefinition);
+        long now = System.nanoTime();
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (now - entry.createdNanos <= ttlNanos) {
+                    hits.incrementAndGet();
+                    return copyOf(entry.response);
+                }
+                remove(key);
+            }
+        }
+        misses.incrementAndGet();
+        
+        SqlGenerationResponse response = generator.get();
+        long size = sizeOf(response);
+        if (size <= maxSizeBytes) {
+            synchronized (this) {
+                Entry previous = entries.put(key, new Entry(copyOf(response), size, now));
+                if (previous != null) {
+                    currentSizeBytes -= previous.sizeBytes;
+                }
+                currentSizeBytes += size;
+                evictIfNeeded();
+            }
+        }
+        return response;
+    }
+    
+    /**
+     * Drops all entries for a table, e.g. after its definition changed or was deleted
+     */
+    public synchronized void invalidate(String tableName) {
+        String table = tableName.toLowerCase();
+        Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, Entry> entry = iterator.next();
+            if (entry.getKey().tableName.equals(table)) {
+                currentSizeBytes -= entry.getValue().sizeBytes;
+                iterator.remove();
+            }
+        }
+    }
+    
+    @EventListener
+    public void onTableDefinitionChanged(TableDefinitionChangedEvent event) {
+        if (enabled) {
+            invalidate(event.getTableName());
+        }
+    }
+    
+    public synchronized void clear() {
+        entries.clear();
+        currentSizeBytes = 0;
+    }
+    
+    private void remove(Key key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            currentSizeBytes -= removed.sizeBytes;
+        }
+    }
+    
+    private void evictIfNeeded() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (currentSizeBytes > maxSizeBytes && iterator.hasNext()) {
+            currentSizeBytes -= iterator.next().sizeBytes;
+            iterator.remove();
+            evictions.incrementAndGet();
+        }
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public synchronized int size() {
+        return entries.size();
+    }
+    
+    public synchronized long getSizeBytes() {
+        return currentSizeBytes;
+    }
+    
+    public long getHitCount() {
+        return hits.get();
+    }
+    
+    public long getMissCount() {
+        return misses.get();
+    }
+    
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+    
+    public double getHitRatio() {
+        long total = hits.get() + misses.get();
+        return total == 0 ? 0.0 : (double) hits.get() / total;
+    }
+    
+    /**
+     * SHA-256 of the UTF-8 encoded payload
+     */
+    static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+    
+    private static long sizeOf(SqlGenerationResponse response) {
+        // Script and individual statements hold roughly the same characters, two bytes each
+        long chars = response.getSqlScript() != null ? response.getSqlScript().length() : 0;
+        long rejectedChars = 0;
+        if (response.getRejectedRows() != null) {
+            for (String row : response.getRejectedRows()) {
+                rejectedChars += row.length();
+            }
+        }
+        return chars * 4 + rejectedChars * 2 + 256;
+    }
+    
+    private static SqlGenerationResponse copyOf(SqlGenerationResponse response) {
+        return SqlGenerationResponse.builder()
+                .rejectedRows(response.getRejectedRows() != null ? new ArrayList<>(response.getRejectedRows()) : null)
+                .sqlScript(response.getSqlScript())
+                .statements(response.getStatements() != null ? new ArrayList<>(response.getStatements()) : null)
+                .tableName(response.getTableName())
+                .statementCount(response.getStatementCount())
+                .warnings(response.getWarnings() != null ? new ArrayList<>(response.getWarnings()) : null)
+                .errors(response.getErrors() != null ? new ArrayList<>(response.getErrors()) : null)
+                .build();
+    }
+    
+    private static final class Entry {
+        private final SqlGenerationResponse response;
+        private final long sizeBytes;
+        private final long createdNanos;
+        
+        Entry(SqlGenerationResponse response, long sizeBytes, long createdNanos) {
+            this.response = response;
+            this.sizeBytes = sizeBytes;
+            this.createdNanos = createdNanos;
+        }
+    }
+    
+    private static final class Key {
+        private final String tableName;
+        private final long version;
+        private final boolean includeDdl;
+        private final boolean batchMode;
+        private final SqlDialect dialect;
+        private final String onRowError;
+        private final boolean sortByPrimaryKey;
+        private final boolean groupByPartition;
+        private final int transactionSize;
+        private final boolean loadSettings;
+        private final boolean rebuildIndexes;
+        private final String operation;
+        private final int rowsPerStatement;
+        private final int payloadLength;
+        private final byte[] payloadDigest;
+        
+        Key(SqlGenerationRequest request, TableDefinition tableDefinition) {
+            String jsonData = request.getJsonData();
+            this.tableName = tableDefinition.getTableName().toLowerCase();
+            this.version = tableDefinition.getVersion();
+            this.includeDdl = Boolean.TRUE.equals(request.getIncludeDdl());
+            this.batchMode = Boolean.TRUE.equals(request.getBatchMode());
+            this.dialect = SqlDialect.fromString(request.getDialect());
+            this.onRowError = request.getOnRowError() != null ? request.getOnRowError().toUpperCase() : null;
+            this.sortByPrimaryKey = Boolean.TRUE.equals(request.getSortByPrimaryKey());
+            this.groupByPartition = Boolean.TRUE.equals(request.getGroupByPartition());
+            this.transactionSize = request.getTransactionSize() != null ? request.getTransactionSize() : 0;
+            this.loadSettings = Boolean.TRUE.equals(request.getLoadSettings());
+            this.rebuildIndexes = Boolean.TRUE.equals(request.getRebuildIndexes());
+            this.operation = request.getOperation() != null ? request.getOperation().toUpperCase() : null;
+            this.rowsPerStatement = request.getRowsPerStatement() != null ? request.getRowsPerStatement() : 1;
+            this.payloadLength = jsonData.length();
+            this.payloadDigest = sha256(jsonData);
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return version == key.version
+                    && includeDdl == key.includeDdl
+                    && batchMode == key.batchMode
+                    && sortByPrimaryKey == key.sortByPrimaryKey
+                    && groupByPartition == key.groupByPartition
+                    && transactionSize == key.transactionSize
+                    && loadSettings == key.loadSettings
+                    && rebuildIndexes == key.rebuildIndexes
+                    && rowsPerStatement == key.rowsPerStatement
+                    && payloadLength == key.payloadLength
+                    && dialect == key.dialect
+                    && Arrays.equals(payloadDigest, key.payloadDigest)
+                    && tableName.equals(key.tableName)
+                    && Objects.equals(onRowError, key.onRowError)
+                    && Objects.equals(operation, key.operation);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(tableName, version, includeDdl, batchMode, dialect, Arrays.hashCode(payloadDigest));
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.yourcompany.jsontosql.service;
+
+import com.yourcompany.jsontosql.generator.ScriptWriter;
+import com.yourcompany.jsontosql.generator.SqlScriptGenerator;
+import com.yourcompany.jsontosql.jfr.GenerateSqlEvent;
+import com.yourcompany.jsontosql.metrics.GenerationMetrics;
+import com.yourcompany.jsontosql.metrics.StageTimings;
+import com.yourcompany.jsontosql.model.ScriptOptions;
+import com.yourcompany.jsontosql.model.TableDefinition;
+import com.yourcompany.jsontosql.util.JsonRecordReader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * A SQL script generation that has been resolved and opened but not yet written.
+ *
+ * Opening looks up the table definition and reads the start of the input, so unknown tables and
+ * unreadable input fail before any output is produced. {@link #writeTo} then streams the script.
+ */
+public class SqlScriptStream implements Closeable {
+    
+    private final SqlScriptGenerator sqlScriptGenerator;
+    private final GenerationMetrics generationMetrics;
+    private final TableDefinition tableDefinition;
+    private final JsonRecordReader records;
+    private final ScriptOptions options;
+    private final FingerprintStoreService fingerprintStores; // Null unless this is a delta run
+    
+    SqlScriptStream(SqlScriptGenerator sqlScriptGenerator, GenerationMetrics generationMetrics,
+                    TableDefinition tableDefinition, JsonRecordReader records, ScriptOptions options,
+                    FingerprintStoreService fingerprintStores) {
+        this.sqlScriptGenerator = sqlScriptGenerator;
+        this.generationMetrics = generationMetrics;
+        this.tableDefinition = tableDefinition;
+        this.records = records;
+        this.options = options;
+        this.fingerprintStores = fingerprintStores;
+    }
+    
+    public String getTableName() {
+        return tableDefinition.getTableName();
+    }
+    
+    /**
+     * Generates the script into {@code out}. The writer is not closed. In a delta run the writer is flushed and
+     * the table's fingerprint store is only saved after that, so a client that goes away before the end of the
+     * script leaves the previous baseline in place.
+     */
+    public ScriptWriter writeTo(Writer out) throws IOException {
+        String tableName = tableDefinition.getTableName();
+        return generate(() -> List.of(fingerprintStores == null
+                ? sqlScriptGenerator.writeScript(tableDefinition, records, options, out)
+                : fingerprintStores.update(tableName, store -> {
+                    ScriptWriter script = sqlScriptGenerator.writeDelta(tableDefinition, records, options, store, out);
+                    out.flush();
+                    return script;
+                }))).get(0);
+    }
+    
+    /**
+     * Generates one script per partition, plus a DDL script when requested, as entries of {@code entries}.
+     * See {@link SqlScriptGenerator#writePartitions}.
+     */
+    public List<ScriptWriter> writeTo(SqlScriptGenerator.ScriptEntries entries) throws IOException {
+        return generate(() -> sqlScriptGenerator.writePartitions(tableDefinition, records, options, entries));
+    }
+    
+    public boolean isPartitioned() {
+        return options.isPartitioned();
+    }
+    
+    @FunctionalInterface
+    private interface Generation {
+        List<ScriptWriter> run() throws IOException;
+    }
+    
+    private List<ScriptWriter> generate(Generation generation) throws IOException {
+        String tableName = tableDefinition.getTableName();
+        GenerateSqlEvent event = new GenerateSqlEvent();
+        event.begin();
+        long start = System.nanoTime();
+        StageTimings timings = generationMetrics.isStageTimingEnabled() ? StageTimings.begin() : null;
+        try {
+            List<ScriptWriter> scripts = generation.run();
+            long bytesOut = 0;
+            int rowCount = 0;
+            for (ScriptWriter script : scripts) {
+                bytesOut += script.getBytesWritten();
+                rowCount += script.getRowCount();
+            }
+            
+            generationMetrics.recordSuccess(tableName, GenerationMetrics.MODE_FILE, GenerationMetrics.CACHE_MISS,
+                    System.nanoTime() - start, timings, records.getByteOffset(), bytesOut);
+            if (event.shouldCommit()) {
+                event.tableName = tableName;
+                event.mode = GenerationMetrics.MODE_FILE;
+                event.rowCount = rowCount;
+                event.bytesIn = records.getByteOffset();
+                event.bytesOut = bytesOut;
+                event.commit();
+            }
+            return scripts;
+        } catch (IOException | RuntimeException e) {
+            generationMetrics.recordFailure(tableName, GenerationMetrics.MODE_FILE, System.nanoTime() - start, e);
+            throw e;
+        } finally {
+            if (timings != null) {
+                StageTimings.end();
+            }
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        records.close();
+    }
+}
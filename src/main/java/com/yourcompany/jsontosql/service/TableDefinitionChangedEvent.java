@@ -0,0 +1,28 @@
+package com.yourcompany.jsontosql.service;
+
+/**
+ * Published by TableDefinitionService whenever a cached definition is created, replaced or deleted
+ */
+public class TableDefinitionChangedEvent {
+    
+    private final String tableName;
+    
+    private final long version; // New version, or 0 when the definition was deleted
+    
+    public TableDefinitionChangedEvent(String tableName, long version) {
+        this.tableName = tableName;
+        this.version = version;
+    }
+    
+    public String getTableName() {
+        return tableName;
+    }
+    
+    public long getVersion() {
+        return version;
+    }
+    
+    public boolean isDeleted() {
+        return version == 0;
+    }
+}
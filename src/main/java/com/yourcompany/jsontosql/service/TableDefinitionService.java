@@ -2,10 +2,18 @@ package com.yourcompany.jsontosql.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.yourcompany.jsontosql.exception.TableDefinitionNotFoundException;
+import com.yourcompany.jsontosql.generator.DdlGenerator;
+import com.yourcompany.jsontosql.generator.TablePartitions;
+import com.yourcompany.jsontosql.jfr.DefinitionFileEvent;
+import com.yourcompany.jsontosql.model.ChildTableDefinition;
+import com.yourcompany.jsontosql.model.IndexDefinition;
 import com.yourcompany.jsontosql.model.TableDefinition;
+import com.yourcompany.jsontosql.transform.TransformCache;
+import com.yourcompany.jsontosql.util.TemporalFormat;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Service;
@@ -15,8 +23,10 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 public class TableDefinitionService {
@@ -25,7 +35,14 @@ public class TableDefinitionService {
     
     private final ObjectMapper objectMapper;
     private final ResourceLoader resourceLoader;
+    private final TableDefinitionWriter tableDefinitionWriter;
+    private final ApplicationEventPublisher eventPublisher;
     private final Map<String, TableDefinition> tableDefinitionCache = new ConcurrentHashMap<>();
+    private final Map<Path, FileTime> loadedFileTimes = new ConcurrentHashMap<>();
+    
+    // Bumped on every change to the cached definitions; each cached definition carries the value it was stored at.
+    // Seeded from the boot time (in microseconds) so versions handed out after a restart never repeat earlier ones.
+    private final AtomicLong catalogVersion = new AtomicLong(System.currentTimeMillis() * 1000);
     
     @Value("${app.table-definitions.storage-path:${user.home}/.json-to-sql/table-definitions}")
     private String storagePath;
@@ -33,9 +50,13 @@ public class TableDefinitionService {
     @Value("${app.table-definitions.default-path:classpath:table-definitions}")
     private String defaultPath;
     
-    public TableDefinitionService(ObjectMapper objectMapper, ResourceLoader resourceLoader) {
+    public TableDefinitionService(ObjectMapper objectMapper, ResourceLoader resourceLoader,
+                                  TableDefinitionWriter tableDefinitionWriter,
+                                  ApplicationEventPublisher eventPublisher) {
         this.objectMapper = objectMapper;
         this.resourceLoader = resourceLoader;
+        this.tableDefinitionWriter = tableDefinitionWriter;
+        this.eventPublisher = eventPublisher;
         loadDefaultDefinitions();
     }
     
@@ -65,7 +86,7 @@ public class TableDefinitionService {
                             try {
                                 TableDefinition definition = objectMapper.readValue(
                                         res.getInputStream(), TableDefinition.class);
-                                tableDefinitionCache.put(definition.getTableName().toLowerCase(), definition);
+                                cacheDefinition(definition);
                                 log.info("Loaded default table definition: {}", definition.getTableName());
                             } catch (Exception e) {
                                 log.warn("Failed to load table definition from {}: {}", 
@@ -85,7 +106,7 @@ public class TableDefinitionService {
     private void loadTableDefinitionFromFile(File file) {
         try {
             TableDefinition definition = objectMapper.readValue(file, TableDefinition.class);
-            tableDefinitionCache.put(definition.getTableName().toLowerCase(), definition);
+            cacheDefinition(definition);
             log.info("Loaded default table definition: {}", definition.getTableName());
         } catch (Exception e) {
             log.warn("Failed to load table definition from {}: {}", file.getName(), e.getMessage());
@@ -103,7 +124,7 @@ public class TableDefinitionService {
             // Try to load from file system
             definition = loadFromFileSystem(tableName);
             if (definition != null) {
-                tableDefinitionCache.put(key, definition);
+                cacheDefinition(definition);
             }
         }
         
@@ -123,14 +144,24 @@ public class TableDefinitionService {
         return new ArrayList<>(tableDefinitionCache.values());
     }
     
+    /**
+     * Gets the current catalog version together with all table definitions from a single scan of the
+     * storage directory. The version changes whenever any definition is created, updated or deleted,
+     * including changes picked up from the storage directory.
+     */
+    public Catalog getCatalog() {
+        loadFromFileSystem();
+        long version = catalogVersion.get();
+        return new Catalog(version, new ArrayList<>(tableDefinitionCache.values()));
+    }
+    
     /**
      * Creates or updates a table definition
      */
     public TableDefinition saveTableDefinition(TableDefinition tableDefinition) {
         validateTableDefinition(tableDefinition);
         
-        String key = tableDefinition.getTableName().toLowerCase();
-        tableDefinitionCache.put(key, tableDefinition);
+        cacheDefinition(tableDefinition);
         
         // Optionally save to file system
         saveToFileSystem(tableDefinition);
@@ -149,6 +180,8 @@ public class TableDefinitionService {
         if (removed == null) {
             throw new TableDefinitionNotFoundException(tableName);
         }
+        catalogVersion.incrementAndGet();
+        eventPublisher.publishEvent(new TableDefinitionChangedEvent(removed.getTableName(), 0));
         
         // Optionally delete from file system
         deleteFromFileSystem(tableName);
@@ -156,6 +189,15 @@ public class TableDefinitionService {
         log.info("Deleted table definition: {}", tableName);
     }
     
+    /**
+     * Stores a definition in the cache under a new version
+     */
+    private void cacheDefinition(TableDefinition definition) {
+        definition.setVersion(catalogVersion.incrementAndGet());
+        tableDefinitionCache.put(definition.getTableName().toLowerCase(), definition);
+        eventPublisher.publishEvent(new TableDefinitionChangedEvent(definition.getTableName(), definition.getVersion()));
+    }
+    
     /**
      * Validates a table definition
      */
@@ -169,16 +211,63 @@ public class TableDefinitionService {
         if (tableDefinition.getColumns() == null || tableDefinition.getColumns().isEmpty()) {
             throw new IllegalArgumentException("At least one column is required");
         }
+        // Fails on transform expressions that do not compile and on unusable date formats
+        TransformCache.compile(tableDefinition);
+        TemporalFormat.forColumns(tableDefinition.getColumns());
+        if (tableDefinition.hasChildTables()) {
+            for (ChildTableDefinition child : tableDefinition.getChildTables()) {
+                if (child.getTableName() == null || child.getTableName().trim().isEmpty()) {
+                    throw new IllegalArgumentException("Child table name is required");
+                }
+                if (child.getArrayPath() == null || child.getArrayPath().trim().isEmpty()) {
+                    throw new IllegalArgumentException("Child table '" + child.getTableName() + "' needs an arrayPath");
+                }
+                if (child.getColumns() == null || child.getColumns().isEmpty()) {
+                    throw new IllegalArgumentException("Child table '" + child.getTableName() + "' needs at least one column");
+                }
+                // Fails on parent keys that do not name a parent column
+                TableDefinition childDefinition = child.toTableDefinition(tableDefinition);
+                TransformCache.compile(childDefinition);
+                TemporalFormat.forColumns(childDefinition.getColumns());
+            }
+        }
+        if (tableDefinition.hasPartitioning()) {
+            // Fails on unknown columns, missing or unordered bounds and values that do not fit the column
+            TablePartitions.of(tableDefinition);
+        }
+        if (tableDefinition.hasIndexes()) {
+            Set<String> names = new HashSet<>();
+            for (IndexDefinition index : tableDefinition.getIndexes()) {
+                if (index.getColumns() == null || index.getColumns().isEmpty()) {
+                    throw new IllegalArgumentException("Index on table '" + tableDefinition.getTableName()
+                            + "' needs at least one column");
+                }
+                for (String column : index.getColumns()) {
+                    if (tableDefinition.getColumn(column) == null) {
+                        throw new IllegalArgumentException("Index on table '" + tableDefinition.getTableName()
+                                + "' references unknown column '" + column + "'");
+                    }
+                }
+                if (!names.add(DdlGenerator.indexName(tableDefinition, index).toLowerCase())) {
+                    throw new IllegalArgumentException("Duplicate index name '"
+                            + DdlGenerator.indexName(tableDefinition, index) + "'");
+                }
+            }
+        }
     }
     
     /**
      * Loads table definition from file system
      */
     private TableDefinition loadFromFileSystem(String tableName) {
+        // A queued delete means the file on disk is stale
+        if (tableDefinitionWriter.isPendingDelete(tableName)) {
+            return null;
+        }
         try {
             Path filePath = Paths.get(storagePath, tableName + ".json");
             if (Files.exists(filePath)) {
-                return objectMapper.readValue(filePath.toFile(), TableDefinition.class);
+                return readDefinitionFile(filePath);
             }
         } catch (Exception e) {
             log.debug("Failed to load table definition from file system: {}", e.getMessage());
@@ -187,52 +276,90 @@ public class TableDefinitionService {
     }
     
     /**
-     * Loads all table definitions from file system
+     * Loads all table definitions from file system. Only files modified since the last scan are re-read,
+     * and a re-read definition only replaces the cached one (and bumps its version) if its content changed.
      */
     private void loadFromFileSystem() {
+        Path storageDir = Paths.get(storagePath);
+        if (!Files.isDirectory(storageDir)) {
+            return;
+        }
+        try (var paths = Files.list(storageDir)) {
+            paths.filter(path -> path.toString().endsWith(".json"))
+                    .forEach(this::loadIfModified);
+        } catch (Exception e) {
+            log.debug("Error loading table definitions from file system: {}", e.getMessage());
+        }
+    }
+    
+    private void loadIfModified(Path path) {
         try {
-            Path storageDir = Paths.get(storagePath);
-            if (Files.exists(storageDir) && Files.isDirectory(storageDir)) {
-                Files.list(storageDir)
-                        .filter(path -> path.toString().endsWith(".json"))
-                        .forEach(path -> {
-                            try {
-                                TableDefinition definition = objectMapper.readValue(path.toFile(), TableDefinition.class);
-                                tableDefinitionCache.put(definition.getTableName().toLowerCase(), definition);
-                            } catch (Exception e) {
-                                log.warn("Failed to load table definition from {}: {}", path, e.getMessage());
-                            }
-                        });
+            FileTime modified = Files.getLastModifiedTime(path);
+            if (modified.equals(loadedFileTimes.get(path))) {
+                return;
+            }
+            TableDefinition definition = readDefinitionFile(path);
+            loadedFileTimes.put(path, modified);
+            // Queued changes are newer than what is on disk
+            if (tableDefinitionWriter.isPending(definition.getTableName())) {
+                return;
+            }
+            TableDefinition cached = tableDefinitionCache.get(definition.getTableName().toLowerCase());
+            if (cached == null || !objectMapper.writeValueAsString(cached).equals(objectMapper.writeValueAsString(definition))) {
+                cacheDefinition(definition);
             }
         } catch (Exception e) {
-            log.debug("Error loading table definitions from file system: {}", e.getMessage());
+            log.warn("Failed to load table definition from {}: {}", path, e.getMessage());
         }
     }
     
+    private TableDefinition readDefinitionFile(Path path) throws IOException {
+        DefinitionFileEvent event = new DefinitionFileEvent();
+        event.begin();
+        TableDefinition definition = objectMapper.readValue(path.toFile(), TableDefinition.class);
+        if (event.shouldCommit()) {
+            event.operation = DefinitionFileEvent.READ;
+            event.tableName = definition.getTableName();
+            event.path = path.toString();
+            event.bytes = Files.size(path);
+            event.commit();
+        }
+        return definition;
+    }
+    
     /**
-     * Saves table definition to file system
+     * Saves table definition to file system (immediately or write-behind)
      */
     private void saveToFileSystem(TableDefinition tableDefinition) {
-        try {
-            Path storageDir = Paths.get(storagePath);
-            Files.createDirectories(storageDir);
-            
-            Path filePath = storageDir.resolve(tableDefinition.getTableName() + ".json");
-            objectMapper.writerWithDefaultPrettyPrinter().writeValue(filePath.toFile(), tableDefinition);
-        } catch (Exception e) {
-            log.warn("Failed to save table definition to file system: {}", e.getMessage());
-        }
+        tableDefinitionWriter.write(tableDefinition);
     }
     
     /**
-     * Deletes table definition from file system
+     * Deletes table definition from file system (immediately or write-behind)
      */
     private void deleteFromFileSystem(String tableName) {
-        try {
-            Path filePath = Paths.get(storagePath, tableName + ".json");
-            Files.deleteIfExists(filePath);
-        } catch (Exception e) {
-            log.warn("Failed to delete table definition from file system: {}", e.getMessage());
+        tableDefinitionWriter.delete(tableName);
+    }
+    
+    /**
+     * Snapshot of the catalog version and the definitions it covers
+     */
+    public static class Catalog {
+        
+        private final long version;
+        private final List<TableDefinition> definitions;
+        
+        public Catalog(long version, List<TableDefinition> definitions) {
+            this.version = version;
+            this.definitions = definitions;
+        }
+        
+        public long getVersion() {
+            return version;
+        }
+        
+        public List<TableDefinition> getDefinitions() {
+            return definitions;
         }
     }
 }
@@ -0,0 +1,256 @@
+package com.yourcompany.jsontosql.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourcompany.jsontosql.jfr.DefinitionFileEvent;
+import com.yourcompany.jsontosql.model.TableDefinition;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Persists table definitions to the storage directory.
+ *
+ * In the default mode every write happens synchronously on the caller's thread. With
+ * write-behind enabled, writes are queued per table and flushed by a background thread;
+ * repeated updates to the same table between flushes are coalesced into a single write.
+ * A queued change stays queued until it has been written, so a failed write is retried on
+ * the next flush. All writes go to a temp file first and are renamed into place.
+ */
+@Component
+public class TableDefinitionWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(TableDefinitionWriter.class);
+
+    private final ObjectMapper objectMapper;
+    private final Path storageDir;
+    private final boolean writeBehind;
+    private final long flushIntervalMs;
+
+    // Keyed by lower-cased table name; the latest pending change wins
+    private final Map<String, PendingWrite> pending = new ConcurrentHashMap<>();
+
+    private final AtomicLong writeCount = new AtomicLong();
+    private final AtomicLong deleteCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+
+    private ScheduledExecutorService scheduler;
+
+    public TableDefinitionWriter(ObjectMapper objectMapper,
+                                 @Value("${app.table-definitions.storage-path:${user.home}/.json-to-sql/table-definitions}") String storagePath,
+                                 @Value("${app.table-definitions.write-behind.enabled:false}") boolean writeBehind,
+                                 @Value("${app.table-definitions.write-behind.flush-interval-ms:500}") long flushIntervalMs) {
+        this.objectMapper = objectMapper;
+        this.storageDir = Paths.get(storagePath);
+        this.writeBehind = writeBehind;
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (writeBehind && scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "definition-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+            log.info("Write-behind persistence enabled (flush interval {} ms)", flushIntervalMs);
+        }
+    }
+
+    /**
+     * Flushes any pending writes before the application shuts down
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                scheduler.awaitTermination(flushIntervalMs * 2, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            scheduler = null;
+        }
+        flush();
+    }
+
+    /**
+     * Writes a table definition, either immediately or via the write-behind queue
+     */
+    public void write(TableDefinition tableDefinition) {
+        PendingWrite write = PendingWrite.save(tableDefinition);
+        if (writeBehind) {
+            enqueue(tableDefinition.getTableName(), write);
+        } else {
+            apply(write);
+        }
+    }
+
+    /**
+     * Deletes a table definition file, either immediately or via the write-behind queue
+     */
+    public void delete(String tableName) {
+        PendingWrite write = PendingWrite.delete(tableName);
+        if (writeBehind) {
+            enqueue(tableName, write);
+        } else {
+            apply(write);
+        }
+    }
+
+    /**
+     * Returns true if a change to the given table has been queued but not yet written
+     */
+    public boolean isPending(String tableName) {
+        return pending.containsKey(tableName.toLowerCase());
+    }
+
+    /**
+     * Returns true if the latest queued change for the given table is a delete
+     */
+    public boolean isPendingDelete(String tableName) {
+        PendingWrite write = pending.get(tableName.toLowerCase());
+        return write != null && write.definition == null;
+    }
+
+    /**
+     * Writes all queued changes. Safe to call from any thread. A change is only dequeued once it is on disk,
+     * and only if no newer change to the same table was queued meanwhile; a failed write stays queued.
+     */
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        int flushed = 0;
+        for (String key : pending.keySet()) {
+            PendingWrite write = pending.get(key);
+            if (write != null && apply(write)) {
+                pending.remove(key, write);
+                flushed++;
+            }
+        }
+        log.debug("Flushed {} table definition change(s), {} still queued", flushed, pending.size());
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("Write-behind flush failed: {}", e.getMessage());
+        }
+    }
+
+    private void enqueue(String tableName, PendingWrite write) {
+        if (pending.put(tableName.toLowerCase(), write) != null) {
+            coalescedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * @return true if the change is on disk
+     */
+    private boolean apply(PendingWrite write) {
+        DefinitionFileEvent event = new DefinitionFileEvent();
+        event.begin();
+        try {
+            Files.createDirectories(storageDir);
+            Path filePath = storageDir.resolve(write.tableName + ".json");
+            if (write.definition == null) {
+                Files.deleteIfExists(filePath);
+                deleteCount.incrementAndGet();
+            } else {
+                writeAtomically(filePath, write.definition);
+                writeCount.incrementAndGet();
+            }
+            if (event.shouldCommit()) {
+                event.operation = write.definition == null ? DefinitionFileEvent.DELETE : DefinitionFileEvent.WRITE;
+                event.tableName = write.tableName;
+                event.path = filePath.toString();
+                event.bytes = write.definition == null ? 0 : Files.size(filePath);
+                event.commit();
+            }
+            return true;
+        } catch (Exception e) {
+            failureCount.incrementAndGet();
+            log.warn("Failed to persist table definition '{}': {}", write.tableName, e.getMessage());
+            return false;
+        }
+    }
+
+    private void writeAtomically(Path filePath, TableDefinition tableDefinition) throws IOException {
+        Path tempFile = Files.createTempFile(storageDir, filePath.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(tempFile)) {
+                objectMapper.writerWithDefaultPrettyPrinter().writeValue(out, tableDefinition);
+            }
+            try {
+                Files.move(tempFile, filePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    public boolean isWriteBehind() {
+        return writeBehind;
+    }
+
+    public int getQueueDepth() {
+        return pending.size();
+    }
+
+    public long getWriteCount() {
+        return writeCount.get();
+    }
+
+    public long getDeleteCount() {
+        return deleteCount.get();
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    private static final class PendingWrite {
+        private final String tableName;
+        private final TableDefinition definition; // null means delete
+
+        private PendingWrite(String tableName, TableDefinition definition) {
+            this.tableName = tableName;
+            this.definition = definition;
+        }
+
+        static PendingWrite save(TableDefinition definition) {
+            return new PendingWrite(definition.getTableName(), definition);
+        }
+
+        static PendingWrite delete(String tableName) {
+            return new PendingWrite(tableName, null);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.yourcompany.jsontosql.transform;
+
+/**
+ * A column transform compiled from an expression by {@link TransformCompiler}.
+ *
+ * It is applied to the value extracted by the column's jsonPath; other paths of the same
+ * document are read through the {@link PathReader}. Implementations are immutable and thread-safe.
+ */
+@FunctionalInterface
+public interface ColumnTransform {
+    
+    Object apply(Object value, PathReader document);
+    
+    /**
+     * Reads a JSONPath from the document being converted; returns null if the path is missing
+     */
+    @FunctionalInterface
+    interface PathReader {
+        Object read(String jsonPath);
+    }
+}
@@ -0,0 +1,119 @@
+package com.yourcompany.jsontosql.transform;
+
+import com.yourcompany.jsontosql.model.ColumnDefinition;
+import com.yourcompany.jsontosql.model.TableDefinition;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the compiled column transforms of each table, recompiled when the definition version changes.
+ * Child tables are keyed under their parent table, since they share its version.
+ * Definitions without a version (not managed by TableDefinitionService) are compiled on every call.
+ */
+@Component
+public class TransformCache {
+    
+    private final Map<Key, CompiledTransforms> transforms = new ConcurrentHashMap<>();
+    
+    /**
+     * Returns one transform per column in definition order (null for columns without one),
+     * or null if no column of the table has a transform
+     */
+    public ColumnTransform[] getTransforms(TableDefinition tableDefinition) {
+        return getTransforms(tableDefinition.getTableName(), tableDefinition);
+    }
+    
+    /**
+     * Returns the transforms of a table owned by another one, such as a child table of {@code owner}
+     */
+    public ColumnTransform[] getTransforms(String owner, TableDefinition tableDefinition) {
+        long version = tableDefinition.getVersion();
+        if (version == 0) {
+            return compile(tableDefinition);
+        }
+        
+        Key key = new Key(owner.toLowerCase(), tableDefinition.getTableName().toLowerCase());
+        CompiledTransforms cached = transforms.get(key);
+        if (cached != null && cached.version == version) {
+            return cached.transforms;
+        }
+        
+        ColumnTransform[] compiled = compile(tableDefinition);
+        transforms.merge(key, new CompiledTransforms(version, compiled),
+                (existing, fresh) -> existing.version > fresh.version ? existing : fresh);
+        return compiled;
+    }
+    
+    /**
+     * Compiles the transforms of every column, failing on the first invalid expression
+     */
+    public static ColumnTransform[] compile(TableDefinition tableDefinition) {
+        List<ColumnDefinition> columns = tableDefinition.getColumns();
+        ColumnTransform[] compiled = null;
+        for (int i = 0; i < columns.size(); i++) {
+            String expression = columns.get(i).getTransform();
+            if (expression == null || expression.trim().isEmpty()) {
+                continue;
+            }
+            if (compiled == null) {
+                compiled = new ColumnTransform[columns.size()];
+            }
+            try {
+                compiled[i] = TransformCompiler.compile(expression);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid transform for column '" + columns.get(i).getName()
+                        + "': " + e.getMessage(), e);
+            }
+        }
+        return compiled;
+    }
+    
+    /**
+     * Applies a column's transform, reporting a failure against the column
+     */
+    public static Object apply(ColumnTransform transform, ColumnDefinition column, Object value,
+                               ColumnTransform.PathReader document) {
+        try {
+            return transform.apply(value, document);
+        } catch (RuntimeException e) {
+            throw new TransformException(column.getName(), e.getMessage(), e);
+        }
+    }
+    
+    private static final class CompiledTransforms {
+        private final long version;
+        private final ColumnTransform[] transforms;
+        
+        CompiledTransforms(long version, ColumnTransform[] transforms) {
+            this.version = version;
+            this.transforms = transforms;
+        }
+    }
+    
+    private static final class Key {
+        private final String owner; // Top-level table the entry belongs to; the table itself unless a child table
+        private final String tableName;
+        
+        Key(String owner, String tableName) {
+            this.owner = owner;
+            this.tableName = tableName;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return owner.equals(key.owner) && tableName.equals(key.tableName);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(owner, tableName);
+        }
+    }
+}
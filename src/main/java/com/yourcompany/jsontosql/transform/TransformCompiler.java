@@ -0,0 +1,519 @@
+package com.yourcompany.jsontosql.transform;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compiles column transform expressions into {@link ColumnTransform} lambdas.
+ *
+ * An expression is parsed once; literal arguments such as date patterns, scales and lookup maps are
+ * resolved at compile time, so applying the transform to a row is a chain of direct calls with no
+ * parsing. Grammar:
+ *
+ * <pre>
+ * expr    := call | literal | value | path
+ * call    := name '(' [expr (',' expr)*] ')'
+ * literal := 'text' | number | null | '{' literal ':' literal (',' literal ':' literal)* '}'
+ * value   := the keyword value: the column's extracted value
+ * path    := a JSONPath starting with $, read from the same document
+ * </pre>
+ *
+ * Functions: concat, lower, upper, substring (1-based), coalesce, parseDate, parseTimestamp,
+ * formatDate, scale (moves the decimal point right by n places) and lookup (value, map[, default]).
+ * A null argument makes every function but concat and coalesce return null.
+ */
+public final class TransformCompiler {
+    
+    private TransformCompiler() {
+    }
+    
+    /**
+     * Compiles an expression
+     *
+     * @throws IllegalArgumentException if the expression is malformed or calls a function incorrectly
+     */
+    public static ColumnTransform compile(String expression) {
+        if (expression == null || expression.trim().isEmpty()) {
+            throw new IllegalArgumentException("Transform expression is empty");
+        }
+        Parser parser = new Parser(expression);
+        Node node = parser.parseExpression();
+        parser.expectEnd();
+        return node.compile();
+    }
+    
+    // ---- Syntax tree ----
+    
+    private abstract static class Node {
+        abstract ColumnTransform compile();
+        
+        boolean isLiteral() {
+            return false;
+        }
+    }
+    
+    private static final class Literal extends Node {
+        private final Object value;
+        
+        Literal(Object value) {
+            this.value = value;
+        }
+        
+        @Override
+        ColumnTransform compile() {
+            return (value, document) -> this.value;
+        }
+        
+        @Override
+        boolean isLiteral() {
+            return true;
+        }
+    }
+    
+    private static final class ValueRef extends Node {
+        @Override
+        ColumnTransform compile() {
+            return (value, document) -> value;
+        }
+    }
+    
+    private static final class PathRef extends Node {
+        private final String path;
+        
+        PathRef(String path) {
+            this.path = path;
+        }
+        
+        @Override
+        ColumnTransform compile() {
+            return (value, document) -> document.read(path);
+        }
+    }
+    
+    private static final class Call extends Node {
+        private final String name;
+        private final List<Node> args;
+        private final int position;
+        
+        Call(String name, List<Node> args, int position) {
+            this.name = name;
+            this.args = args;
+            this.position = position;
+        }
+        
+        @Override
+        ColumnTransform compile() {
+            switch (name.toLowerCase(Locale.ROOT)) {
+                case "concat":
+                    return concat(compileAll(args));
+                case "coalesce":
+                    return coalesce(compileAll(args));
+                case "lower": {
+                    arity(1, 1);
+                    ColumnTransform arg = args.get(0).compile();
+                    return (value, document) -> {
+                        Object text = arg.apply(value, document);
+                        return text == null ? null : text.toString().toLowerCase(Locale.ROOT);
+                    };
+                }
+                case "upper": {
+                    arity(1, 1);
+                    ColumnTransform arg = args.get(0).compile();
+                    return (value, document) -> {
+                        Object text = arg.apply(value, document);
+                        return text == null ? null : text.toString().toUpperCase(Locale.ROOT);
+                    };
+                }
+                case "substring":
+                    return substring();
+                case "parsedate":
+                    return parseDate(false);
+                case "parsetimestamp":
+                    return parseDate(true);
+                case "formatdate":
+                    return formatDate();
+                case "scale":
+                    return scale();
+                case "lookup":
+                    return lookup();
+                default:
+                    throw error("unknown function '" + name + "'");
+            }
+        }
+        
+        private ColumnTransform substring() {
+            arity(2, 3);
+            ColumnTransform arg = args.get(0).compile();
+            int start = intLiteral(1);
+            int length = args.size() == 3 ? intLiteral(2) : -1;
+            if (start < 1 || (args.size() == 3 && length < 0)) {
+                throw error("substring start must be >= 1 and length >= 0");
+            }
+            return (value, document) -> {
+                Object text = arg.apply(value, document);
+                if (text == null) {
+                    return null;
+                }
+                String s = text.toString();
+                int from = Math.min(start - 1, s.length());
+                int to = length < 0 ? s.length() : Math.min(from + length, s.length());
+                return s.substring(from, to);
+            };
+        }
+        
+        private ColumnTransform parseDate(boolean withTime) {
+            arity(2, 2);
+            ColumnTransform arg = args.get(0).compile();
+            DateTimeFormatter formatter = formatter(1);
+            return (value, document) -> {
+                Object text = arg.apply(value, document);
+                if (text == null) {
+                    return null;
+                }
+                try {
+                    return withTime
+                            ? LocalDateTime.parse(text.toString(), formatter)
+                            : LocalDate.parse(text.toString(), formatter);
+                } catch (DateTimeParseException e) {
+                    throw new IllegalArgumentException("value '" + text + "' does not match " + name + " pattern '"
+                            + literal(1) + "'");
+                }
+            };
+        }
+        
+        private ColumnTransform formatDate() {
+            arity(2, 2);
+            ColumnTransform arg = args.get(0).compile();
+            DateTimeFormatter formatter = formatter(1);
+            return (value, document) -> {
+                Object date = arg.apply(value, document);
+                if (date == null) {
+                    return null;
+                }
+                if (date instanceof TemporalAccessor) {
+                    return formatter.format((TemporalAccessor) date);
+                }
+                // ISO text: a date, or a date and time with 'T' or space separator
+                String text = date.toString();
+                try {
+                    return text.length() <= 10
+                            ? formatter.format(LocalDate.parse(text))
+                            : formatter.format(LocalDateTime.parse(text.replace(' ', 'T')));
+                } catch (DateTimeParseException e) {
+                    throw new IllegalArgumentException("value '" + text + "' is not an ISO date or timestamp");
+                }
+            };
+        }
+        
+        private ColumnTransform scale() {
+            arity(2, 2);
+            ColumnTransform arg = args.get(0).compile();
+            int places = intLiteral(1);
+            return (value, document) -> {
+                Object number = arg.apply(value, document);
+                if (number == null) {
+                    return null;
+                }
+                try {
+                    return new BigDecimal(number.toString().trim()).movePointRight(places);
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("value '" + number + "' is not a number");
+                }
+            };
+        }
+        
+        private ColumnTransform lookup() {
+            arity(2, 3);
+            ColumnTransform arg = args.get(0).compile();
+            Object map = literal(1);
+            if (!(map instanceof Map)) {
+                throw error("lookup needs a {key: value} map as its second argument");
+            }
+            Map<?, ?> entries = (Map<?, ?>) map;
+            ColumnTransform fallback = args.size() == 3 ? args.get(2).compile() : (value, document) -> null;
+            return (value, document) -> {
+                Object key = arg.apply(value, document);
+                if (key != null) {
+                    String text = key.toString();
+                    if (entries.containsKey(text)) {
+                        return entries.get(text);
+                    }
+                }
+                return fallback.apply(value, document);
+            };
+        }
+        
+        private DateTimeFormatter formatter(int index) {
+            Object pattern = literal(index);
+            if (!(pattern instanceof String)) {
+                throw error(name + " needs a pattern string");
+            }
+            try {
+                return DateTimeFormatter.ofPattern((String) pattern, Locale.ROOT);
+            } catch (IllegalArgumentException e) {
+                throw error("invalid date pattern '" + pattern + "': " + e.getMessage());
+            }
+        }
+        
+        private int intLiteral(int index) {
+            Object number = literal(index);
+            if (!(number instanceof BigDecimal)) {
+                throw error(name + " argument " + (index + 1) + " must be a number");
+            }
+            try {
+                return ((BigDecimal) number).intValueExact();
+            } catch (ArithmeticException e) {
+                throw error(name + " argument " + (index + 1) + " must be an integer");
+            }
+        }
+        
+        private Object literal(int index) {
+            Node arg = args.get(index);
+            if (!arg.isLiteral()) {
+                throw error(name + " argument " + (index + 1) + " must be a literal");
+            }
+            return ((Literal) arg).value;
+        }
+        
+        private void arity(int min, int max) {
+            if (args.size() < min || args.size() > max) {
+                throw error(name + " takes " + (min == max ? String.valueOf(min) : min + " to " + max)
+                        + " arguments but got " + args.size());
+            }
+        }
+        
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at position " + position);
+        }
+    }
+    
+    private static ColumnTransform[] compileAll(List<Node> nodes) {
+        ColumnTransform[] compiled = new ColumnTransform[nodes.size()];
+        for (int i = 0; i < compiled.length; i++) {
+            compiled[i] = nodes.get(i).compile();
+        }
+        return compiled;
+    }
+    
+    private static ColumnTransform concat(ColumnTransform[] parts) {
+        return (value, document) -> {
+            StringBuilder text = new StringBuilder();
+            boolean any = false;
+            for (ColumnTransform part : parts) {
+                Object piece = part.apply(value, document);
+                if (piece != null) {
+                    text.append(piece);
+                    any = true;
+                }
+            }
+            return any ? text.toString() : null;
+        };
+    }
+    
+    private static ColumnTransform coalesce(ColumnTransform[] candidates) {
+        return (value, document) -> {
+            for (ColumnTransform candidate : candidates) {
+                Object result = candidate.apply(value, document);
+                if (result != null) {
+                    return result;
+                }
+            }
+            return null;
+        };
+    }
+    
+    // ---- Parser ----
+    
+    private static final class Parser {
+        private final String text;
+        private int pos;
+        
+        Parser(String text) {
+            this.text = text;
+        }
+        
+        Node parseExpression() {
+            skipWhitespace();
+            if (pos >= text.length()) {
+                throw error("expected an expression");
+            }
+            char c = text.charAt(pos);
+            if (c == '\'') {
+                return new Literal(parseString());
+            }
+            if (c == '{') {
+                return new Literal(parseMap());
+            }
+            if (c == '-' || Character.isDigit(c)) {
+                return new Literal(parseNumber());
+            }
+            if (c == '$') {
+                return new PathRef(parsePath());
+            }
+            if (Character.isLetter(c) || c == '_') {
+                int start = pos;
+                String name = parseIdentifier();
+                skipWhitespace();
+                if (pos < text.length() && text.charAt(pos) == '(') {
+                    pos++;
+                    return new Call(name, parseArguments(), start);
+                }
+                if (name.equals("value")) {
+                    return new ValueRef();
+                }
+                if (name.equals("null")) {
+                    return new Literal(null);
+                }
+                throw new IllegalArgumentException("unknown name '" + name + "' at position " + start);
+            }
+            throw error("unexpected '" + c + "'");
+        }
+        
+        void expectEnd() {
+            skipWhitespace();
+            if (pos < text.length()) {
+                throw error("unexpected '" + text.charAt(pos) + "'");
+            }
+        }
+        
+        private List<Node> parseArguments() {
+            List<Node> args = new ArrayList<>();
+            skipWhitespace();
+            if (pos < text.length() && text.charAt(pos) == ')') {
+                pos++;
+                return args;
+            }
+            while (true) {
+                args.add(parseExpression());
+                skipWhitespace();
+                char c = next("',' or ')'");
+                if (c == ')') {
+                    return args;
+                }
+                if (c != ',') {
+                    throw error("expected ',' or ')'", pos - 1);
+                }
+            }
+        }
+        
+        private Map<String, Object> parseMap() {
+            pos++; // {
+            Map<String, Object> map = new HashMap<>();
+            skipWhitespace();
+            if (pos < text.length() && text.charAt(pos) == '}') {
+                pos++;
+                return map;
+            }
+            while (true) {
+                Node key = parseExpression();
+                if (!key.isLiteral() || ((Literal) key).value == null) {
+                    throw error("lookup keys must be text or number literals");
+                }
+                skipWhitespace();
+                if (next("':'") != ':') {
+                    throw error("expected ':'", pos - 1);
+                }
+                Node entry = parseExpression();
+                if (!entry.isLiteral()) {
+                    throw error("lookup values must be literals");
+                }
+                Object keyValue = ((Literal) key).value;
+                map.put(keyValue instanceof BigDecimal ? ((BigDecimal) keyValue).toPlainString() : keyValue.toString(),
+                        ((Literal) entry).value);
+                skipWhitespace();
+                char c = next("',' or '}'");
+                if (c == '}') {
+                    return map;
+                }
+                if (c != ',') {
+                    throw error("expected ',' or '}'", pos - 1);
+                }
+            }
+        }
+        
+        private String parseString() {
+            StringBuilder value = new StringBuilder();
+            pos++; // opening quote
+            while (pos < text.length()) {
+                char c = text.charAt(pos++);
+                if (c == '\'') {
+                    // '' is an escaped quote
+                    if (pos < text.length() && text.charAt(pos) == '\'') {
+                        value.append('\'');
+                        pos++;
+                    } else {
+                        return value.toString();
+                    }
+                } else {
+                    value.append(c);
+                }
+            }
+            throw error("unterminated string");
+        }
+        
+        private BigDecimal parseNumber() {
+            int start = pos;
+            if (text.charAt(pos) == '-') {
+                pos++;
+            }
+            while (pos < text.length() && (Character.isDigit(text.charAt(pos)) || text.charAt(pos) == '.')) {
+                pos++;
+            }
+            try {
+                return new BigDecimal(text.substring(start, pos));
+            } catch (NumberFormatException e) {
+                throw error("invalid number '" + text.substring(start, pos) + "'", start);
+            }
+        }
+        
+        private String parsePath() {
+            int start = pos;
+            while (pos < text.length()) {
+                char c = text.charAt(pos);
+                if (Character.isWhitespace(c) || c == ',' || c == ')') {
+                    break;
+                }
+                pos++;
+            }
+            return text.substring(start, pos);
+        }
+        
+        private String parseIdentifier() {
+            int start = pos;
+            while (pos < text.length() && (Character.isLetterOrDigit(text.charAt(pos)) || text.charAt(pos) == '_')) {
+                pos++;
+            }
+            return text.substring(start, pos);
+        }
+        
+        private char next(String expected) {
+            if (pos >= text.length()) {
+                throw error("expected " + expected);
+            }
+            return text.charAt(pos++);
+        }
+        
+        private void skipWhitespace() {
+            while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+                pos++;
+            }
+        }
+        
+        private IllegalArgumentException error(String message) {
+            return error(message, pos);
+        }
+        
+        private IllegalArgumentException error(String message, int position) {
+            return new IllegalArgumentException(message + " at position " + position);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.yourcompany.jsontosql.transform;
+
+/**
+ * A column transform could not be applied to a row's value
+ */
+public class TransformException extends IllegalArgumentException {
+    
+    private final String column;
+    
+    public TransformException(String column, String message, Throwable cause) {
+        super("transform of column '" + column + "' failed: " + message, cause);
+        this.column = column;
+    }
+    
+    public String getColumn() {
+        return column;
+    }
+}
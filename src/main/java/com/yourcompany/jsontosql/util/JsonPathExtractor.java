@@ -1,5 +1,6 @@
 package com.yourcompany.jsontosql.util;
 
+import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.PathNotFoundException;
 import org.slf4j.Logger;
@@ -13,6 +14,11 @@ public class JsonPathExtractor {
     
     private static final Logger log = LoggerFactory.getLogger(JsonPathExtractor.class);
     
+    /**
+     * Returned by {@link #extractPresentValue} for a path that is not in the JSON data
+     */
+    public static final Object ABSENT = new Object();
+    
     /**
      * Extracts a value from JSON using a JSONPath expression
      * 
@@ -26,13 +32,7 @@ public class JsonPathExtractor {
         }
         
         try {
-            // Normalize JSONPath - ensure it starts with $ if it doesn't
-            String normalizedPath = jsonPath.trim();
-            if (!normalizedPath.startsWith("$")) {
-                normalizedPath = "$." + normalizedPath;
-            }
-            
-            Object value = JsonPath.read(jsonData, normalizedPath);
+            Object value = JsonPath.read(jsonData, normalize(jsonPath));
             return Optional.ofNullable(value);
         } catch (PathNotFoundException e) {
             log.debug("JSONPath '{}' not found in JSON data", jsonPath);
@@ -43,6 +43,76 @@ public class JsonPathExtractor {
         }
     }
     
+    /**
+     * Extracts a value from an already parsed document, telling an explicit JSON null apart from a
+     * missing path
+     * 
+     * @return the extracted value, null for an explicit JSON null, or {@link #ABSENT} if not found
+     */
+    public Object extractPresentValue(Object document, String jsonPath) {
+        if (document == null || jsonPath == null || jsonPath.trim().isEmpty()) {
+            return ABSENT;
+        }
+        
+        String normalizedPath = normalize(jsonPath);
+        if (normalizedPath.equals("$")) {
+            return document;
+        }
+        try {
+            return JsonPath.read(document, normalizedPath);
+        } catch (PathNotFoundException e) {
+            log.debug("JSONPath '{}' not found in JSON data", jsonPath);
+            return ABSENT;
+        } catch (Exception e) {
+            log.error("Error extracting value using JSONPath '{}': {}", jsonPath, e.getMessage());
+            return ABSENT;
+        }
+    }
+    
+    /**
+     * Parses JSON once so that several paths can be read from it with {@link #extractFromDocument}
+     */
+    public Object parse(String jsonData) {
+        return Configuration.defaultConfiguration().jsonProvider().parse(jsonData);
+    }
+    
+    /**
+     * Extracts a value from an already parsed document, or from a value previously extracted from one
+     * (such as an array element). The path "$" returns the document itself, so scalar array elements
+     * can be mapped to a column.
+     */
+    public Optional<Object> extractFromDocument(Object document, String jsonPath) {
+        if (document == null || jsonPath == null || jsonPath.trim().isEmpty()) {
+            return Optional.empty();
+        }
+        
+        String normalizedPath = normalize(jsonPath);
+        if (normalizedPath.equals("$")) {
+            return Optional.of(document);
+        }
+        try {
+            Object value = JsonPath.read(document, normalizedPath);
+            return Optional.ofNullable(value);
+        } catch (PathNotFoundException e) {
+            log.debug("JSONPath '{}' not found in JSON data", jsonPath);
+            return Optional.empty();
+        } catch (Exception e) {
+            log.error("Error extracting value using JSONPath '{}': {}", jsonPath, e.getMessage());
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * Normalize JSONPath - ensure it starts with $ if it doesn't
+     */
+    private static String normalize(String jsonPath) {
+        String normalizedPath = jsonPath.trim();
+        if (!normalizedPath.startsWith("$")) {
+            normalizedPath = "$." + normalizedPath;
+        }
+        return normalizedPath;
+    }
+    
     /**
      * Extracts a value and converts it to String
      */
@@ -0,0 +1,83 @@
+package com.yourcompany.jsontosql.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourcompany.jsontosql.exception.JsonMappingException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Streams records from JSON input without loading the whole document.
+ *
+ * Accepts either a top-level array of objects or a sequence of root-level objects such as
+ * NDJSON (one object per line). Only the current record is held in memory.
+ */
+public class JsonRecordReader implements Iterator<JsonNode>, Closeable {
+    
+    private final ObjectMapper objectMapper;
+    private final JsonParser parser;
+    private final boolean array;
+    private JsonToken nextToken;
+    private long recordCount;
+    
+    public JsonRecordReader(ObjectMapper objectMapper, InputStream input) {
+        this.objectMapper = objectMapper;
+        try {
+            this.parser = objectMapper.getFactory().createParser(input);
+            JsonToken first = parser.nextToken();
+            this.array = first == JsonToken.START_ARRAY;
+            this.nextToken = array ? parser.nextToken() : first;
+        } catch (IOException e) {
+            throw new JsonMappingException("Invalid JSON input: " + e.getMessage(), e);
+        }
+    }
+    
+    @Override
+    public boolean hasNext() {
+        return nextToken != null && nextToken != JsonToken.END_ARRAY;
+    }
+    
+    @Override
+    public JsonNode next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            JsonNode record = objectMapper.readTree(parser);
+            recordCount++;
+            nextToken = parser.nextToken();
+            return record;
+        } catch (IOException e) {
+            throw new JsonMappingException("Invalid JSON at record " + recordCount + ": " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Returns true if the input was a JSON array rather than a sequence of root-level values
+     */
+    public boolean isArray() {
+        return array;
+    }
+    
+    public long getRecordCount() {
+        return recordCount;
+    }
+    
+    /**
+     * Returns the number of input bytes consumed so far, or -1 if the input was not a byte stream
+     */
+    public long getByteOffset() {
+        return parser.currentLocation().getByteOffset();
+    }
+    
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
@@ -0,0 +1,359 @@
+package com.yourcompany.jsontosql.util;
+
+import com.yourcompany.jsontosql.model.ColumnDefinition;
+import com.yourcompany.jsontosql.model.SqlDialect;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.OffsetDateTime;
+import java.time.Year;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.time.temporal.Temporal;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parses and formats the values of a DATE, DATETIME or TIMESTAMP column.
+ *
+ * A column's optional {@code format} is one of {@code iso} (the default), {@code epoch_seconds},
+ * {@code epoch_millis} or a {@link DateTimeFormatter} pattern such as {@code dd/MM/yyyy}. It is resolved once
+ * per column; pattern formatters are shared across columns and threads. ISO values in the usual
+ * {@code yyyy-MM-dd[( |T)HH:mm[:ss[.fffffffff]]][Z]} shapes are parsed by hand, so well-formed and malformed
+ * values alike are handled without exceptions. Epoch values and values with an offset are taken as instants
+ * and written in UTC unless the column type carries a time zone.
+ */
+public final class TemporalFormat {
+    
+    public static final String ISO = "iso";
+    public static final String EPOCH_SECONDS = "epoch_seconds";
+    public static final String EPOCH_MILLIS = "epoch_millis";
+    
+    private static final Map<String, DateTimeFormatter> PATTERNS = new ConcurrentHashMap<>();
+    
+    private static final DateTimeFormatter SQL_DATE_TIME = new DateTimeFormatterBuilder()
+            .append(DateTimeFormatter.ISO_LOCAL_DATE)
+            .appendLiteral(' ')
+            .appendPattern("HH:mm:ss")
+            .appendFraction(ChronoField.NANO_OF_SECOND, 0, 9, true)
+            .toFormatter(Locale.ROOT);
+    
+    private static final DateTimeFormatter OFFSET = new DateTimeFormatterBuilder()
+            .appendOffset("+HH:MM", "+00:00")
+            .toFormatter(Locale.ROOT);
+    
+    private enum Kind { ISO, EPOCH_SECONDS, EPOCH_MILLIS, PATTERN }
+    
+    private final String format;
+    private final Kind kind;
+    private final DateTimeFormatter pattern; // Only for PATTERN
+    private final boolean dateOnly; // DATE column: values are written without a time part
+    private final boolean withZone; // TIMESTAMP WITH [LOCAL] TIME ZONE: offsets are kept
+    
+    private TemporalFormat(String format, Kind kind, DateTimeFormatter pattern, boolean dateOnly, boolean withZone) {
+        this.format = format;
+        this.kind = kind;
+        this.pattern = pattern;
+        this.dateOnly = dateOnly;
+        this.withZone = withZone;
+    }
+    
+    /**
+     * Resolves the format of a column, or returns null if the column is not a DATE, DATETIME or TIMESTAMP
+     *
+     * @throws IllegalArgumentException if the column has a format it cannot use
+     */
+    public static TemporalFormat forColumn(ColumnDefinition column) {
+        String type = column.getType() == null ? "" : column.getType().trim().toUpperCase(Locale.ROOT);
+        String format = column.getFormat() == null || column.getFormat().isBlank() ? null : column.getFormat().trim();
+        boolean dateOnly = type.equals("DATE");
+        boolean temporal = dateOnly || type.startsWith("DATETIME") || type.startsWith("TIMESTAMP");
+        if (!temporal) {
+            if (format != null) {
+                throw new IllegalArgumentException("Column '" + column.getName()
+                        + "' has a format but is not a DATE, DATETIME or TIMESTAMP column");
+            }
+            return null;
+        }
+        boolean withZone = type.contains("TIME ZONE") || type.startsWith("TIMESTAMPTZ");
+        if (format == null) {
+            return new TemporalFormat(null, Kind.ISO, null, dateOnly, withZone);
+        }
+        switch (format.toLowerCase(Locale.ROOT)) {
+            case ISO:
+                return new TemporalFormat(format, Kind.ISO, null, dateOnly, withZone);
+            case EPOCH_SECONDS:
+                return new TemporalFormat(format, Kind.EPOCH_SECONDS, null, dateOnly, withZone);
+            case EPOCH_MILLIS:
+                return new TemporalFormat(format, Kind.EPOCH_MILLIS, null, dateOnly, withZone);
+            default:
+                try {
+                    return new TemporalFormat(format, Kind.PATTERN,
+                            PATTERNS.computeIfAbsent(format, p -> DateTimeFormatter.ofPattern(p, Locale.ROOT)),
+                            dateOnly, withZone);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Invalid format for column '" + column.getName() + "': "
+                            + e.getMessage(), e);
+                }
+        }
+    }
+    
+    /**
+     * Resolves the format of every column, in definition order; null entries are non-temporal columns.
+     * Returns null if the table has no temporal columns.
+     */
+    public static TemporalFormat[] forColumns(List<ColumnDefinition> columns) {
+        TemporalFormat[] formats = null;
+        for (int i = 0; i < columns.size(); i++) {
+            TemporalFormat format = forColumn(columns.get(i));
+            if (format != null) {
+                if (formats == null) {
+                    formats = new TemporalFormat[columns.size()];
+                }
+                formats[i] = format;
+            }
+        }
+        return formats;
+    }
+    
+    /**
+     * The format as written in the column definition, or null for the default ISO format
+     */
+    public String getFormat() {
+        return format;
+    }
+    
+    public boolean isExplicit() {
+        return format != null;
+    }
+    
+    /**
+     * Parses a value into a {@link LocalDate}, {@link LocalDateTime} or {@link OffsetDateTime}
+     *
+     * @return the parsed value, or null if it does not match the format
+     */
+    public Temporal parse(Object value) {
+        if (value instanceof LocalDate || value instanceof LocalDateTime || value instanceof OffsetDateTime) {
+            return (Temporal) value;
+        }
+        if (value instanceof ZonedDateTime) {
+            return ((ZonedDateTime) value).toOffsetDateTime();
+        }
+        if (value instanceof Instant) {
+            return ((Instant) value).atOffset(ZoneOffset.UTC);
+        }
+        if (value instanceof java.sql.Date) {
+            return ((java.sql.Date) value).toLocalDate();
+        }
+        if (value instanceof Timestamp) {
+            return ((Timestamp) value).toLocalDateTime();
+        }
+        switch (kind) {
+            case EPOCH_SECONDS:
+                return parseEpoch(value, false);
+            case EPOCH_MILLIS:
+                return parseEpoch(value, true);
+            case PATTERN:
+                return parsePattern(value.toString().trim());
+            default:
+                // Bare numbers are epoch milliseconds, as produced by most JSON serializers
+                return value instanceof Number ? parseEpoch(value, true) : parseIso(value.toString().trim());
+        }
+    }
+    
+    /**
+     * Formats a parsed value as a SQL literal for the dialect. Oracle gets ANSI {@code DATE '...'} and
+     * {@code TIMESTAMP '...'} literals, since it does not convert plain strings without a session format;
+     * the other dialects get a quoted {@code yyyy-MM-dd[ HH:mm:ss[.f]][+HH:MM]} string.
+     */
+    public String toSql(Temporal value, SqlDialect dialect) {
+        if (value instanceof OffsetDateTime && !withZone) {
+            value = ((OffsetDateTime) value).withOffsetSameInstant(ZoneOffset.UTC).toLocalDateTime();
+        }
+        if (dateOnly && !(value instanceof LocalDate)) {
+            value = value instanceof OffsetDateTime
+                    ? ((OffsetDateTime) value).toLocalDate()
+                    : ((LocalDateTime) value).toLocalDate();
+        } else if (!dateOnly && value instanceof LocalDate) {
+            value = ((LocalDate) value).atStartOfDay();
+        }
+        
+        String text;
+        if (value instanceof LocalDate) {
+            text = ((LocalDate) value).format(DateTimeFormatter.ISO_LOCAL_DATE);
+        } else if (value instanceof LocalDateTime) {
+            text = SQL_DATE_TIME.format(value);
+        } else {
+            // Oracle and PostgreSQL both accept a space before the offset; MySQL does not
+            text = SQL_DATE_TIME.format(value) + (dialect == SqlDialect.ORACLE ? " " : "") + OFFSET.format(value);
+        }
+        if (dialect == SqlDialect.ORACLE) {
+            return (value instanceof LocalDate ? "DATE '" : "TIMESTAMP '") + text + "'";
+        }
+        return "'" + text + "'";
+    }
+    
+    private Temporal parseEpoch(Object value, boolean millis) {
+        try {
+            Instant instant;
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                long epoch = ((Number) value).longValue();
+                instant = millis ? Instant.ofEpochMilli(epoch) : Instant.ofEpochSecond(epoch);
+            } else {
+                String text = value.toString().trim();
+                if (value instanceof Number ? !Double.isFinite(((Number) value).doubleValue()) : !isNumber(text)) {
+                    return null;
+                }
+                BigDecimal epoch = new BigDecimal(text);
+                if (millis) {
+                    epoch = epoch.movePointLeft(3);
+                }
+                BigDecimal seconds = epoch.setScale(0, RoundingMode.FLOOR);
+                instant = Instant.ofEpochSecond(seconds.longValueExact(),
+                        epoch.subtract(seconds).movePointRight(9).intValue());
+            }
+            return instant.atOffset(ZoneOffset.UTC);
+        } catch (ArithmeticException | DateTimeException e) {
+            // Out of range
+            return null;
+        }
+    }
+    
+    private Temporal parsePattern(String text) {
+        try {
+            return (Temporal) pattern.parseBest(text, OffsetDateTime::from, LocalDateTime::from, LocalDate::from);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * Parses the common ISO shapes by hand; anything else (offsets other than Z, expanded years) falls back
+     * to the ISO formatters. DATE columns only accept a date.
+     */
+    private Temporal parseIso(String text) {
+        int length = text.length();
+        if (length < 10 || !digits(text, 0, 4) || text.charAt(4) != '-' || !digits(text, 5, 7)
+                || text.charAt(7) != '-' || !digits(text, 8, 10)) {
+            return parseIsoSlow(text);
+        }
+        int year = number(text, 0, 4);
+        int month = number(text, 5, 7);
+        int day = number(text, 8, 10);
+        if (month < 1 || month > 12 || day < 1 || day > Month.of(month).length(Year.isLeap(year))) {
+            return null;
+        }
+        if (length == 10) {
+            return LocalDate.of(year, month, day);
+        }
+        if (dateOnly) {
+            return null;
+        }
+        
+        char separator = text.charAt(10);
+        if ((separator != 'T' && separator != ' ') || length < 16 || !digits(text, 11, 13)
+                || text.charAt(13) != ':' || !digits(text, 14, 16)) {
+            return parseIsoSlow(text);
+        }
+        int hour = number(text, 11, 13);
+        int minute = number(text, 14, 16);
+        int second = 0;
+        int nano = 0;
+        int pos = 16;
+        if (pos < length && text.charAt(pos) == ':') {
+            if (!digits(text, pos + 1, pos + 3)) {
+                return parseIsoSlow(text);
+            }
+            second = number(text, pos + 1, pos + 3);
+            pos += 3;
+            if (pos < length && text.charAt(pos) == '.') {
+                int start = ++pos;
+                while (pos < length && pos - start < 9 && Character.isDigit(text.charAt(pos))) {
+                    nano = nano * 10 + (text.charAt(pos++) - '0');
+                }
+                if (pos == start) {
+                    return null;
+                }
+                for (int i = pos - start; i < 9; i++) {
+                    nano *= 10;
+                }
+            }
+        }
+        if (hour > 23 || minute > 59 || second > 59) {
+            return null;
+        }
+        
+        LocalDateTime dateTime = LocalDateTime.of(year, month, day, hour, minute, second, nano);
+        if (pos == length) {
+            return dateTime;
+        }
+        if (pos == length - 1 && text.charAt(pos) == 'Z') {
+            return dateTime.atOffset(ZoneOffset.UTC);
+        }
+        return parseIsoSlow(text);
+    }
+    
+    private Temporal parseIsoSlow(String text) {
+        try {
+            if (dateOnly) {
+                return LocalDate.parse(text);
+            }
+            String isoText = text.length() > 10 && text.charAt(10) == ' '
+                    ? text.substring(0, 10) + 'T' + text.substring(11)
+                    : text;
+            return (Temporal) DateTimeFormatter.ISO_DATE_TIME.parseBest(isoText, OffsetDateTime::from,
+                    LocalDateTime::from);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+    
+    private static boolean digits(String text, int from, int to) {
+        if (to > text.length()) {
+            return false;
+        }
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static int number(String text, int from, int to) {
+        int n = 0;
+        for (int i = from; i < to; i++) {
+            n = n * 10 + (text.charAt(i) - '0');
+        }
+        return n;
+    }
+    
+    private static boolean isNumber(String text) {
+        int i = text.startsWith("-") ? 1 : 0;
+        boolean digit = false;
+        boolean point = false;
+        for (; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digit = true;
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                return false;
+            }
+        }
+        return digit;
+    }
+}
@@ -0,0 +1,30 @@
+package com.yourcompany.jsontosql.validation;
+
+import java.util.List;
+
+/**
+ * Validation outcome for one row of a batch
+ */
+public class RowValidationResult {
+    
+    private final int row;
+    
+    private final List<RowViolation> violations;
+    
+    public RowValidationResult(int row, List<RowViolation> violations) {
+        this.row = row;
+        this.violations = violations;
+    }
+    
+    public int getRow() {
+        return row;
+    }
+    
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+    
+    public List<RowViolation> getViolations() {
+        return violations;
+    }
+}
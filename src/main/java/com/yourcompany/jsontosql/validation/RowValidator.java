@@ -0,0 +1,288 @@
+package com.yourcompany.jsontosql.validation;
+
+import com.yourcompany.jsontosql.model.ColumnDefinition;
+import com.yourcompany.jsontosql.model.TableDefinition;
+import com.yourcompany.jsontosql.util.TemporalFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Validates extracted rows against a table definition.
+ *
+ * A validator is compiled once per definition: each column's SQL type, length, precision and
+ * scale are parsed up front into a check, so validating a row is a single pass over its values
+ * with no further string parsing of the definition.
+ */
+public class RowValidator {
+    
+    private static final String MISSING_VALUE = "required but value is missing";
+    
+    private final String[] columnNames;
+    private final boolean[] required;
+    private final ColumnCheck[] checks;
+    
+    private RowValidator(String[] columnNames, boolean[] required, ColumnCheck[] checks) {
+        this.columnNames = columnNames;
+        this.required = required;
+        this.checks = checks;
+    }
+    
+    /**
+     * Compiles a validator for the columns of the table definition, in definition order
+     */
+    public static RowValidator compile(TableDefinition tableDefinition) {
+        List<ColumnDefinition> columns = tableDefinition.getColumns();
+        String[] columnNames = new String[columns.size()];
+        boolean[] required = new boolean[columns.size()];
+        ColumnCheck[] checks = new ColumnCheck[columns.size()];
+        
+        for (int i = 0; i < columns.size(); i++) {
+            ColumnDefinition column = columns.get(i);
+            columnNames[i] = column.getName();
+            required[i] = !Boolean.TRUE.equals(column.getNullable())
+                    && !Boolean.TRUE.equals(column.getAutoIncrement())
+                    && column.getDefaultValue() == null;
+            checks[i] = compileCheck(column);
+        }
+        return new RowValidator(columnNames, required, checks);
+    }
+    
+    /**
+     * Validates one row of extracted values (in definition column order), adding any violations to the sink
+     *
+     * @return true if the row is valid
+     */
+    public boolean validate(int rowIndex, Object[] row, List<RowViolation> violations) {
+        return validate(rowIndex, row, false, violations);
+    }
+    
+    /**
+     * Validates only the values present in the row, for statements such as UPDATE that leave missing columns
+     * as they are
+     *
+     * @return true if every present value is valid
+     */
+    public boolean validatePresent(int rowIndex, Object[] row, List<RowViolation> violations) {
+        return validate(rowIndex, row, true, violations);
+    }
+    
+    private boolean validate(int rowIndex, Object[] row, boolean presentOnly, List<RowViolation> violations) {
+        boolean valid = true;
+        for (int i = 0; i < checks.length; i++) {
+            Object value = row[i];
+            String message;
+            if (value == null) {
+                message = required[i] && !presentOnly ? MISSING_VALUE : null;
+            } else {
+                message = checks[i].check(value);
+            }
+            if (message != null) {
+                violations.add(new RowViolation(rowIndex, columnNames[i], message));
+                valid = false;
+            }
+        }
+        return valid;
+    }
+    
+    public int getColumnCount() {
+        return checks.length;
+    }
+    
+    public String getColumnName(int index) {
+        return columnNames[index];
+    }
+    
+    /**
+     * Checks a non-null value, returning a violation message or null if the value is acceptable
+     */
+    @FunctionalInterface
+    interface ColumnCheck {
+        String check(Object value);
+    }
+    
+    private static final ColumnCheck NO_CHECK = value -> null;
+    
+    static ColumnCheck compileCheck(ColumnDefinition column) {
+        String type = column.getType() == null ? "" : column.getType().trim().toUpperCase(Locale.ROOT);
+        int paren = type.indexOf('(');
+        String baseType = (paren >= 0 ? type.substring(0, paren) : type).trim();
+        Integer[] args = typeArguments(type, paren);
+        if (baseType.startsWith("TIMESTAMP")) {
+            // TIMESTAMP WITH [LOCAL] TIME ZONE
+            baseType = "TIMESTAMP";
+        }
+        
+        switch (baseType) {
+            case "CHAR":
+            case "CHARACTER":
+            case "NCHAR":
+            case "VARCHAR":
+            case "VARCHAR2":
+            case "NVARCHAR":
+            case "NVARCHAR2":
+            case "CHARACTER VARYING": {
+                Integer maxLength = column.getMaxLength() != null ? column.getMaxLength() : args[0];
+                return maxLength == null ? NO_CHECK : lengthCheck(maxLength, baseType);
+            }
+            case "TINYINT":
+                return integerCheck(Byte.MIN_VALUE, Byte.MAX_VALUE, baseType);
+            case "SMALLINT":
+                return integerCheck(Short.MIN_VALUE, Short.MAX_VALUE, baseType);
+            case "INT":
+            case "INTEGER":
+            case "MEDIUMINT":
+                return integerCheck(Integer.MIN_VALUE, Integer.MAX_VALUE, baseType);
+            case "BIGINT":
+                return integerCheck(Long.MIN_VALUE, Long.MAX_VALUE, baseType);
+            case "DECIMAL":
+            case "NUMERIC":
+            case "NUMBER": {
+                Integer precision = column.getPrecision() != null ? column.getPrecision() : args[0];
+                Integer scale = column.getScale() != null ? column.getScale() : args[1];
+                return decimalCheck(precision, scale != null ? scale : (precision != null ? 0 : null), baseType);
+            }
+            case "FLOAT":
+            case "DOUBLE":
+            case "DOUBLE PRECISION":
+            case "REAL":
+                return decimalCheck(null, null, baseType);
+            case "BOOLEAN":
+            case "BOOL":
+            case "BIT":
+                return RowValidator::checkBoolean;
+            case "DATE":
+            case "TIMESTAMP":
+            case "DATETIME": {
+                TemporalFormat format = TemporalFormat.forColumn(column);
+                return format == null ? NO_CHECK : temporalCheck(format, baseType);
+            }
+            case "TIME":
+                return value -> {
+                    try {
+                        LocalTime.parse(value.toString());
+                        return null;
+                    } catch (DateTimeParseException e) {
+                        return "value '" + value + "' is not a valid TIME";
+                    }
+                };
+            default:
+                return NO_CHECK;
+        }
+    }
+    
+    private static Integer[] typeArguments(String type, int paren) {
+        Integer[] args = new Integer[2];
+        int close = type.indexOf(')', paren + 1);
+        if (paren < 0 || close < 0) {
+            return args;
+        }
+        String[] parts = type.substring(paren + 1, close).split(",");
+        for (int i = 0; i < parts.length && i < args.length; i++) {
+            try {
+                args[i] = Integer.parseInt(parts[i].trim());
+            } catch (NumberFormatException e) {
+                // e.g. VARCHAR(MAX) or VARCHAR2(20 CHAR): no limit we can enforce
+                args[i] = null;
+            }
+        }
+        return args;
+    }
+    
+    private static ColumnCheck lengthCheck(int maxLength, String baseType) {
+        return value -> {
+            int length = value.toString().length();
+            return length > maxLength
+                    ? "value length " + length + " exceeds " + baseType + "(" + maxLength + ")"
+                    : null;
+        };
+    }
+    
+    private static ColumnCheck integerCheck(long min, long max, String baseType) {
+        return value -> {
+            BigDecimal number = toBigDecimal(value);
+            if (number == null) {
+                return "value '" + value + "' is not a valid " + baseType;
+            }
+            if (number.stripTrailingZeros().scale() > 0) {
+                return "value '" + value + "' is not an integer";
+            }
+            if (number.compareTo(BigDecimal.valueOf(min)) < 0 || number.compareTo(BigDecimal.valueOf(max)) > 0) {
+                return "value '" + value + "' is out of range for " + baseType;
+            }
+            return null;
+        };
+    }
+    
+    private static ColumnCheck decimalCheck(Integer precision, Integer scale, String baseType) {
+        return value -> {
+            BigDecimal number = toBigDecimal(value);
+            if (number == null) {
+                return "value '" + value + "' is not a valid " + baseType;
+            }
+            if (precision == null) {
+                return null;
+            }
+            BigDecimal normalized = number.stripTrailingZeros();
+            int valueScale = Math.max(normalized.scale(), 0);
+            int integerDigits = Math.max(normalized.precision() - normalized.scale(), 0);
+            if (scale != null && valueScale > scale) {
+                return "value '" + value + "' has scale " + valueScale + " but " + baseType + "("
+                        + precision + "," + scale + ") allows " + scale;
+            }
+            int maxIntegerDigits = precision - (scale != null ? scale : 0);
+            if (integerDigits > maxIntegerDigits) {
+                return "value '" + value + "' exceeds precision of " + baseType + "("
+                        + precision + "," + (scale != null ? scale : 0) + ")";
+            }
+            return null;
+        };
+    }
+    
+    private static ColumnCheck temporalCheck(TemporalFormat format, String baseType) {
+        String expected = format.isExplicit() ? " (expected format '" + format.getFormat() + "')" : "";
+        return value -> format.parse(value) != null ? null
+                : "value '" + value + "' is not a valid " + baseType + expected;
+    }
+    
+    private static String checkBoolean(Object value) {
+        if (value instanceof Boolean) {
+            return null;
+        }
+        switch (value.toString().toLowerCase(Locale.ROOT)) {
+            case "true":
+            case "false":
+            case "1":
+            case "0":
+            case "yes":
+            case "no":
+                return null;
+            default:
+                return "value '" + value + "' is not a valid BOOLEAN";
+        }
+    }
+    
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        }
+        if (value instanceof Double || value instanceof Float) {
+            double d = ((Number) value).doubleValue();
+            return Double.isFinite(d) ? BigDecimal.valueOf(d) : null;
+        }
+        if (value instanceof Boolean) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value.toString().trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.yourcompany.jsontosql.validation;
+
+import com.yourcompany.jsontosql.model.TableDefinition;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds one compiled RowValidator per table, recompiled when the definition version changes.
+ * Child tables are keyed under their parent table, since they share its version.
+ * Definitions without a version (not managed by TableDefinitionService) are compiled on every call.
+ */
+@Component
+public class RowValidatorCache {
+    
+    private final Map<Key, CompiledValidator> validators = new ConcurrentHashMap<>();
+    
+    public RowValidator getValidator(TableDefinition tableDefinition) {
+        return getValidator(tableDefinition.getTableName(), tableDefinition);
+    }
+    
+    /**
+     * Returns the validator of a table owned by another one, such as a child table of {@code owner}
+     */
+    public RowValidator getValidator(String owner, TableDefinition tableDefinition) {
+        long version = tableDefinition.getVersion();
+        if (version == 0) {
+            return RowValidator.compile(tableDefinition);
+        }
+        
+        Key key = new Key(owner.toLowerCase(), tableDefinition.getTableName().toLowerCase());
+        CompiledValidator cached = validators.get(key);
+        if (cached != null && cached.version == version) {
+            return cached.validator;
+        }
+        
+        RowValidator validator = RowValidator.compile(tableDefinition);
+        validators.merge(key, new CompiledValidator(version, validator),
+                (existing, compiled) -> existing.version > compiled.version ? existing : compiled);
+        return validator;
+    }
+    
+    private static final class CompiledValidator {
+        private final long version;
+        private final RowValidator validator;
+        
+        CompiledValidator(long version, RowValidator validator) {
+            this.version = version;
+            this.validator = validator;
+        }
+    }
+    
+    private static final class Key {
+        private final String owner; // Top-level table the entry belongs to; the table itself unless a child table
+        private final String tableName;
+        
+        Key(String owner, String tableName) {
+            this.owner = owner;
+            this.tableName = tableName;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return owner.equals(key.owner) && tableName.equals(key.tableName);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(owner, tableName);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.yourcompany.jsontosql.validation;
+
+/**
+ * A single validation failure for one column of one row
+ */
+public class RowViolation {
+    
+    private final int rowIndex;
+    
+    private final String column;
+    
+    private final String message;
+    
+    public RowViolation(int rowIndex, String column, String message) {
+        this.rowIndex = rowIndex;
+        this.column = column;
+        this.message = message;
+    }
+    
+    public int getRowIndex() {
+        return rowIndex;
+    }
+    
+    public String getColumn() {
+        return column;
+    }
+    
+    public String getMessage() {
+        return message;
+    }
+    
+    @Override
+    public String toString() {
+        return "Row " + rowIndex + ", column '" + column + "': " + message;
+    }
+}
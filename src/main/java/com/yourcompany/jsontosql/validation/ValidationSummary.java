@@ -0,0 +1,68 @@
+package com.yourcompany.jsontosql.validation;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Compact summary of a batch validation: row counts, error counts per column and the
+ * first few error messages per column. Memory use is bounded regardless of batch size.
+ */
+public class ValidationSummary implements Consumer<RowValidationResult> {
+    
+    private final int maxErrorsPerColumn;
+    
+    private long rowCount;
+    
+    private long invalidRowCount;
+    
+    private final Map<String, Long> errorCounts = new LinkedHashMap<>();
+    
+    private final Map<String, List<String>> sampleErrors = new LinkedHashMap<>();
+    
+    public ValidationSummary(int maxErrorsPerColumn) {
+        this.maxErrorsPerColumn = maxErrorsPerColumn;
+    }
+    
+    @Override
+    public void accept(RowValidationResult result) {
+        rowCount++;
+        if (result.isValid()) {
+            return;
+        }
+        invalidRowCount++;
+        for (RowViolation violation : result.getViolations()) {
+            errorCounts.merge(violation.getColumn(), 1L, Long::sum);
+            List<String> samples = sampleErrors.computeIfAbsent(violation.getColumn(), column -> new ArrayList<>());
+            if (samples.size() < maxErrorsPerColumn) {
+                samples.add(violation.toString());
+            }
+        }
+    }
+    
+    public boolean isValid() {
+        return invalidRowCount == 0;
+    }
+    
+    public long getRowCount() {
+        return rowCount;
+    }
+    
+    public long getValidRowCount() {
+        return rowCount - invalidRowCount;
+    }
+    
+    public long getInvalidRowCount() {
+        return invalidRowCount;
+    }
+    
+    public Map<String, Long> getErrorCounts() {
+        return errorCounts;
+    }
+    
+    public Map<String, List<String>> getSampleErrors() {
+        return sampleErrors;
+    }
+}
@@ -0,0 +1,104 @@
+package com.yourcompany.jsontosql.workload;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourcompany.jsontosql.service.TableDefinitionWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes a synthetic table definition into the definition storage directory and its payload rows to a file.
+ *
+ * <pre>
+ * java -cp ... com.yourcompany.jsontosql.workload.WorkloadCli --table wide --columns 500 --depth 4 --rows 100000 \
+ *     --sparsity 0.2 --string-length 64 --quote-density 0.05 --format ndjson --out wide.ndjson
+ * </pre>
+ */
+public class WorkloadCli {
+    
+    private static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: WorkloadCli [options]",
+            "  --table <name>          table name (default synthetic)",
+            "  --columns <n>           column count including the id key (default 20)",
+            "  --depth <n>             maximum jsonPath nesting depth (default 2)",
+            "  --types <t1,t2,...>     column types to cycle through (default " + String.join(",", WorkloadSpec.DEFAULT_TYPES) + ")",
+            "  --rows <n>              payload rows (default 1000)",
+            "  --sparsity <0..1>       probability a nullable field is absent (default 0.1)",
+            "  --string-length <n>     average string length (default 32)",
+            "  --quote-density <0..1>  probability a string character is a single quote (default 0.01)",
+            "  --seed <n>              random seed (default 42)",
+            "  --format <array|ndjson> payload format (default array)",
+            "  --storage-dir <dir>     definition directory (default ~/.json-to-sql/table-definitions)",
+            "  --out <file>            payload file (default <table>.json or <table>.ndjson)");
+    
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        if (options.containsKey("help")) {
+            System.out.println(USAGE);
+            return;
+        }
+        
+        WorkloadSpec spec = WorkloadSpec.builder()
+                .tableName(options.getOrDefault("table", "synthetic"))
+                .columnCount(Integer.parseInt(options.getOrDefault("columns", "20")))
+                .nestingDepth(Integer.parseInt(options.getOrDefault("depth", "2")))
+                .types(options.containsKey("types")
+                        ? Arrays.asList(options.get("types").split(","))
+                        : WorkloadSpec.DEFAULT_TYPES)
+                .rowCount(Integer.parseInt(options.getOrDefault("rows", "1000")))
+                .sparsity(Double.parseDouble(options.getOrDefault("sparsity", "0.1")))
+                .stringLength(Integer.parseInt(options.getOrDefault("string-length", "32")))
+                .quoteDensity(Double.parseDouble(options.getOrDefault("quote-density", "0.01")))
+                .seed(Long.parseLong(options.getOrDefault("seed", "42")))
+                .build();
+        boolean ndjson = "ndjson".equalsIgnoreCase(options.getOrDefault("format", "array"));
+        String storageDir = options.getOrDefault("storage-dir",
+                Paths.get(System.getProperty("user.home"), ".json-to-sql", "table-definitions").toString());
+        Path out = Paths.get(options.getOrDefault("out", spec.getTableName() + (ndjson ? ".ndjson" : ".json")));
+        
+        WorkloadGenerator generator = new WorkloadGenerator(spec);
+        TableDefinitionWriter writer = new TableDefinitionWriter(new ObjectMapper(), storageDir, false, 0);
+        writer.write(generator.tableDefinition());
+        if (writer.getFailureCount() > 0) {
+            throw new IllegalStateException("Could not write table definition to " + storageDir);
+        }
+        
+        long start = System.nanoTime();
+        if (out.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(out.toAbsolutePath().getParent());
+        }
+        try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(out), 1 << 16)) {
+            generator.writeRows(stream, ndjson);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        
+        System.out.printf("Wrote definition '%s' (%d columns) to %s%n",
+                spec.getTableName(), spec.getColumnCount(), storageDir);
+        System.out.printf("Wrote %d rows (%d bytes) to %s in %.2fs%n",
+                spec.getRowCount(), Files.size(out), out, seconds);
+    }
+    
+    static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + args[i] + System.lineSeparator() + USAGE);
+            }
+            String name = args[i].substring(2);
+            if (name.equals("help")) {
+                options.put(name, "true");
+            } else if (i + 1 < args.length) {
+                options.put(name, args[++i]);
+            } else {
+                throw new IllegalArgumentException("Missing value for --" + name + System.lineSeparator() + USAGE);
+            }
+        }
+        return options;
+    }
+}
@@ -0,0 +1,298 @@
+package com.yourcompany.jsontosql.workload;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.yourcompany.jsontosql.model.ColumnDefinition;
+import com.yourcompany.jsontosql.model.TableDefinition;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Generates a synthetic table definition and matching JSON rows from a {@link WorkloadSpec}.
+ *
+ * The first column is a non-null BIGINT {@code id} key; the rest cycle through the spec's types and are
+ * spread over jsonPath depths 0..nestingDepth ({@code $.c1}, {@code $.l1.c2}, {@code $.l1.l2.c3}, ...).
+ * Rows are deterministic: the same spec and row index always produce the same JSON, and every generated
+ * value passes validation against the generated definition.
+ */
+public class WorkloadGenerator {
+    
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final LocalDate BASE_DATE = LocalDate.of(2020, 1, 1);
+    private static final String TEXT_CHARS = "abcdefghijklmnopqrstuvwxyz ";
+    
+    private final WorkloadSpec spec;
+    private final TableDefinition tableDefinition;
+    private final Column[] columns;
+    private final int maxDepth;
+    
+    public WorkloadGenerator(WorkloadSpec spec) {
+        this.spec = spec;
+        this.columns = new Column[spec.getColumnCount()];
+        List<ColumnDefinition> definitions = new ArrayList<>();
+        int deepest = 0;
+        for (int i = 0; i < columns.length; i++) {
+            Column column = i == 0 ? keyColumn() : column(i);
+            columns[i] = column;
+            definitions.add(column.definition);
+            deepest = Math.max(deepest, column.depth);
+        }
+        this.maxDepth = deepest;
+        this.tableDefinition = TableDefinition.builder()
+                .tableName(spec.getTableName())
+                .description("Synthetic workload: " + spec.getColumnCount() + " columns, depth " + spec.getNestingDepth())
+                .columns(definitions)
+                .build();
+    }
+    
+    public WorkloadSpec getSpec() {
+        return spec;
+    }
+    
+    public TableDefinition tableDefinition() {
+        return tableDefinition;
+    }
+    
+    /**
+     * Returns the column with the deepest jsonPath (the first one, if several share the depth)
+     */
+    public ColumnDefinition deepestColumn() {
+        Column deepest = columns[0];
+        for (Column column : columns) {
+            if (column.depth > deepest.depth) {
+                deepest = column;
+            }
+        }
+        return deepest.definition;
+    }
+    
+    /**
+     * One row as a JSON object
+     */
+    public String row(int index) {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+            writeRow(generator, index);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+    
+    /**
+     * {@code count} consecutive rows starting at {@code firstRow}, as a JSON array
+     */
+    public String batch(int firstRow, int count) {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+            generator.writeStartArray();
+            for (int i = 0; i < count; i++) {
+                writeRow(generator, firstRow + i);
+            }
+            generator.writeEndArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+    
+    /**
+     * Streams all {@link WorkloadSpec#getRowCount()} rows, as a JSON array or as NDJSON (one object per line).
+     * The stream is not closed.
+     */
+    public void writeRows(OutputStream out, boolean ndjson) throws IOException {
+        JsonGenerator generator = JSON_FACTORY.createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        if (ndjson) {
+            generator.setRootValueSeparator(null);
+            for (int i = 0; i < spec.getRowCount(); i++) {
+                writeRow(generator, i);
+                generator.writeRaw('\n');
+            }
+        } else {
+            generator.writeStartArray();
+            for (int i = 0; i < spec.getRowCount(); i++) {
+                writeRow(generator, i);
+            }
+            generator.writeEndArray();
+        }
+        generator.close();
+    }
+    
+    /**
+     * Text of the given length using the spec's quote density
+     */
+    public String text(int length, long seed) {
+        return text(new SplittableRandom(seed), length);
+    }
+    
+    private void writeRow(JsonGenerator generator, int index) throws IOException {
+        SplittableRandom random = new SplittableRandom(spec.getSeed() * 0x9E3779B97F4A7C15L + index);
+        writeLevel(generator, 0, index, random);
+    }
+    
+    private void writeLevel(JsonGenerator generator, int depth, int index, SplittableRandom random) throws IOException {
+        generator.writeStartObject();
+        for (Column column : columns) {
+            if (column.depth != depth) {
+                continue;
+            }
+            boolean absent = column.definition.getNullable() && random.nextDouble() < spec.getSparsity();
+            if (!absent) {
+                generator.writeFieldName(column.fieldName);
+                writeValue(generator, column, index, random);
+            }
+        }
+        if (depth < maxDepth) {
+            generator.writeFieldName("l" + (depth + 1));
+            writeLevel(generator, depth + 1, index, random);
+        }
+        generator.writeEndObject();
+    }
+    
+    private void writeValue(JsonGenerator generator, Column column, int index, SplittableRandom random) throws IOException {
+        switch (column.kind) {
+            case KEY -> generator.writeNumber(index + 1L);
+            case TEXT -> generator.writeString(text(random, varyLength(random)));
+            case TINYINT -> generator.writeNumber(random.nextInt(128));
+            case SMALLINT -> generator.writeNumber(random.nextInt(32768));
+            case INT -> generator.writeNumber(random.nextInt(1_000_000));
+            case BIGINT -> generator.writeNumber(random.nextLong(1L << 40));
+            case DECIMAL -> {
+                long integerBound = (long) Math.pow(10, Math.min(column.precision - column.scale, 15));
+                long unscaled = random.nextLong(Math.max(integerBound, 1)) * (long) Math.pow(10, column.scale)
+                        + random.nextLong((long) Math.pow(10, column.scale));
+                generator.writeNumber(BigDecimal.valueOf(unscaled, column.scale));
+            }
+            case FLOAT -> generator.writeNumber(random.nextDouble() * 1000);
+            case BOOLEAN -> generator.writeBoolean(random.nextBoolean());
+            case DATE -> generator.writeString(BASE_DATE.plusDays(random.nextInt(2000)).toString());
+            case TIMESTAMP -> generator.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(
+                    LocalDateTime.of(BASE_DATE.plusDays(random.nextInt(2000)), LocalTime.ofSecondOfDay(random.nextInt(86_400)))));
+            case TIME -> generator.writeString(DateTimeFormatter.ISO_LOCAL_TIME.format(
+                    LocalTime.ofSecondOfDay(random.nextInt(86_400))));
+        }
+    }
+    
+    private int varyLength(SplittableRandom random) {
+        int average = spec.getStringLength();
+        return average <= 1 ? average : average / 2 + random.nextInt(average + 1);
+    }
+    
+    private String text(SplittableRandom random, int length) {
+        char[] text = new char[length];
+        for (int i = 0; i < length; i++) {
+            text[i] = random.nextDouble() < spec.getQuoteDensity()
+                    ? '\''
+                    : TEXT_CHARS.charAt(random.nextInt(TEXT_CHARS.length()));
+        }
+        return new String(text);
+    }
+    
+    private Column keyColumn() {
+        ColumnDefinition definition = ColumnDefinition.builder()
+                .name("id")
+                .type("BIGINT")
+                .nullable(false)
+                .primaryKey(true)
+                .jsonPath("$.id")
+                .build();
+        return new Column(definition, "id", 0, Kind.KEY, 0, 0);
+    }
+    
+    private Column column(int i) {
+        String type = spec.getTypes().get((i - 1) % spec.getTypes().size()).trim().toUpperCase(Locale.ROOT);
+        Kind kind = Kind.of(type);
+        int precision = 10;
+        int scale = 2;
+        if (kind == Kind.TEXT && !type.contains("(")) {
+            // Room for the longest generated string
+            type = type + "(" + Math.max(spec.getStringLength() * 3 / 2 + 1, 1) + ")";
+        } else if (kind == Kind.DECIMAL) {
+            int[] arguments = typeArguments(type);
+            precision = arguments.length > 0 ? arguments[0] : precision;
+            scale = arguments.length > 1 ? arguments[1] : 0;
+        }
+        
+        int depth = i % (spec.getNestingDepth() + 1);
+        StringBuilder path = new StringBuilder("$");
+        for (int level = 1; level <= depth; level++) {
+            path.append(".l").append(level);
+        }
+        String fieldName = "c" + i;
+        path.append('.').append(fieldName);
+        
+        ColumnDefinition definition = ColumnDefinition.builder()
+                .name(fieldName)
+                .type(type)
+                .nullable(true)
+                .jsonPath(path.toString())
+                .build();
+        return new Column(definition, fieldName, depth, kind, precision, scale);
+    }
+    
+    private static int[] typeArguments(String type) {
+        int open = type.indexOf('(');
+        int close = type.indexOf(')');
+        if (open < 0 || close < open) {
+            return new int[0];
+        }
+        String[] parts = type.substring(open + 1, close).split(",");
+        int[] arguments = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            arguments[i] = Integer.parseInt(parts[i].trim());
+        }
+        return arguments;
+    }
+    
+    private enum Kind {
+        KEY, TEXT, TINYINT, SMALLINT, INT, BIGINT, DECIMAL, FLOAT, BOOLEAN, DATE, TIMESTAMP, TIME;
+        
+        static Kind of(String type) {
+            String base = type.contains("(") ? type.substring(0, type.indexOf('(')).trim() : type;
+            return switch (base) {
+                case "TINYINT" -> TINYINT;
+                case "SMALLINT" -> SMALLINT;
+                case "INT", "INTEGER" -> INT;
+                case "BIGINT" -> BIGINT;
+                case "DECIMAL", "NUMERIC", "NUMBER" -> DECIMAL;
+                case "FLOAT", "DOUBLE", "REAL" -> FLOAT;
+                case "BOOLEAN", "BOOL" -> BOOLEAN;
+                case "DATE" -> DATE;
+                case "TIMESTAMP", "DATETIME" -> TIMESTAMP;
+                case "TIME" -> TIME;
+                default -> TEXT;
+            };
+        }
+    }
+    
+    private static final class Column {
+        private final ColumnDefinition definition;
+        private final String fieldName;
+        private final int depth;
+        private final Kind kind;
+        private final int precision;
+        private final int scale;
+        
+        Column(ColumnDefinition definition, String fieldName, int depth, Kind kind, int precision, int scale) {
+            this.definition = definition;
+            this.fieldName = fieldName;
+            this.depth = depth;
+            this.kind = kind;
+            this.precision = precision;
+            this.scale = scale;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.yourcompany.jsontosql.workload;
+
+import java.util.List;
+
+/**
+ * Shape of a synthetic table definition and its payload rows
+ */
+public class WorkloadSpec {
+    
+    public static final List<String> DEFAULT_TYPES =
+            List.of("VARCHAR", "INT", "BIGINT", "DECIMAL(12,2)", "BOOLEAN", "DATE", "TIMESTAMP");
+    
+    private String tableName = "synthetic";
+    
+    private int columnCount = 20; // Including the leading BIGINT "id" key column
+    
+    private int nestingDepth = 2; // Columns are spread over jsonPath depths 0..nestingDepth
+    
+    private List<String> types = DEFAULT_TYPES; // Cycled over the non-key columns
+    
+    private int rowCount = 1000;
+    
+    private double sparsity = 0.1; // Probability that a nullable field is absent from a row
+    
+    private int stringLength = 32; // Average string length; actual lengths vary +/- 50%
+    
+    private double quoteDensity = 0.01; // Probability that a string character is a single quote
+    
+    private long seed = 42;
+    
+    public WorkloadSpec() {
+    }
+    
+    public String getTableName() {
+        return tableName;
+    }
+    
+    public void setTableName(String tableName) {
+        this.tableName = tableName;
+    }
+    
+    public int getColumnCount() {
+        return columnCount;
+    }
+    
+    public void setColumnCount(int columnCount) {
+        this.columnCount = columnCount;
+    }
+    
+    public int getNestingDepth() {
+        return nestingDepth;
+    }
+    
+    public void setNestingDepth(int nestingDepth) {
+        this.nestingDepth = nestingDepth;
+    }
+    
+    public List<String> getTypes() {
+        return types;
+    }
+    
+    public void setTypes(List<String> types) {
+        this.types = types;
+    }
+    
+    public int getRowCount() {
+        return rowCount;
+    }
+    
+    public void setRowCount(int rowCount) {
+        this.rowCount = rowCount;
+    }
+    
+    public double getSparsity() {
+        return sparsity;
+    }
+    
+    public void setSparsity(double sparsity) {
+        this.sparsity = sparsity;
+    }
+    
+    public int getStringLength() {
+        return stringLength;
+    }
+    
+    public void setStringLength(int stringLength) {
+        this.stringLength = stringLength;
+    }
+    
+    public double getQuoteDensity() {
+        return quoteDensity;
+    }
+    
+    public void setQuoteDensity(double quoteDensity) {
+        this.quoteDensity = quoteDensity;
+    }
+    
+    public long getSeed() {
+        return seed;
+    }
+    
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+    
+    // Builder pattern
+    public static Builder builder() {
+        return new Builder();
+    }
+    
+    public static class Builder {
+        private final WorkloadSpec spec = new WorkloadSpec();
+        
+        public Builder tableName(String tableName) {
+            spec.setTableName(tableName);
+            return this;
+        }
+        
+        public Builder columnCount(int columnCount) {
+            spec.setColumnCount(columnCount);
+            return this;
+        }
+        
+        public Builder nestingDepth(int nestingDepth) {
+            spec.setNestingDepth(nestingDepth);
+            return this;
+        }
+        
+        public Builder types(List<String> types) {
+            spec.setTypes(types);
+            return this;
+        }
+        
+        public Builder rowCount(int rowCount) {
+            spec.setRowCount(rowCount);
+            return this;
+        }
+        
+        public Builder sparsity(double sparsity) {
+            spec.setSparsity(sparsity);
+            return this;
+        }
+        
+        public Builder stringLength(int stringLength) {
+            spec.setStringLength(stringLength);
+            return this;
+        }
+        
+        public Builder quoteDensity(double quoteDensity) {
+            spec.setQuoteDensity(quoteDensity);
+            return this;
+        }
+        
+        public Builder seed(long seed) {
+            spec.setSeed(seed);
+            return this;
+        }
+        
+        public WorkloadSpec build() {
+            if (spec.getColumnCount() < 1) {
+                throw new IllegalArgumentException("columnCount must be at least 1");
+            }
+            if (spec.getNestingDepth() < 0) {
+                throw new IllegalArgumentException("nestingDepth must not be negative");
+            }
+            if (spec.getTypes() == null || spec.getTypes().isEmpty()) {
+                throw new IllegalArgumentException("At least one column type is required");
+            }
+            return spec;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.yourcompany.jsontosql;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourcompany.jsontosql.model.ChildTableDefinition;
+import com.yourcompany.jsontosql.model.ColumnDefinition;
+import com.yourcompany.jsontosql.model.IndexDefinition;
+import com.yourcompany.jsontosql.model.TableDefinition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonToSqlConverterTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    void testConvertsNdjsonWithDdl() throws Exception {
+        writeDefinition();
+        Path input = tempDir.resolve("users.ndjson");
+        Files.writeString(input, "{\"user\":{\"name\":\"john\"}}\n{\"user\":{\"name\":\"o'brien\"}}\n");
+        Path output = tempDir.resolve("out/users.sql");
+        
+        JsonToSqlConverter.Result result = new JsonToSqlConverter().convert(Map.of(
+                "definition", "users",
+                "storage-dir", tempDir.toString(),
+                "input", input.toString(),
+                "output", output.toString(),
+                "include-ddl", "true"));
+        
+        assertEquals(2, result.getRows());
+        assertEquals(0, result.getFailedRows());
+        String sql = Files.readString(output);
+        assertTrue(sql.startsWith("CREATE TABLE \"users\""));
+        assertTrue(sql.contains("INSERT INTO \"users\" (\"username\") VALUES ('john');"));
+        assertTrue(sql.contains("VALUES ('o''brien');"));
+    }
+    
+    @Test
+    void testIncludeDdlCreatesChildTables() throws Exception {
+        TableDefinition definition = TableDefinition.builder()
+                .tableName("orders")
+                .columns(List.of(ColumnDefinition.builder()
+                        .name("id").type("BIGINT").nullable(false).primaryKey(true).build()))
+                .childTables(List.of(ChildTableDefinition.builder()
+                        .tableName("order_lines")
+                        .arrayPath("lines")
+                        .parentKeys(List.of("id"))
+                        .columns(List.of(ColumnDefinition.builder().name("sku").type("VARCHAR(10)").build()))
+                        .build()))
+                .build();
+        Path definitionFile = tempDir.resolve("orders.json");
+        new ObjectMapper().writeValue(definitionFile.toFile(), definition);
+        Path input = tempDir.resolve("orders.ndjson");
+        Files.writeString(input, "{\"id\":1,\"lines\":[{\"sku\":\"A\"},{\"sku\":\"B\"}]}\n");
+        Path output = tempDir.resolve("orders.sql");
+        
+        new JsonToSqlConverter().convert(Map.of(
+                "definition", definitionFile.toString(),
+                "input", input.toString(),
+                "output", output.toString(),
+                "include-ddl", "true"));
+        
+        String sql = Files.readString(output);
+        assertTrue(sql.startsWith("CREATE TABLE \"orders\""));
+        int childDdl = sql.indexOf("CREATE TABLE \"order_lines\"");
+        assertTrue(childDdl > 0);
+        assertTrue(childDdl < sql.indexOf("INSERT INTO \"order_lines\""));
+        assertEquals(2, sql.split("INSERT INTO \"order_lines\"", -1).length - 1);
+    }
+    
+    @Test
+    void testIncludeDdlCreatesIndexesAfterRows() throws Exception {
+        TableDefinition definition = TableDefinition.builder()
+                .tableName("accounts")
+                .columns(List.of(
+                        ColumnDefinition.builder().name("id").type("BIGINT").nullable(false).primaryKey(true).build(),
+                        ColumnDefinition.builder().name("email").type("VARCHAR(50)").build()))
+                .indexes(List.of(IndexDefinition.builder().columns(List.of("email")).build()))
+                .build();
+        Path definitionFile = tempDir.resolve("accounts.json");
+        new ObjectMapper().writeValue(definitionFile.toFile(), definition);
+        Path input = tempDir.resolve("accounts.ndjson");
+        Files.writeString(input, "{\"id\":1,\"email\":\"a@x\"}\n");
+        Path output = tempDir.resolve("accounts.sql");
+        
+        new JsonToSqlConverter().convert(Map.of(
+                "definition", definitionFile.toString(),
+                "input", input.toString(),
+                "output", output.toString(),
+                "include-ddl", "true"));
+        
+        String sql = Files.readString(output);
+        assertTrue(sql.indexOf("INSERT INTO \"accounts\"") < sql.indexOf("CREATE INDEX"));
+        assertTrue(sql.endsWith("CREATE INDEX \"accounts_email_idx\" ON \"accounts\" (\"email\");\n\n"));
+    }
+    
+    @Test
+    void testRejectsBadRowsFromGzippedArray() throws Exception {
+        Path definition = writeDefinition();
+        Path input = tempDir.resolve("users.json.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(input))) {
+            out.write("[{\"user\":{\"name\":\"john\"}},{\"user\":{}},{\"user\":{\"name\":\"jane\"}}]"
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+        Path output = tempDir.resolve("users.sql");
+        
+        JsonToSqlConverter.Result result = new JsonToSqlConverter().convert(Map.of(
+                "definition", definition.toString(),
+                "input", input.toString(),
+                "output", output.toString(),
+                "on-row-error", "reject"));
+        
+        assertEquals(3, result.getRows());
+        assertEquals(1, result.getFailedRows());
+        assertEquals(2, Files.readString(output).split("INSERT INTO", -1).length - 1);
+        assertEquals(List.of("{\"user\":{}}"), Files.readAllLines(tempDir.resolve("users.sql.rejected.ndjson")));
+    }
+    
+    @Test
+    void testDeltaRunsOnlyWriteChangedRows() throws Exception {
+        TableDefinition definition = TableDefinition.builder()
+                .tableName("accounts")
+                .columns(List.of(
+                        ColumnDefinition.builder().name("id").type("BIGINT").nullable(false).primaryKey(true).build(),
+                        ColumnDefinition.builder().name("balance").type("DECIMAL(10,2)").build()))
+                .build();
+        Path definitionFile = tempDir.resolve("accounts.json");
+        new ObjectMapper().writeValue(definitionFile.toFile(), definition);
+        Path fingerprints = tempDir.resolve("accounts.fingerprints");
+        Path input = tempDir.resolve("accounts.ndjson");
+        Path output = tempDir.resolve("accounts.sql");
+        Map<String, String> options = Map.of(
+                "definition", definitionFile.toString(),
+                "input", input.toString(),
+                "output", output.toString(),
+                "fingerprints", fingerprints.toString());
+        
+        Files.writeString(input, "{\"id\":1,\"balance\":10}\n{\"id\":2,\"balance\":20}\n{\"id\":3,\"balance\":30}\n");
+        JsonToSqlConverter.Result first = new JsonToSqlConverter().convert(options);
+        assertEquals(3, first.getDelta().getInserted());
+        assertEquals(3, Files.readString(output).split("INSERT INTO", -1).length - 1);
+        
+        Files.writeString(input, "{\"id\":1,\"balance\":10}\n{\"id\":2,\"balance\":25}\n{\"id\":4,\"balance\":40}\n");
+        JsonToSqlConverter.Result second = new JsonToSqlConverter().convert(options);
+        assertEquals(3, second.getRows());
+        assertEquals(1, second.getDelta().getUnchanged());
+        assertEquals(String.join("\n\n",
+                "UPDATE \"accounts\" SET \"balance\" = 25 WHERE \"id\" = 2;",
+                "INSERT INTO \"accounts\" (\"id\", \"balance\") VALUES (4, 40);",
+                "DELETE FROM \"accounts\" WHERE \"id\" = 3;") + "\n\n", Files.readString(output));
+    }
+    
+    @Test
+    void testParseOptions() {
+        Map<String, String> options = JsonToSqlConverter.parseOptions(
+                new String[]{"--definition", "users", "--include-ddl", "--output", "out.sql"});
+        
+        assertEquals("users", options.get("definition"));
+        assertEquals("true", options.get("include-ddl"));
+        assertEquals("out.sql", options.get("output"));
+        assertThrows(IllegalArgumentException.class, () -> JsonToSqlConverter.parseOptions(new String[]{"--input"}));
+    }
+    
+    private Path writeDefinition() throws Exception {
+        TableDefinition definition = TableDefinition.builder()
+                .tableName("users")
+                .columns(List.of(ColumnDefinition.builder()
+                        .name("username")
+                        .type("VARCHAR(50)")
+                        .nullable(false)
+                        .jsonPath("user.name")
+                        .build()))
+                .build();
+        Path file = tempDir.resolve("users.json");
+        new ObjectMapper().writeValue(file.toFile(), definition);
+        return file;
+    }
+}
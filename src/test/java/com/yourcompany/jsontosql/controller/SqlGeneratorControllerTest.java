@@ -1,27 +1,53 @@
 package com.yourcompany.jsontosql.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourcompany.jsontosql.generator.SqlScriptGenerator;
+import com.yourcompany.jsontosql.model.GenerationProfile;
+import com.yourcompany.jsontosql.model.RowErrorMode;
+import com.yourcompany.jsontosql.model.ScriptOptions;
+import com.yourcompany.jsontosql.model.SqlDialect;
 import com.yourcompany.jsontosql.model.SqlGenerationRequest;
+import com.yourcompany.jsontosql.model.SqlGenerationResponse;
 import com.yourcompany.jsontosql.model.TableDefinition;
+import com.yourcompany.jsontosql.exception.TableDefinitionNotFoundException;
 import com.yourcompany.jsontosql.service.SqlGeneratorService;
+import com.yourcompany.jsontosql.service.SqlScriptStream;
 import com.yourcompany.jsontosql.service.TableDefinitionService;
+import com.yourcompany.jsontosql.validation.RowValidationResult;
+import com.yourcompany.jsontosql.validation.RowViolation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static org.hamcrest.Matchers.containsString;
 
 @WebMvcTest(SqlGeneratorController.class)
 class SqlGeneratorControllerTest {
@@ -66,6 +92,43 @@ class SqlGeneratorControllerTest {
         verify(sqlGeneratorService, times(1)).generateSql(any(SqlGenerationRequest.class));
     }
     
+    @Test
+    void testGenerateSql_WithProfileHeader() throws Exception {
+        String requestJson = """
+            {
+              "tableName": "users",
+              "jsonData": "{\\"user\\":{\\"name\\":\\"john_doe\\"}}"
+            }
+            """;
+        
+        GenerationProfile profile = new GenerationProfile();
+        profile.getStageNanos().put("extract", 1_500_000L);
+        profile.getStageNanos().put("format", 250_000L);
+        profile.setTotalNanos(2_000_000L);
+        profile.setRowCount(1);
+        profile.setColumnCount(2);
+        SqlGenerationResponse response = SqlGenerationResponse.builder()
+                .tableName("users")
+                .statementCount(1)
+                .build();
+        response.setProfile(profile);
+        
+        reset(sqlGeneratorService);
+        when(sqlGeneratorService.generateSql(any(SqlGenerationRequest.class), eq(true))).thenReturn(response);
+        
+        mockMvc.perform(post("/api/v1/sql/generate")
+                        .header("X-Generation-Profile", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Server-Timing", "extract;dur=1.500, format;dur=0.250, total;dur=2.000"))
+                .andExpect(jsonPath("$.profile.stageNanos.extract").value(1_500_000))
+                .andExpect(jsonPath("$.profile.rowCount").value(1))
+                .andExpect(jsonPath("$.profile.columnCount").value(2));
+        
+        verify(sqlGeneratorService, never()).generateSql(any(SqlGenerationRequest.class));
+    }
+    
     @Test
     void testGenerateSql_InvalidRequest() throws Exception {
         // Create invalid request JSON with empty table name
@@ -109,4 +172,187 @@ class SqlGeneratorControllerTest {
         
         verify(sqlGeneratorService).validateJson(eq("users"), anyString());
     }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void testValidateJson_SummaryMode() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<RowValidationResult> consumer = invocation.getArgument(2);
+            consumer.accept(new RowValidationResult(0, List.of()));
+            consumer.accept(new RowValidationResult(1, List.of(new RowViolation(1, "email", "exceeds maximum length 10"))));
+            consumer.accept(new RowValidationResult(2, List.of(new RowViolation(2, "email", "exceeds maximum length 10"))));
+            return 3;
+        }).when(sqlGeneratorService).validateRows(eq("users"), any(InputStream.class), any(Consumer.class));
+        
+        mockMvc.perform(post("/api/v1/sql/validate")
+                        .param("tableName", "users")
+                        .param("mode", "summary")
+                        .param("maxErrorsPerColumn", "1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{},{},{}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.valid").value(false))
+                .andExpect(jsonPath("$.rowCount").value(3))
+                .andExpect(jsonPath("$.invalidRowCount").value(2))
+                .andExpect(jsonPath("$.errorCounts.email").value(2))
+                .andExpect(jsonPath("$.sampleErrors.email.length()").value(1));
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void testValidateJson_RowsModeStreamsNdjson() throws Exception {
+        // Enough rows to fill the buffers, so the response is committed before the malformed record
+        int rows = 2000;
+        doAnswer(invocation -> {
+            Consumer<RowValidationResult> consumer = invocation.getArgument(2);
+            consumer.accept(new RowValidationResult(0, List.of()));
+            consumer.accept(new RowValidationResult(1, List.of(new RowViolation(1, "id", "required but value is missing"))));
+            for (int i = 2; i < rows; i++) {
+                consumer.accept(new RowValidationResult(i, List.of()));
+            }
+            throw new com.yourcompany.jsontosql.exception.JsonMappingException("Invalid JSON at record 2000: unexpected end");
+        }).when(sqlGeneratorService).validateRows(eq("users"), any(InputStream.class), any(Consumer.class));
+        
+        String body = mockMvc.perform(post("/api/v1/sql/validate")
+                        .param("tableName", "users")
+                        .param("mode", "rows")
+                        .contentType("application/x-ndjson")
+                        .content("{}\n{}\n{"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", containsString("application/x-ndjson")))
+                .andReturn().getResponse().getContentAsString();
+        
+        String[] lines = body.split("\n");
+        assertEquals(rows + 1, lines.length);
+        assertEquals("{\"row\":0,\"valid\":true}", lines[0]);
+        assertEquals("{\"row\":1,\"valid\":false,\"errors\":[{\"column\":\"id\",\"message\":\"required but value is missing\"}]}", lines[1]);
+        assertTrue(lines[rows].startsWith("{\"error\":"));
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void testValidateJson_RowsModeMalformedBodyIsBadRequest() throws Exception {
+        doThrow(new com.yourcompany.jsontosql.exception.JsonMappingException("Invalid JSON at record 0: unexpected end"))
+                .when(sqlGeneratorService).validateRows(eq("users"), any(InputStream.class), any(Consumer.class));
+        
+        mockMvc.perform(post("/api/v1/sql/validate")
+                        .param("tableName", "users")
+                        .param("mode", "rows")
+                        .contentType("application/x-ndjson")
+                        .content("not json"))
+                .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    void testGenerateSqlFromFile_StreamsGzippedUpload() throws Exception {
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(gzipped)) {
+            out.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+        }
+        SqlScriptStream script = mock(SqlScriptStream.class);
+        when(script.getTableName()).thenReturn("users");
+        doAnswer(invocation -> {
+            Writer out = invocation.getArgument(0);
+            out.write("INSERT INTO \"users\" (\"id\") VALUES (1);\n\n");
+            return null;
+        }).when(script).writeTo(any(Writer.class));
+        String[] received = new String[1];
+        ScriptOptions[] options = new ScriptOptions[1];
+        when(sqlGeneratorService.openScript(eq("users"), any(InputStream.class), any(ScriptOptions.class)))
+                .thenAnswer(invocation -> {
+                    received[0] = new String(((InputStream) invocation.getArgument(1)).readAllBytes(), StandardCharsets.UTF_8);
+                    options[0] = invocation.getArgument(2);
+                    return script;
+                });
+        
+        String body = mockMvc.perform(multipart("/api/v1/sql/generate/file")
+                        .file(new MockMultipartFile("file", "users.ndjson.gz", "application/gzip", gzipped.toByteArray()))
+                        .param("tableName", "users")
+                        .param("includeDdl", "true")
+                        .param("dialect", "postgresql")
+                        .param("onRowError", "skip")
+                        .param("sortByPrimaryKey", "true"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", containsString("application/sql")))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"users.sql\""))
+                .andReturn().getResponse().getContentAsString();
+        
+        assertEquals("{\"id\":1}\n{\"id\":2}\n", received[0]);
+        assertTrue(options[0].isIncludeDdl());
+        assertEquals(SqlDialect.POSTGRESQL, options[0].getDialect());
+        assertEquals(RowErrorMode.SKIP, options[0].getRowErrorMode());
+        assertTrue(options[0].isSortByPrimaryKey());
+        assertFalse(options[0].isDelta());
+        assertEquals("INSERT INTO \"users\" (\"id\") VALUES (1);\n\n", body);
+        verify(script).close();
+    }
+    
+    @Test
+    void testGenerateSqlFromFile_PartitionsAsZip() throws Exception {
+        SqlScriptStream script = mock(SqlScriptStream.class);
+        when(script.getTableName()).thenReturn("users");
+        when(script.isPartitioned()).thenReturn(true);
+        doAnswer(invocation -> {
+            SqlScriptGenerator.ScriptEntries entries = invocation.getArgument(0);
+            entries.next("users-part-1.sql").write("BEGIN;\n\nCOMMIT;\n\n");
+            entries.next("users-part-2.sql").write("BEGIN;\n\nCOMMIT;\n\n");
+            return List.of();
+        }).when(script).writeTo(any(SqlScriptGenerator.ScriptEntries.class));
+        ScriptOptions[] options = new ScriptOptions[1];
+        when(sqlGeneratorService.openScript(eq("users"), any(InputStream.class), any(ScriptOptions.class)))
+                .thenAnswer(invocation -> {
+                    options[0] = invocation.getArgument(2);
+                    return script;
+                });
+        
+        byte[] body = mockMvc.perform(multipart("/api/v1/sql/generate/file")
+                        .file(new MockMultipartFile("file", "users.ndjson", "application/x-ndjson",
+                                "{\"id\":1}\n".getBytes(StandardCharsets.UTF_8)))
+                        .param("tableName", "users")
+                        .param("partitions", "2")
+                        .param("partitionBy", "id"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/zip"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"users.zip\""))
+                .andReturn().getResponse().getContentAsByteArray();
+        
+        assertEquals(2, options[0].getPartitions());
+        assertEquals("id", options[0].getPartitionBy());
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(body))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                names.add(entry.getName());
+                assertEquals("BEGIN;\n\nCOMMIT;\n\n", new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        assertEquals(List.of("users-part-1.sql", "users-part-2.sql"), names);
+    }
+    
+    @Test
+    void testGenerateSqlFromFile_UnknownTable() throws Exception {
+        when(sqlGeneratorService.openScript(eq("missing"), any(InputStream.class), any(ScriptOptions.class)))
+                .thenThrow(new TableDefinitionNotFoundException("Table definition not found: missing"));
+        
+        mockMvc.perform(multipart("/api/v1/sql/generate/file")
+                        .file(new MockMultipartFile("file", "rows.json", "application/json", "[]".getBytes(StandardCharsets.UTF_8)))
+                        .param("tableName", "missing"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Table Definition Not Found"));
+    }
+    
+    @Test
+    void testGenerateSqlFromFile_FailureBeforeOutputIsBadRequest() throws Exception {
+        SqlScriptStream script = mock(SqlScriptStream.class);
+        when(script.getTableName()).thenReturn("users");
+        when(script.writeTo(any(Writer.class)))
+                .thenThrow(new com.yourcompany.jsontosql.exception.JsonMappingException("Row 0: bad value"));
+        when(sqlGeneratorService.openScript(eq("users"), any(InputStream.class), any(ScriptOptions.class)))
+                .thenReturn(script);
+        
+        mockMvc.perform(multipart("/api/v1/sql/generate/file")
+                        .file(new MockMultipartFile("file", "rows.json", "application/json", "[{}]".getBytes(StandardCharsets.UTF_8)))
+                        .param("tableName", "users"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Row 0: bad value"));
+    }
 }
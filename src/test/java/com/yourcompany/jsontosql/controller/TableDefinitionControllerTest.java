@@ -2,7 +2,9 @@ package com.yourcompany.jsontosql.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.yourcompany.jsontosql.exception.TableDefinitionNotFoundException;
+import com.yourcompany.jsontosql.generator.DdlCache;
 import com.yourcompany.jsontosql.model.ColumnDefinition;
+import com.yourcompany.jsontosql.model.SqlDialect;
 import com.yourcompany.jsontosql.model.TableDefinition;
 import com.yourcompany.jsontosql.service.TableDefinitionService;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +19,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -32,6 +35,9 @@ class TableDefinitionControllerTest {
     @MockBean
     private TableDefinitionService tableDefinitionService;
     
+    @MockBean
+    private DdlCache ddlCache;
+    
     @Autowired
     private ObjectMapper objectMapper;
     
@@ -61,14 +67,15 @@ class TableDefinitionControllerTest {
     @Test
     void testGetAllTableDefinitions() throws Exception {
         List<TableDefinition> definitions = Collections.singletonList(tableDefinition);
-        when(tableDefinitionService.getAllTableDefinitions()).thenReturn(definitions);
+        when(tableDefinitionService.getCatalog()).thenReturn(new TableDefinitionService.Catalog(1L, definitions));
         
         mockMvc.perform(get("/api/v1/tables"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].tableName").value("users"))
                 .andExpect(jsonPath("$[0].columns").isArray());
         
-        verify(tableDefinitionService).getAllTableDefinitions();
+        verify(tableDefinitionService).getCatalog();
+        verify(tableDefinitionService, never()).getAllTableDefinitions();
     }
     
     @Test
@@ -94,6 +101,117 @@ class TableDefinitionControllerTest {
         verify(tableDefinitionService).getTableDefinition("nonexistent");
     }
     
+    @Test
+    void testGetTableDefinition_NotModified() throws Exception {
+        tableDefinition.setVersion(7);
+        when(tableDefinitionService.getTableDefinition("users")).thenReturn(tableDefinition);
+        
+        mockMvc.perform(get("/api/v1/tables/users"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"7\""));
+        
+        mockMvc.perform(get("/api/v1/tables/users").header("If-None-Match", "\"7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+    
+    @Test
+    void testGetAllTableDefinitions_NotModified() throws Exception {
+        when(tableDefinitionService.getCatalog())
+                .thenReturn(new TableDefinitionService.Catalog(3L, Collections.singletonList(tableDefinition)));
+        
+        mockMvc.perform(get("/api/v1/tables").header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified());
+        
+        verify(tableDefinitionService, never()).getAllTableDefinitions();
+    }
+    
+    @Test
+    void testGetAllTableDefinitions_EtagCoversParameters() throws Exception {
+        when(tableDefinitionService.getCatalog())
+                .thenReturn(new TableDefinitionService.Catalog(3L, Collections.singletonList(tableDefinition)));
+        
+        String limited = mockMvc.perform(get("/api/v1/tables").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        String filtered = mockMvc.perform(get("/api/v1/tables").param("fields", "tableName"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        
+        assertNotEquals("\"3\"", limited);
+        assertNotEquals(limited, filtered);
+        mockMvc.perform(get("/api/v1/tables").param("limit", "2").header("If-None-Match", limited))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/tables").param("limit", "1").header("If-None-Match", limited))
+                .andExpect(status().isNotModified());
+    }
+    
+    @Test
+    void testGetAllTableDefinitions_Paginated() throws Exception {
+        TableDefinition orders = TableDefinition.builder().tableName("orders").columns(tableDefinition.getColumns()).build();
+        TableDefinition accounts = TableDefinition.builder().tableName("accounts").columns(tableDefinition.getColumns()).build();
+        when(tableDefinitionService.getCatalog())
+                .thenReturn(new TableDefinitionService.Catalog(1L, Arrays.asList(tableDefinition, orders, accounts)));
+        
+        String nextCursor = mockMvc.perform(get("/api/v1/tables").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].tableName").value("accounts"))
+                .andExpect(jsonPath("$[1].tableName").value("orders"))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn().getResponse().getHeader("X-Next-Cursor");
+        
+        mockMvc.perform(get("/api/v1/tables").param("limit", "2").param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].tableName").value("users"))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+    
+    @Test
+    void testGetAllTableDefinitions_FieldsFilter() throws Exception {
+        when(tableDefinitionService.getCatalog())
+                .thenReturn(new TableDefinitionService.Catalog(1L, Collections.singletonList(tableDefinition)));
+        
+        mockMvc.perform(get("/api/v1/tables").param("fields", "tableName"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].tableName").value("users"))
+                .andExpect(jsonPath("$[0].columns").doesNotExist());
+    }
+    
+    @Test
+    void testGetTableDdl() throws Exception {
+        tableDefinition.setVersion(4);
+        when(tableDefinitionService.getTableDefinition("users")).thenReturn(tableDefinition);
+        when(ddlCache.getCreateTable(tableDefinition, SqlDialect.POSTGRESQL))
+                .thenReturn("CREATE TABLE \"users\" (\"id\" BIGINT);");
+        
+        mockMvc.perform(get("/api/v1/tables/users/ddl").param("dialect", "postgresql"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4-postgresql\""))
+                .andExpect(content().string("CREATE TABLE \"users\" (\"id\" BIGINT);"));
+    }
+    
+    @Test
+    void testGetTableDdl_UnknownDialect() throws Exception {
+        mockMvc.perform(get("/api/v1/tables/users/ddl").param("dialect", "sybase"))
+                .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    void testGetTableDdls_Bulk() throws Exception {
+        TableDefinition orders = TableDefinition.builder().tableName("orders").columns(tableDefinition.getColumns()).build();
+        when(tableDefinitionService.getTableDefinition("users")).thenReturn(tableDefinition);
+        when(tableDefinitionService.getTableDefinition("orders")).thenReturn(orders);
+        when(ddlCache.getCreateTable(any(TableDefinition.class), eq(SqlDialect.STANDARD)))
+                .thenAnswer(invocation -> "CREATE TABLE " + ((TableDefinition) invocation.getArgument(0)).getTableName() + ";");
+        
+        mockMvc.perform(get("/api/v1/tables/ddl").param("names", "users,orders"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users").value("CREATE TABLE users;"))
+                .andExpect(jsonPath("$.orders").value("CREATE TABLE orders;"));
+    }
+    
     @Test
     void testCreateTableDefinition() throws Exception {
         when(tableDefinitionService.saveTableDefinition(any(TableDefinition.class)))
@@ -0,0 +1,91 @@
+package com.yourcompany.jsontosql.delta;
+
+import com.yourcompany.jsontosql.model.ColumnDefinition;
+import com.yourcompany.jsontosql.model.SqlDialect;
+import com.yourcompany.jsontosql.model.TableDefinition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FingerprintStoreTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    void testPutReportsChangesAndRemoveUnseenReturnsDeletedKeys() {
+        FingerprintStore store = new FingerprintStore();
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(FingerprintStore.Change.INSERT, store.put("\"id\" = " + i, i));
+        }
+        assertEquals(0, store.removeUnseen(key -> fail("nothing to delete")));
+        
+        assertEquals(FingerprintStore.Change.UNCHANGED, store.put("\"id\" = 1", 1));
+        assertEquals(FingerprintStore.Change.UPDATE, store.put("\"id\" = 2", 99));
+        store.touch("\"id\" = 3");
+        List<String> removed = new ArrayList<>();
+        assertEquals(997, store.removeUnseen(removed::add));
+        
+        assertEquals(3, store.size());
+        assertTrue(removed.contains("\"id\" = 0"));
+        assertEquals(FingerprintStore.Change.UPDATE, store.put("\"id\" = 3", 4));
+        assertEquals(FingerprintStore.Change.INSERT, store.put("\"id\" = 0", 0));
+    }
+    
+    @Test
+    void testSaveAndLoadRoundTrip() throws Exception {
+        Path file = tempDir.resolve("users.fingerprints");
+        assertEquals(0, FingerprintStore.load(file).size());
+        
+        FingerprintStore store = new FingerprintStore();
+        store.put("\"name\" = 'Zoë'", 7L);
+        store.put("\"name\" = 'Ann'", 8L);
+        store.save(file);
+        
+        FingerprintStore loaded = FingerprintStore.load(file);
+        assertEquals(2, loaded.size());
+        assertEquals(FingerprintStore.Change.UNCHANGED, loaded.put("\"name\" = 'Zoë'", 7L));
+        assertEquals(FingerprintStore.Change.UPDATE, loaded.put("\"name\" = 'Ann'", 9L));
+    }
+    
+    @Test
+    void testDialectIsSavedAndAMismatchIsRejected() throws Exception {
+        Path file = tempDir.resolve("users.fingerprints");
+        FingerprintStore store = new FingerprintStore();
+        store.useDialect(SqlDialect.MYSQL);
+        store.put("\"id\" = 1", 7L);
+        store.save(file);
+        
+        FingerprintStore loaded = FingerprintStore.load(file);
+        assertEquals(SqlDialect.MYSQL, loaded.getDialect());
+        loaded.useDialect(SqlDialect.MYSQL);
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> loaded.useDialect(SqlDialect.POSTGRESQL));
+        assertTrue(e.getMessage().contains("mysql"));
+        
+        // An empty baseline can switch dialects
+        assertEquals(1, loaded.removeUnseen(key -> { }));
+        loaded.useDialect(SqlDialect.POSTGRESQL);
+        assertEquals(SqlDialect.POSTGRESQL, loaded.getDialect());
+    }
+    
+    @Test
+    void testKeyIndexesNeedAnInputPrimaryKey() {
+        ColumnDefinition name = ColumnDefinition.builder().name("name").type("VARCHAR(20)").build();
+        ColumnDefinition id = ColumnDefinition.builder().name("id").type("BIGINT").primaryKey(true).build();
+        ColumnDefinition serial = ColumnDefinition.builder().name("id").type("BIGINT").primaryKey(true)
+                .autoIncrement(true).build();
+        
+        assertArrayEquals(new int[]{1}, FingerprintStore.keyIndexes(
+                TableDefinition.builder().tableName("t").columns(List.of(name, id)).build()));
+        assertThrows(IllegalArgumentException.class, () -> FingerprintStore.keyIndexes(
+                TableDefinition.builder().tableName("t").columns(List.of(name)).build()));
+        assertThrows(IllegalArgumentException.class, () -> FingerprintStore.keyIndexes(
+                TableDefinition.builder().tableName("t").columns(List.of(serial, name)).build()));
+    }
+}
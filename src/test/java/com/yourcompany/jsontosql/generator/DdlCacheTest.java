@@ -0,0 +1,123 @@
+package com.yourcompany.jsontosql.generator;
+
+import com.yourcompany.jsontosql.model.ChildTableDefinition;
+import com.yourcompany.jsontosql.model.ColumnDefinition;
+import com.yourcompany.jsontosql.model.SqlDialect;
+import com.yourcompany.jsontosql.model.TableDefinition;
+import com.yourcompany.jsontosql.service.TableDefinitionChangedEvent;
+import com.yourcompany.jsontosql.util.SqlEscapeUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DdlCacheTest {
+    
+    private DdlCache ddlCache;
+    private TableDefinition tableDefinition;
+    
+    @BeforeEach
+    void setUp() {
+        ddlCache = new DdlCache(new DdlGenerator(new SqlEscapeUtil()));
+        tableDefinition = TableDefinition.builder()
+                .tableName("users")
+                .columns(Collections.singletonList(
+                        ColumnDefinition.builder()
+                                .name("id")
+                                .type("BIGINT")
+                                .nullable(false)
+                                .primaryKey(true)
+                                .autoIncrement(true)
+                                .build()
+                ))
+                .build();
+        tableDefinition.setVersion(1);
+    }
+    
+    @Test
+    void testGetCreateTable_CachedPerVersionAndDialect() {
+        String standard = ddlCache.getCreateTable(tableDefinition, SqlDialect.STANDARD);
+        String postgres = ddlCache.getCreateTable(tableDefinition, SqlDialect.POSTGRESQL);
+        
+        assertSame(standard, ddlCache.getCreateTable(tableDefinition, SqlDialect.STANDARD));
+        assertSame(postgres, ddlCache.getCreateTable(tableDefinition, SqlDialect.POSTGRESQL));
+        assertNotEquals(standard, postgres);
+        assertEquals(2, ddlCache.size());
+    }
+    
+    @Test
+    void testGetCreateTable_NewVersionRegenerates() {
+        String before = ddlCache.getCreateTable(tableDefinition, SqlDialect.STANDARD);
+        
+        TableDefinition updated = TableDefinition.builder()
+                .tableName("users")
+                .schema("public")
+                .columns(tableDefinition.getColumns())
+                .build();
+        updated.setVersion(2);
+        String after = ddlCache.getCreateTable(updated, SqlDialect.STANDARD);
+        
+        assertFalse(before.contains("\"public\""));
+        assertTrue(after.contains("\"public\".\"users\""));
+        assertEquals(1, ddlCache.size());
+    }
+    
+    @Test
+    void testGetCreateTables_ChildTablesKeyedUnderParent() {
+        TableDefinition orders = TableDefinition.builder()
+                .tableName("orders")
+                .columns(List.of(ColumnDefinition.builder().name("id").type("BIGINT").primaryKey(true).build()))
+                .childTables(List.of(ChildTableDefinition.builder()
+                        .tableName("lines")
+                        .arrayPath("lines")
+                        .parentKeys(List.of("id"))
+                        .columns(List.of(ColumnDefinition.builder().name("sku").type("VARCHAR(20)").build()))
+                        .build()))
+                .build();
+        orders.setVersion(1);
+        // A top-level table with the same name as the child table
+        TableDefinition lines = TableDefinition.builder()
+                .tableName("lines")
+                .columns(List.of(ColumnDefinition.builder().name("note").type("VARCHAR(20)").build()))
+                .build();
+        lines.setVersion(1);
+        
+        List<String> ddl = ddlCache.getCreateTables(orders, SqlDialect.STANDARD);
+        String topLevel = ddlCache.getCreateTable(lines, SqlDialect.STANDARD);
+        
+        assertEquals(2, ddl.size());
+        assertTrue(ddl.get(1).contains("\"sku\""));
+        assertTrue(topLevel.contains("\"note\""));
+        assertFalse(topLevel.contains("\"sku\""));
+        assertEquals(ddl, ddlCache.getCreateTables(orders, SqlDialect.STANDARD));
+        assertEquals(3, ddlCache.size());
+    }
+    
+    @Test
+    void testOnTableDefinitionChanged_DropsTableEntries() {
+        ddlCache.getCreateTable(tableDefinition, SqlDialect.STANDARD);
+        ddlCache.getCreateTable(tableDefinition, SqlDialect.POSTGRESQL);
+        TableDefinition orders = TableDefinition.builder()
+                .tableName("orders")
+                .columns(tableDefinition.getColumns())
+                .build();
+        orders.setVersion(1);
+        ddlCache.getCreateTable(orders, SqlDialect.STANDARD);
+        
+        ddlCache.onTableDefinitionChanged(new TableDefinitionChangedEvent("USERS", 0));
+        
+        assertEquals(1, ddlCache.size());
+    }
+    
+    @Test
+    void testGetCreateTable_UnversionedNotCached() {
+        tableDefinition.setVersion(0);
+        
+        ddlCache.getCreateTable(tableDefinition, SqlDialect.STANDARD);
+        
+        assertEquals(0, ddlCache.size());
+    }
+}
@@ -1,6 +1,11 @@
 package com.yourcompany.jsontosql.generator;
 
 import com.yourcompany.jsontosql.model.ColumnDefinition;
+import com.yourcompany.jsontosql.model.IndexDefinition;
+import com.yourcompany.jsontosql.model.PartitionDefinition;
+import com.yourcompany.jsontosql.model.PartitionType;
+import com.yourcompany.jsontosql.model.PartitioningDefinition;
+import com.yourcompany.jsontosql.model.SqlDialect;
 import com.yourcompany.jsontosql.model.TableDefinition;
 import com.yourcompany.jsontosql.util.SqlEscapeUtil;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +15,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
 import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -74,6 +80,21 @@ class DdlGeneratorTest {
         assertTrue(result.contains("AUTO_INCREMENT"));
     }
     
+    @Test
+    void testGenerateCreateTable_PostgresqlIdentity() {
+        String result = ddlGenerator.generateCreateTable(tableDefinition, SqlDialect.POSTGRESQL);
+        
+        assertTrue(result.contains("\"id\" BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL"));
+        assertFalse(result.contains("AUTO_INCREMENT"));
+    }
+    
+    @Test
+    void testGenerateCreateTable_MysqlAutoIncrement() {
+        String result = ddlGenerator.generateCreateTable(tableDefinition, SqlDialect.MYSQL);
+        
+        assertTrue(result.contains("\"id\" BIGINT NOT NULL AUTO_INCREMENT"));
+    }
+    
     @Test
     void testGenerateCreateTable_WithSchema() {
         tableDefinition.setSchema("public");
@@ -141,4 +162,121 @@ class DdlGeneratorTest {
         assertNotNull(result);
         assertTrue(result.contains("\"public\".\"users\""));
     }
+    
+    @Test
+    void testGenerateCreateIndexes_PartialOnlyOnPostgres() {
+        tableDefinition.setSchema("app");
+        tableDefinition.setIndexes(List.of(
+                IndexDefinition.builder().columns(List.of("email")).unique(true).build(),
+                IndexDefinition.builder().name("active_users").columns(List.of("username", "email"))
+                        .where("email IS NOT NULL").build()));
+        
+        assertEquals(List.of(
+                "CREATE UNIQUE INDEX \"users_email_key\" ON \"app\".\"users\" (\"email\");",
+                "CREATE INDEX \"active_users\" ON \"app\".\"users\" (\"username\", \"email\") WHERE email IS NOT NULL;"),
+                ddlGenerator.generateCreateIndexes(tableDefinition, SqlDialect.POSTGRESQL));
+        // Oracle has no partial indexes; the index covers every row instead
+        assertEquals("CREATE INDEX \"app\".\"active_users\" ON \"app\".\"users\" (\"username\", \"email\");",
+                ddlGenerator.generateCreateIndexes(tableDefinition, SqlDialect.ORACLE).get(1));
+    }
+    
+    @Test
+    void testGenerateCreateIndexes_RejectsPartialUniqueWithoutSupport() {
+        tableDefinition.setIndexes(List.of(IndexDefinition.builder().columns(List.of("email")).unique(true)
+                .where("email IS NOT NULL").build()));
+        
+        assertThrows(IllegalArgumentException.class,
+                () -> ddlGenerator.generateCreateIndexes(tableDefinition, SqlDialect.MYSQL));
+        assertEquals(1, ddlGenerator.generateCreateIndexes(tableDefinition, SqlDialect.POSTGRESQL).size());
+    }
+    
+    @Test
+    void testGenerateDropIndexes_PerDialect() {
+        tableDefinition.setIndexes(List.of(IndexDefinition.builder().columns(List.of("username")).build()));
+        
+        assertEquals(List.of("DROP INDEX \"users_username_idx\" ON \"users\";"),
+                ddlGenerator.generateDropIndexes(tableDefinition, SqlDialect.MYSQL));
+        assertEquals(List.of("DROP INDEX IF EXISTS \"users_username_idx\";"),
+                ddlGenerator.generateDropIndexes(tableDefinition, SqlDialect.POSTGRESQL));
+        assertEquals(List.of("DROP INDEX \"users_username_idx\";"),
+                ddlGenerator.generateDropIndexes(tableDefinition, SqlDialect.STANDARD));
+    }
+    
+    private static TableDefinition eventsByDay(PartitioningDefinition partitioning) {
+        return TableDefinition.builder()
+                .tableName("events")
+                .columns(List.of(
+                        ColumnDefinition.builder().name("id").type("BIGINT").nullable(false).primaryKey(true).build(),
+                        ColumnDefinition.builder().name("day").type("DATE").nullable(false).primaryKey(true).build(),
+                        ColumnDefinition.builder().name("region").type("VARCHAR(10)").nullable(true).build()))
+                .partitioning(partitioning)
+                .build();
+    }
+    
+    @Test
+    void testGenerateCreateTable_RangePartitionedPerDialect() {
+        TableDefinition events = eventsByDay(PartitioningDefinition.builder()
+                .type(PartitionType.RANGE)
+                .column("day")
+                .interval("NUMTOYMINTERVAL(1, 'MONTH')")
+                .partitions(List.of(
+                        PartitionDefinition.builder().name("events_2023").lessThan("2024-01-01").build(),
+                        PartitionDefinition.builder().lessThan("2025-01-01").build()))
+                .build());
+        
+        assertTrue(ddlGenerator.generateCreateTable(events, SqlDialect.POSTGRESQL).endsWith(
+                "\n) PARTITION BY RANGE (\"day\");\n\n"
+                        + "CREATE TABLE \"events_2023\" PARTITION OF \"events\" FOR VALUES FROM (MINVALUE) TO ('2024-01-01');\n\n"
+                        + "CREATE TABLE \"events_p2\" PARTITION OF \"events\" FOR VALUES FROM ('2024-01-01') TO ('2025-01-01');"));
+        // Each partition is a statement of its own
+        List<String> statements = ddlGenerator.generateCreateTables(events, SqlDialect.POSTGRESQL);
+        assertEquals(3, statements.size());
+        assertTrue(statements.get(0).endsWith(" PARTITION BY RANGE (\"day\");"));
+        assertEquals("CREATE TABLE \"events_2023\" PARTITION OF \"events\" FOR VALUES FROM (MINVALUE) TO ('2024-01-01');",
+                statements.get(1));
+        assertTrue(ddlGenerator.generateCreateTable(events, SqlDialect.MYSQL).endsWith(
+                "\n)\nPARTITION BY RANGE COLUMNS (\"day\") (\n"
+                        + "  PARTITION \"events_2023\" VALUES LESS THAN ('2024-01-01'),\n"
+                        + "  PARTITION \"events_p2\" VALUES LESS THAN ('2025-01-01')\n);"));
+        assertTrue(ddlGenerator.generateCreateTable(events, SqlDialect.ORACLE).endsWith(
+                "\n)\nPARTITION BY RANGE (\"day\")\nINTERVAL (NUMTOYMINTERVAL(1, 'MONTH')) (\n"
+                        + "  PARTITION \"events_2023\" VALUES LESS THAN (DATE '2024-01-01'),\n"
+                        + "  PARTITION \"events_p2\" VALUES LESS THAN (DATE '2025-01-01')\n);"));
+        assertFalse(ddlGenerator.generateCreateTable(events, SqlDialect.STANDARD).contains("PARTITION"));
+    }
+    
+    @Test
+    void testGenerateCreateTable_ListPartitionedWithDefault() {
+        TableDefinition events = eventsByDay(PartitioningDefinition.builder()
+                .type(PartitionType.LIST)
+                .column("region")
+                .partitions(List.of(
+                        PartitionDefinition.builder().name("events_eu").values(List.of("de", "fr")).build(),
+                        PartitionDefinition.builder().name("events_other").build()))
+                .build());
+        events.getColumns().forEach(column -> column.setPrimaryKey(false));
+        
+        assertTrue(ddlGenerator.generateCreateTable(events, SqlDialect.ORACLE).endsWith(
+                "PARTITION BY LIST (\"region\") (\n"
+                        + "  PARTITION \"events_eu\" VALUES ('de', 'fr'),\n"
+                        + "  PARTITION \"events_other\" VALUES (DEFAULT)\n);"));
+        assertTrue(ddlGenerator.generateCreateTable(events, SqlDialect.POSTGRESQL)
+                .endsWith("CREATE TABLE \"events_other\" PARTITION OF \"events\" DEFAULT;"));
+        // MySQL has no default partition
+        assertThrows(IllegalArgumentException.class, () -> ddlGenerator.generateCreateTable(events, SqlDialect.MYSQL));
+    }
+    
+    @Test
+    void testGenerateCreateTable_PrimaryKeyMustIncludePartitionColumn() {
+        TableDefinition events = eventsByDay(PartitioningDefinition.builder()
+                .type(PartitionType.LIST)
+                .column("region")
+                .partitions(List.of(PartitionDefinition.builder().values(List.of("de")).build()))
+                .build());
+        
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> ddlGenerator.generateCreateTable(events, SqlDialect.POSTGRESQL));
+        assertTrue(e.getMessage().contains("must include partition column 'region'"));
+        assertTrue(ddlGenerator.generateCreateTable(events, SqlDialect.ORACLE).contains("PARTITION BY LIST"));
+    }
 }
@@ -1,8 +1,8 @@
 package com.yourcompany.jsontosql.generator;
 
 import com.yourcompany.jsontosql.model.ColumnDefinition;
+import com.yourcompany.jsontosql.model.RowErrorMode;
 import com.yourcompany.jsontosql.model.TableDefinition;
-import com.yourcompany.jsontosql.util.JsonPathExtractor;
 import com.yourcompany.jsontosql.util.SqlEscapeUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,7 +12,6 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -23,9 +22,6 @@ import static org.mockito.Mockito.when;
 @SpringBootTest
 class InsertStatementGeneratorTest {
     
-    @MockBean
-    private JsonPathExtractor jsonPathExtractor;
-    
     @MockBean
     private SqlEscapeUtil sqlEscapeUtil;
     
@@ -72,10 +68,6 @@ class InsertStatementGeneratorTest {
     void testGenerateInsert_Basic() {
         String jsonData = "{\"user\":{\"name\":\"john_doe\",\"email\":\"john@example.com\"}}";
         
-        when(jsonPathExtractor.extractValue(anyString(), eq("user.name")))
-                .thenReturn(Optional.of("john_doe"));
-        when(jsonPathExtractor.extractValue(anyString(), eq("user.email")))
-                .thenReturn(Optional.of("john@example.com"));
         when(sqlEscapeUtil.formatValueForType(any(), eq("VARCHAR(255)")))
                 .thenAnswer(invocation -> {
                     Object value = invocation.getArgument(0);
@@ -99,10 +91,6 @@ class InsertStatementGeneratorTest {
         tableDefinition.setSchema("public");
         String jsonData = "{\"user\":{\"name\":\"john_doe\"}}";
         
-        when(jsonPathExtractor.extractValue(anyString(), eq("user.name")))
-                .thenReturn(Optional.of("john_doe"));
-        when(jsonPathExtractor.extractValue(anyString(), eq("user.email")))
-                .thenReturn(Optional.empty());
         when(sqlEscapeUtil.formatValueForType(any(), anyString()))
                 .thenAnswer(invocation -> {
                     Object value = invocation.getArgument(0);
@@ -131,12 +119,6 @@ class InsertStatementGeneratorTest {
         tableDefinition.setColumns(columns);
         String jsonData = "{\"user\":{\"name\":\"john_doe\"}}";
         
-        when(jsonPathExtractor.extractValue(anyString(), eq("user.name")))
-                .thenReturn(Optional.of("john_doe"));
-        when(jsonPathExtractor.extractValue(anyString(), eq("user.email")))
-                .thenReturn(Optional.empty());
-        when(jsonPathExtractor.extractValue(anyString(), eq("status")))
-                .thenReturn(Optional.empty());
         when(sqlEscapeUtil.formatValueForType(any(), anyString()))
                 .thenAnswer(invocation -> {
                     Object value = invocation.getArgument(0);
@@ -152,8 +134,6 @@ class InsertStatementGeneratorTest {
     void testGenerateBatchInserts_SingleObject() {
         String jsonData = "{\"user\":{\"name\":\"john_doe\"}}";
         
-        when(jsonPathExtractor.extractValue(anyString(), anyString()))
-                .thenReturn(Optional.of("john_doe"));
         when(sqlEscapeUtil.formatValueForType(any(), anyString()))
                 .thenReturn("'john_doe'");
         
@@ -167,8 +147,6 @@ class InsertStatementGeneratorTest {
     void testGenerateBatchInserts_Array() {
         String jsonData = "[{\"user\":{\"name\":\"john_doe\"}},{\"user\":{\"name\":\"jane_doe\"}}]";
         
-        when(jsonPathExtractor.extractValue(anyString(), anyString()))
-                .thenReturn(Optional.of("test"));
         when(sqlEscapeUtil.formatValueForType(any(), anyString()))
                 .thenReturn("'test'");
         
@@ -177,4 +155,40 @@ class InsertStatementGeneratorTest {
         assertEquals(2, results.size());
         results.forEach(result -> assertTrue(result.contains("INSERT INTO")));
     }
+    
+    @Test
+    void testGenerateBatchInserts_SkipInvalidRows() {
+        String jsonData = "[{\"user\":{\"name\":\"john_doe\"}},{\"user\":{}},{\"user\":{\"name\":\"jane_doe\"}}]";
+        
+        when(sqlEscapeUtil.formatValueForType(any(), anyString()))
+                .thenAnswer(invocation -> {
+                    Object value = invocation.getArgument(0);
+                    return value == null ? "NULL" : "'" + value + "'";
+                });
+        
+        BatchResult result = insertStatementGenerator.generateBatchInserts(tableDefinition, jsonData, RowErrorMode.SKIP);
+        
+        assertEquals(3, result.getRowCount());
+        assertEquals(1, result.getFailedRowCount());
+        assertEquals(2, result.getStatements().size());
+        assertTrue(result.getStatements().get(1).contains("'jane_doe'"));
+        assertEquals(1, result.getErrors().size());
+        assertTrue(result.getErrors().get(0).startsWith("Row 1, column 'username'"));
+        assertTrue(result.getRejectedRows().isEmpty());
+    }
+    
+    @Test
+    void testGenerateBatchInserts_RejectCollectsRowJson() {
+        String jsonData = "[{\"user\":{\"name\":\"john_doe\"}},{\"user\":{\"name\":\"way_too_long\"}}]";
+        tableDefinition.getColumns().get(1).setType("VARCHAR(8)");
+        
+        when(sqlEscapeUtil.formatValueForType(any(), anyString())).thenReturn("'x'");
+        
+        BatchResult result = insertStatementGenerator.generateBatchInserts(tableDefinition, jsonData, RowErrorMode.REJECT);
+        
+        assertEquals(1, result.getStatements().size());
+        assertEquals(1, result.getRejectedRows().size());
+        assertEquals("{\"user\":{\"name\":\"way_too_long\"}}", result.getRejectedRows().get(0));
+        assertTrue(result.getErrors().get(0).contains("VARCHAR(8)"));
+    }
 }
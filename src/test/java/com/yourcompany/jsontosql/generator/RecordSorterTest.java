@@ -0,0 +1,134 @@
+package com.yourcompany.jsontosql.generator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourcompany.jsontosql.model.ColumnDefinition;
+import com.yourcompany.jsontosql.model.PartitionDefinition;
+import com.yourcompany.jsontosql.model.PartitionType;
+import com.yourcompany.jsontosql.model.PartitioningDefinition;
+import com.yourcompany.jsontosql.model.TableDefinition;
+import com.yourcompany.jsontosql.transform.TransformCache;
+import com.yourcompany.jsontosql.util.JsonPathExtractor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordSorterTest {
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    @TempDir
+    Path tempDir;
+    
+    private RecordSorter sorter(long memoryBudgetBytes) {
+        return new RecordSorter(new JsonPathExtractor(), new TransformCache(), memoryBudgetBytes, tempDir.toString());
+    }
+    
+    private static TableDefinition regionOrders() {
+        return TableDefinition.builder()
+                .tableName("orders")
+                .columns(List.of(
+                        ColumnDefinition.builder().name("region").type("VARCHAR(10)").primaryKey(true).build(),
+                        ColumnDefinition.builder().name("id").type("INT").primaryKey(true).build(),
+                        ColumnDefinition.builder().name("note").type("VARCHAR(20)").build()))
+                .build();
+    }
+    
+    private List<JsonNode> records(String json) throws Exception {
+        List<JsonNode> records = new ArrayList<>();
+        objectMapper.readTree(json).forEach(records::add);
+        return records;
+    }
+    
+    private static List<String> notes(RecordSorter.SortedRecords sorted) {
+        List<String> notes = new ArrayList<>();
+        sorted.forEachRemaining(record -> notes.add(record.path("note").asText()));
+        return notes;
+    }
+    
+    @Test
+    void testSortsInMemoryByCompositeKey() throws Exception {
+        List<JsonNode> input = records("[{\"region\":\"eu\",\"id\":10,\"note\":\"a\"},"
+                + "{\"region\":\"eu\",\"id\":9,\"note\":\"b\"},"
+                + "{\"region\":\"asia\",\"id\":\"100\",\"note\":\"c\"},"
+                + "{\"id\":1,\"note\":\"d\"}]");
+        
+        try (RecordSorter.SortedRecords sorted = sorter(1 << 20).sort(regionOrders(), input.iterator())) {
+            assertEquals(0, sorted.getRunCount());
+            // Missing keys first, then text order of region and numeric order of id
+            assertEquals(List.of("d", "c", "b", "a"), notes(sorted));
+        }
+    }
+    
+    @Test
+    void testSpillsRunsAndMergesStably() throws Exception {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 500; i++) {
+            // Keys 0..49 ten times each; note records the input position
+            json.append(i == 0 ? "" : ",").append("{\"region\":\"eu\",\"id\":").append((i * 7) % 50)
+                    .append(",\"note\":\"").append(i).append("\"}");
+        }
+        List<JsonNode> input = records(json.append(']').toString());
+        
+        List<String> notes;
+        try (RecordSorter.SortedRecords sorted = sorter(4096).sort(regionOrders(), input.iterator())) {
+            assertTrue(sorted.getRunCount() > 1);
+            notes = notes(sorted);
+        }
+        
+        assertEquals(500, notes.size());
+        for (int i = 1; i < notes.size(); i++) {
+            int previous = Integer.parseInt(notes.get(i - 1));
+            int current = Integer.parseInt(notes.get(i));
+            int previousKey = (previous * 7) % 50;
+            int currentKey = (current * 7) % 50;
+            assertTrue(previousKey < currentKey || (previousKey == currentKey && previous < current),
+                    "out of order at " + i);
+        }
+        try (var files = Files.list(tempDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+    
+    @Test
+    void testGroupsByTablePartition() throws Exception {
+        TableDefinition orders = regionOrders();
+        orders.setPartitioning(PartitioningDefinition.builder()
+                .type(PartitionType.LIST)
+                .column("region")
+                .partitions(List.of(
+                        PartitionDefinition.builder().values(List.of("asia")).build(),
+                        PartitionDefinition.builder().values(List.of("eu")).build()))
+                .build());
+        List<JsonNode> input = records("[{\"region\":\"eu\",\"id\":2,\"note\":\"a\"},"
+                + "{\"region\":\"us\",\"id\":1,\"note\":\"b\"},"
+                + "{\"region\":\"asia\",\"id\":5,\"note\":\"c\"},"
+                + "{\"region\":\"eu\",\"id\":1,\"note\":\"d\"}]");
+        
+        try (RecordSorter.SortedRecords grouped = sorter(1 << 20).sortByPartition(orders, input.iterator(), false)) {
+            // Partition order, input order within a partition, unlisted regions last
+            assertEquals(List.of("c", "a", "d", "b"), notes(grouped));
+        }
+        try (RecordSorter.SortedRecords sorted = sorter(1 << 20).sortByPartition(orders, input.iterator(), true)) {
+            assertEquals(List.of("c", "d", "a", "b"), notes(sorted));
+        }
+    }
+    
+    @Test
+    void testRequiresPrimaryKey() {
+        TableDefinition noKey = TableDefinition.builder()
+                .tableName("notes")
+                .columns(List.of(ColumnDefinition.builder().name("note").type("TEXT").build()))
+                .build();
+        
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> sorter(1 << 20).sort(noKey, List.<JsonNode>of().iterator()));
+        assertTrue(e.getMessage().contains("needs a primary key"));
+    }
+}
@@ -1,9 +1,12 @@
 package com.yourcompany.jsontosql.generator;
 
 import com.yourcompany.jsontosql.model.ColumnDefinition;
+import com.yourcompany.jsontosql.model.RowErrorMode;
+import com.yourcompany.jsontosql.model.SqlDialect;
 import com.yourcompany.jsontosql.model.SqlGenerationRequest;
 import com.yourcompany.jsontosql.model.SqlGenerationResponse;
 import com.yourcompany.jsontosql.model.TableDefinition;
+import com.yourcompany.jsontosql.validation.RowViolation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,10 +14,13 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
 import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest
@@ -55,8 +61,11 @@ class SqlScriptGeneratorTest {
     
     @Test
     void testGenerateScript_WithoutDdl() {
-        when(insertStatementGenerator.generateInsert(any(TableDefinition.class), anyString()))
-                .thenReturn("INSERT INTO \"users\" (\"username\") VALUES ('john_doe');");
+        doAnswer(invocation -> {
+            invocation.<RowSink>getArgument(3).statement(0, "INSERT INTO \"users\" (\"username\") VALUES ('john_doe');");
+            return null;
+        }).when(insertStatementGenerator).generateInsert(any(TableDefinition.class), anyString(),
+                eq(SqlDialect.STANDARD), any(RowSink.class));
         
         SqlGenerationResponse response = sqlScriptGenerator.generateScript(request, tableDefinition);
         
@@ -71,10 +80,13 @@ class SqlScriptGeneratorTest {
     void testGenerateScript_WithDdl() {
         request.setIncludeDdl(true);
         
-        when(ddlGenerator.generateCreateTable(any(TableDefinition.class)))
-                .thenReturn("CREATE TABLE \"users\" (\"username\" VARCHAR(255) NOT NULL);");
-        when(insertStatementGenerator.generateInsert(any(TableDefinition.class), anyString()))
-                .thenReturn("INSERT INTO \"users\" (\"username\") VALUES ('john_doe');");
+        when(ddlGenerator.generateCreateTableStatements(any(TableDefinition.class), any(SqlDialect.class)))
+                .thenReturn(List.of("CREATE TABLE \"users\" (\"username\" VARCHAR(255) NOT NULL);"));
+        doAnswer(invocation -> {
+            invocation.<RowSink>getArgument(3).statement(0, "INSERT INTO \"users\" (\"username\") VALUES ('john_doe');");
+            return null;
+        }).when(insertStatementGenerator).generateInsert(any(TableDefinition.class), anyString(),
+                eq(SqlDialect.STANDARD), any(RowSink.class));
         
         SqlGenerationResponse response = sqlScriptGenerator.generateScript(request, tableDefinition);
         
@@ -88,8 +100,9 @@ class SqlScriptGeneratorTest {
     void testGenerateScript_BatchMode() {
         request.setBatchMode(true);
         
-        when(insertStatementGenerator.generateBatchInserts(any(TableDefinition.class), anyString()))
-                .thenReturn(Arrays.asList(
+        when(insertStatementGenerator.generateBatchInserts(any(TableDefinition.class), anyString(), eq(RowErrorMode.FAIL),
+                eq(SqlDialect.STANDARD)))
+                .thenReturn(batchOf(
                         "INSERT INTO \"users\" (\"username\") VALUES ('john_doe');",
                         "INSERT INTO \"users\" (\"username\") VALUES ('jane_doe');"
                 ));
@@ -106,10 +119,11 @@ class SqlScriptGeneratorTest {
         request.setIncludeDdl(true);
         request.setBatchMode(true);
         
-        when(ddlGenerator.generateCreateTable(any(TableDefinition.class)))
-                .thenReturn("CREATE TABLE \"users\" (\"username\" VARCHAR(255) NOT NULL);");
-        when(insertStatementGenerator.generateBatchInserts(any(TableDefinition.class), anyString()))
-                .thenReturn(Arrays.asList(
+        when(ddlGenerator.generateCreateTableStatements(any(TableDefinition.class), any(SqlDialect.class)))
+                .thenReturn(List.of("CREATE TABLE \"users\" (\"username\" VARCHAR(255) NOT NULL);"));
+        when(insertStatementGenerator.generateBatchInserts(any(TableDefinition.class), anyString(), eq(RowErrorMode.FAIL),
+                eq(SqlDialect.STANDARD)))
+                .thenReturn(batchOf(
                         "INSERT INTO \"users\" (\"username\") VALUES ('john_doe');",
                         "INSERT INTO \"users\" (\"username\") VALUES ('jane_doe');"
                 ));
@@ -121,4 +135,111 @@ class SqlScriptGeneratorTest {
         assertTrue(response.getSqlScript().contains("CREATE TABLE"));
         assertTrue(response.getSqlScript().contains("INSERT INTO"));
     }
+    
+    @Test
+    void testGenerateScript_BatchModeRejectingBadRows() {
+        request.setBatchMode(true);
+        request.setOnRowError("reject");
+        
+        BatchResult batch = new BatchResult();
+        batch.statement(0, "INSERT INTO \"users\" (\"username\") VALUES ('john_doe');");
+        batch.rejected(1, "{\"user\":{}}", List.of("Row 1, column 'username': required but value is missing"));
+        when(insertStatementGenerator.generateBatchInserts(any(TableDefinition.class), anyString(), eq(RowErrorMode.REJECT),
+                eq(SqlDialect.STANDARD)))
+                .thenReturn(batch);
+        
+        SqlGenerationResponse response = sqlScriptGenerator.generateScript(request, tableDefinition);
+        
+        assertEquals(1, response.getStatementCount());
+        assertEquals(1, response.getErrors().size());
+        assertEquals("Skipped 1 of 2 rows", response.getWarnings().get(0));
+        assertEquals(1, response.getRejectedRows().size());
+    }
+    
+    @Test
+    void testGenerateScript_TransactionChunksWithLoadSettings() {
+        request.setIncludeDdl(true);
+        request.setBatchMode(true);
+        request.setDialect("mysql");
+        request.setTransactionSize(2);
+        request.setLoadSettings(true);
+        
+        when(ddlGenerator.generateCreateTableStatements(any(TableDefinition.class), any(SqlDialect.class)))
+                .thenReturn(List.of("CREATE TABLE `users` (`username` VARCHAR(255) NOT NULL);"));
+        when(insertStatementGenerator.generateBatchInserts(any(TableDefinition.class), anyString(), eq(RowErrorMode.FAIL),
+                eq(SqlDialect.MYSQL)))
+                .thenReturn(batchOf("INSERT 1;", "INSERT 2;", "INSERT 3;"));
+        
+        SqlGenerationResponse response = sqlScriptGenerator.generateScript(request, tableDefinition);
+        
+        // DDL stays outside the transactions; MySQL commits DDL implicitly
+        assertEquals(String.join("\n\n", List.of(
+                "CREATE TABLE `users` (`username` VARCHAR(255) NOT NULL);",
+                "SET autocommit = 0;", "SET unique_checks = 0;", "SET foreign_key_checks = 0;",
+                "START TRANSACTION;", "INSERT 1;", "INSERT 2;", "COMMIT;",
+                "START TRANSACTION;", "INSERT 3;", "COMMIT;",
+                "SET foreign_key_checks = 1;", "SET unique_checks = 1;", "SET autocommit = 1;")),
+                response.getSqlScript());
+        
+        // Framing statements are not counted, matching the streamed script
+        assertEquals(List.of("CREATE TABLE `users` (`username` VARCHAR(255) NOT NULL);",
+                "INSERT 1;", "INSERT 2;", "INSERT 3;"), response.getStatements());
+        assertEquals(4, response.getStatementCount());
+    }
+    
+    @Test
+    void testGenerateScript_TransactionsCommitAtRowBoundaries() {
+        request.setBatchMode(true);
+        request.setTransactionSize(2);
+        
+        BatchResult batch = new BatchResult();
+        batch.statement(0, "INSERT order 1;");
+        batch.statement(1, "INSERT order 2;");
+        batch.childStatement(1, "INSERT line 2a;");
+        batch.childStatement(1, "INSERT line 2b;");
+        batch.statement(2, "INSERT order 3;");
+        when(insertStatementGenerator.generateBatchInserts(any(TableDefinition.class), anyString(), eq(RowErrorMode.FAIL),
+                eq(SqlDialect.STANDARD)))
+                .thenReturn(batch);
+        
+        SqlGenerationResponse response = sqlScriptGenerator.generateScript(request, tableDefinition);
+        
+        // The second order's lines stay in its transaction although it is already full
+        assertEquals(String.join("\n\n", List.of(
+                "START TRANSACTION;", "INSERT order 1;", "INSERT order 2;", "INSERT line 2a;", "INSERT line 2b;",
+                "COMMIT;",
+                "START TRANSACTION;", "INSERT order 3;", "COMMIT;")),
+                response.getSqlScript());
+        assertEquals(5, response.getStatementCount());
+    }
+    
+    @Test
+    void testGenerateScript_FailModeViolationsAreCappedWarnings() {
+        request.setBatchMode(true);
+        
+        BatchResult batch = new BatchResult();
+        for (int i = 0; i < 7; i++) {
+            batch.violations(i, List.of(new RowViolation(i, "username", "exceeds maximum length 8")));
+            batch.statement(i, "INSERT " + i + ";");
+        }
+        when(insertStatementGenerator.generateBatchInserts(any(TableDefinition.class), anyString(), eq(RowErrorMode.FAIL),
+                eq(SqlDialect.STANDARD)))
+                .thenReturn(batch);
+        
+        SqlGenerationResponse response = sqlScriptGenerator.generateScript(request, tableDefinition);
+        
+        assertEquals(7, response.getStatementCount());
+        assertEquals(6, response.getWarnings().size());
+        assertEquals("Row 0, column 'username': exceeds maximum length 8", response.getWarnings().get(0));
+        assertEquals("2 more violations of column 'username'", response.getWarnings().get(5));
+        assertTrue(response.getErrors().isEmpty());
+    }
+    
+    private static BatchResult batchOf(String... statements) {
+        BatchResult batch = new BatchResult();
+        for (int i = 0; i < statements.length; i++) {
+            batch.statement(i, statements[i]);
+        }
+        return batch;
+    }
 }
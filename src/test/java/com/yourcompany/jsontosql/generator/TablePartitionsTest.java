@@ -0,0 +1,75 @@
+package com.yourcompany.jsontosql.generator;
+
+import com.yourcompany.jsontosql.model.ColumnDefinition;
+import com.yourcompany.jsontosql.model.PartitionDefinition;
+import com.yourcompany.jsontosql.model.PartitionType;
+import com.yourcompany.jsontosql.model.PartitioningDefinition;
+import com.yourcompany.jsontosql.model.TableDefinition;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TablePartitionsTest {
+    
+    private static TableDefinition orders(PartitionType type, String column, List<PartitionDefinition> partitions) {
+        return TableDefinition.builder()
+                .tableName("orders")
+                .columns(List.of(
+                        ColumnDefinition.builder().name("id").type("INT").build(),
+                        ColumnDefinition.builder().name("placed").type("TIMESTAMP").build(),
+                        ColumnDefinition.builder().name("status").type("VARCHAR(10)").build()))
+                .partitioning(PartitioningDefinition.builder().type(type).column(column).partitions(partitions).build())
+                .build();
+    }
+    
+    @Test
+    void testRoutesRangeValuesByBound() {
+        TablePartitions partitions = TablePartitions.of(orders(PartitionType.RANGE, "placed", List.of(
+                PartitionDefinition.builder().lessThan("2024-01-01").build(),
+                PartitionDefinition.builder().lessThan("2024-07-01").build(),
+                PartitionDefinition.builder().lessThan("maxvalue").build())));
+        
+        assertEquals(1, partitions.getColumnIndex());
+        assertEquals(0, partitions.partitionOf("2023-12-31T23:59:59"));
+        assertEquals(1, partitions.partitionOf("2024-01-01"));
+        assertEquals(2, partitions.partitionOf("2030-05-05 10:00:00"));
+        assertTrue(partitions.isMaxValue(2));
+        // Null and unparseable values belong to no partition
+        assertEquals(3, partitions.partitionOf(null));
+        assertEquals(3, partitions.partitionOf("soon"));
+    }
+    
+    @Test
+    void testRoutesListValuesWithDefault() {
+        TablePartitions partitions = TablePartitions.of(orders(PartitionType.LIST, "status", List.of(
+                PartitionDefinition.builder().name("open").values(List.of("new", "paid")).build(),
+                PartitionDefinition.builder().name("rest").build())));
+        
+        assertEquals(0, partitions.partitionOf("paid"));
+        assertEquals(1, partitions.partitionOf("shipped"));
+        assertEquals(1, partitions.partitionOf(new BigDecimal("7")));
+        assertTrue(partitions.isDefault(1));
+        assertEquals("orders_p1", TablePartitions.of(orders(PartitionType.LIST, "status",
+                List.of(PartitionDefinition.builder().values(List.of("x")).build()))).getName(0));
+    }
+    
+    @Test
+    void testRejectsInconsistentPartitions() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> TablePartitions.of(orders(PartitionType.RANGE, "id", List.of(
+                        PartitionDefinition.builder().lessThan("100").build(),
+                        PartitionDefinition.builder().lessThan("50").build()))));
+        assertTrue(e.getMessage().contains("must have a higher bound"));
+        
+        e = assertThrows(IllegalArgumentException.class, () -> TablePartitions.of(orders(PartitionType.RANGE, "id",
+                List.of(PartitionDefinition.builder().lessThan("ten").build()))));
+        assertTrue(e.getMessage().contains("does not match the type of column 'id'"));
+        
+        e = assertThrows(IllegalArgumentException.class, () -> TablePartitions.of(orders(PartitionType.LIST, "total",
+                List.of(PartitionDefinition.builder().values(List.of("1")).build()))));
+        assertTrue(e.getMessage().contains("Unknown partition column 'total'"));
+    }
+}
@@ -0,0 +1,78 @@
+package com.yourcompany.jsontosql.jfr;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourcompany.jsontosql.generator.InsertStatementGenerator;
+import com.yourcompany.jsontosql.model.ColumnDefinition;
+import com.yourcompany.jsontosql.model.TableDefinition;
+import com.yourcompany.jsontosql.service.TableDefinitionWriter;
+import com.yourcompany.jsontosql.util.JsonPathExtractor;
+import com.yourcompany.jsontosql.util.SqlEscapeUtil;
+import com.yourcompany.jsontosql.validation.RowValidatorCache;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrEventsTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    private final TableDefinition tableDefinition = TableDefinition.builder()
+            .tableName("users")
+            .columns(List.of(
+                    ColumnDefinition.builder().name("name").type("VARCHAR(50)").build()
+            ))
+            .build();
+    
+    @Test
+    void testRowGenerationEventRecordedForBatch() throws Exception {
+        InsertStatementGenerator generator = new InsertStatementGenerator(
+                new JsonPathExtractor(), new SqlEscapeUtil(), new RowValidatorCache());
+        
+        List<RecordedEvent> events = record("com.yourcompany.jsontosql.RowGeneration",
+                () -> generator.generateBatchInserts(tableDefinition, "[{\"name\":\"a\"},{\"name\":\"b\"}]"));
+        
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("users", event.getString("tableName"));
+        assertEquals(2, event.getInt("rowCount"));
+        assertEquals(27, event.getLong("bytesIn"));
+    }
+    
+    @Test
+    void testDefinitionFileEventRecordedForWrite() throws Exception {
+        TableDefinitionWriter writer = new TableDefinitionWriter(new ObjectMapper(), tempDir.toString(), false, 500);
+        
+        List<RecordedEvent> events = record("com.yourcompany.jsontosql.DefinitionFile", () -> {
+            writer.write(tableDefinition);
+            writer.delete("users");
+        });
+        
+        assertEquals(List.of("write", "delete"),
+                events.stream().map(event -> event.getString("operation")).collect(Collectors.toList()));
+        assertTrue(events.get(0).getLong("bytes") > 0);
+        assertEquals(tempDir.resolve("users.json").toString(), events.get(0).getString("path"));
+    }
+    
+    private List<RecordedEvent> record(String eventName, Runnable action) throws Exception {
+        Path file = tempDir.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withThreshold(java.time.Duration.ZERO);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(eventName))
+                .collect(Collectors.toList());
+    }
+}
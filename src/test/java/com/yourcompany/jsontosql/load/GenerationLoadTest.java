@@ -0,0 +1,147 @@
+package com.yourcompany.jsontosql.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourcompany.jsontosql.workload.WorkloadGenerator;
+import com.yourcompany.jsontosql.workload.WorkloadSpec;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * End-to-end load test against the real application on a random port. Excluded from the normal build;
+ * run with {@code mvn -Pload test}. Tunables (system properties):
+ * <ul>
+ *   <li>{@code load.concurrency} - client threads (default 8)</li>
+ *   <li>{@code load.warmupSeconds} / {@code load.durationSeconds} - run lengths (default 3 / 10)</li>
+ *   <li>{@code load.mix} - operation weights (default {@code single=6,batch=2,list=1,get=1})</li>
+ *   <li>{@code load.batchSize} - rows per batch request (default 100)</li>
+ *   <li>{@code load.columns}, {@code load.depth}, {@code load.stringLength}, {@code load.sparsity},
+ *       {@code load.quoteDensity} - payload shape, see {@link WorkloadSpec} (defaults 20, 2, 32, 0.1, 0.01)</li>
+ *   <li>{@code load.output} - JSON report path (default {@code target/load-results.json})</li>
+ * </ul>
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class GenerationLoadTest {
+    
+    private static final String TABLE = "load_users";
+    private static final int PAYLOAD_VARIANTS = 64;
+    
+    @TempDir
+    static Path storageDir;
+    
+    @DynamicPropertySource
+    static void storage(DynamicPropertyRegistry registry) {
+        registry.add("app.table-definitions.storage-path", () -> storageDir.toString());
+        registry.add("logging.level.com.yourcompany.jsontosql", () -> "WARN");
+    }
+    
+    @LocalServerPort
+    private int port;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Test
+    void generateAndTableEndpointsUnderLoad() throws Exception {
+        int concurrency = Integer.getInteger("load.concurrency", 8);
+        int warmupSeconds = Integer.getInteger("load.warmupSeconds", 3);
+        int durationSeconds = Integer.getInteger("load.durationSeconds", 10);
+        int batchSize = Integer.getInteger("load.batchSize", 100);
+        String mix = System.getProperty("load.mix", "single=6,batch=2,list=1,get=1");
+        Path output = Paths.get(System.getProperty("load.output", "target/load-results.json"));
+        
+        WorkloadGenerator workload = new WorkloadGenerator(WorkloadSpec.builder()
+                .tableName(TABLE)
+                .columnCount(Integer.getInteger("load.columns", 20))
+                .nestingDepth(Integer.getInteger("load.depth", 2))
+                .stringLength(Integer.getInteger("load.stringLength", 32))
+                .sparsity(Double.parseDouble(System.getProperty("load.sparsity", "0.1")))
+                .quoteDensity(Double.parseDouble(System.getProperty("load.quoteDensity", "0.01")))
+                .build());
+        createTable(workload);
+        List<String> singleBodies = new ArrayList<>();
+        List<String> batchBodies = new ArrayList<>();
+        for (int i = 0; i < PAYLOAD_VARIANTS; i++) {
+            singleBodies.add(generateBody(workload.row(i), false));
+            batchBodies.add(generateBody(workload.batch(i * batchSize, batchSize), true));
+        }
+        
+        Map<String, Integer> weights = parseMix(mix);
+        LoadTestRunner runner = new LoadTestRunner()
+                .operation("single", weights.getOrDefault("single", 0),
+                        i -> post("/api/v1/sql/generate", singleBodies.get(i % PAYLOAD_VARIANTS)))
+                .operation("batch", weights.getOrDefault("batch", 0),
+                        i -> post("/api/v1/sql/generate", batchBodies.get(i % PAYLOAD_VARIANTS)))
+                .operation("list", weights.getOrDefault("list", 0),
+                        i -> get("/api/v1/tables"))
+                .operation("get", weights.getOrDefault("get", 0),
+                        i -> get("/api/v1/tables/" + TABLE));
+        
+        LoadReport report = runner.run(concurrency, Duration.ofSeconds(warmupSeconds), Duration.ofSeconds(durationSeconds));
+        report.getParameters().put("mix", mix);
+        report.getParameters().put("batchSize", batchSize);
+        report.getParameters().put("workload", workload.getSpec());
+        report.getParameters().put("warmupSeconds", warmupSeconds);
+        report.writeTo(output);
+        System.out.print(report.summary());
+        System.out.println("Report written to " + output.toAbsolutePath());
+        
+        assertTrue(report.getRequests() > 0);
+        assertEquals(0, report.getErrors());
+    }
+    
+    private void createTable(WorkloadGenerator workload) throws Exception {
+        HttpResponse<String> response = HttpClient.newHttpClient().send(
+                post("/api/v1/tables", objectMapper.writeValueAsString(workload.tableDefinition())),
+                HttpResponse.BodyHandlers.ofString());
+        assertTrue(response.statusCode() < 300, "Creating table failed: " + response.body());
+    }
+    
+    private String generateBody(String jsonData, boolean batch) throws Exception {
+        Map<String, Object> request = new HashMap<>();
+        request.put("tableName", TABLE);
+        request.put("jsonData", objectMapper.readTree(jsonData));
+        request.put("batchMode", batch);
+        return objectMapper.writeValueAsString(request);
+    }
+    
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new HashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            weights.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+    
+    private HttpRequest post(String path, String body) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+    
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+    }
+}
@@ -0,0 +1,156 @@
+package com.yourcompany.jsontosql.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Result of a load run, serialized to JSON so runs can be compared
+ */
+public class LoadReport {
+    
+    private int concurrency;
+    private double durationSeconds;
+    private long requests;
+    private long errors;
+    private double throughputPerSecond;
+    private double allocationRateMbPerSecond;
+    private Map<String, Object> parameters = new LinkedHashMap<>();
+    private Map<String, OperationStats> operations = new LinkedHashMap<>();
+    
+    static LoadReport from(Map<String, LoadTestRunner.Samples> samplesByOperation, int concurrency,
+                           long elapsedNanos, long allocatedBytes) {
+        LoadReport report = new LoadReport();
+        double seconds = elapsedNanos / 1e9;
+        report.concurrency = concurrency;
+        report.durationSeconds = seconds;
+        report.allocationRateMbPerSecond = allocatedBytes / (1024.0 * 1024.0) / seconds;
+        
+        samplesByOperation.forEach((name, samples) -> {
+            OperationStats stats = OperationStats.from(samples, seconds);
+            report.operations.put(name, stats);
+            report.requests += stats.getCount();
+            report.errors += stats.getErrors();
+        });
+        report.throughputPerSecond = report.requests / seconds;
+        return report;
+    }
+    
+    void writeTo(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), this);
+    }
+    
+    String summary() {
+        StringBuilder summary = new StringBuilder(String.format(Locale.ROOT,
+                "%d requests in %.1fs (%.0f/s, %d errors), allocation %.1f MB/s%n",
+                requests, durationSeconds, throughputPerSecond, errors, allocationRateMbPerSecond));
+        operations.forEach((name, stats) -> summary.append(String.format(Locale.ROOT,
+                "  %-10s %8d req %8.0f/s  p50 %8.0fus  p99 %8.0fus  p999 %8.0fus  max %8.0fus  errors %d%n",
+                name, stats.getCount(), stats.getThroughputPerSecond(), stats.getP50Micros(),
+                stats.getP99Micros(), stats.getP999Micros(), stats.getMaxMicros(), stats.getErrors())));
+        return summary.toString();
+    }
+    
+    public int getConcurrency() {
+        return concurrency;
+    }
+    
+    public double getDurationSeconds() {
+        return durationSeconds;
+    }
+    
+    public long getRequests() {
+        return requests;
+    }
+    
+    public long getErrors() {
+        return errors;
+    }
+    
+    public double getThroughputPerSecond() {
+        return throughputPerSecond;
+    }
+    
+    public double getAllocationRateMbPerSecond() {
+        return allocationRateMbPerSecond;
+    }
+    
+    public Map<String, Object> getParameters() {
+        return parameters;
+    }
+    
+    public Map<String, OperationStats> getOperations() {
+        return operations;
+    }
+    
+    public static class OperationStats {
+        private long count;
+        private long errors;
+        private double throughputPerSecond;
+        private double p50Micros;
+        private double p99Micros;
+        private double p999Micros;
+        private double maxMicros;
+        
+        static OperationStats from(LoadTestRunner.Samples samples, double seconds) {
+            OperationStats stats = new OperationStats();
+            long[] sorted = samples.sorted();
+            stats.count = sorted.length;
+            stats.errors = samples.errors();
+            stats.throughputPerSecond = sorted.length / seconds;
+            stats.p50Micros = percentile(sorted, 0.50);
+            stats.p99Micros = percentile(sorted, 0.99);
+            stats.p999Micros = percentile(sorted, 0.999);
+            stats.maxMicros = sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1000.0;
+            return stats;
+        }
+        
+        /**
+         * Nearest-rank percentile of sorted nanosecond samples, in microseconds
+         */
+        static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(quantile * sorted.length);
+            return sorted[Math.max(rank - 1, 0)] / 1000.0;
+        }
+        
+        public long getCount() {
+            return count;
+        }
+        
+        public long getErrors() {
+            return errors;
+        }
+        
+        public double getThroughputPerSecond() {
+            return throughputPerSecond;
+        }
+        
+        public double getP50Micros() {
+            return p50Micros;
+        }
+        
+        public double getP99Micros() {
+            return p99Micros;
+        }
+        
+        public double getP999Micros() {
+            return p999Micros;
+        }
+        
+        public double getMaxMicros() {
+            return maxMicros;
+        }
+    }
+}
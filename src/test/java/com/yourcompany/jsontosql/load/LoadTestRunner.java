@@ -0,0 +1,182 @@
+package com.yourcompany.jsontosql.load;
+
+import java.lang.management.ManagementFactory;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntFunction;
+
+/**
+ * Drives weighted HTTP operations from a fixed number of client threads for a fixed time and
+ * collects per-operation latency samples plus JVM-wide allocation.
+ *
+ * Each client thread issues requests back to back (closed loop). Samples from the warmup period are discarded.
+ */
+class LoadTestRunner {
+    
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final List<Operation> operations = new ArrayList<>();
+    private int totalWeight;
+    
+    /**
+     * Adds an operation; {@code weight} is its share of the mix relative to the other operations
+     */
+    LoadTestRunner operation(String name, int weight, IntFunction<HttpRequest> requestFactory) {
+        if (weight > 0) {
+            operations.add(new Operation(name, weight, requestFactory));
+            totalWeight += weight;
+        }
+        return this;
+    }
+    
+    LoadReport run(int concurrency, Duration warmup, Duration duration) throws InterruptedException {
+        if (operations.isEmpty()) {
+            throw new IllegalStateException("No operations in the load mix");
+        }
+        
+        runPhase(concurrency, warmup);
+        
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        List<Map<String, Samples>> perThread = runPhase(concurrency, duration);
+        long elapsedNanos = System.nanoTime() - start;
+        long allocated = allocatedBytes() - allocatedBefore;
+        
+        Map<String, Samples> merged = new LinkedHashMap<>();
+        for (Operation operation : operations) {
+            Samples samples = new Samples();
+            for (Map<String, Samples> threadSamples : perThread) {
+                samples.addAll(threadSamples.get(operation.name));
+            }
+            merged.put(operation.name, samples);
+        }
+        return LoadReport.from(merged, concurrency, elapsedNanos, allocated);
+    }
+    
+    private List<Map<String, Samples>> runPhase(int concurrency, Duration length) throws InterruptedException {
+        long deadline = System.nanoTime() + length.toNanos();
+        List<Map<String, Samples>> perThread = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(concurrency);
+        
+        for (int t = 0; t < concurrency; t++) {
+            Map<String, Samples> samples = new LinkedHashMap<>();
+            operations.forEach(operation -> samples.put(operation.name, new Samples()));
+            perThread.add(samples);
+            
+            Thread client = new Thread(() -> {
+                try {
+                    int iteration = 0;
+                    while (System.nanoTime() < deadline) {
+                        Operation operation = pick();
+                        HttpRequest request = operation.requestFactory.apply(iteration++);
+                        long begin = System.nanoTime();
+                        boolean ok;
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                            ok = response.statusCode() < 400;
+                        } catch (Exception e) {
+                            ok = false;
+                        }
+                        samples.get(operation.name).add(System.nanoTime() - begin, ok);
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, "load-client-" + t);
+            client.setDaemon(true);
+            client.start();
+        }
+        done.await();
+        return perThread;
+    }
+    
+    private Operation pick() {
+        int ticket = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Operation operation : operations) {
+            ticket -= operation.weight;
+            if (ticket < 0) {
+                return operation;
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+    
+    /**
+     * Bytes allocated by all live threads, including the load clients; the server shares this JVM
+     */
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long total = 0;
+        for (long allocated : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+            if (allocated > 0) {
+                total += allocated;
+            }
+        }
+        return total;
+    }
+    
+    private static final class Operation {
+        private final String name;
+        private final int weight;
+        private final IntFunction<HttpRequest> requestFactory;
+        
+        Operation(String name, int weight, IntFunction<HttpRequest> requestFactory) {
+            this.name = name;
+            this.weight = weight;
+            this.requestFactory = requestFactory;
+        }
+    }
+    
+    /**
+     * Latency samples in nanoseconds for one operation
+     */
+    static final class Samples {
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+        
+        void add(long latencyNanos, boolean ok) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+        
+        void addAll(Samples other) {
+            if (size + other.size > latencies.length) {
+                latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, size + other.size));
+            }
+            System.arraycopy(other.latencies, 0, latencies, size, other.size);
+            size += other.size;
+            errors += other.errors;
+        }
+        
+        long[] sorted() {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+        
+        int size() {
+            return size;
+        }
+        
+        long errors() {
+            return errors;
+        }
+    }
+}
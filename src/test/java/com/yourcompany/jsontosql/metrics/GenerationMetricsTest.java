@@ -0,0 +1,90 @@
+package com.yourcompany.jsontosql.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GenerationMetricsTest {
+    
+    private SimpleMeterRegistry registry;
+    private GenerationMetrics generationMetrics;
+    
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        generationMetrics = new GenerationMetrics(registry, true);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        StageTimings.end();
+    }
+    
+    @Test
+    void testRecordSuccessTagsByTableAndMode() {
+        StageTimings timings = StageTimings.begin();
+        timings.record(GenerationStage.EXTRACT, System.nanoTime() - 1_000);
+        timings.addRows(3);
+        
+        generationMetrics.recordSuccess("Users", GenerationMetrics.MODE_BATCH, GenerationMetrics.CACHE_MISS,
+                5_000, timings, "[{\"name\":\"é\"}]", "INSERT;");
+        
+        Timer requests = registry.get("sqlgen.requests")
+                .tags("table", "users", "mode", "batch", "outcome", "success", "cache", "miss")
+                .timer();
+        assertEquals(1, requests.count());
+        assertEquals(5_000, requests.totalTime(TimeUnit.NANOSECONDS), 0.1);
+        
+        Timer extract = registry.get("sqlgen.stage").tags("table", "users", "stage", "extract").timer();
+        assertTrue(extract.totalTime(TimeUnit.NANOSECONDS) >= 1_000);
+        assertEquals(GenerationStage.values().length, registry.get("sqlgen.stage").timers().size());
+        
+        assertEquals(3, registry.get("sqlgen.rows").summary().totalAmount(), 0.1);
+        DistributionSummary payloadIn = registry.get("sqlgen.payload.in").summary();
+        assertEquals(15, payloadIn.totalAmount(), 0.1);
+        assertEquals(7, registry.get("sqlgen.payload.out").summary().totalAmount(), 0.1);
+    }
+    
+    @Test
+    void testCacheHitRecordsNoStages() {
+        generationMetrics.recordSuccess("users", GenerationMetrics.MODE_SINGLE, GenerationMetrics.CACHE_HIT,
+                1_000, null, "{}", "INSERT;");
+        
+        assertEquals(1, registry.get("sqlgen.requests").tag("cache", "hit").timer().count());
+        assertNull(registry.find("sqlgen.stage").timer());
+    }
+    
+    @Test
+    void testRecordFailure() {
+        generationMetrics.recordFailure("users", GenerationMetrics.MODE_SINGLE, 1_000, new IllegalArgumentException());
+        
+        assertEquals(1, registry.get("sqlgen.requests")
+                .tags("outcome", "error", "exception", "IllegalArgumentException")
+                .timer().count());
+    }
+    
+    @Test
+    void testRecordFailureWithoutResolvedTable() {
+        generationMetrics.recordFailure(null, GenerationMetrics.MODE_SINGLE, 1_000, new IllegalStateException());
+        
+        assertEquals(1, registry.get("sqlgen.requests")
+                .tags("table", GenerationMetrics.TABLE_UNKNOWN, "exception", "IllegalStateException")
+                .timer().count());
+    }
+    
+    @Test
+    void testUtf8Length() {
+        assertEquals(0, GenerationMetrics.utf8Length(null));
+        assertEquals(3, GenerationMetrics.utf8Length("abc"));
+        assertEquals(2, GenerationMetrics.utf8Length("é"));
+        assertEquals(3, GenerationMetrics.utf8Length("€"));
+        assertEquals(4, GenerationMetrics.utf8Length("😀"));
+    }
+}
@@ -100,6 +100,38 @@ class JsonMappingServiceTest {
         assertTrue((Boolean) result.get("valid")); // Email is nullable, so should be valid
     }
     
+    @Test
+    void testValidateJsonAgainstSchema_LengthViolation() {
+        when(jsonPathExtractor.extractValue(anyString(), eq("user.name")))
+                .thenReturn(Optional.of("x".repeat(300)));
+        when(jsonPathExtractor.extractValue(anyString(), eq("user.email")))
+                .thenReturn(Optional.of("john@example.com"));
+        
+        Map<String, Object> result = jsonMappingService.validateJsonAgainstSchema(tableDefinition, jsonData);
+        
+        assertFalse((Boolean) result.get("valid"));
+        assertTrue(((java.util.List<?>) result.get("errors")).get(0).toString().contains("VARCHAR(255)"));
+    }
+    
+    @Test
+    void testValidateJsonAgainstSchema_ArrayReportsRowIndex() {
+        when(jsonPathExtractor.extractValue(eq("{\"n\":1}"), eq("user.name")))
+                .thenReturn(Optional.of("john_doe"));
+        when(jsonPathExtractor.extractValue(eq("{\"n\":2}"), eq("user.name")))
+                .thenReturn(Optional.empty());
+        when(jsonPathExtractor.extractValue(anyString(), eq("user.email")))
+                .thenReturn(Optional.empty());
+        
+        Map<String, Object> result = jsonMappingService.validateJsonAgainstSchema(
+                tableDefinition, "[{\"n\":1},{\"n\":2}]");
+        
+        assertFalse((Boolean) result.get("valid"));
+        assertEquals(2, result.get("rowCount"));
+        java.util.List<?> errors = (java.util.List<?>) result.get("errors");
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0).toString().startsWith("Row 1, column 'username'"));
+    }
+    
     @Test
     void testMapJsonToColumns() {
         when(jsonPathExtractor.extractValue(anyString(), eq("user.name")))
@@ -1,6 +1,10 @@
 package com.yourcompany.jsontosql.service;
 
+import com.yourcompany.jsontosql.generator.ScriptWriter;
+import com.yourcompany.jsontosql.model.ChildTableDefinition;
 import com.yourcompany.jsontosql.model.ColumnDefinition;
+import com.yourcompany.jsontosql.model.IndexDefinition;
+import com.yourcompany.jsontosql.model.ScriptOptions;
 import com.yourcompany.jsontosql.model.SqlGenerationRequest;
 import com.yourcompany.jsontosql.model.SqlGenerationResponse;
 import com.yourcompany.jsontosql.model.TableDefinition;
@@ -10,7 +14,16 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.io.ByteArrayInputStream;
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -91,4 +104,466 @@ class SqlGeneratorServiceIntegrationTest {
         // Validation should pass for valid JSON
         assertTrue(result.containsKey("valid"));
     }
+    
+    @Test
+    void testOpenScript_StreamsNdjsonAndCommentsSkippedRows() throws Exception {
+        String ndjson = "{\"user\":{\"name\":\"john\"}}\n{\"user\":{}}\n{\"user\":{\"name\":\"jane\"}}\n";
+        StringWriter out = new StringWriter();
+        
+        ScriptWriter result;
+        try (SqlScriptStream script = sqlGeneratorService.openScript("test_users",
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), true, "postgresql", "skip")) {
+            result = script.writeTo(out);
+        }
+        
+        assertEquals(3, result.getRowCount());
+        assertEquals(1, result.getFailedRowCount());
+        assertEquals(3, result.getStatementCount());
+        String sql = out.toString();
+        assertTrue(sql.startsWith("CREATE TABLE"));
+        assertTrue(sql.contains("VALUES ('john', NULL);"));
+        assertTrue(sql.contains("VALUES ('jane', NULL);"));
+        assertTrue(sql.contains("-- Row 1"));
+        assertTrue(sql.endsWith("-- Skipped 1 of 3 rows\n"));
+        assertEquals(sql.getBytes(StandardCharsets.UTF_8).length, result.getBytesWritten());
+    }
+    
+    @Test
+    void testOpenScript_CommitsEveryNRows() throws Exception {
+        String ndjson = "{\"user\":{\"name\":\"a\"}}\n{\"user\":{\"name\":\"b\"}}\n{\"user\":{\"name\":\"c\"}}\n";
+        StringWriter out = new StringWriter();
+        ScriptOptions options = ScriptOptions.builder()
+                .dialect("postgresql")
+                .transactionSize(2)
+                .loadSettings(true)
+                .build();
+        
+        ScriptWriter result;
+        try (SqlScriptStream script = sqlGeneratorService.openScript("test_users",
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), options)) {
+            result = script.writeTo(out);
+        }
+        
+        String begin = "BEGIN;\n\nSET CONSTRAINTS ALL DEFERRED;\n\n";
+        assertEquals("SET synchronous_commit = off;\n\n"
+                + begin
+                + "INSERT INTO \"test_users\" (\"username\", \"email\") VALUES ('a', NULL);\n\n"
+                + "INSERT INTO \"test_users\" (\"username\", \"email\") VALUES ('b', NULL);\n\n"
+                + "COMMIT;\n\n"
+                + begin
+                + "INSERT INTO \"test_users\" (\"username\", \"email\") VALUES ('c', NULL);\n\n"
+                + "COMMIT;\n\n"
+                + "RESET synchronous_commit;\n\n", out.toString());
+        assertEquals(3, result.getStatementCount());
+    }
+    
+    @Test
+    void testGenerateSql_ChildTablesFromNestedArrays() {
+        tableDefinitionService.saveTableDefinition(ordersWithLines());
+        try {
+            SqlGenerationRequest request = SqlGenerationRequest.builder()
+                    .tableName("test_orders")
+                    .jsonData("[{\"id\":1,\"lines\":[{\"sku\":\"A\",\"qty\":2},{\"sku\":\"B\",\"qty\":1}]},"
+                            + "{\"id\":2,\"lines\":[{\"qty\":5}]},"
+                            + "{\"id\":3}]")
+                    .batchMode(true)
+                    .includeDdl(true)
+                    .onRowError("SKIP")
+                    .build();
+            
+            SqlGenerationResponse response = sqlGeneratorService.generateSql(request);
+            
+            assertEquals(List.of(
+                    "CREATE TABLE \"test_orders\" (\n  \"id\" BIGINT NOT NULL,\n  PRIMARY KEY (\"id\")\n);",
+                    "CREATE TABLE \"test_order_lines\" (\n  \"id\" BIGINT NOT NULL,\n  \"sku\" VARCHAR(10) NOT NULL,\n  \"qty\" INT\n);",
+                    "INSERT INTO \"test_orders\" (\"id\") VALUES (1);",
+                    "INSERT INTO \"test_order_lines\" (\"id\", \"sku\", \"qty\") VALUES (1, 'A', 2);",
+                    "INSERT INTO \"test_order_lines\" (\"id\", \"sku\", \"qty\") VALUES (1, 'B', 1);",
+                    "INSERT INTO \"test_orders\" (\"id\") VALUES (3);"), response.getStatements());
+            // The order with an invalid line is dropped together with its lines
+            assertEquals(1, response.getErrors().size());
+            assertTrue(response.getErrors().get(0).startsWith("Row 1, column 'test_order_lines[0].sku'"));
+            
+            // A single object counts its child INSERTs as statements too
+            request.setBatchMode(false);
+            request.setIncludeDdl(false);
+            request.setJsonData("{\"id\":1,\"lines\":[{\"sku\":\"A\",\"qty\":2},{\"sku\":\"B\",\"qty\":1}]}");
+            response = sqlGeneratorService.generateSql(request);
+            assertEquals(3, response.getStatementCount());
+            assertEquals("INSERT INTO \"test_order_lines\" (\"id\", \"sku\", \"qty\") VALUES (1, 'B', 1);",
+                    response.getStatements().get(2));
+        } finally {
+            tableDefinitionService.deleteTableDefinition("test_orders");
+        }
+    }
+    
+    @Test
+    void testSaveTableDefinition_RejectsUnknownParentKey() {
+        TableDefinition definition = ordersWithLines();
+        definition.getChildTables().get(0).setParentKeys(List.of("order_id"));
+        
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> tableDefinitionService.saveTableDefinition(definition));
+        assertTrue(e.getMessage().contains("unknown parent column 'order_id'"));
+    }
+    
+    @Test
+    void testGenerateSql_ColumnTransforms() {
+        tableDefinitionService.saveTableDefinition(TableDefinition.builder()
+                .tableName("test_people")
+                .columns(List.of(
+                        ColumnDefinition.builder().name("full_name").type("VARCHAR(50)").nullable(false)
+                                .transform("concat($.first, ' ', upper($.last))").build(),
+                        ColumnDefinition.builder().name("born").type("DATE").jsonPath("dob")
+                                .transform("parseDate(value, 'dd/MM/yyyy')").build(),
+                        ColumnDefinition.builder().name("status").type("VARCHAR(10)").jsonPath("s")
+                                .transform("lookup(value, {'A': 'active'}, 'other')").build()))
+                .build());
+        try {
+            SqlGenerationRequest request = SqlGenerationRequest.builder()
+                    .tableName("test_people")
+                    .jsonData("[{\"first\":\"Ada\",\"last\":\"Lovelace\",\"dob\":\"10/12/1815\",\"s\":\"A\"},"
+                            + "{\"first\":\"Bad\",\"dob\":\"1815-12-10\"}]")
+                    .batchMode(true)
+                    .onRowError("SKIP")
+                    .build();
+            
+            SqlGenerationResponse response = sqlGeneratorService.generateSql(request);
+            
+            assertEquals(List.of("INSERT INTO \"test_people\" (\"full_name\", \"born\", \"status\") "
+                    + "VALUES ('Ada LOVELACE', '1815-12-10', 'active');"), response.getStatements());
+            assertEquals(1, response.getErrors().size());
+            assertTrue(response.getErrors().get(0).contains("transform of column 'born' failed"));
+        } finally {
+            tableDefinitionService.deleteTableDefinition("test_people");
+        }
+    }
+    
+    @Test
+    void testGenerateSql_DateFormatsPerDialect() {
+        tableDefinitionService.saveTableDefinition(TableDefinition.builder()
+                .tableName("test_events")
+                .columns(List.of(
+                        ColumnDefinition.builder().name("day").type("DATE").format("dd/MM/yyyy").build(),
+                        ColumnDefinition.builder().name("at").type("TIMESTAMP").format("epoch_millis").build()))
+                .build());
+        try {
+            SqlGenerationRequest request = SqlGenerationRequest.builder()
+                    .tableName("test_events")
+                    .jsonData("[{\"day\":\"09/03/2024\",\"at\":1710000000000},{\"day\":\"2024-03-09\",\"at\":0}]")
+                    .batchMode(true)
+                    .onRowError("SKIP")
+                    .dialect("oracle")
+                    .build();
+            
+            SqlGenerationResponse response = sqlGeneratorService.generateSql(request);
+            
+            assertEquals(List.of("INSERT INTO \"test_events\" (\"day\", \"at\") "
+                    + "VALUES (DATE '2024-03-09', TIMESTAMP '2024-03-09 16:00:00');"), response.getStatements());
+            assertEquals(1, response.getErrors().size());
+            assertTrue(response.getErrors().get(0).contains("expected format 'dd/MM/yyyy'"));
+            
+            request.setDialect("mysql");
+            request.setOnRowError("FAIL");
+            assertThrows(RuntimeException.class, () -> sqlGeneratorService.generateSql(request));
+        } finally {
+            tableDefinitionService.deleteTableDefinition("test_events");
+        }
+    }
+    
+    @Test
+    void testGenerateSql_SortedByPrimaryKey() {
+        tableDefinitionService.saveTableDefinition(TableDefinition.builder()
+                .tableName("test_accounts")
+                .columns(List.of(
+                        ColumnDefinition.builder().name("id").type("INT").primaryKey(true).nullable(false).build(),
+                        ColumnDefinition.builder().name("name").type("VARCHAR(10)").build()))
+                .build());
+        try {
+            SqlGenerationRequest request = SqlGenerationRequest.builder()
+                    .tableName("test_accounts")
+                    .jsonData("[{\"id\":10,\"name\":\"c\"},{\"id\":2,\"name\":\"a\"},{\"id\":3,\"name\":\"b\"}]")
+                    .batchMode(true)
+                    .sortByPrimaryKey(true)
+                    .build();
+            
+            SqlGenerationResponse response = sqlGeneratorService.generateSql(request);
+            
+            assertEquals(List.of(
+                    "INSERT INTO \"test_accounts\" (\"id\", \"name\") VALUES (2, 'a');",
+                    "INSERT INTO \"test_accounts\" (\"id\", \"name\") VALUES (3, 'b');",
+                    "INSERT INTO \"test_accounts\" (\"id\", \"name\") VALUES (10, 'c');"), response.getStatements());
+        } finally {
+            tableDefinitionService.deleteTableDefinition("test_accounts");
+        }
+    }
+    
+    @Test
+    void testGenerateSql_IndexesCreatedAfterRows() {
+        testTableDefinition.setIndexes(List.of(IndexDefinition.builder().columns(List.of("email")).build()));
+        tableDefinitionService.saveTableDefinition(testTableDefinition);
+        SqlGenerationRequest request = SqlGenerationRequest.builder()
+                .tableName("test_users")
+                .jsonData("[{\"user\":{\"name\":\"a\",\"email\":\"a@example.com\"}}]")
+                .batchMode(true)
+                .dialect("postgresql")
+                .rebuildIndexes(true)
+                .build();
+        
+        SqlGenerationResponse response = sqlGeneratorService.generateSql(request);
+        
+        assertEquals(List.of(
+                "DROP INDEX IF EXISTS \"test_users_email_idx\";",
+                "INSERT INTO \"test_users\" (\"username\", \"email\") VALUES ('a', 'a@example.com');",
+                "CREATE INDEX \"test_users_email_idx\" ON \"test_users\" (\"email\");"), response.getStatements());
+        
+        request.setRebuildIndexes(false);
+        request.setIncludeDdl(true);
+        List<String> withDdl = sqlGeneratorService.generateSql(request).getStatements();
+        
+        // A new table has no indexes to drop
+        assertTrue(withDdl.get(0).startsWith("CREATE TABLE"));
+        assertEquals(response.getStatements().get(2), withDdl.get(withDdl.size() - 1));
+    }
+    
+    @Test
+    void testSaveTableDefinition_RejectsUnknownIndexColumn() {
+        testTableDefinition.setIndexes(List.of(IndexDefinition.builder().columns(List.of("mail")).build()));
+        
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> tableDefinitionService.saveTableDefinition(testTableDefinition));
+        assertTrue(e.getMessage().contains("unknown column 'mail'"));
+    }
+    
+    @Test
+    void testOpenScript_PartitionsRowsByKeyHash() throws Exception {
+        tableDefinitionService.saveTableDefinition(TableDefinition.builder()
+                .tableName("test_accounts")
+                .columns(List.of(
+                        ColumnDefinition.builder().name("id").type("INT").primaryKey(true).nullable(false).build(),
+                        ColumnDefinition.builder().name("name").type("VARCHAR(10)").build()))
+                .build());
+        try {
+            StringBuilder ndjson = new StringBuilder();
+            for (int i = 0; i < 40; i++) {
+                ndjson.append("{\"id\":").append(i % 20).append(",\"name\":\"n").append(i).append("\"}\n");
+            }
+            Map<String, StringWriter> entries = new LinkedHashMap<>();
+            ScriptOptions options = ScriptOptions.builder()
+                    .includeDdl(true)
+                    .dialect("postgresql")
+                    .partitions(3)
+                    .build();
+            
+            List<ScriptWriter> scripts;
+            try (SqlScriptStream script = sqlGeneratorService.openScript("test_accounts",
+                    new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)), options)) {
+                scripts = script.writeTo(name -> entries.computeIfAbsent(name, n -> new StringWriter()));
+            }
+            
+            assertEquals(List.of("test_accounts-ddl.sql", "test_accounts-part-1.sql", "test_accounts-part-2.sql",
+                    "test_accounts-part-3.sql"), List.copyOf(entries.keySet()));
+            assertTrue(entries.get("test_accounts-ddl.sql").toString().startsWith("CREATE TABLE"));
+            assertEquals(40, scripts.stream().mapToInt(ScriptWriter::getRowCount).sum());
+            for (int id = 0; id < 20; id++) {
+                String insert = "VALUES (" + id + ", ";
+                // Both rows of a key go to the same partition
+                long holding = entries.values().stream().filter(sql -> sql.toString().contains(insert)).count();
+                assertEquals(1, holding, "id " + id);
+            }
+            String part = entries.get("test_accounts-part-1.sql").toString();
+            assertTrue(part.startsWith("-- Partition 1 of 3: "));
+            assertTrue(part.contains("BEGIN;\n\n"));
+            assertTrue(part.endsWith("COMMIT;\n\n"));
+            
+            assertThrows(IllegalArgumentException.class, () -> sqlGeneratorService.openScript("test_accounts",
+                    new ByteArrayInputStream(new byte[0]), ScriptOptions.builder().partitions(2).delta(true).build()));
+        } finally {
+            tableDefinitionService.deleteTableDefinition("test_accounts");
+        }
+    }
+    
+    @Test
+    void testGenerateSql_UpsertPerDialect() {
+        tableDefinitionService.saveTableDefinition(accounts());
+        try {
+            SqlGenerationRequest request = SqlGenerationRequest.builder()
+                    .tableName("test_accounts")
+                    .jsonData("[{\"id\":1,\"name\":\"a\"},{\"id\":2,\"name\":\"b\"},{\"id\":1,\"name\":\"c\"}]")
+                    .batchMode(true)
+                    .dialect("postgresql")
+                    .operation("upsert")
+                    .rowsPerStatement(3)
+                    .build();
+            
+            // The repeated key starts a new statement
+            assertEquals(List.of(
+                    "INSERT INTO \"test_accounts\" (\"id\", \"name\") VALUES (1, 'a'),\n(2, 'b')"
+                            + " ON CONFLICT (\"id\") DO UPDATE SET \"name\" = EXCLUDED.\"name\";",
+                    "INSERT INTO \"test_accounts\" (\"id\", \"name\") VALUES (1, 'c')"
+                            + " ON CONFLICT (\"id\") DO UPDATE SET \"name\" = EXCLUDED.\"name\";"),
+                    sqlGeneratorService.generateSql(request).getStatements());
+            
+            request.setJsonData("[{\"id\":1,\"name\":\"a\"},{\"id\":2,\"name\":\"b\"}]");
+            request.setDialect("mysql");
+            assertEquals(List.of("INSERT INTO \"test_accounts\" (\"id\", \"name\") VALUES (1, 'a'),\n(2, 'b')"
+                            + " AS new ON DUPLICATE KEY UPDATE \"name\" = new.\"name\";"),
+                    sqlGeneratorService.generateSql(request).getStatements());
+            
+            request.setDialect("oracle");
+            assertEquals(List.of("MERGE INTO \"test_accounts\" t USING (SELECT 1 AS \"id\", 'a' AS \"name\" FROM DUAL"
+                            + "\nUNION ALL SELECT 2, 'b' FROM DUAL) s ON (t.\"id\" = s.\"id\")"
+                            + " WHEN MATCHED THEN UPDATE SET \"name\" = s.\"name\""
+                            + " WHEN NOT MATCHED THEN INSERT (\"id\", \"name\") VALUES (s.\"id\", s.\"name\");"),
+                    sqlGeneratorService.generateSql(request).getStatements());
+            
+            request.setDialect("standard");
+            assertEquals(List.of("MERGE INTO \"test_accounts\" AS t USING (VALUES (1, 'a'),\n(2, 'b'))"
+                            + " AS s (\"id\", \"name\") ON (t.\"id\" = s.\"id\")"
+                            + " WHEN MATCHED THEN UPDATE SET \"name\" = s.\"name\""
+                            + " WHEN NOT MATCHED THEN INSERT (\"id\", \"name\") VALUES (s.\"id\", s.\"name\");"),
+                    sqlGeneratorService.generateSql(request).getStatements());
+            
+            // Without a primary key there is nothing to match rows on
+            request.setTableName("test_users");
+            assertThrows(IllegalArgumentException.class, () -> sqlGeneratorService.generateSql(request));
+        } finally {
+            tableDefinitionService.deleteTableDefinition("test_accounts");
+        }
+    }
+    
+    @Test
+    void testGenerateSql_UpdateAndDeleteByPrimaryKey() {
+        TableDefinition accounts = accounts();
+        accounts.setColumns(List.of(accounts.getColumns().get(0), accounts.getColumns().get(1),
+                ColumnDefinition.builder().name("email").type("VARCHAR(20)").nullable(false).build()));
+        tableDefinitionService.saveTableDefinition(accounts);
+        try {
+            SqlGenerationRequest request = SqlGenerationRequest.builder()
+                    .tableName("test_accounts")
+                    .jsonData("[{\"id\":1,\"email\":\"a@x\"},{\"id\":2,\"name\":\"b\"},{\"name\":\"c\"}]")
+                    .batchMode(true)
+                    .onRowError("skip")
+                    .operation("update")
+                    .rowsPerStatement(10)
+                    .build();
+            
+            SqlGenerationResponse response = sqlGeneratorService.generateSql(request);
+            
+            // Only the columns in each record are set; missing required columns are not errors
+            assertEquals(List.of(
+                    "UPDATE \"test_accounts\" SET \"email\" = 'a@x' WHERE \"id\" = 1;",
+                    "UPDATE \"test_accounts\" SET \"name\" = 'b' WHERE \"id\" = 2;"), response.getStatements());
+            assertEquals(List.of("Row 2: primary key column 'id' has no value"), response.getErrors());
+            
+            // An explicit null sets the column to NULL, unless it is NOT NULL
+            request.setJsonData("[{\"id\":1,\"name\":null},{\"id\":2,\"name\":null,\"email\":null},{\"id\":3}]");
+            response = sqlGeneratorService.generateSql(request);
+            
+            assertEquals(List.of("UPDATE \"test_accounts\" SET \"name\" = NULL WHERE \"id\" = 1;"),
+                    response.getStatements());
+            assertEquals(List.of("Row 1: column 'email' is NOT NULL and cannot be set to null",
+                    "Row 2: no column to update besides the primary key"), response.getErrors());
+            
+            request.setJsonData("[{\"id\":1,\"email\":\"a@x\"},{\"id\":2,\"name\":\"b\"},{\"name\":\"c\"}]");
+            request.setOperation("delete");
+            response = sqlGeneratorService.generateSql(request);
+            
+            assertEquals(List.of("DELETE FROM \"test_accounts\" WHERE \"id\" IN (1, 2);"), response.getStatements());
+            assertEquals("Skipped 1 of 3 rows", response.getWarnings().get(0));
+        } finally {
+            tableDefinitionService.deleteTableDefinition("test_accounts");
+        }
+    }
+    
+    @Test
+    void testOpenScript_MultiRowInsertsCountEveryRow() throws Exception {
+        tableDefinitionService.saveTableDefinition(accounts());
+        try {
+            String ndjson = "{\"id\":1,\"name\":\"a\"}\n{\"id\":2,\"name\":\"b\"}\n{\"id\":3,\"name\":\"c\"}\n";
+            StringWriter out = new StringWriter();
+            ScriptOptions options = ScriptOptions.builder()
+                    .dialect("oracle")
+                    .rowsPerStatement(2)
+                    .build();
+            
+            ScriptWriter script;
+            try (SqlScriptStream stream = sqlGeneratorService.openScript("test_accounts",
+                    new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), options)) {
+                script = stream.writeTo(out);
+            }
+            
+            assertEquals("INSERT INTO \"test_accounts\" (\"id\", \"name\") SELECT 1, 'a' FROM DUAL"
+                    + "\nUNION ALL SELECT 2, 'b' FROM DUAL;\n\n"
+                    + "INSERT INTO \"test_accounts\" (\"id\", \"name\") VALUES (3, 'c');\n\n", out.toString());
+            assertEquals(3, script.getRowCount());
+            
+            assertThrows(IllegalArgumentException.class, () -> sqlGeneratorService.openScript("test_accounts",
+                    new ByteArrayInputStream(new byte[0]), ScriptOptions.builder().operation("upsert").delta(true)
+                            .build()));
+        } finally {
+            tableDefinitionService.deleteTableDefinition("test_accounts");
+        }
+    }
+    
+    @Test
+    void testOpenScript_DeltaBaselineKeptWhenFlushFails() throws Exception {
+        tableDefinitionService.saveTableDefinition(accounts());
+        try {
+            sqlGeneratorService.resetDelta("test_accounts");
+            byte[] ndjson = "{\"id\":1,\"name\":\"a\"}\n".getBytes(StandardCharsets.UTF_8);
+            ScriptOptions options = ScriptOptions.builder().delta(true).build();
+            
+            // The client goes away while the buffered end of the script is sent
+            Writer disconnected = new FilterWriter(new StringWriter()) {
+                @Override
+                public void flush() throws IOException {
+                    throw new IOException("Broken pipe");
+                }
+            };
+            try (SqlScriptStream stream = sqlGeneratorService.openScript("test_accounts",
+                    new ByteArrayInputStream(ndjson), options)) {
+                assertThrows(IOException.class, () -> stream.writeTo(disconnected));
+            }
+            
+            StringWriter out = new StringWriter();
+            try (SqlScriptStream stream = sqlGeneratorService.openScript("test_accounts",
+                    new ByteArrayInputStream(ndjson), options)) {
+                stream.writeTo(out);
+            }
+            assertTrue(out.toString().startsWith("INSERT INTO \"test_accounts\""));
+        } finally {
+            sqlGeneratorService.resetDelta("test_accounts");
+            tableDefinitionService.deleteTableDefinition("test_accounts");
+        }
+    }
+    
+    private static TableDefinition accounts() {
+        return TableDefinition.builder()
+                .tableName("test_accounts")
+                .columns(List.of(
+                        ColumnDefinition.builder().name("id").type("INT").primaryKey(true).nullable(false).build(),
+                        ColumnDefinition.builder().name("name").type("VARCHAR(10)").build()))
+                .build();
+    }
+    
+    private static TableDefinition ordersWithLines() {
+        return TableDefinition.builder()
+                .tableName("test_orders")
+                .columns(List.of(ColumnDefinition.builder()
+                        .name("id")
+                        .type("BIGINT")
+                        .nullable(false)
+                        .primaryKey(true)
+                        .build()))
+                .childTables(List.of(ChildTableDefinition.builder()
+                        .tableName("test_order_lines")
+                        .arrayPath("lines")
+                        .parentKeys(List.of("id"))
+                        .columns(List.of(
+                                ColumnDefinition.builder().name("sku").type("VARCHAR(10)").nullable(false).build(),
+                                ColumnDefinition.builder().name("qty").type("INT").nullable(true).build()))
+                        .build()))
+                .build();
+    }
 }
@@ -2,6 +2,7 @@ package com.yourcompany.jsontosql.service;
 
 import com.yourcompany.jsontosql.generator.SqlScriptGenerator;
 import com.yourcompany.jsontosql.model.ColumnDefinition;
+import com.yourcompany.jsontosql.model.GenerationProfile;
 import com.yourcompany.jsontosql.model.SqlGenerationRequest;
 import com.yourcompany.jsontosql.model.SqlGenerationResponse;
 import com.yourcompany.jsontosql.model.TableDefinition;
@@ -12,6 +13,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -65,8 +67,6 @@ class SqlGeneratorServiceTest {
                 .build();
         
         when(tableDefinitionService.getTableDefinition("users")).thenReturn(tableDefinition);
-        when(jsonMappingService.validateJsonAgainstSchema(any(TableDefinition.class), anyString()))
-                .thenReturn(java.util.Map.of("valid", true));
         when(sqlScriptGenerator.generateScript(any(SqlGenerationRequest.class), any(TableDefinition.class)))
                 .thenReturn(expectedResponse);
         
@@ -77,10 +77,34 @@ class SqlGeneratorServiceTest {
         assertEquals(1, response.getStatementCount());
         
         verify(tableDefinitionService).getTableDefinition("users");
-        verify(jsonMappingService).validateJsonAgainstSchema(any(TableDefinition.class), anyString());
+        // Rows are validated while they are generated, not in a separate pass
+        verify(jsonMappingService, never()).validateJsonAgainstSchema(any(TableDefinition.class), anyString());
         verify(sqlScriptGenerator).generateScript(any(SqlGenerationRequest.class), any(TableDefinition.class));
     }
     
+    @Test
+    void testGenerateSql_WithProfile() {
+        SqlGenerationResponse expectedResponse = SqlGenerationResponse.builder()
+                .sqlScript("INSERT INTO \"users\" (\"username\") VALUES ('john_doe');")
+                .tableName("users")
+                .statementCount(1)
+                .build();
+        
+        when(tableDefinitionService.getTableDefinition("users")).thenReturn(tableDefinition);
+        when(sqlScriptGenerator.generateScript(any(SqlGenerationRequest.class), any(TableDefinition.class)))
+                .thenReturn(expectedResponse);
+        
+        assertNull(sqlGeneratorService.generateSql(request).getProfile());
+        
+        GenerationProfile profile = sqlGeneratorService.generateSql(request, true).getProfile();
+        assertNotNull(profile);
+        assertEquals(1, profile.getColumnCount());
+        assertFalse(profile.isCached());
+        assertEquals(List.of("parse", "sort", "extract", "validate", "format", "assemble"),
+                List.copyOf(profile.getStageNanos().keySet()));
+        assertTrue(profile.getTotalNanos() >= profile.getStageNanos().get("validate"));
+    }
+    
     @Test
     void testValidateJson_Success() {
         Map<String, Object> validationResult = java.util.Map.of(
@@ -0,0 +1,166 @@
+package com.yourcompany.jsontosql.service;
+
+import com.yourcompany.jsontosql.model.ColumnDefinition;
+import com.yourcompany.jsontosql.model.SqlGenerationRequest;
+import com.yourcompany.jsontosql.model.SqlGenerationResponse;
+import com.yourcompany.jsontosql.model.TableDefinition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlScriptCacheTest {
+    
+    private TableDefinition tableDefinition;
+    private AtomicInteger generations;
+    
+    @BeforeEach
+    void setUp() {
+        tableDefinition = TableDefinition.builder()
+                .tableName("users")
+                .columns(Collections.singletonList(
+                        ColumnDefinition.builder().name("username").type("VARCHAR(255)").build()
+                ))
+                .build();
+        tableDefinition.setVersion(1);
+        generations = new AtomicInteger();
+    }
+    
+    private SqlGenerationRequest request(String jsonData) {
+        return SqlGenerationRequest.builder().tableName("users").jsonData(jsonData).build();
+    }
+    
+    private Supplier<SqlGenerationResponse> generator(String script) {
+        return () -> {
+            generations.incrementAndGet();
+            return SqlGenerationResponse.builder()
+                    .sqlScript(script)
+                    .statements(new ArrayList<>(List.of(script)))
+                    .tableName("users")
+                    .statementCount(1)
+                    .warnings(new ArrayList<>())
+                    .errors(new ArrayList<>())
+                    .build();
+        };
+    }
+    
+    @Test
+    void testGet_HitForIdenticalPayload() {
+        SqlScriptCache cache = new SqlScriptCache(true, 1_000_000, Duration.ofMinutes(1));
+        
+        SqlGenerationResponse first = cache.get(request("{\"a\":1}"), tableDefinition, generator("INSERT 1;"));
+        SqlGenerationResponse second = cache.get(request("{\"a\":1}"), tableDefinition, generator("INSERT 1;"));
+        
+        assertEquals(1, generations.get());
+        assertEquals(first.getSqlScript(), second.getSqlScript());
+        assertNotSame(first.getStatements(), second.getStatements());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0.5, cache.getHitRatio());
+    }
+    
+    @Test
+    void testGet_MissForDifferentPayloadOptionsOrVersion() {
+        SqlScriptCache cache = new SqlScriptCache(true, 1_000_000, Duration.ofMinutes(1));
+        
+        cache.get(request("{\"a\":1}"), tableDefinition, generator("INSERT 1;"));
+        cache.get(request("{\"a\":2}"), tableDefinition, generator("INSERT 2;"));
+        
+        SqlGenerationRequest withDdl = request("{\"a\":1}");
+        withDdl.setIncludeDdl(true);
+        cache.get(withDdl, tableDefinition, generator("CREATE; INSERT 1;"));
+        
+        tableDefinition.setVersion(2);
+        cache.get(request("{\"a\":1}"), tableDefinition, generator("INSERT 1;"));
+        
+        assertEquals(4, generations.get());
+        assertEquals(0, cache.getHitCount());
+    }
+    
+    @Test
+    void testGet_DefaultDialectSharesEntryWithStandard() {
+        SqlScriptCache cache = new SqlScriptCache(true, 1_000_000, Duration.ofMinutes(1));
+        
+        cache.get(request("{\"a\":1}"), tableDefinition, generator("INSERT 1;"));
+        SqlGenerationRequest standard = request("{\"a\":1}");
+        standard.setDialect("standard");
+        cache.get(standard, tableDefinition, generator("INSERT 1;"));
+        
+        SqlGenerationRequest mysql = request("{\"a\":1}");
+        mysql.setDialect("MYSQL");
+        cache.get(mysql, tableDefinition, generator("INSERT 1;"));
+        
+        assertEquals(2, generations.get());
+        assertEquals(1, cache.getHitCount());
+    }
+    
+    @Test
+    void testGet_UnversionedDefinitionIsNotCached() {
+        SqlScriptCache cache = new SqlScriptCache(true, 1_000_000, Duration.ofMinutes(1));
+        tableDefinition.setVersion(0);
+        
+        cache.get(request("{\"a\":1}"), tableDefinition, generator("INSERT 1;"));
+        cache.get(request("{\"a\":1}"), tableDefinition, generator("INSERT 1;"));
+        
+        assertEquals(2, generations.get());
+        assertEquals(0, cache.size());
+    }
+    
+    @Test
+    void testGet_EvictsLeastRecentlyUsedWhenOverSize() {
+        // Each entry is 4 * 100 + 256 = 656 bytes, so only two fit
+        SqlScriptCache cache = new SqlScriptCache(true, 1400, Duration.ofMinutes(1));
+        String script = "x".repeat(100);
+        
+        cache.get(request("1"), tableDefinition, generator(script));
+        cache.get(request("2"), tableDefinition, generator(script));
+        cache.get(request("1"), tableDefinition, generator(script)); // touch 1
+        cache.get(request("3"), tableDefinition, generator(script)); // evicts 2
+        
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        
+        cache.get(request("1"), tableDefinition, generator(script));
+        assertEquals(3, generations.get());
+        cache.get(request("2"), tableDefinition, generator(script));
+        assertEquals(4, generations.get());
+    }
+    
+    @Test
+    void testGet_ExpiredEntryIsRegenerated() {
+        SqlScriptCache cache = new SqlScriptCache(true, 1_000_000, Duration.ZERO);
+        
+        cache.get(request("{\"a\":1}"), tableDefinition, generator("INSERT 1;"));
+        cache.get(request("{\"a\":1}"), tableDefinition, generator("INSERT 1;"));
+        
+        assertEquals(2, generations.get());
+    }
+    
+    @Test
+    void testOnTableDefinitionChanged_InvalidatesTable() {
+        SqlScriptCache cache = new SqlScriptCache(true, 1_000_000, Duration.ofMinutes(1));
+        cache.get(request("{\"a\":1}"), tableDefinition, generator("INSERT 1;"));
+        
+        cache.onTableDefinitionChanged(new TableDefinitionChangedEvent("USERS", 2));
+        
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getSizeBytes());
+    }
+    
+    @Test
+    void testGet_DisabledAlwaysGenerates() {
+        SqlScriptCache cache = new SqlScriptCache(false, 1_000_000, Duration.ofMinutes(1));
+        
+        cache.get(request("{\"a\":1}"), tableDefinition, generator("INSERT 1;"));
+        cache.get(request("{\"a\":1}"), tableDefinition, generator("INSERT 1;"));
+        
+        assertEquals(2, generations.get());
+    }
+}
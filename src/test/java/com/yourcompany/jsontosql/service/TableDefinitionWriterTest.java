@@ -0,0 +1,126 @@
+package com.yourcompany.jsontosql.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourcompany.jsontosql.model.ColumnDefinition;
+import com.yourcompany.jsontosql.model.TableDefinition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TableDefinitionWriterTest {
+    
+    @TempDir
+    Path storageDir;
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    private TableDefinition definition(String tableName, String description) {
+        return TableDefinition.builder()
+                .tableName(tableName)
+                .description(description)
+                .columns(Collections.singletonList(
+                        ColumnDefinition.builder()
+                                .name("id")
+                                .type("BIGINT")
+                                .nullable(false)
+                                .build()
+                ))
+                .build();
+    }
+    
+    @Test
+    void testWrite_Synchronous() throws Exception {
+        TableDefinitionWriter writer = new TableDefinitionWriter(objectMapper, storageDir.toString(), false, 500);
+        
+        writer.write(definition("orders", "v1"));
+        
+        Path file = storageDir.resolve("orders.json");
+        assertTrue(Files.exists(file));
+        assertEquals("v1", objectMapper.readValue(file.toFile(), TableDefinition.class).getDescription());
+        assertEquals(1, writer.getWriteCount());
+        assertEquals(0, writer.getQueueDepth());
+        // No temp files left behind
+        try (var files = Files.list(storageDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+    
+    @Test
+    void testWriteBehind_CoalescesRepeatedUpdates() throws Exception {
+        TableDefinitionWriter writer = new TableDefinitionWriter(objectMapper, storageDir.toString(), true, 60_000);
+        
+        writer.write(definition("orders", "v1"));
+        writer.write(definition("orders", "v2"));
+        writer.write(definition("orders", "v3"));
+        
+        assertFalse(Files.exists(storageDir.resolve("orders.json")));
+        assertTrue(writer.isPending("ORDERS"));
+        assertEquals(1, writer.getQueueDepth());
+        assertEquals(2, writer.getCoalescedCount());
+        
+        writer.flush();
+        
+        assertEquals("v3", objectMapper.readValue(storageDir.resolve("orders.json").toFile(), TableDefinition.class)
+                .getDescription());
+        assertEquals(1, writer.getWriteCount());
+        assertEquals(0, writer.getQueueDepth());
+    }
+    
+    @Test
+    void testWriteBehind_DeleteSupersedesSave() throws Exception {
+        TableDefinitionWriter writer = new TableDefinitionWriter(objectMapper, storageDir.toString(), false, 500);
+        writer.write(definition("orders", "v1"));
+        
+        TableDefinitionWriter writeBehind = new TableDefinitionWriter(objectMapper, storageDir.toString(), true, 60_000);
+        writeBehind.write(definition("orders", "v2"));
+        writeBehind.delete("orders");
+        
+        assertTrue(writeBehind.isPendingDelete("orders"));
+        
+        writeBehind.flush();
+        
+        assertFalse(Files.exists(storageDir.resolve("orders.json")));
+        assertEquals(0, writeBehind.getWriteCount());
+        assertEquals(1, writeBehind.getDeleteCount());
+    }
+    
+    @Test
+    void testWriteBehind_RetriesFailedWrite() throws Exception {
+        // A file where the storage directory should be makes every write fail, even when running as root
+        Path blocked = storageDir.resolve("definitions");
+        Files.writeString(blocked, "");
+        TableDefinitionWriter writer = new TableDefinitionWriter(objectMapper, blocked.toString(), true, 60_000);
+        writer.write(definition("orders", "v1"));
+        
+        writer.flush();
+        
+        assertEquals(1, writer.getFailureCount());
+        assertTrue(writer.isPending("orders"));
+        assertEquals(1, writer.getQueueDepth());
+        
+        Files.delete(blocked);
+        writer.flush();
+        
+        assertEquals("v1", objectMapper.readValue(blocked.resolve("orders.json").toFile(), TableDefinition.class)
+                .getDescription());
+        assertFalse(writer.isPending("orders"));
+        assertEquals(1, writer.getWriteCount());
+    }
+    
+    @Test
+    void testShutdown_FlushesPendingWrites() {
+        TableDefinitionWriter writer = new TableDefinitionWriter(objectMapper, storageDir.toString(), true, 60_000);
+        writer.start();
+        
+        writer.write(definition("orders", "v1"));
+        writer.shutdown();
+        
+        assertTrue(Files.exists(storageDir.resolve("orders.json")));
+        assertEquals(0, writer.getQueueDepth());
+    }
+}
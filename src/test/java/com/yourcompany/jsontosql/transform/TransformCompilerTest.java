@@ -0,0 +1,107 @@
+package com.yourcompany.jsontosql.transform;
+
+import com.yourcompany.jsontosql.model.ColumnDefinition;
+import com.yourcompany.jsontosql.model.TableDefinition;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransformCompilerTest {
+    
+    private static final Map<String, Object> DOCUMENT = Map.of(
+            "$.user.first", "Ada",
+            "$.user.last", "Lovelace",
+            "$.user.nick", "");
+    
+    private static Object apply(String expression, Object value) {
+        return TransformCompiler.compile(expression).apply(value, DOCUMENT::get);
+    }
+    
+    @Test
+    void testStringFunctions() {
+        assertEquals("ada lovelace", apply("lower(concat($.user.first, ' ', $.user.last))", null));
+        assertEquals("ADA", apply("upper(value)", "Ada"));
+        assertEquals("Love", apply("substring($.user.last, 1, 4)", null));
+        assertEquals("lace", apply("substring(value, 5)", "Lovelace"));
+        assertEquals("", apply("substring(value, 20, 2)", "short"));
+        assertEquals("it's", apply("concat(value, '''s')", "it"));
+    }
+    
+    @Test
+    void testNullHandling() {
+        assertNull(apply("upper(value)", null));
+        assertEquals("Ada", apply("concat($.user.missing, $.user.first)", null));
+        assertNull(apply("concat($.a, $.b)", null));
+        assertEquals("", apply("coalesce($.user.missing, $.user.nick, 'x')", null));
+        assertEquals("x", apply("coalesce(value, null, 'x')", null));
+    }
+    
+    @Test
+    void testDatesAndNumbers() {
+        assertEquals(LocalDate.of(2024, 3, 9), apply("parseDate(value, 'dd/MM/yyyy')", "09/03/2024"));
+        assertEquals(LocalDateTime.of(2024, 3, 9, 14, 5), apply("parseTimestamp(value, 'yyyyMMddHHmm')", "202403091405"));
+        assertEquals("09.03.2024", apply("formatDate(value, 'dd.MM.yyyy')", "2024-03-09"));
+        assertEquals("2024-03", apply("formatDate(parseDate(value, 'dd/MM/yyyy'), 'yyyy-MM')", "09/03/2024"));
+        assertEquals(new BigDecimal("12.34"), apply("scale(value, -2)", 1234));
+        assertEquals(new BigDecimal("1500"), apply("scale(value, 3)", "1.5"));
+        
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> apply("parseDate(value, 'dd/MM/yyyy')", "2024-03-09"));
+        assertTrue(e.getMessage().contains("does not match"));
+    }
+    
+    @Test
+    void testLookup() {
+        String expression = "lookup(upper(value), {'A': 'Active', 'I': 'Inactive', 1: 'One'}, 'Unknown')";
+        assertEquals("Active", apply(expression, "a"));
+        assertEquals("One", apply(expression, 1));
+        assertEquals("Unknown", apply(expression, "x"));
+        assertNull(apply("lookup(value, {'A': 'Active'})", "x"));
+    }
+    
+    @Test
+    void testCompileErrors() {
+        assertCompileError("frobnicate(value)", "unknown function 'frobnicate'");
+        assertCompileError("upper(value, 'x')", "upper takes 1 arguments but got 2");
+        assertCompileError("substring(value, $.start)", "must be a literal");
+        assertCompileError("parseDate(value, 'qqqq-bad{')", "invalid date pattern");
+        assertCompileError("lookup(value, 'A')", "needs a {key: value} map");
+        assertCompileError("upper(value", "expected ',' or ')'");
+        assertCompileError("'open", "unterminated string");
+        assertCompileError("upper(value) x", "unexpected 'x'");
+        assertCompileError("name", "unknown name 'name'");
+    }
+    
+    @Test
+    void testTransformCacheReportsColumn() {
+        TableDefinition definition = TableDefinition.builder()
+                .tableName("t")
+                .columns(List.of(
+                        ColumnDefinition.builder().name("plain").type("INT").build(),
+                        ColumnDefinition.builder().name("status").type("VARCHAR(10)").transform("upper(").build()))
+                .build();
+        
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> TransformCache.compile(definition));
+        assertTrue(e.getMessage().startsWith("Invalid transform for column 'status'"));
+        
+        definition.getColumns().get(1).setTransform("upper(value)");
+        ColumnTransform[] transforms = new TransformCache().getTransforms(definition);
+        assertNull(transforms[0]);
+        assertEquals("OK", transforms[1].apply("ok", path -> null));
+        
+        definition.getColumns().get(1).setTransform(null);
+        assertNull(TransformCache.compile(definition));
+    }
+    
+    private static void assertCompileError(String expression, String expected) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> TransformCompiler.compile(expression));
+        assertTrue(e.getMessage().contains(expected), () -> "'" + e.getMessage() + "' should contain '" + expected + "'");
+    }
+}
@@ -0,0 +1,68 @@
+package com.yourcompany.jsontosql.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourcompany.jsontosql.exception.JsonMappingException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonRecordReaderTest {
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    @Test
+    void testReadsArray() throws Exception {
+        try (JsonRecordReader reader = new JsonRecordReader(objectMapper, stream("[{\"id\":1},{\"id\":2}]"))) {
+            List<JsonNode> records = readAll(reader);
+            assertTrue(reader.isArray());
+            assertEquals(2, records.size());
+            assertEquals(2, records.get(1).get("id").asInt());
+            assertEquals(2, reader.getRecordCount());
+        }
+    }
+    
+    @Test
+    void testReadsNdjson() throws Exception {
+        try (JsonRecordReader reader = new JsonRecordReader(objectMapper, stream("{\"id\":1}\n{\"id\":2}\n{\"id\":3}\n"))) {
+            List<JsonNode> records = readAll(reader);
+            assertFalse(reader.isArray());
+            assertEquals(3, records.size());
+            assertEquals(3, records.get(2).get("id").asInt());
+        }
+    }
+    
+    @Test
+    void testEmptyInput() throws Exception {
+        try (JsonRecordReader reader = new JsonRecordReader(objectMapper, stream(""))) {
+            assertFalse(reader.hasNext());
+        }
+        try (JsonRecordReader reader = new JsonRecordReader(objectMapper, stream("[]"))) {
+            assertFalse(reader.hasNext());
+        }
+    }
+    
+    @Test
+    void testMalformedRecord() throws Exception {
+        try (JsonRecordReader reader = new JsonRecordReader(objectMapper, stream("{\"id\":1}\n{\"id\":"))) {
+            reader.next();
+            assertThrows(JsonMappingException.class, reader::next);
+        }
+    }
+    
+    private static List<JsonNode> readAll(JsonRecordReader reader) {
+        List<JsonNode> records = new ArrayList<>();
+        reader.forEachRemaining(records::add);
+        return records;
+    }
+    
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
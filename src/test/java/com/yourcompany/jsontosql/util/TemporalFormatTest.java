@@ -0,0 +1,77 @@
+package com.yourcompany.jsontosql.util;
+
+import com.yourcompany.jsontosql.model.ColumnDefinition;
+import com.yourcompany.jsontosql.model.SqlDialect;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TemporalFormatTest {
+    
+    private static TemporalFormat format(String type, String format) {
+        return TemporalFormat.forColumn(ColumnDefinition.builder().name("col").type(type).format(format).build());
+    }
+    
+    @Test
+    void testIsoFastPathShapes() {
+        TemporalFormat timestamp = format("TIMESTAMP", null);
+        assertEquals(LocalDate.of(2024, 3, 9), timestamp.parse("2024-03-09"));
+        assertEquals(LocalDateTime.of(2024, 3, 9, 14, 5), timestamp.parse("2024-03-09T14:05"));
+        assertEquals(LocalDateTime.of(2024, 3, 9, 14, 5, 7, 120_000_000), timestamp.parse("2024-03-09 14:05:07.12"));
+        assertEquals(OffsetDateTime.of(2024, 3, 9, 14, 5, 7, 0, ZoneOffset.UTC), timestamp.parse("2024-03-09T14:05:07Z"));
+        assertEquals(OffsetDateTime.of(2024, 3, 9, 14, 5, 7, 0, ZoneOffset.ofHours(2)),
+                timestamp.parse("2024-03-09T14:05:07+02:00"));
+        
+        assertNull(timestamp.parse("2024-02-30"));
+        assertNull(timestamp.parse("2024-03-09T25:00"));
+        assertNull(timestamp.parse("not a date"));
+        // DATE columns only take a date
+        assertNull(format("DATE", null).parse("2024-03-09T14:05"));
+    }
+    
+    @Test
+    void testEpochAndPatternFormats() {
+        assertEquals(OffsetDateTime.of(2024, 3, 9, 16, 0, 0, 0, ZoneOffset.UTC),
+                format("TIMESTAMP", "epoch_seconds").parse(1710000000L));
+        assertEquals(OffsetDateTime.of(2024, 3, 9, 16, 0, 0, 500_000_000, ZoneOffset.UTC),
+                format("TIMESTAMP", "epoch_millis").parse("1710000000500"));
+        // Bare numbers default to epoch milliseconds
+        assertEquals(OffsetDateTime.of(2024, 3, 9, 16, 0, 0, 0, ZoneOffset.UTC),
+                format("TIMESTAMP", null).parse(1710000000000L));
+        assertNull(format("TIMESTAMP", "epoch_seconds").parse("soon"));
+        
+        TemporalFormat pattern = format("DATE", "dd/MM/yyyy");
+        assertEquals(LocalDate.of(2024, 3, 9), pattern.parse("09/03/2024"));
+        assertNull(pattern.parse("2024-03-09"));
+    }
+    
+    @Test
+    void testInvalidFormats() {
+        assertThrows(IllegalArgumentException.class, () -> format("DATE", "yyyy-MM-dd{"));
+        assertThrows(IllegalArgumentException.class, () -> format("VARCHAR(20)", "iso"));
+        assertNull(format("VARCHAR(20)", null));
+    }
+    
+    @Test
+    void testToSqlPerDialect() {
+        TemporalFormat timestamp = format("TIMESTAMP", null);
+        LocalDateTime value = LocalDateTime.of(2024, 3, 9, 14, 5);
+        assertEquals("'2024-03-09 14:05:00'", timestamp.toSql(value, SqlDialect.STANDARD));
+        assertEquals("'2024-03-09 14:05:00'", timestamp.toSql(value, SqlDialect.MYSQL));
+        assertEquals("TIMESTAMP '2024-03-09 14:05:00'", timestamp.toSql(value, SqlDialect.ORACLE));
+        assertEquals("DATE '2024-03-09'", format("DATE", null).toSql(value, SqlDialect.ORACLE));
+        
+        // Offsets are converted to UTC unless the column keeps a time zone
+        OffsetDateTime withOffset = OffsetDateTime.of(2024, 3, 9, 14, 5, 0, 0, ZoneOffset.ofHours(2));
+        assertEquals("'2024-03-09 12:05:00'", timestamp.toSql(withOffset, SqlDialect.POSTGRESQL));
+        assertEquals("'2024-03-09 14:05:00+02:00'",
+                format("TIMESTAMP WITH TIME ZONE", null).toSql(withOffset, SqlDialect.POSTGRESQL));
+        assertEquals("TIMESTAMP '2024-03-09 14:05:00 +02:00'",
+                format("TIMESTAMP WITH TIME ZONE", null).toSql(withOffset, SqlDialect.ORACLE));
+    }
+}
@@ -0,0 +1,137 @@
+package com.yourcompany.jsontosql.validation;
+
+import com.yourcompany.jsontosql.model.ColumnDefinition;
+import com.yourcompany.jsontosql.model.TableDefinition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RowValidatorTest {
+    
+    private RowValidator validator;
+    private List<RowViolation> violations;
+    
+    @BeforeEach
+    void setUp() {
+        TableDefinition tableDefinition = TableDefinition.builder()
+                .tableName("orders")
+                .columns(Arrays.asList(
+                        ColumnDefinition.builder().name("id").type("BIGINT").nullable(false)
+                                .primaryKey(true).autoIncrement(true).build(),
+                        ColumnDefinition.builder().name("code").type("VARCHAR(5)").nullable(false).build(),
+                        ColumnDefinition.builder().name("note").type("VARCHAR(255)").maxLength(3).build(),
+                        ColumnDefinition.builder().name("amount").type("DECIMAL(5,2)").build(),
+                        ColumnDefinition.builder().name("quantity").type("INT").build(),
+                        ColumnDefinition.builder().name("active").type("BOOLEAN").build(),
+                        ColumnDefinition.builder().name("created_at").type("TIMESTAMP").build()
+                ))
+                .build();
+        validator = RowValidator.compile(tableDefinition);
+        violations = new ArrayList<>();
+    }
+    
+    @Test
+    void testValidate_ValidRow() {
+        Object[] row = {null, "ABC", "ok", new BigDecimal("123.45"), 10, true, "2024-01-01T10:00:00"};
+        
+        assertTrue(validator.validate(0, row, violations));
+        assertTrue(violations.isEmpty());
+    }
+    
+    @Test
+    void testValidate_AutoIncrementColumnIsNotRequired() {
+        Object[] row = {null, "ABC", null, null, null, null, null};
+        
+        assertTrue(validator.validate(0, row, violations));
+    }
+    
+    @Test
+    void testValidate_MissingRequiredValue() {
+        Object[] row = {null, null, null, null, null, null, null};
+        
+        assertFalse(validator.validate(3, row, violations));
+        assertEquals(1, violations.size());
+        assertEquals(3, violations.get(0).getRowIndex());
+        assertEquals("code", violations.get(0).getColumn());
+    }
+    
+    @Test
+    void testValidate_LengthFromTypeAndMaxLength() {
+        Object[] row = {null, "TOOLONG", "four", null, null, null, null};
+        
+        assertFalse(validator.validate(0, row, violations));
+        assertEquals(2, violations.size());
+        assertEquals("code", violations.get(0).getColumn());
+        assertEquals("note", violations.get(1).getColumn());
+        assertTrue(violations.get(0).getMessage().contains("VARCHAR(5)"));
+    }
+    
+    @Test
+    void testValidate_DecimalPrecisionAndScale() {
+        assertFalse(validator.validate(0, new Object[]{null, "A", null, 1.234, null, null, null}, violations));
+        assertTrue(violations.get(0).getMessage().contains("scale"));
+        
+        violations.clear();
+        assertFalse(validator.validate(0, new Object[]{null, "A", null, "1234.5", null, null, null}, violations));
+        assertTrue(violations.get(0).getMessage().contains("precision"));
+        
+        violations.clear();
+        assertTrue(validator.validate(0, new Object[]{null, "A", null, "999.99", null, null, null}, violations));
+    }
+    
+    @Test
+    void testValidate_TypeConvertibility() {
+        Object[] row = {null, "A", null, "abc", 1.5, "maybe", "not a date"};
+        
+        assertFalse(validator.validate(0, row, violations));
+        assertEquals(4, violations.size());
+        assertEquals("amount", violations.get(0).getColumn());
+        assertEquals("quantity", violations.get(1).getColumn());
+        assertEquals("active", violations.get(2).getColumn());
+        assertEquals("created_at", violations.get(3).getColumn());
+    }
+    
+    @Test
+    void testValidate_IntegerRange() {
+        Object[] row = {null, "A", null, null, 3_000_000_000L, null, null};
+        
+        assertFalse(validator.validate(0, row, violations));
+        assertTrue(violations.get(0).getMessage().contains("out of range"));
+    }
+    
+    @Test
+    void testViolation_ToString() {
+        validator.validate(7, new Object[]{null, null, null, null, null, null, null}, violations);
+        
+        assertEquals("Row 7, column 'code': required but value is missing", violations.get(0).toString());
+    }
+    
+    @Test
+    void testCache_ChildTableIsKeyedUnderItsOwner() {
+        TableDefinition items = TableDefinition.builder()
+                .tableName("items")
+                .columns(List.of(ColumnDefinition.builder().name("sku").type("VARCHAR(3)").nullable(false).build()))
+                .build();
+        TableDefinition childItems = TableDefinition.builder()
+                .tableName("items")
+                .columns(List.of(ColumnDefinition.builder().name("sku").type("VARCHAR(10)").nullable(false).build()))
+                .build();
+        items.setVersion(2);
+        childItems.setVersion(2);
+        RowValidatorCache cache = new RowValidatorCache();
+        
+        RowValidator own = cache.getValidator(items);
+        RowValidator child = cache.getValidator("orders", childItems);
+        
+        assertNotSame(own, child);
+        assertSame(own, cache.getValidator(items));
+        assertSame(child, cache.getValidator("orders", childItems));
+        assertTrue(child.validate(0, new Object[]{"ABCDEF"}, violations));
+    }
+}
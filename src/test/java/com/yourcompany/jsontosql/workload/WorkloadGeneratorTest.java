@@ -0,0 +1,95 @@
+package com.yourcompany.jsontosql.workload;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourcompany.jsontosql.model.ColumnDefinition;
+import com.yourcompany.jsontosql.model.TableDefinition;
+import com.yourcompany.jsontosql.util.JsonPathExtractor;
+import com.yourcompany.jsontosql.validation.RowValidator;
+import com.yourcompany.jsontosql.validation.RowViolation;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkloadGeneratorTest {
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    private final WorkloadSpec spec = WorkloadSpec.builder()
+            .tableName("wide")
+            .columnCount(30)
+            .nestingDepth(3)
+            .rowCount(50)
+            .sparsity(0.3)
+            .stringLength(20)
+            .quoteDensity(0.2)
+            .build();
+    
+    @Test
+    void testDefinitionShape() {
+        TableDefinition definition = new WorkloadGenerator(spec).tableDefinition();
+        
+        assertEquals("wide", definition.getTableName());
+        assertEquals(30, definition.getColumns().size());
+        ColumnDefinition id = definition.getColumns().get(0);
+        assertTrue(id.getPrimaryKey());
+        assertFalse(id.getNullable());
+        assertEquals("$.l1.c1", definition.getColumns().get(1).getJsonPath());
+        assertEquals("$.c4", definition.getColumns().get(4).getJsonPath());
+        assertEquals("$.l1.l2.l3.c3", definition.getColumns().get(3).getJsonPath());
+        assertEquals("VARCHAR(31)", definition.getColumns().get(1).getType());
+        assertEquals("$.l1.l2.l3.c3", new WorkloadGenerator(spec).deepestColumn().getJsonPath());
+    }
+    
+    @Test
+    void testRowsAreDeterministic() {
+        assertEquals(new WorkloadGenerator(spec).row(7), new WorkloadGenerator(spec).row(7));
+        assertNotEquals(new WorkloadGenerator(spec).row(7), new WorkloadGenerator(spec).row(8));
+    }
+    
+    @Test
+    void testRowsPassValidation() {
+        WorkloadGenerator generator = new WorkloadGenerator(spec);
+        TableDefinition definition = generator.tableDefinition();
+        RowValidator validator = RowValidator.compile(definition);
+        JsonPathExtractor extractor = new JsonPathExtractor();
+        List<RowViolation> violations = new ArrayList<>();
+        
+        boolean sawQuote = false;
+        for (int i = 0; i < spec.getRowCount(); i++) {
+            String json = generator.row(i);
+            sawQuote |= json.contains("'");
+            Object[] row = new Object[definition.getColumns().size()];
+            for (int c = 0; c < row.length; c++) {
+                row[c] = extractor.extractValue(json, definition.getColumns().get(c).getJsonPath()).orElse(null);
+            }
+            validator.validate(i, row, violations);
+        }
+        
+        assertEquals(List.of(), violations);
+        assertTrue(sawQuote);
+    }
+    
+    @Test
+    void testWriteRowsAsArrayAndNdjson() throws Exception {
+        WorkloadGenerator generator = new WorkloadGenerator(spec);
+        
+        ByteArrayOutputStream array = new ByteArrayOutputStream();
+        generator.writeRows(array, false);
+        JsonNode parsed = objectMapper.readTree(array.toByteArray());
+        assertEquals(50, parsed.size());
+        assertEquals(objectMapper.readTree(generator.row(3)), parsed.get(3));
+        
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        generator.writeRows(ndjson, true);
+        String[] lines = ndjson.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(50, lines.length);
+        assertEquals(generator.row(49), lines[49]);
+        assertEquals(generator.batch(0, 50), array.toString(StandardCharsets.UTF_8));
+    }
+}